@@ -0,0 +1,184 @@
+package com.example.moneytalk.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.moneytalk.domain.Budget;
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.domain.ChatRoom;
+import com.example.moneytalk.domain.FavoriteProduct;
+import com.example.moneytalk.domain.Ledger;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.PurchaseHistory;
+import com.example.moneytalk.domain.PurchaseRecord;
+import com.example.moneytalk.domain.Review;
+import com.example.moneytalk.domain.ReviewImage;
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductBulkItemDto;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 상품 N건 등록 비용 비교 벤치마크입니다. (상품당 이미지 2장, S3 업로드 제외)
+ *
+ * - singleInserts: 이전 방식. 상품마다 트랜잭션 1개 + IDENTITY INSERT를 한 건씩 실행 (createProductWithImages N회)
+ * - jdbcBatch: 대량 등록 경로. {@link ProductBulkInsertRepository}로 상품 JDBC 배치 INSERT 후,
+ *   이미지는 pooled ID + hibernate.jdbc.batch_size로 Hibernate 배치 INSERT
+ *
+ * 커밋 후 이벤트 처리(지역 뷰의 이미지 조회, 다른 노드의 상품 재조회)에 드는 조회 비용도 따로 측정합니다.
+ * - perProductReload: 상품별 CREATED 이벤트. 상품마다 판매자 포함 조회 1회 + 이미지 조회 1회
+ * - batchReload: 청크당 ProductsCreatedEvent. 판매자 포함 IN 조회 1회 + 이미지 IN 조회 1회
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductBulkInsertBenchmark {
+
+	@Param({ "200" })
+	public int items;
+
+	private SessionFactory sessionFactory;
+	private EntityManager em;
+	private User seller;
+	private ProductBulkInsertRepository repository;
+	private TransactionTemplate transactionTemplate;
+	private List<ProductBulkItemDto> batch;
+	private List<Long> createdIds;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String url = "jdbc:h2:mem:bulk;MODE=MySQL;DB_CLOSE_DELAY=-1";
+		Configuration configuration = new Configuration()
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+				.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+				.setProperty(AvailableSettings.ORDER_INSERTS, "true");
+		// 애플리케이션과 같은 컬럼 이름(snake_case)을 사용해야 JDBC INSERT 문이 그대로 동작
+		configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+		for (Class<?> entity : List.of(User.class, Product.class, ProductImage.class, ChatRoom.class,
+				ChatMessage.class, FavoriteProduct.class, Review.class, ReviewImage.class, PurchaseHistory.class,
+				PurchaseRecord.class, Ledger.class, Budget.class, SavedSearch.class)) {
+			configuration.addAnnotatedClass(entity);
+		}
+		sessionFactory = configuration.buildSessionFactory();
+		em = sessionFactory.createEntityManager();
+
+		seller = User.builder().email("bulk@example.com").password("encoded").nickname("bulk").role(UserType.USER)
+				.build();
+		em.getTransaction().begin();
+		em.persist(seller);
+		em.getTransaction().commit();
+
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL(url);
+		repository = new ProductBulkInsertRepository(new JdbcTemplate(dataSource));
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+		batch = new ArrayList<>(items);
+		for (int i = 0; i < items; i++) {
+			ProductBulkItemDto item = new ProductBulkItemDto();
+			item.setTitle("상품 " + i);
+			item.setDescription("설명");
+			item.setPrice(10_000 + i);
+			item.setCategory("전자기기");
+			item.setLocation("서울");
+			item.setImageUrls(List.of("https://img/" + i + "/1.jpg", "https://img/" + i + "/2.jpg"));
+			batch.add(item);
+		}
+		createdIds = jdbcBatch();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		em.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public int singleInserts() {
+		for (ProductBulkItemDto item : batch) {
+			em.getTransaction().begin();
+			Product product = Product.builder().user(seller).title(item.getTitle()).description(item.getDescription())
+					.price(item.getPrice()).category(item.getCategory()).location(item.getLocation())
+					.status(ProductStatus.SALE).thumbnailUrl(item.getImageUrls().get(0)).build();
+			em.persist(product);
+			for (int j = 0; j < item.getImageUrls().size(); j++) {
+				em.persist(ProductImage.builder().product(product).imageUrl(item.getImageUrls().get(j))
+						.isThumbnail(j == 0).build());
+			}
+			em.getTransaction().commit();
+			em.clear();
+			seller = em.getReference(User.class, seller.getId());
+		}
+		return batch.size();
+	}
+
+	@Benchmark
+	public List<Long> jdbcBatch() {
+		List<Long> ids = transactionTemplate
+				.execute(status -> repository.insertAll(seller.getId(), batch, LocalDateTime.now()));
+
+		em.getTransaction().begin();
+		for (int i = 0; i < ids.size(); i++) {
+			Product product = em.getReference(Product.class, ids.get(i));
+			List<String> urls = batch.get(i).getImageUrls();
+			for (int j = 0; j < urls.size(); j++) {
+				em.persist(ProductImage.builder().product(product).imageUrl(urls.get(j)).isThumbnail(j == 0).build());
+			}
+		}
+		em.getTransaction().commit();
+		em.clear();
+		seller = em.getReference(User.class, seller.getId());
+		return ids;
+	}
+
+	@Benchmark
+	public int perProductReload() {
+		int images = 0;
+		for (Long id : createdIds) {
+			em.createQuery("SELECT p FROM Product p JOIN FETCH p.user WHERE p.id = :id", Product.class)
+					.setParameter("id", id).getSingleResult();
+			images += em.createQuery("SELECT i FROM ProductImage i WHERE i.product.id IN :ids ORDER BY i.id",
+					ProductImage.class).setParameter("ids", List.of(id)).getResultList().size();
+		}
+		em.clear();
+		return images;
+	}
+
+	@Benchmark
+	public int batchReload() {
+		em.createQuery("SELECT p FROM Product p JOIN FETCH p.user WHERE p.id IN :ids", Product.class)
+				.setParameter("ids", createdIds).getResultList();
+		int images = em.createQuery("SELECT i FROM ProductImage i WHERE i.product.id IN :ids ORDER BY i.id",
+				ProductImage.class).setParameter("ids", createdIds).getResultList().size();
+		em.clear();
+		return images;
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.moneytalk.repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.moneytalk.domain.Budget;
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.domain.ChatRoom;
+import com.example.moneytalk.domain.FavoriteProduct;
+import com.example.moneytalk.domain.Ledger;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.PurchaseHistory;
+import com.example.moneytalk.domain.PurchaseRecord;
+import com.example.moneytalk.domain.Review;
+import com.example.moneytalk.domain.ReviewImage;
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 상품 검색 쿼리의 요청당 준비(planning) 비용 벤치마크입니다.
+ *
+ * 빈 H2 테이블을 대상으로 실제 실행까지 수행하므로, 측정값은 대부분 JPQL 해석과 SQL 변환 비용입니다.
+ * planCache=false는 Hibernate 쿼리 계획 캐시가 꺼진 환경의 비용입니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchQueryBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean planCache;
+
+	private SessionFactory sessionFactory;
+	private EntityManager em;
+	private ProductRepositoryImpl repository;
+	private ProductSearchRequestDto request;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Configuration configuration = new Configuration()
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1")
+				.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.setProperty(AvailableSettings.QUERY_PLAN_CACHE_ENABLED, String.valueOf(planCache));
+		for (Class<?> entity : List.of(User.class, Product.class, ProductImage.class, ChatRoom.class,
+				ChatMessage.class, FavoriteProduct.class, Review.class, ReviewImage.class, PurchaseHistory.class,
+				PurchaseRecord.class, Ledger.class, Budget.class, SavedSearch.class)) {
+			configuration.addAnnotatedClass(entity);
+		}
+		sessionFactory = configuration.buildSessionFactory();
+		em = sessionFactory.createEntityManager();
+		repository = new ProductRepositoryImpl(em);
+
+		// 키워드 + 가격 범위 + 카테고리 + 지역 + 상태 + 커서가 모두 있는 형태
+		request = new ProductSearchRequestDto();
+		request.setKeyword("아이폰");
+		request.setMinPrice(100_000);
+		request.setMaxPrice(900_000);
+		request.setCategory("전자기기");
+		request.setLocation("서울");
+		request.setStatus(ProductStatus.SALE);
+		request.setSort("price_asc");
+		request.setCursor(ProductCursor.of(Product.builder().id(100L).price(500_000).build(), ProductSortType.PRICE_ASC)
+				.encode());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		em.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Product> searchByConditions() {
+		return repository.searchByConditions(request);
+	}
+}
@@ -0,0 +1,151 @@
+package com.example.moneytalk.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.moneytalk.domain.Budget;
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.domain.ChatRoom;
+import com.example.moneytalk.domain.FavoriteProduct;
+import com.example.moneytalk.domain.Ledger;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.PurchaseHistory;
+import com.example.moneytalk.domain.PurchaseRecord;
+import com.example.moneytalk.domain.Review;
+import com.example.moneytalk.domain.ReviewImage;
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.type.LedgerType;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.PurchaseType;
+import com.example.moneytalk.type.UserType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 다건 INSERT 쓰기 경로의 ID 전략별 비용 비교 벤치마크입니다.
+ *
+ * - identity: 이전 방식. IDENTITY 전략(identity-orm.xml로 되돌림)이라 INSERT마다 왕복 1회, JDBC 배치 불가
+ * - pooled: {@link com.example.moneytalk.domain.IdGenerators} 테이블 생성기 + hibernate.jdbc.batch_size=50 + order_inserts
+ *
+ * 측정 경로
+ * - saveImages: 상품 이미지 5장 saveAll (상품 등록/이미지 추가)
+ * - purchaseWrites: 구매 확정 시 구매 기록 1 + 구매/판매 이력 2 + 가계부 2 INSERT
+ *
+ * 실제 DB와 같이 네트워크 왕복이 생기도록 H2 TCP 서버에 접속합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductWriteBenchmark {
+
+	@Param({ "identity", "pooled" })
+	public String idStrategy;
+
+	private Server server;
+	private SessionFactory sessionFactory;
+	private EntityManager em;
+	private Long sellerId;
+	private Long buyerId;
+	private Long productId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+		Configuration configuration = new Configuration()
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:write-" + idStrategy
+								+ ";MODE=MySQL;DB_CLOSE_DELAY=-1")
+				.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+		configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+		if ("pooled".equals(idStrategy)) {
+			configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+					.setProperty(AvailableSettings.ORDER_INSERTS, "true");
+		} else {
+			configuration.addResource("identity-orm.xml");
+		}
+		for (Class<?> entity : List.of(User.class, Product.class, ProductImage.class, ChatRoom.class,
+				ChatMessage.class, FavoriteProduct.class, Review.class, ReviewImage.class, PurchaseHistory.class,
+				PurchaseRecord.class, Ledger.class, Budget.class, SavedSearch.class)) {
+			configuration.addAnnotatedClass(entity);
+		}
+		sessionFactory = configuration.buildSessionFactory();
+		em = sessionFactory.createEntityManager();
+
+		em.getTransaction().begin();
+		User seller = User.builder().email("seller@example.com").password("encoded").nickname("seller")
+				.role(UserType.USER).build();
+		User buyer = User.builder().email("buyer@example.com").password("encoded").nickname("buyer")
+				.role(UserType.USER).build();
+		em.persist(seller);
+		em.persist(buyer);
+		Product product = Product.builder().user(seller).title("카메라").description("설명").price(300_000)
+				.category("전자기기").location("서울").status(ProductStatus.SALE).build();
+		em.persist(product);
+		em.getTransaction().commit();
+		sellerId = seller.getId();
+		buyerId = buyer.getId();
+		productId = product.getId();
+		em.clear();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		em.close();
+		sessionFactory.close();
+		server.stop();
+	}
+
+	@Benchmark
+	public int saveImages() {
+		em.getTransaction().begin();
+		Product product = em.getReference(Product.class, productId);
+		for (int i = 0; i < 5; i++) {
+			em.persist(ProductImage.builder().product(product).imageUrl("https://img/" + i + ".jpg").isThumbnail(i == 0)
+					.build());
+		}
+		em.getTransaction().commit();
+		em.clear();
+		return 5;
+	}
+
+	@Benchmark
+	public int purchaseWrites() {
+		em.getTransaction().begin();
+		Product product = em.getReference(Product.class, productId);
+		User seller = em.getReference(User.class, sellerId);
+		User buyer = em.getReference(User.class, buyerId);
+		LocalDate today = LocalDate.now();
+
+		em.persist(PurchaseRecord.builder().product(product).buyer(buyer).build());
+		em.persist(PurchaseHistory.builder().user(buyer).product(product).type(PurchaseType.PURCHASE).build());
+		em.persist(PurchaseHistory.builder().user(seller).product(product).type(PurchaseType.SALE).build());
+		em.persist(Ledger.builder().user(buyer).type(LedgerType.EXPENSE).amount(300_000).category("중고거래")
+				.memo("카메라 구매").date(today).build());
+		em.persist(Ledger.builder().user(seller).type(LedgerType.INCOME).amount(300_000).category("중고거래")
+				.memo("카메라 판매").date(today).build());
+		em.getTransaction().commit();
+		em.clear();
+		return 5;
+	}
+}
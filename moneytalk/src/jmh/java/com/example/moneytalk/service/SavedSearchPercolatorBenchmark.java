@@ -0,0 +1,108 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.service.SavedSearchPercolator.SavedQuery;
+
+/**
+ * 새 상품 한 건에 일치하는 저장 검색을 찾는 비용 비교 벤치마크입니다.
+ *
+ * - percolate: (카테고리, 지역) 버킷 + 가격 밴드 색인({@link SavedSearchPercolator})으로 후보만 검사
+ * - bruteForce: 저장 검색 전체를 순회하며 모든 조건을 검사
+ *
+ * 저장 검색 분포는 카테고리 미지정 10%, 지역 미지정 20%, 가격 범위 50%, 키워드 40%입니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SavedSearchPercolatorBenchmark {
+
+	private static final String[] CATEGORIES = { "전자기기", "의류", "가구", "도서", "스포츠", "잡화", "뷰티", "식품", "유아", "게임",
+			"음반", "공구", "캠핑", "반려동물", "자동차", "티켓", "가전", "식물", "미술", "기타" };
+	private static final String[] LOCATIONS = { "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "수원", "성남", "고양",
+			"용인", "청주", "천안", "전주", "포항", "창원", "제주", "김해", "춘천", "원주", "강릉", "목포", "여수", "순천" };
+	private static final String[] KEYWORDS = { "아이폰", "갤럭시", "맥북", "책상", "의자", "자전거", "캠핑", "패딩", "운동화", "가방",
+			"모니터", "키보드", "마우스", "텐트", "소파", "냉장고", "세탁기", "카메라", "렌즈", "시계" };
+
+	private static final int PRODUCTS = 1_024;
+
+	@Param({ "10000", "100000" })
+	public int savedSearches;
+
+	private SavedSearchPercolator percolator;
+	private List<SavedQuery> all;
+	private Product[] products;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(42);
+		percolator = new SavedSearchPercolator(null);
+		all = new ArrayList<>(savedSearches);
+		for (long id = 1; id <= savedSearches; id++) {
+			Integer min = null;
+			Integer max = null;
+			if (random.nextBoolean()) {
+				min = random.nextInt(100) * 10_000;
+				max = min + (1 + random.nextInt(50)) * 10_000;
+			}
+			SavedQuery query = new SavedQuery(id, id % 5_000, random.nextInt(10) < 4 ? pick(random, KEYWORDS) : null,
+					random.nextInt(10) < 1 ? null : pick(random, CATEGORIES),
+					random.nextInt(10) < 2 ? null : pick(random, LOCATIONS), min, max);
+			all.add(query);
+			percolator.register(query);
+		}
+
+		products = new Product[PRODUCTS];
+		for (int i = 0; i < PRODUCTS; i++) {
+			products[i] = Product.builder().id((long) i).title(pick(random, KEYWORDS) + " 팝니다").description("")
+					.category(pick(random, CATEGORIES)).location(pick(random, LOCATIONS))
+					.price(random.nextInt(150) * 10_000).build();
+		}
+	}
+
+	@Benchmark
+	public List<SavedQuery> percolate() {
+		return percolator.percolate(nextProduct());
+	}
+
+	@Benchmark
+	public int bruteForce() {
+		Product product = nextProduct();
+		String text = product.getTitle().toLowerCase();
+		int matched = 0;
+		for (SavedQuery query : all) {
+			if ((query.category() == null || query.category().equals(product.getCategory()))
+					&& (query.location() == null || query.location().equals(product.getLocation()))
+					&& query.matches(product.getPrice(), text)) {
+				matched++;
+			}
+		}
+		return matched;
+	}
+
+	private Product nextProduct() {
+		next = (next + 1) & (PRODUCTS - 1);
+		return products[next];
+	}
+
+	private static String pick(Random random, String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
@@ -6,6 +6,15 @@ import org.springframework.boot.builder.SpringApplicationBuilder;
 @SpringBootApplication
 public class MoneytalkApplication {
 	public static void main(String[] args) {
-		new SpringApplicationBuilder(MoneytalkApplication.class).run(args);
+		new SpringApplicationBuilder(MoneytalkApplication.class)
+				// 기본값: health, metrics(캐시 hit/miss 등) 엔드포인트 노출 (인증 필요, application.yml로 재정의 가능)
+				.properties("management.endpoints.web.exposure.include=health,metrics",
+						// 상품 검색/패싯 JPQL의 해석/SQL 변환 결과를 조건 조합별로 재사용
+						"spring.jpa.properties.hibernate.query.plan_cache_enabled=true",
+						// pooled ID 엔티티(IdGenerators)의 INSERT/UPDATE를 테이블별로 모아 JDBC 배치로 전송
+						"spring.jpa.properties.hibernate.jdbc.batch_size=50",
+						"spring.jpa.properties.hibernate.order_inserts=true",
+						"spring.jpa.properties.hibernate.order_updates=true")
+				.run(args);
 	}
 }
@@ -0,0 +1,108 @@
+package com.example.moneytalk.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.example.moneytalk.dto.AverageRatingResponseDto;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.dto.UserInfoResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * CacheConfig
+ * 로컬(Caffeine) L1 + Redis L2 2단계 캐시 설정입니다.
+ *
+ * [캐시 목록]
+ * - productDetail: 상품 상세 조회 결과 (key: 상품 ID)
+ * - userInfo: 사용자 기본 정보 (key: 사용자 ID)
+ * - reviewStats: 상품별 평균 평점/리뷰 수 (key: 상품 ID)
+ *
+ * [노드 간 일관성]
+ * - 여러 인스턴스가 Redis(L2)를 공유하므로, 한 노드에서 채운 값을 다른 노드도 재사용합니다.
+ * - 변경 시 L2를 제거하고 {@link CacheInvalidationBus#CHANNEL} 채널로 다른 노드의 L1 제거를 요청합니다.
+ * - L1 TTL을 L2보다 짧게 두어, 무효화 메시지가 유실되더라도 오래된 값이 남는 시간을 제한합니다.
+ *
+ * [메트릭]
+ * - {@link TwoTierCacheMeterBinderProvider}가 L1 hit/miss(cache.gets)와 L2 hit/miss(cache.remote.gets)를 등록합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String PRODUCT_DETAIL = "productDetail";
+	public static final String USER_INFO = "userInfo";
+	public static final String REVIEW_STATS = "reviewStats";
+
+	private static final long LOCAL_MAX_SIZE = 10_000;
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+	private static final Duration REMOTE_TTL = Duration.ofMinutes(10);
+
+	private static final String REMOTE_KEY_PREFIX = "cache:";
+
+	@Bean
+	public CacheInvalidationBus cacheInvalidationBus(RedisTemplate<String, Object> redisTemplate,
+			RedisMessageListenerContainer redisMessageListener) {
+		CacheInvalidationBus bus = new CacheInvalidationBus(redisTemplate);
+		redisMessageListener.addMessageListener(bus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+		return bus;
+	}
+
+	@Bean
+	public CacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper,
+			CacheInvalidationBus cacheInvalidationBus) {
+		Map<String, Class<?>> valueTypes = new LinkedHashMap<>();
+		valueTypes.put(PRODUCT_DETAIL, ProductResponseDto.class);
+		valueTypes.put(USER_INFO, UserInfoResponseDto.class);
+		valueTypes.put(REVIEW_STATS, AverageRatingResponseDto.class);
+
+		// L2: 캐시별 값 타입으로 JSON 직렬화 (타입 정보를 저장하지 않음)
+		Map<String, RedisCacheConfiguration> remoteConfigs = new LinkedHashMap<>();
+		Map<String, Caffeine<Object, Object>> localSpecs = new LinkedHashMap<>();
+		valueTypes.forEach((name, type) -> {
+			remoteConfigs.put(name, RedisCacheConfiguration.defaultCacheConfig()
+					.entryTtl(REMOTE_TTL)
+					.prefixCacheNameWith(REMOTE_KEY_PREFIX)
+					.disableCachingNullValues()
+					.serializeValuesWith(SerializationPair.fromSerializer(
+							new Jackson2JsonRedisSerializer<>(objectMapper, type))));
+			localSpecs.put(name, localSpec());
+		});
+
+		RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+				.withInitialCacheConfigurations(remoteConfigs)
+				.build();
+		remote.initializeCaches();
+
+		return new TwoTierCacheManager(localSpecs, remote, cacheInvalidationBus);
+	}
+
+	@Bean
+	public TwoTierCacheMeterBinderProvider twoTierCacheMeterBinderProvider() {
+		return new TwoTierCacheMeterBinderProvider();
+	}
+
+	static Caffeine<Object, Object> localSpec() {
+		return Caffeine.newBuilder()
+				.maximumSize(LOCAL_MAX_SIZE)
+				.expireAfterWrite(LOCAL_TTL)
+				.recordStats();
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.moneytalk.config;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CacheInvalidationBus
+ * 노드 간 로컬 캐시(L1) 무효화 메시지를 Redis Pub/Sub으로 주고받습니다.
+ *
+ * [메시지 형식]
+ * - 채널: {@value #CHANNEL} (채팅용 chatroom:* 패턴과 분리)
+ * - 본문: "발행노드ID|E|캐시명|키" (항목 제거) 또는 "발행노드ID|C|캐시명" (전체 제거)
+ * - 자신이 발행한 메시지는 이미 로컬에 반영되었으므로 무시합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+	public static final String CHANNEL = "cache:invalidation";
+
+	private static final String EVICT = "E";
+	private static final String CLEAR = "C";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/** (캐시명, 키) 수신 처리기 - 키가 null이면 전체 제거 */
+	private volatile BiConsumer<String, String> handler = (cacheName, key) -> {
+	};
+
+	public CacheInvalidationBus(RedisTemplate<String, Object> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	public void setHandler(BiConsumer<String, String> handler) {
+		this.handler = handler;
+	}
+
+	public void publishEvict(String cacheName, String key) {
+		send(nodeId + "|" + EVICT + "|" + cacheName + "|" + key);
+	}
+
+	public void publishClear(String cacheName) {
+		send(nodeId + "|" + CLEAR + "|" + cacheName);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody()).split("\\|", 4);
+		if (parts.length < 3 || nodeId.equals(parts[0])) {
+			return;
+		}
+
+		if (EVICT.equals(parts[1]) && parts.length == 4) {
+			handler.accept(parts[2], parts[3]);
+		} else if (CLEAR.equals(parts[1])) {
+			handler.accept(parts[2], null);
+		}
+	}
+
+	private void send(String payload) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, payload);
+		} catch (Exception e) {
+			// 무효화 전파 실패 시에도 원본 쓰기는 유지 (다른 노드는 L1 TTL 만료 후 갱신)
+			log.warn("캐시 무효화 메시지 발행 실패: {}", payload, e);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.moneytalk.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.domain.IdGenerators;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IdGeneratorAligner
+ * IDENTITY에서 테이블 기반 pooled ID 생성기({@link IdGenerators})로 옮긴 테이블의 다음 ID를 기존 데이터 뒤로 맞춥니다.
+ *
+ * [동작]
+ * - 스키마 생성/갱신 직후(EntityManagerFactory 초기화 이후), 첫 ID 할당 전에 한 번 실행됩니다.
+ * - 생성기 값이 MAX(id) + ALLOCATION_SIZE보다 작으면 그 값으로 올립니다.
+ *   (pooled 방식은 읽은 값 바로 아래 ALLOCATION_SIZE개 구간을 사용하므로, 다음 구간이 MAX(id) 이후에서 시작)
+ * - 이미 앞서 있는 값은 건드리지 않으므로 재기동해도 안전합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorAligner {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@PostConstruct
+	public void align() {
+		for (String table : IdGenerators.SEGMENTS) {
+			Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+			if (maxId == null || maxId == 0) {
+				continue;
+			}
+			long target = maxId + IdGenerators.ALLOCATION_SIZE;
+
+			List<Long> current = jdbcTemplate.queryForList("SELECT " + IdGenerators.VALUE_COLUMN + " FROM "
+					+ IdGenerators.TABLE + " WHERE " + IdGenerators.PK_COLUMN + " = ?", Long.class, table);
+			if (current.isEmpty()) {
+				jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.PK_COLUMN + ", "
+						+ IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", table, target);
+			} else if (current.get(0) < target) {
+				jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE "
+						+ IdGenerators.PK_COLUMN + " = ?", target, table);
+			} else {
+				continue;
+			}
+			log.info("IdGeneratorAligner - {} 다음 ID를 {} 이후로 조정", table, maxId);
+		}
+	}
+}
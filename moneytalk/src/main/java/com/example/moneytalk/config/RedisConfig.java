@@ -6,22 +6,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.example.moneytalk.service.RedisSubscriber;
 
-import lombok.RequiredArgsConstructor;
-
 @Configuration
-@RequiredArgsConstructor
 public class RedisConfig {
 
-	private final RedisSubscriber redisSubscriber;
-
     @Value("${spring.data.redis.host}")
     private String redisHost;
 
@@ -46,27 +39,16 @@ public class RedisConfig {
 	}
 
 	@Bean
-	public ChannelTopic channelTopic() {
-		return new ChannelTopic("chatroom"); // 기본 Topic 하나 등록
-	}
-
-	@Bean
-	public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory,
-			MessageListenerAdapter listenerAdapter, ChannelTopic channelTopic) {
-
+	public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
-		
-		// 기본 Topic 하나 등록시: 임시
-//        container.addMessageListener(listenerAdapter, channelTopic);
-		
-		// Topic 패턴 전체 등록
-		container.addMessageListener(listenerAdapter, new PatternTopic("chatroom:*"));
+
+		// 채팅방 채널(chatroom:{roomId})은 RedisSubscriberService가 로컬 STOMP 구독이 있는 방만 구독
 		return container;
 	}
 
 	@Bean
-	public MessageListenerAdapter listenerAdapter() {
+	public MessageListenerAdapter listenerAdapter(RedisSubscriber redisSubscriber) {
 		return new MessageListenerAdapter(redisSubscriber, "onMessage");
 	}
 }
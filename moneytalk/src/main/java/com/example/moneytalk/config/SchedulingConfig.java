@@ -0,0 +1,16 @@
+package com.example.moneytalk.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled)을 활성화합니다.
+ * - {@link com.example.moneytalk.service.OutboxRelay}: 아웃박스 이벤트 전달 및 처리 완료 행 정리
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
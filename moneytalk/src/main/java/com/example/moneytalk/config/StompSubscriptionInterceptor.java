@@ -0,0 +1,55 @@
+package com.example.moneytalk.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.service.PurchaseNotificationHandler;
+import com.example.moneytalk.service.SavedSearchNotifier;
+
+/**
+ * 사용자별 알림 목적지의 SUBSCRIBE를 검사하는 STOMP 인바운드 인터셉터
+ *
+ * - 핸드셰이크({@link JwtHandshakeInterceptor})는 로그인 여부만 확인하므로, 목적지 끝의 사용자 ID가
+ *   세션 사용자와 다르면 구독을 거부합니다. (다른 사용자의 판매/알림 내역 엿보기 방지)
+ * - 대상 목적지: {@value PurchaseNotificationHandler#DESTINATION_PREFIX}{sellerId},
+ *   {@value SavedSearchNotifier#DESTINATION_PREFIX}{userId}
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public class StompSubscriptionInterceptor implements ChannelInterceptor {
+
+    /** 끝에 구독자 본인의 사용자 ID가 붙는 목적지 접두사 */
+    static final List<String> USER_DESTINATION_PREFIXES = List.of(PurchaseNotificationHandler.DESTINATION_PREFIX,
+            SavedSearchNotifier.DESTINATION_PREFIX);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.SUBSCRIBE || accessor.getDestination() == null) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        for (String prefix : USER_DESTINATION_PREFIXES) {
+            if (destination.startsWith(prefix) && !isOwner(accessor, destination.substring(prefix.length()))) {
+                throw new MessageDeliveryException(message, "다른 사용자의 알림은 구독할 수 없습니다: " + destination);
+            }
+        }
+        return message;
+    }
+
+    private static boolean isOwner(StompHeaderAccessor accessor, String userId) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object user = attributes == null ? null : attributes.get("user");
+        return user instanceof User loginUser && String.valueOf(loginUser.getId()).equals(userId);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.moneytalk.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * TwoTierCache
+ * 로컬(Caffeine) 캐시를 Redis 캐시 앞에 두는 2단계 캐시입니다.
+ *
+ * [조회]
+ * - L1(로컬) → L2(Redis) → 원본(DB) 순서로 조회하며, 하위 단계에서 찾은 값은 상위 단계에 채웁니다.
+ * - 같은 노드에서 동시에 들어온 동일 키 요청은 L1의 원자적 로딩으로 한 번만 L2/DB를 조회합니다. (@Cacheable(sync = true))
+ *
+ * [무효화]
+ * - put/evict/clear는 L2와 자신의 L1에 반영한 뒤, {@link CacheInvalidationBus}로 다른 노드에 L1 제거를 요청합니다.
+ * - 다른 노드에서 받은 무효화 메시지는 {@link #evictLocal(String)}/{@link #clearLocal()}로 L1에만 적용합니다.
+ * - Pub/Sub 메시지는 유실될 수 있으므로 L1 TTL은 L2보다 짧게 설정하여 최대 지연을 제한합니다.
+ *
+ * L1 키는 노드 간 메시지로 전달할 수 있도록 문자열(String.valueOf)로 정규화합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public class TwoTierCache implements Cache {
+
+	private final String name;
+	private final CaffeineCache local;
+	private final Cache remote;
+	private final CacheInvalidationBus invalidationBus;
+
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder remoteMisses = new LongAdder();
+
+	public TwoTierCache(String name, CaffeineCache local, Cache remote, CacheInvalidationBus invalidationBus) {
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.invalidationBus = invalidationBus;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		ValueWrapper cached = local.get(localKey);
+		if (cached != null) {
+			return cached;
+		}
+
+		ValueWrapper fromRemote = remote.get(key);
+		recordRemote(fromRemote);
+		if (fromRemote != null && fromRemote.get() != null) {
+			local.put(localKey, fromRemote.get());
+		}
+		return fromRemote;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return local.get(localKey(key), () -> {
+			ValueWrapper fromRemote = remote.get(key);
+			recordRemote(fromRemote);
+			if (fromRemote != null && fromRemote.get() != null) {
+				return (T) fromRemote.get();
+			}
+
+			T value = valueLoader.call();
+			if (value != null) {
+				remote.put(key, value);
+			}
+			return value;
+		});
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+		local.put(localKey(key), value);
+		invalidationBus.publishEvict(name, localKey(key));
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		local.evict(localKey(key));
+		invalidationBus.publishEvict(name, localKey(key));
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.clear();
+		invalidationBus.publishClear(name);
+	}
+
+	/**
+	 * 다른 노드의 무효화 요청으로 L1 항목만 제거합니다.
+	 */
+	public void evictLocal(String key) {
+		local.evict(key);
+	}
+
+	/**
+	 * 다른 노드의 무효화 요청으로 L1 전체를 비웁니다.
+	 */
+	public void clearLocal() {
+		local.clear();
+	}
+
+	public CaffeineCache getLocal() {
+		return local;
+	}
+
+	public long getRemoteHits() {
+		return remoteHits.sum();
+	}
+
+	public long getRemoteMisses() {
+		return remoteMisses.sum();
+	}
+
+	private void recordRemote(ValueWrapper fromRemote) {
+		if (fromRemote != null) {
+			remoteHits.increment();
+		} else {
+			remoteMisses.increment();
+		}
+	}
+
+	private static String localKey(Object key) {
+		return String.valueOf(key);
+	}
+}
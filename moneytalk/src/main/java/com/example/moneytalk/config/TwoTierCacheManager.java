@@ -0,0 +1,68 @@
+package com.example.moneytalk.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * TwoTierCacheManager
+ * 캐시별로 로컬(Caffeine) L1과 원격(Redis) L2를 묶은 {@link TwoTierCache}를 제공합니다.
+ *
+ * 트랜잭션 인식(transactionAware) 모드로 동작하여, 트랜잭션 안에서 호출된 put/evict는 커밋 이후에 반영됩니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+	private final Map<String, Caffeine<Object, Object>> localSpecs;
+	private final CacheManager remoteCacheManager;
+	private final CacheInvalidationBus invalidationBus;
+
+	public TwoTierCacheManager(Map<String, Caffeine<Object, Object>> localSpecs, CacheManager remoteCacheManager,
+			CacheInvalidationBus invalidationBus) {
+		this.localSpecs = localSpecs;
+		this.remoteCacheManager = remoteCacheManager;
+		this.invalidationBus = invalidationBus;
+		setTransactionAware(true);
+		invalidationBus.setHandler(this::onRemoteInvalidation);
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		List<Cache> caches = new ArrayList<>();
+		localSpecs.forEach((name, spec) -> caches.add(new TwoTierCache(name,
+				new CaffeineCache(name, spec.build(), false), remoteCacheManager.getCache(name), invalidationBus)));
+		return caches;
+	}
+
+	/**
+	 * 다른 노드에서 전달된 무효화 메시지를 로컬 L1에만 적용합니다.
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param key 제거할 키 (null이면 전체 제거)
+	 */
+	void onRemoteInvalidation(String cacheName, String key) {
+		Cache cache = lookupCache(cacheName);
+		if (cache instanceof TransactionAwareCacheDecorator decorator) {
+			cache = decorator.getTargetCache();
+		}
+		if (!(cache instanceof TwoTierCache twoTierCache)) {
+			return;
+		}
+		if (key == null) {
+			twoTierCache.clearLocal();
+		} else {
+			twoTierCache.evictLocal(key);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.moneytalk.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * {@link TwoTierCache}의 메트릭을 Micrometer에 등록합니다.
+ *
+ * - L1: Caffeine 통계 (cache.gets{result=hit|miss}, cache.evictions, cache.size 등)
+ * - L2: L1 미스 후 Redis 조회 결과 (cache.remote.gets{result=hit|miss})
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+	@Override
+	public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+		return registry -> {
+			new CaffeineCacheMetrics<>(cache.getLocal().getNativeCache(), cache.getName(), tags).bindTo(registry);
+
+			Tags cacheTags = Tags.of(tags).and("cache", cache.getName());
+			FunctionCounter.builder("cache.remote.gets", cache, TwoTierCache::getRemoteHits)
+					.tags(cacheTags.and(List.of(Tag.of("result", "hit"))))
+					.description("L1 미스 후 Redis(L2)에서 찾은 횟수")
+					.register(registry);
+			FunctionCounter.builder("cache.remote.gets", cache, TwoTierCache::getRemoteMisses)
+					.tags(cacheTags.and(List.of(Tag.of("result", "miss"))))
+					.description("L1, L2 모두 미스되어 원본을 조회한 횟수")
+					.register(registry);
+		};
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.moneytalk.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * WebMvcConfig
+ * Spring MVC 비동기 요청 처리 설정입니다.
+ *
+ * - StreamingResponseBody(상품 카탈로그 NDJSON 내보내기 등)는 비동기 요청으로 처리되며,
+ *   서블릿 컨테이너 기본 타임아웃(약 30초)을 넘기면 전송 도중 끊기므로 타임아웃을 늘립니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private static final Duration ASYNC_REQUEST_TIMEOUT = Duration.ofMinutes(30);
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT.toMillis());
+	}
+}
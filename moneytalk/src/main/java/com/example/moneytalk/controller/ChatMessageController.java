@@ -1,6 +1,9 @@
 package com.example.moneytalk.controller;
 
-import org.springframework.data.redis.listener.ChannelTopic;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -18,8 +21,8 @@ import com.example.moneytalk.dto.ChatImageUploadResponseDto;
 import com.example.moneytalk.dto.ChatMessageDto;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ChatRoomRepository;
-import com.example.moneytalk.service.ChatMessageService;
-import com.example.moneytalk.service.RedisPublisher;
+import com.example.moneytalk.service.ChatMessageWriteBehind;
+import com.example.moneytalk.service.ChatTransport;
 import com.example.moneytalk.type.ErrorCode;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,12 +39,12 @@ import lombok.extern.slf4j.Slf4j;
 @Controller
 public class ChatMessageController {
 
-	private final ChatMessageService chatMessageService;
+	private final ChatMessageWriteBehind chatMessageWriteBehind;
 	private final S3Uploader s3Uploader;
-	private final RedisPublisher redisPublisher;
+	private final ChatTransport chatTransport;
 
 	/**
-	 * 채팅 메시지 수신 - Redis 발행 프론트가 /pub/chat/message로 전송하면 이 메소드가 호출됩니다.
+	 * 채팅 메시지 수신 - Redis 발행 후 쓰기 지연 저장. 프론트가 /pub/chat/message로 전송하면 이 메소드가 호출됩니다.
 	 *
 	 * @param chatMessageDto 클라이언트가 전송한 채팅 메시지 정보
 	 * @param message        WebSocket 세션 정보가 포함된 메시지
@@ -59,19 +62,20 @@ public class ChatMessageController {
 
 		log.info("ChatMessageController - Message received: {}", chatMessageDto.getMessage());
 
-		// 수정: 새로 복사해서 senderId 강제 세팅
-		ChatMessageDto updatedMessage = ChatMessageDto.builder().chatRoomId(chatMessageDto.getChatRoomId())
+		// 수정: 새로 복사해서 senderId/닉네임 강제 세팅, 메시지 고유 키 발급 (발신자 정보는 클라이언트 값을 믿지 않음)
+		ChatMessageDto updatedMessage = ChatMessageDto.builder().messageKey(UUID.randomUUID().toString())
+				.chatRoomId(chatMessageDto.getChatRoomId())
 				.senderId(loginUser.getId()) // 로그인 유저 ID를 강제 주입
-				.senderNickname(chatMessageDto.getSenderNickname()).message(chatMessageDto.getMessage())
+				.senderNickname(loginUser.getNickname()).message(chatMessageDto.getMessage())
 				.type(chatMessageDto.getType()).imageUrl(chatMessageDto.getImageUrl())
-				.sentAt(chatMessageDto.getSentAt()).build();
+				// 메시지 정렬·커서 기준이므로 서버 시각 사용 (DATETIME(6)에 그대로 저장되도록 마이크로초 단위)
+				.sentAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)).build();
 
-		// DB 저장
-		chatMessageService.saveMessage(updatedMessage);
+		// 모든 노드로 발행 (chat.transport)
+		chatTransport.publish(updatedMessage);
 
-		// Redis 발행
-		ChannelTopic topic = new ChannelTopic("chatroom:" + updatedMessage.getChatRoomId());
-		redisPublisher.publish(topic, updatedMessage);
+		// DB 저장은 쓰기 지연 큐에 맡김 (WAL 기록 후 배치 저장)
+		chatMessageWriteBehind.enqueue(updatedMessage);
 	}
 
 	/**
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.moneytalk.domain.ChatRoom;
@@ -19,6 +20,7 @@ import com.example.moneytalk.dto.ChatMessageResponseDto;
 import com.example.moneytalk.dto.ChatRoomDetailDto;
 import com.example.moneytalk.dto.ChatRoomResponseDto;
 import com.example.moneytalk.dto.ChatRoomSummaryDto;
+import com.example.moneytalk.dto.CursorPageResponseDto;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ProductRepository;
 import com.example.moneytalk.service.ChatMessageService;
@@ -93,25 +95,32 @@ public class ChatRoomController {
     }
 
     /**
-     * 특정 채팅방의 메시지를 조회합니다.
+     * 특정 채팅방의 메시지를 최신순 커서 페이지로 조회합니다.
      *
      * @param chatRoomId 메시지를 조회할 채팅방 ID
+     * @param before 이 메시지보다 오래된 메시지만 조회 (이전 응답의 nextCursor, 첫 조회는 생략)
+     * @param limit 조회 건수
      * @param loginUser 현재 로그인한 사용자
-     * @return 메시지 목록
+     * @return 메시지 커서 페이지 (content는 오래된 → 최신 순)
      */
-    @Operation(summary = "채팅방 메시지 조회", description = "특정 채팅방의 메시지 전체를 조회합니다.")
+    @Operation(summary = "채팅방 메시지 조회", description = "특정 채팅방의 메시지를 최신 메시지부터 limit건 조회합니다. "
+            + "응답의 nextCursor를 before로 전달하면 그 이전 메시지를 이어서 조회합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ChatMessageResponseDto.class))),
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = CursorPageResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content),
         @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content)
     })
     @GetMapping("/{chatRoomId}/messages")
-    public ResponseEntity<List<ChatMessageResponseDto>> getChatMessages(
+    public ResponseEntity<CursorPageResponseDto<ChatMessageResponseDto>> getChatMessages(
         @Parameter(description = "조회할 채팅방 ID", example = "1")
         @PathVariable("chatRoomId") Long chatRoomId,
+        @Parameter(description = "이 메시지보다 오래된 메시지만 조회 (이전 응답의 nextCursor)")
+        @RequestParam(value = "before", required = false) String before,
+        @Parameter(description = "조회 건수 (최대 " + ChatMessageService.MAX_MESSAGE_LIMIT + ")", example = "50")
+        @RequestParam(value = "limit", defaultValue = "" + ChatMessageService.DEFAULT_MESSAGE_LIMIT) int limit,
         @Parameter(hidden = true) @AuthenticationPrincipal User loginUser
     ) {
-        List<ChatMessageResponseDto> messages = chatMessageService.getMessagesForChatRoom(chatRoomId, loginUser);
-        return ResponseEntity.ok(messages);
+        return ResponseEntity.ok(chatMessageService.getMessagesForChatRoom(chatRoomId, loginUser, before, limit));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.example.moneytalk.controller;
 import java.util.List;
 
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,18 +18,30 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.dto.PriceHistogramDto;
+import com.example.moneytalk.dto.ProductBulkRequestDto;
+import com.example.moneytalk.dto.ProductBulkResponseDto;
 import com.example.moneytalk.dto.ProductRequestDto;
 import com.example.moneytalk.dto.ProductResponseDto;
 import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.dto.ProductSearchResponseDto;
 import com.example.moneytalk.dto.ProductStatusUpdateRequestDto;
+import com.example.moneytalk.dto.ProductSuggestionDto;
 import com.example.moneytalk.dto.ReviewResponseDto;
 import com.example.moneytalk.exception.ErrorResponse;
 import com.example.moneytalk.service.FavoriteService;
+import com.example.moneytalk.service.ProductAutocompleteService;
+import com.example.moneytalk.service.ProductBulkService;
+import com.example.moneytalk.service.ProductExportService;
 import com.example.moneytalk.service.ProductImageService;
 import com.example.moneytalk.service.ProductService;
 import com.example.moneytalk.service.ReviewService;
+import com.example.moneytalk.service.TrendingService;
+import com.example.moneytalk.type.TrendingSignal;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,7 +59,7 @@ import lombok.RequiredArgsConstructor;
  * 상품과 관련된 API 요청을 처리하는 컨트롤러입니다.
  *
  * [기능 구성]
- * - 상품 등록, 단건/전체 조회, 검색
+ * - 상품 등록(단건/대량), 단건/전체 조회, 검색
  * - 찜하기 기능 (토글/개수 조회)
  * - 리뷰 조회
  * - 이미지 목록 조회
@@ -70,6 +83,10 @@ public class ProductController {
 	private final FavoriteService favoriteService;
 	private final ReviewService reviewService;
 	private final ProductImageService productImageService;
+	private final ProductExportService productExportService;
+	private final ProductAutocompleteService productAutocompleteService;
+	private final TrendingService trendingService;
+	private final ProductBulkService productBulkService;
 
 	
 	// ────────────────── 상품 등록/조회 ──────────────────
@@ -90,7 +107,28 @@ public class ProductController {
 	    return ResponseEntity.ok().build();
 	}
 
-	@Operation(summary = "상품 상태 변경", description = "상품의 판매 상태(SALE, RESERVED, SOLD)를 변경합니다.", security = @SecurityRequirement(name = "bearerAuth"))
+	@Operation(
+		    summary = "상품 대량 등록",
+		    description = """
+		        미리 업로드한 이미지 URL과 함께 여러 상품을 한 번에 등록합니다. (최대 1000건)  
+		        항목별로 검증하여 잘못된 항목만 실패 처리하고, 나머지는 등록합니다.  
+		        응답의 `results`에 요청 순서대로 항목별 등록 결과(상품 ID 또는 실패 사유)가 담깁니다.
+		        """,
+		    security = @SecurityRequirement(name = "bearerAuth")
+		)
+	@ApiResponses({
+	        @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 성공/실패는 응답 본문 참고)"),
+	        @ApiResponse(responseCode = "400", description = "빈 요청 또는 1000건 초과"),
+	        @ApiResponse(responseCode = "401", description = "JWT 인증 실패")
+	})
+	@PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ProductBulkResponseDto> createProducts(
+	        @RequestBody @Valid ProductBulkRequestDto request,
+	        @AuthenticationPrincipal User user) {
+	    return ResponseEntity.ok(productBulkService.createProducts(request.getItems(), user));
+	}
+
+	@Operation(summary = "상품 상태 변경", description = "상품의 판매 상태(SALE, RESERVED, SOLD)를 변경합니다. 판매완료 상품은 되돌릴 수 없습니다.", security = @SecurityRequirement(name = "bearerAuth"))
 	@PatchMapping("/{id}/status")
 	public ResponseEntity<Void> updateProductStatus(
 	        @Parameter(name = "id", description = "상품 ID", example = "1") @PathVariable("id") Long id,
@@ -109,7 +147,9 @@ public class ProductController {
 	public ResponseEntity<ProductResponseDto> getProduct(
 	        @Parameter(name = "productId", description = "상품 ID", example = "1", required = true)
 	        @PathVariable("productId") Long productId) {
-	    return ResponseEntity.ok(productService.getProductById(productId));
+	    ProductResponseDto product = productService.getProductById(productId);
+	    trendingService.record(product.getId(), product.getCategory(), TrendingSignal.VIEW);
+	    return ResponseEntity.ok(product);
 	}
 
 	@Operation(
@@ -192,28 +232,84 @@ public class ProductController {
 	        - `createdAt` (기본값): 최신순 정렬
 	        - `price_asc`: 가격 낮은순
 	        - `price_desc`: 가격 높은순
+	        - `relevance`: 관련도순 (제목 일치 우선, 최신 상품 우대 / 2글자 이상 키워드 필요, 그 외에는 최신순)
+	        결과는 `size` 단위로 페이지 조회되며, 응답의 `nextCursor`를 `cursor`로 전달하면 다음 페이지를 조회합니다.
+	        응답의 `facets`에는 검색 조건 전체에 대한 카테고리/지역/판매 상태별 상품 수가 포함됩니다.
 	        """)
 	@ApiResponses(value = {
 	        @ApiResponse(responseCode = "200", description = "검색 성공"),
-	        @ApiResponse(responseCode = "400", description = "잘못된 요청")
+	        @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 잘못된 커서")
 	})
 	@GetMapping("/search")
-	public ResponseEntity<List<ProductResponseDto>> searchProducts(@ModelAttribute ProductSearchRequestDto request) {
-	    List<ProductResponseDto> results = productService.searchProducts(request);
+	public ResponseEntity<ProductSearchResponseDto> searchProducts(
+	        @ParameterObject @ModelAttribute @Valid ProductSearchRequestDto request) {
+	    ProductSearchResponseDto results = productService.searchProductsWithFacets(request);
 	    return ResponseEntity.ok(results);
 	}
 
-	@Operation(summary = "전체 상품 조회", description = "등록된 모든 상품을 최신순으로 조회합니다.")
+	@Operation(summary = "검색어 자동완성", description = "입력 중인 접두어로 시작하는 상품 제목/카테고리를 등록 상품 수와 찜 수가 많은 순으로 제안합니다.")
+	@ApiResponses(value = {
+	        @ApiResponse(responseCode = "200", description = "조회 성공")
+	})
+	@GetMapping("/suggest")
+	public ResponseEntity<List<ProductSuggestionDto>> suggest(
+	        @Parameter(description = "입력 중인 검색어 접두어", example = "아이폰") @RequestParam("q") String q,
+	        @Parameter(description = "최대 제안 수 (1~10)", example = "10") @RequestParam(value = "limit", defaultValue = "10") int limit) {
+	    return ResponseEntity.ok(productAutocompleteService.suggest(q, limit));
+	}
+
+	@Operation(summary = "카테고리별 가격 분포", description = "판매중 상품의 가격 구간별 상품 수를 반환합니다. 카테고리를 생략하면 전체 카테고리 기준입니다.")
+	@ApiResponses(value = {
+	        @ApiResponse(responseCode = "200", description = "조회 성공")
+	})
+	@GetMapping("/price-histogram")
+	public ResponseEntity<PriceHistogramDto> getPriceHistogram(
+	        @Parameter(description = "카테고리", example = "전자기기") @RequestParam(value = "category", required = false) String category) {
+	    return ResponseEntity.ok(productService.getPriceHistogram(category));
+	}
+
+	@Operation(summary = "인기 상품 조회", description = "최근 찜, 구매 문의 채팅, 상세 조회를 시간 감쇠(반감기 6시간) 점수로 합산한 인기 판매중 상품을 반환합니다.")
+	@ApiResponses(value = {
+	        @ApiResponse(responseCode = "200", description = "조회 성공")
+	})
+	@GetMapping("/trending")
+	public ResponseEntity<List<ProductResponseDto>> getTrending(
+	        @Parameter(description = "카테고리 (생략 시 전체)", example = "전자기기") @RequestParam(value = "category", required = false) String category,
+	        @Parameter(description = "최대 건수 (1~50)", example = "20") @RequestParam(value = "limit", defaultValue = "20") int limit) {
+	    return ResponseEntity.ok(trendingService.getTrending(category, limit));
+	}
+
+	@Operation(summary = "전체 상품 조회", description = "등록된 상품을 최신순으로 커서 기반 페이지 조회합니다.")
 	@ApiResponses(value = {
 	        @ApiResponse(responseCode = "200", description = "조회 성공"),
+	        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
 	        @ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	@GetMapping
-	public ResponseEntity<List<ProductResponseDto>> getAllProducts() {
-	    List<ProductResponseDto> products = productService.getAllProducts();
+	public ResponseEntity<CursorPageResponseDto<ProductResponseDto>> getAllProducts(
+	        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)") @RequestParam(value = "cursor", required = false) String cursor,
+	        @Parameter(description = "페이지 크기 (1~100)", example = "20") @RequestParam(value = "size", required = false) Integer size) {
+	    CursorPageResponseDto<ProductResponseDto> products = productService.getAllProducts(cursor, size);
 	    return ResponseEntity.ok(products);
 	}
 	
+	@Operation(summary = "상품 카탈로그 내보내기", description = """
+	        전체 상품을 상품 ID 순으로 NDJSON(application/x-ndjson) 형식으로 스트리밍합니다.
+	        한 줄이 상품 1건(상품 단건 조회 응답과 같은 형태)이며, 카탈로그 크기와 무관하게 서버 메모리 사용량이 일정합니다.
+	        """)
+	@ApiResponses(value = {
+	        @ApiResponse(responseCode = "200", description = "내보내기 시작 (응답 본문은 스트리밍)"),
+	        @ApiResponse(responseCode = "401", description = "JWT 인증 실패")
+	})
+	@GetMapping(value = "/export", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> exportProducts() {
+	    StreamingResponseBody body = productExportService::exportNdjson;
+	    return ResponseEntity.ok()
+	            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+	            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"")
+	            .body(body);
+	}
+
 	@Operation(summary = "구매 확정", description = "상품을 구매 확정하고 상태를 SOLD로 변경합니다.", security = @SecurityRequirement(name = "bearerAuth"))
 	@PatchMapping("/{productId}/confirm")
 	public ResponseEntity<Void> confirmPurchase(
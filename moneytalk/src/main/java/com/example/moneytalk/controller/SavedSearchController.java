@@ -0,0 +1,77 @@
+package com.example.moneytalk.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.dto.SavedSearchResponseDto;
+import com.example.moneytalk.service.SavedSearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SavedSearchController
+ * 상품 검색 조건 저장(새 상품 알림 구독) API를 제공하는 컨트롤러입니다.
+ *
+ * [기능 설명]
+ * - 검색 조건 저장, 내 저장 목록 조회, 삭제
+ * - 저장된 조건에 일치하는 새 상품이 등록되면 WebSocket(STOMP) /sub/saved-search/{userId} 로 알림이 전달됩니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+	private final SavedSearchService savedSearchService;
+
+	@Operation(summary = "검색 조건 저장", description = "키워드/카테고리/지역/가격 범위 조건을 저장합니다. 정렬, 커서, 페이지 크기, 판매 상태는 무시됩니다.")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "저장 성공"),
+			@ApiResponse(responseCode = "400", description = "조건 없음, 잘못된 가격 범위 또는 저장 개수 초과")
+	})
+	@PostMapping
+	public ResponseEntity<SavedSearchResponseDto> saveSearch(@AuthenticationPrincipal User user,
+			@RequestBody @Valid ProductSearchRequestDto request) {
+		return ResponseEntity.ok(savedSearchService.saveSearch(request, user));
+	}
+
+	@Operation(summary = "내 저장된 검색 목록", description = "내가 저장한 검색 조건을 최신순으로 조회합니다.")
+	@GetMapping
+	public ResponseEntity<List<SavedSearchResponseDto>> getMySavedSearches(@AuthenticationPrincipal User user) {
+		return ResponseEntity.ok(savedSearchService.getMySavedSearches(user));
+	}
+
+	@Operation(summary = "저장된 검색 삭제", description = "본인의 저장된 검색을 삭제합니다. 이후 해당 조건의 알림은 전달되지 않습니다.")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "204", description = "삭제 성공"),
+			@ApiResponse(responseCode = "403", description = "본인의 저장된 검색이 아님"),
+			@ApiResponse(responseCode = "404", description = "존재하지 않는 저장된 검색")
+	})
+	@DeleteMapping("/{savedSearchId}")
+	public ResponseEntity<Void> deleteSavedSearch(
+			@Parameter(description = "저장된 검색 ID", example = "12") @PathVariable("savedSearchId") Long savedSearchId,
+			@AuthenticationPrincipal User user) {
+		savedSearchService.deleteSavedSearch(savedSearchId, user);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -2,7 +2,6 @@ package com.example.moneytalk.domain;
 
 import java.time.LocalDateTime;
 
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Where;
 
 import com.example.moneytalk.type.MessageType;
@@ -15,9 +14,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +28,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        // 채팅방별 최신순 커서 조회 (WHERE chat_room_id = ? AND (sent_at, id) < (?, ?) ORDER BY sent_at DESC, id DESC)
+        @Index(name = "idx_chat_messages_room_sent_at", columnList = "chat_room_id, sent_at, id") }, uniqueConstraints = {
+        // 쓰기 지연 저장/WAL 재처리 시 같은 메시지의 중복 저장 방지 (기존 메시지는 null)
+        @UniqueConstraint(name = "uk_chat_messages_message_key", columnNames = "message_key") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,9 +40,16 @@ import lombok.Setter;
 @Builder
 public class ChatMessage {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_messages_id")
+    @TableGenerator(name = "chat_messages_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "chat_messages",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
+    @Column(name = "message_key", length = 36)
+    private String messageKey; // 서버가 발급한 메시지 고유 키 (UUID)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chat_room_id", nullable = false)
     private ChatRoom chatRoom;
@@ -54,7 +68,7 @@ public class ChatMessage {
     @Column(nullable = false)
     private MessageType type; // TEXT, IMAGE, SYSTEM 등
 
-    @CreationTimestamp
+    // 서버가 메시지를 받은 시각. 저장이 늦어져도(쓰기 지연/WAL 재처리) 받은 시각을 유지해야 하므로 저장 시각으로 덮어쓰지 않음
     private LocalDateTime sentAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -68,4 +82,11 @@ public class ChatMessage {
     // 삭제 상태 (확장 가능)
     private boolean isDeletedBySender;
     private boolean isDeletedByReceiver;
+
+    @PrePersist
+    void prePersist() {
+        if (sentAt == null) {
+            sentAt = LocalDateTime.now();
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.moneytalk.domain;
+
+import java.util.List;
+
+/**
+ * 테이블 기반 pooled ID 생성기 설정입니다.
+ *
+ * IDENTITY 전략은 INSERT를 실행해야 ID를 알 수 있어 Hibernate JDBC 배치가 꺼집니다.
+ * 한 요청에서 여러 행을 쓰는 엔티티(이미지, 채팅 메시지, 구매 이력, 가계부)는
+ * {@value #TABLE} 테이블에서 ID를 {@value #ALLOCATION_SIZE}개씩 미리 할당받아 배치 INSERT가 가능하도록 합니다.
+ * (MySQL은 시퀀스가 없으므로 테이블로 hi/lo 구간을 관리)
+ *
+ * 엔티티별로 {@code sequence_name} 행 하나를 사용하며, 기존 데이터가 있는 테이블은
+ * {@link com.example.moneytalk.config.IdGeneratorAligner}가 기동 시 다음 값을 맞춰 줍니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public final class IdGenerators {
+
+	public static final String TABLE = "id_generators";
+	public static final String PK_COLUMN = "sequence_name";
+	public static final String VALUE_COLUMN = "next_val";
+
+	/** 한 번에 할당받는 ID 개수 (hibernate.jdbc.batch_size와 동일) */
+	public static final int ALLOCATION_SIZE = 50;
+
+	/** 생성기를 사용하는 테이블 (sequence_name 값 = 테이블 이름) */
+	public static final List<String> SEGMENTS = List.of("product_images", "review_images", "chat_messages",
+			"purchase_histories", "purchase_records", "ledgers");
+
+	private IdGenerators() {
+	}
+}
@@ -17,6 +17,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +26,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "ledgers")
+@Table(name = "ledgers", uniqueConstraints = {
+        // 다른 기능이 자동 생성한 기록의 중복 방지 (직접 입력한 기록은 null)
+        @UniqueConstraint(name = "uk_ledgers_source_key", columnNames = "source_key") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,7 +36,11 @@ import lombok.Setter;
 @Builder
 public class Ledger {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ledgers_id")
+    @TableGenerator(name = "ledgers_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "ledgers",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(optional = false)
@@ -64,4 +72,7 @@ public class Ledger {
     @Column(length = 100)
     private String tag; // 예: "식비/카페/스타벅스" (카테고리 구체화 or 태깅용)
 
+    @Column(name = "source_key", length = 50)
+    private String sourceKey; // 예: "purchase:101:EXPENSE" (구매 확정 시 자동 생성된 기록)
+
 }
@@ -0,0 +1,75 @@
+package com.example.moneytalk.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.example.moneytalk.type.OutboxEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 트랜잭션 아웃박스 행입니다.
+ *
+ * 도메인 변경과 같은 트랜잭션에서 한 행을 INSERT해 두면, {@link com.example.moneytalk.service.OutboxRelay}가
+ * 커밋된 행을 배치로 읽어 후속 처리(가계부, 구매 이력, 알림)를 실행하고 processedAt을 기록합니다.
+ * 처리에 실패한 행은 attempts/lastError/nextAttemptAt만 갱신되어 대기 후 다시 전달됩니다. (at-least-once)
+ * 최대 전달 횟수까지 실패한 행은 failedAt을 기록하고 더 이상 전달하지 않습니다. (원인 해결 후 failedAt을 지우면 다시 전달)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+		// 미처리 행을 ID 순으로 읽기 위한 인덱스
+		@Index(name = "idx_outbox_events_pending", columnList = "processed_at, failed_at, id") })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private OutboxEventType type;
+
+	@Column(nullable = false)
+	private Long aggregateId; // 예: 구매 확정은 상품 ID
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload; // 이벤트 JSON
+
+	@Builder.Default
+	@Column(nullable = false)
+	private int attempts = 0; // 실패한 전달 횟수
+
+	@Column(length = 500)
+	private String lastError;
+
+	private LocalDateTime nextAttemptAt; // 실패 후 재전달 가능 시각 (null이면 즉시)
+
+	@CreationTimestamp
+	private LocalDateTime createdAt;
+
+	private LocalDateTime processedAt; // null이면 미처리
+
+	private LocalDateTime failedAt; // 최대 전달 횟수까지 실패해 전달을 멈춘 시각 (null이면 전달 대상)
+}
@@ -13,9 +13,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -27,7 +29,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+		// 커서 기반 목록 조회(최신순/가격순) Keyset 인덱스
+		@Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+		@Index(name = "idx_products_price_id", columnList = "price, id") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -49,7 +54,7 @@ public class Product {
 	@Column(columnDefinition = "TEXT")
 	private String description;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "buyer_id")
 	private User buyer;
 	
@@ -68,6 +73,11 @@ public class Product {
 
 	@CreationTimestamp
 	private LocalDateTime createdAt;
+
+	// 대표 이미지 URL 비정규화 (목록/채팅방 요약에서 images 컬렉션 지연 로딩 방지)
+	// 이미지 등록 시 ProductService/ProductImageService에서 함께 갱신
+	@Column(name = "thumbnail_url", length = 255)
+	private String thumbnailUrl;
 	
 	// 확장 용이성을 위한 양방향 매핑 추가
 	@OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
@@ -75,14 +85,4 @@ public class Product {
 	
 	@OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<ProductImage> images = new ArrayList<>();
-
-	public String getThumbnailUrl() {
-	    return images.stream()
-	            .filter(ProductImage::isThumbnail)
-	            .map(ProductImage::getImageUrl)
-	            .findFirst()
-	            .orElse(images.isEmpty() ? null : images.get(0).getImageUrl());
-	}
-
-
 }
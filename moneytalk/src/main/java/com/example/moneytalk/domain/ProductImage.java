@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,7 +29,11 @@ import lombok.Setter;
 @Builder
 public class ProductImage {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_images_id")
+    @TableGenerator(name = "product_images_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "product_images",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -10,7 +10,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "purchase_histories")
+@Table(name = "purchase_histories", uniqueConstraints = {
+        // 상품당 구매/판매 이력 각 1건 (구매 확정 멱등성)
+        @UniqueConstraint(name = "uk_purchase_histories_product_type", columnNames = { "product_id", "type" }) })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +21,10 @@ import lombok.*;
 public class PurchaseHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "purchase_histories_id")
+    @TableGenerator(name = "purchase_histories_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "purchase_histories",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -16,6 +16,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,7 +25,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "purchase_records")
+@Table(name = "purchase_records", uniqueConstraints = {
+		// 상품당 구매 기록 1건 (구매 확정 멱등성)
+		@UniqueConstraint(name = "uk_purchase_records_product", columnNames = "product_id") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,7 +36,10 @@ import lombok.Setter;
 public class PurchaseRecord {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "purchase_records_id")
+	@TableGenerator(name = "purchase_records_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+			valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "purchase_records",
+			allocationSize = IdGenerators.ALLOCATION_SIZE)
 	private Long id;
 
 	@ManyToOne(optional = false)
@@ -0,0 +1,61 @@
+package com.example.moneytalk.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자가 저장한 상품 검색 조건입니다.
+ * 새 상품이 등록될 때 조건에 일치하면 알림을 받습니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Entity
+@Table(name = "saved_searches", indexes = {
+		@Index(name = "idx_saved_searches_user_id", columnList = "user_id") })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearch {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "user_id")
+	private User user;
+
+	@Column(length = 100)
+	private String keyword;
+
+	@Column(length = 30)
+	private String category;
+
+	@Column(length = 100)
+	private String location;
+
+	private Integer minPrice;
+
+	private Integer maxPrice;
+
+	@CreationTimestamp
+	private LocalDateTime createdAt;
+}
@@ -5,12 +5,14 @@ import com.example.moneytalk.domain.AverageRating;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 특정 상품에 대한 평균 평점 및 리뷰 개수를 응답하는 DTO입니다.
  */
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "상품 평균 평점 응답 DTO")
 public class AverageRatingResponseDto {
 
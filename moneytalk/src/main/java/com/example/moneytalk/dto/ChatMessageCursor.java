@@ -0,0 +1,93 @@
+package com.example.moneytalk.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.exception.GlobalException;
+import com.example.moneytalk.type.ErrorCode;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방 메시지 Keyset 페이지네이션에 사용되는 커서입니다.
+ *
+ * [커서 구성]
+ * - (sentAt, id): 메시지 ID는 노드별로 블록 단위 발급되고, 쓰기 지연 저장/WAL 재처리로 늦게 저장된 메시지도 있어
+ *   ID 순서가 전송 순서와 다를 수 있으므로 전송 시각으로 정렬하고 ID는 같은 시각의 순서만 정합니다.
+ *
+ * 클라이언트에는 "전송시각:메시지ID" 문자열을 Base64(URL-safe)로 인코딩한 불투명 문자열로 전달됩니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChatMessageCursor {
+
+	/** 첫 페이지 조회용 커서 (DATETIME 컬럼이 표현할 수 있는 가장 늦은 시각) */
+	public static final ChatMessageCursor FIRST = new ChatMessageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+			Long.MAX_VALUE);
+
+	private final LocalDateTime sentAt;
+	private final Long id;
+
+	/**
+	 * 페이지의 가장 오래된 메시지로부터 다음 페이지 커서를 생성합니다.
+	 *
+	 * @param message 페이지의 가장 오래된 메시지
+	 * @return 메시지 커서
+	 */
+	public static ChatMessageCursor of(ChatMessage message) {
+		return new ChatMessageCursor(message.getSentAt(), message.getId());
+	}
+
+	/**
+	 * 응답 DTO(최근 메시지 버퍼 조회 결과)의 가장 오래된 메시지로부터 다음 페이지 커서를 생성합니다.
+	 *
+	 * @param message 페이지의 가장 오래된 메시지 (저장되어 messageId가 있어야 함)
+	 * @return 메시지 커서
+	 */
+	public static ChatMessageCursor of(ChatMessageResponseDto message) {
+		return new ChatMessageCursor(message.getSentAt(), message.getMessageId());
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서 문자열을 해석합니다.
+	 *
+	 * @param encoded 인코딩된 커서 문자열 (null이면 첫 페이지)
+	 * @return 메시지 커서
+	 * @throws GlobalException 커서 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR}
+	 */
+	public static ChatMessageCursor decode(String encoded) {
+		if (encoded == null) {
+			return FIRST;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+			// 전송시각(LocalDateTime)에도 ':'가 포함되므로 마지막 구분자 기준으로 분리
+			int last = raw.lastIndexOf(':');
+			if (last < 0) {
+				throw new GlobalException(ErrorCode.INVALID_CURSOR);
+			}
+			return new ChatMessageCursor(LocalDateTime.parse(raw.substring(0, last)),
+					Long.valueOf(raw.substring(last + 1)));
+		} catch (IllegalArgumentException | DateTimeException e) {
+			throw new GlobalException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	/**
+	 * 커서를 클라이언트 전달용 문자열로 인코딩합니다.
+	 *
+	 * @return Base64(URL-safe) 인코딩 문자열
+	 */
+	public String encode() {
+		String raw = sentAt + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
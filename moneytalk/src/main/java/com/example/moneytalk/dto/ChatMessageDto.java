@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 채팅 메시지를 송수신할 때 사용되는 DTO입니다.
@@ -15,9 +16,13 @@ import lombok.Setter;
  */
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "채팅 메시지 송수신 DTO")
 public class ChatMessageDto {
 
+    @Schema(description = "메시지 고유 키 (서버가 발급, 중복 저장 방지)", example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+    private final String messageKey;
+
     @Schema(description = "채팅방 ID", example = "101", required = true)
     private final Long chatRoomId;
 
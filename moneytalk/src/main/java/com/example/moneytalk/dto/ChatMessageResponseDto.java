@@ -13,7 +13,7 @@ import lombok.Getter;
  * 단일 메시지의 상세 정보를 포함하며, 메시지 ID, 보낸 사람 정보, 메시지 타입, 읽음 여부 등을 포함합니다.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "채팅 메시지 조회 응답 DTO")
 public class ChatMessageResponseDto {
 
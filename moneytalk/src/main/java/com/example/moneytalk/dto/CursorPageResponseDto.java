@@ -0,0 +1,66 @@
+package com.example.moneytalk.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서(Keyset) 기반 페이지 응답 DTO입니다.
+ * 현재 페이지의 목록과 다음 페이지 조회에 사용할 커서를 함께 반환합니다.
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@Builder
+@Schema(description = "커서 기반 페이지 응답 DTO")
+public class CursorPageResponseDto<T> {
+
+    @Schema(description = "현재 페이지 항목 목록")
+    private final List<T> content;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)", example = "cDoxMjUwMDAwOjEwMQ")
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    /**
+     * 한 건을 더 조회(size + 1)한 결과로부터 페이지를 생성합니다.
+     * 초과 조회된 마지막 항목은 잘라내고, 다음 페이지 존재 여부만 판단하는 데 사용합니다.
+     *
+     * @param fetched 최대 size + 1 건까지 조회된 목록
+     * @param size 페이지 크기
+     * @param cursorOf 페이지 마지막 항목으로부터 다음 커서를 만드는 함수
+     * @return 커서 페이지 응답 DTO
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> fetched, int size,
+            Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return CursorPageResponseDto.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 커서와 다음 페이지 여부는 유지한 채 항목만 다른 타입으로 교체합니다.
+     * (예: 엔티티 페이지를 응답 DTO 페이지로 변환)
+     *
+     * @param newContent 교체할 항목 목록 (기존 항목과 순서가 같아야 함)
+     * @return 항목이 교체된 페이지
+     */
+    public <R> CursorPageResponseDto<R> withContent(List<R> newContent) {
+        return CursorPageResponseDto.<R>builder()
+                .content(newContent)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
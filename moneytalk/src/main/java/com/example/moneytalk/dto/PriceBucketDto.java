@@ -0,0 +1,23 @@
+package com.example.moneytalk.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 가격 분포 히스토그램의 구간 하나입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "가격 구간별 상품 수 DTO")
+public class PriceBucketDto {
+
+    @Schema(description = "구간 최소 가격 (포함)", example = "100000")
+    private final int minPrice;
+
+    @Schema(description = "구간 최대 가격 (미포함, 마지막 구간은 null)", example = "200000")
+    private final Integer maxPrice;
+
+    @Schema(description = "구간 내 판매중 상품 수", example = "42")
+    private final int count;
+}
@@ -0,0 +1,25 @@
+package com.example.moneytalk.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 카테고리별 판매중 상품 가격 분포 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "가격 분포 히스토그램 응답 DTO")
+public class PriceHistogramDto {
+
+    @Schema(description = "카테고리 (전체 카테고리면 null)", example = "전자기기")
+    private final String category;
+
+    @Schema(description = "판매중 상품 수 합계", example = "1280")
+    private final int total;
+
+    @Schema(description = "가격 구간별 상품 수 (가격 오름차순)")
+    private final List<PriceBucketDto> buckets;
+}
@@ -0,0 +1,28 @@
+package com.example.moneytalk.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 대량 상품 등록 요청의 상품 한 건입니다.
+ * 상품 정보는 {@link ProductRequestDto}와 같고, 이미지는 파일 대신 미리 업로드한 URL로 전달합니다.
+ * 첫 번째 이미지가 대표 이미지가 됩니다.
+ */
+@Getter
+@Setter
+@Schema(description = "대량 상품 등록 항목 DTO")
+public class ProductBulkItemDto extends ProductRequestDto {
+
+    @Schema(description = "미리 업로드한 이미지 URL 목록 (첫 번째가 대표 이미지)",
+            example = "[\"https://moneytalk.s3.ap-northeast-2.amazonaws.com/products/a.jpg\"]")
+    @NotNull(message = "이미지 URL 목록은 null일 수 없습니다. (이미지가 없으면 빈 목록)")
+    @Size(max = 10, message = "이미지는 최대 10장까지 등록할 수 있습니다.")
+    private List<@NotBlank @Size(max = 255) String> imageUrls = new ArrayList<>();
+}
@@ -0,0 +1,27 @@
+package com.example.moneytalk.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 대량 상품 등록 요청 DTO입니다.
+ * 항목별 검증은 서비스에서 개별로 수행하므로, 일부 항목이 잘못되어도 나머지는 등록됩니다.
+ */
+@Getter
+@Setter
+@Schema(description = "대량 상품 등록 요청 DTO")
+public class ProductBulkRequestDto {
+
+    /** 한 요청에 등록할 수 있는 최대 상품 수 */
+    public static final int MAX_ITEMS = 1000;
+
+    @Schema(description = "등록할 상품 목록 (최대 1000건)")
+    @NotEmpty(message = "등록할 상품이 없습니다.")
+    @Size(max = MAX_ITEMS, message = "한 번에 최대 1000건까지 등록할 수 있습니다.")
+    private List<ProductBulkItemDto> items;
+}
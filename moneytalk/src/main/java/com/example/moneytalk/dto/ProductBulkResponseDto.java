@@ -0,0 +1,34 @@
+package com.example.moneytalk.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 상품 등록 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "대량 상품 등록 응답 DTO")
+public class ProductBulkResponseDto {
+
+    @Schema(description = "등록 성공 건수", example = "998")
+    private final int successCount;
+
+    @Schema(description = "등록 실패 건수", example = "2")
+    private final int failureCount;
+
+    @Schema(description = "항목별 결과 (요청 순서)")
+    private final List<ProductBulkResultDto> results;
+
+    public static ProductBulkResponseDto of(List<ProductBulkResultDto> results) {
+        int successCount = (int) results.stream().filter(ProductBulkResultDto::isSuccess).count();
+        return ProductBulkResponseDto.builder()
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.moneytalk.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 상품 등록 요청의 항목별 처리 결과입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "대량 상품 등록 항목별 결과 DTO")
+public class ProductBulkResultDto {
+
+    @Schema(description = "요청 목록에서의 위치 (0부터 시작)", example = "0")
+    private final int index;
+
+    @Schema(description = "등록 성공 여부", example = "true")
+    private final boolean success;
+
+    @Schema(description = "등록된 상품 ID (실패 시 null)", example = "101")
+    private final Long productId;
+
+    @Schema(description = "실패 사유 (성공 시 null)", example = "[title] 상품 제목은 필수 입력 항목입니다.")
+    private final String message;
+
+    public static ProductBulkResultDto success(int index, Long productId) {
+        return ProductBulkResultDto.builder().index(index).success(true).productId(productId).build();
+    }
+
+    public static ProductBulkResultDto failure(int index, String message) {
+        return ProductBulkResultDto.builder().index(index).success(false).message(message).build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.moneytalk.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.exception.GlobalException;
+import com.example.moneytalk.type.ErrorCode;
+import com.example.moneytalk.type.ProductSortType;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 목록 Keyset 페이지네이션에 사용되는 커서입니다.
+ *
+ * [커서 구성]
+ * - 최신순: (createdAt, id)
+ * - 가격순: (price, id)
+ * - 관련도순: (score, id) - score는 조회 시점과 무관한 관련도 점수 (ProductSearchIndex 참고)
+ *
+ * 클라이언트에는 "정렬코드:정렬키:상품ID" 문자열을 Base64(URL-safe)로 인코딩한 불투명 문자열로 전달되며,
+ * 다른 정렬 기준으로 발급된 커서를 사용하면 {@link ErrorCode#INVALID_CURSOR} 예외가 발생합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+	private final ProductSortType sort;
+	private final LocalDateTime createdAt;
+	private final Integer price;
+	private final Double score;
+	private final Long id;
+
+	/**
+	 * 페이지의 마지막 상품으로부터 다음 페이지 커서를 생성합니다.
+	 *
+	 * @param product 페이지의 마지막 상품
+	 * @param sort 정렬 기준
+	 * @return 상품 커서
+	 */
+	public static ProductCursor of(Product product, ProductSortType sort) {
+		return new ProductCursor(sort, product.getCreatedAt(), product.getPrice(), null, product.getId());
+	}
+
+	/**
+	 * 응답 DTO(인메모리 조회 결과)의 마지막 상품으로부터 다음 페이지 커서를 생성합니다.
+	 *
+	 * @param product 페이지의 마지막 상품
+	 * @param sort 정렬 기준
+	 * @return 상품 커서
+	 */
+	public static ProductCursor of(ProductResponseDto product, ProductSortType sort) {
+		return new ProductCursor(sort, product.getCreatedAt(), product.getPrice(), null, product.getId());
+	}
+
+	/**
+	 * 관련도순 페이지의 마지막 상품 점수로부터 다음 페이지 커서를 생성합니다.
+	 *
+	 * @param score 마지막 상품의 관련도 점수
+	 * @param id 마지막 상품 ID
+	 * @return 상품 커서
+	 */
+	public static ProductCursor ofRelevance(double score, Long id) {
+		return new ProductCursor(ProductSortType.RELEVANCE, null, null, score, id);
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서 문자열을 해석합니다.
+	 *
+	 * @param encoded 인코딩된 커서 문자열
+	 * @param sort 현재 요청의 정렬 기준
+	 * @return 상품 커서
+	 * @throws GlobalException 커서 형식이 잘못되었거나 정렬 기준이 다른 경우 {@link ErrorCode#INVALID_CURSOR}
+	 */
+	public static ProductCursor decode(String encoded, ProductSortType sort) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+			// 정렬키(LocalDateTime)에도 ':'가 포함되므로 첫 번째/마지막 구분자 기준으로 분리
+			int first = raw.indexOf(':');
+			int last = raw.lastIndexOf(':');
+
+			if (first < 0 || first == last || !raw.substring(0, first).equals(sort.name())) {
+				throw new GlobalException(ErrorCode.INVALID_CURSOR);
+			}
+
+			String key = raw.substring(first + 1, last);
+			Long id = Long.valueOf(raw.substring(last + 1));
+			return switch (sort) {
+			case CREATED_AT -> new ProductCursor(sort, LocalDateTime.parse(key), null, null, id);
+			case RELEVANCE -> new ProductCursor(sort, null, null, Double.valueOf(key), id);
+			default -> new ProductCursor(sort, null, Integer.valueOf(key), null, id);
+			};
+		} catch (IllegalArgumentException | DateTimeException e) {
+			throw new GlobalException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	/**
+	 * 커서를 클라이언트 전달용 문자열로 인코딩합니다.
+	 *
+	 * @return Base64(URL-safe) 인코딩 문자열
+	 */
+	public String encode() {
+		String key = switch (sort) {
+		case CREATED_AT -> createdAt.toString();
+		case RELEVANCE -> String.valueOf(score);
+		default -> String.valueOf(price);
+		};
+		String raw = sort.name() + ":" + key + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
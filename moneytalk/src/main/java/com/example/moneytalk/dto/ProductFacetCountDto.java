@@ -0,0 +1,20 @@
+package com.example.moneytalk.dto;
+
+import com.example.moneytalk.type.ProductStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * (카테고리, 지역, 판매 상태) 조합별 상품 수 집계 결과입니다.
+ * 패싯 집계용 GROUP BY 쿼리의 생성자 표현식(SELECT new ...)으로 생성됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductFacetCountDto {
+
+    private final String category;
+    private final String location;
+    private final ProductStatus status;
+    private final Long count;
+}
@@ -0,0 +1,30 @@
+package com.example.moneytalk.dto;
+
+import java.util.Map;
+
+import com.example.moneytalk.type.ProductStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 검색 결과의 패싯(항목별 상품 수) 응답 DTO입니다.
+ *
+ * 각 패싯의 개수는 해당 패싯 자신의 필터를 제외한 나머지 조건으로 집계합니다.
+ * (예: category=전자기기 로 검색해도 카테고리 패싯에는 다른 카테고리의 개수가 함께 표시됨)
+ */
+@Getter
+@Builder
+@Schema(description = "상품 검색 패싯 DTO (카테고리/지역/판매 상태별 상품 수)")
+public class ProductFacetsDto {
+
+    @Schema(description = "카테고리별 상품 수 (개수 내림차순)", example = "{\"전자기기\": 12, \"의류\": 3}")
+    private final Map<String, Long> category;
+
+    @Schema(description = "지역별 상품 수 (개수 내림차순)", example = "{\"서울\": 10, \"부산\": 5}")
+    private final Map<String, Long> location;
+
+    @Schema(description = "판매 상태별 상품 수", example = "{\"SALE\": 11, \"RESERVED\": 2, \"SOLD\": 2}")
+    private final Map<ProductStatus, Long> status;
+}
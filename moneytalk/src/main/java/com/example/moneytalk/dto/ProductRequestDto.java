@@ -26,6 +26,7 @@ public class ProductRequestDto {
 
     @Schema(description = "상품 가격 (원)", example = "1350000", required = true, minimum = "0")
     @NotNull(message = "가격은 필수 입력 항목입니다.")
+    @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
     private Integer price;
 
     @Schema(description = "상품 카테고리", example = "전자기기", required = true)
@@ -8,6 +8,7 @@ import com.example.moneytalk.type.ProductStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 상품 단건 조회 및 목록 응답 DTO입니다.
@@ -15,6 +16,7 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "상품 상세 조회 응답 DTO")
 public class ProductResponseDto {
 
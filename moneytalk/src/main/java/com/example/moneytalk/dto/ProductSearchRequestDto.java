@@ -3,6 +3,7 @@ package com.example.moneytalk.dto;
 import com.example.moneytalk.type.ProductStatus;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,12 +11,16 @@ import lombok.Setter;
 /**
  * 상품 검색 필터 및 정렬 요청 DTO입니다.
  * 키워드, 카테고리, 위치, 가격 범위, 상품 상태, 정렬 조건 등을 지정할 수 있습니다.
+ * 결과는 커서 기반으로 페이지 단위 조회되며, 이전 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.
  */
 @Getter
 @Setter
 @Schema(description = "상품 검색 요청 파라미터 DTO")
 public class ProductSearchRequestDto {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Schema(
         description = "검색 키워드 (제목 또는 설명에 포함될 단어)",
         example = "노트북"
@@ -57,8 +62,36 @@ public class ProductSearchRequestDto {
     private ProductStatus status;
 
     @Schema(
-        description = "정렬 기준 (createdAt, price_asc, price_desc)",
+        description = "정렬 기준 (createdAt, price_asc, price_desc, relevance)",
         example = "price_desc"
     )
     private String sort;
+
+    @Schema(
+        description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 생략)",
+        example = "cDoxMjUwMDAwOjEwMQ"
+    )
+    private String cursor;
+
+    @Schema(
+        description = "페이지 크기 (1~100)",
+        example = "20",
+        defaultValue = "20"
+    )
+    @Min(1)
+    @Max(MAX_PAGE_SIZE)
+    private Integer size = DEFAULT_PAGE_SIZE;
+
+    /**
+     * 실제 조회에 사용할 페이지 크기를 반환합니다.
+     * 미지정 시 기본값, 허용 범위를 벗어나면 1~{@value #MAX_PAGE_SIZE} 범위로 보정합니다.
+     *
+     * @return 페이지 크기
+     */
+    public int resolvePageSize() {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 }
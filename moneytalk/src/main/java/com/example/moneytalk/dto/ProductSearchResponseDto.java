@@ -0,0 +1,38 @@
+package com.example.moneytalk.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 검색 응답 DTO입니다.
+ * 커서 기반 페이지 결과와 검색 조건 전체에 대한 패싯 집계를 함께 반환합니다.
+ */
+@Getter
+@Builder
+@Schema(description = "상품 검색 응답 DTO (페이지 + 패싯)")
+public class ProductSearchResponseDto {
+
+    @Schema(description = "현재 페이지 상품 목록")
+    private final List<ProductResponseDto> content;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)", example = "cDoxMjUwMDAwOjEwMQ")
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "검색 조건 전체(커서 무관)에 대한 패싯 집계")
+    private final ProductFacetsDto facets;
+
+    public static ProductSearchResponseDto of(CursorPageResponseDto<ProductResponseDto> page, ProductFacetsDto facets) {
+        return ProductSearchResponseDto.builder()
+                .content(page.getContent())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .facets(facets)
+                .build();
+    }
+}
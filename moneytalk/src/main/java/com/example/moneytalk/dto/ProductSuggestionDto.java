@@ -0,0 +1,25 @@
+package com.example.moneytalk.dto;
+
+import com.example.moneytalk.type.SuggestionType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색어 자동완성 제안 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "검색어 자동완성 제안 DTO")
+public class ProductSuggestionDto {
+
+    @Schema(description = "제안 검색어", example = "아이폰 14 프로")
+    private final String text;
+
+    @Schema(description = "제안 유형 (TITLE, CATEGORY)", example = "TITLE")
+    private final SuggestionType type;
+
+    @Schema(description = "가중치 (등록 상품 수 + 찜 수)", example = "37")
+    private final long weight;
+}
@@ -0,0 +1,38 @@
+package com.example.moneytalk.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 저장된 검색 조건에 일치하는 새 상품 알림 DTO입니다.
+ * STOMP /sub/saved-search/{userId} 로 전달됩니다.
+ */
+@Getter
+@Builder
+@Jacksonized
+@Schema(description = "저장된 검색 일치 알림 DTO")
+public class SavedSearchMatchDto {
+
+    @Schema(description = "일치한 저장된 검색 ID", example = "12")
+    private final Long savedSearchId;
+
+    @Schema(description = "알림 받을 사용자 ID", example = "3")
+    private final Long userId;
+
+    @Schema(description = "새 상품 ID", example = "101")
+    private final Long productId;
+
+    @Schema(description = "상품 제목", example = "아이폰 14 프로 256GB")
+    private final String title;
+
+    @Schema(description = "가격", example = "750000")
+    private final Integer price;
+
+    @Schema(description = "카테고리", example = "전자기기")
+    private final String category;
+
+    @Schema(description = "지역", example = "서울")
+    private final String location;
+}
@@ -0,0 +1,51 @@
+package com.example.moneytalk.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.moneytalk.domain.SavedSearch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장된 검색 조건 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "저장된 검색 조건 응답 DTO")
+public class SavedSearchResponseDto {
+
+    @Schema(description = "저장된 검색 ID", example = "12")
+    private final Long id;
+
+    @Schema(description = "검색 키워드", example = "아이폰")
+    private final String keyword;
+
+    @Schema(description = "카테고리", example = "전자기기")
+    private final String category;
+
+    @Schema(description = "지역", example = "서울")
+    private final String location;
+
+    @Schema(description = "최소 가격", example = "100000")
+    private final Integer minPrice;
+
+    @Schema(description = "최대 가격", example = "800000")
+    private final Integer maxPrice;
+
+    @Schema(description = "저장 일시", example = "2026-10-18T12:00:00")
+    private final LocalDateTime createdAt;
+
+    public static SavedSearchResponseDto from(SavedSearch savedSearch) {
+        return SavedSearchResponseDto.builder()
+                .id(savedSearch.getId())
+                .keyword(savedSearch.getKeyword())
+                .category(savedSearch.getCategory())
+                .location(savedSearch.getLocation())
+                .minPrice(savedSearch.getMinPrice())
+                .maxPrice(savedSearch.getMaxPrice())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
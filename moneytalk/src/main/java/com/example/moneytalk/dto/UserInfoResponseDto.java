@@ -3,12 +3,14 @@ package com.example.moneytalk.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 로그인된 사용자 또는 특정 유저의 기본 정보 응답 DTO입니다.
  */
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "사용자 정보 응답 DTO")
 public class UserInfoResponseDto {
 
@@ -0,0 +1,23 @@
+package com.example.moneytalk.event;
+
+import java.util.List;
+
+import com.example.moneytalk.domain.ChatMessage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 쓰기 지연 큐의 채팅 메시지가 DB에 저장되었을 때 발행되는 애플리케이션 이벤트입니다.
+ * 최근 메시지 버퍼가 저장 전이던 메시지에 발급된 ID를 채우는 데 사용합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessagesSavedEvent {
+
+	/** 이번에 저장된 메시지 (ID 발급 완료) */
+	private final List<ChatMessage> messages;
+}
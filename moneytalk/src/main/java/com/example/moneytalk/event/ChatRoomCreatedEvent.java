@@ -0,0 +1,20 @@
+package com.example.moneytalk.event;
+
+import com.example.moneytalk.domain.ChatRoom;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품에 대한 새 채팅방(구매 문의)이 생성되었을 때 발행되는 애플리케이션 이벤트입니다.
+ * 인기 상품 점수 등 상품 관심도 집계에 사용합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomCreatedEvent {
+
+	private final ChatRoom chatRoom;
+}
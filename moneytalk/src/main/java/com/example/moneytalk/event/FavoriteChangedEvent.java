@@ -0,0 +1,23 @@
+package com.example.moneytalk.event;
+
+import com.example.moneytalk.domain.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자가 상품을 찜하거나 찜 해제했을 때 발행되는 애플리케이션 이벤트입니다.
+ * 찜 수를 가중치로 사용하는 인메모리 컴포넌트(자동완성 등)가 증분 반영하는 데 사용합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class FavoriteChangedEvent {
+
+	private final Product product;
+
+	/** true = 찜 추가, false = 찜 해제 */
+	private final boolean added;
+}
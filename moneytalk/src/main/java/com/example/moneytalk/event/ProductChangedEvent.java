@@ -0,0 +1,32 @@
+package com.example.moneytalk.event;
+
+import com.example.moneytalk.domain.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품이 등록되거나 변경되었을 때 발행되는 애플리케이션 이벤트입니다.
+ * 검색 인덱스 등 상품 정보를 메모리에 보관하는 컴포넌트가 트랜잭션 커밋 이후 동기화하는 데 사용합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+	/**
+	 * 상품 변경 유형
+	 * - CREATED: 신규 등록
+	 * - STATUS_CHANGED: 판매 상태 변경 (판매중/예약중/판매완료)
+	 * - SOLD: 구매 확정
+	 * - IMAGES_CHANGED: 이미지 추가/대표 이미지 변경
+	 */
+	public enum Type {
+		CREATED, STATUS_CHANGED, SOLD, IMAGES_CHANGED
+	}
+
+	private final Product product;
+	private final Type type;
+}
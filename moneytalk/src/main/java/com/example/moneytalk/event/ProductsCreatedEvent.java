@@ -0,0 +1,24 @@
+package com.example.moneytalk.event;
+
+import java.util.List;
+
+import com.example.moneytalk.domain.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대량 등록으로 여러 상품이 한 트랜잭션에서 등록되었을 때 발행되는 애플리케이션 이벤트입니다.
+ * 상품마다 {@link ProductChangedEvent}(CREATED)를 발행하면 리스너가 상품 수만큼 쿼리(이미지 조회, 다른 노드의 재조회)를
+ * 실행하므로, 청크 단위로 한 번 발행해 IN 조회 1회로 처리하도록 합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ProductsCreatedEvent {
+
+	/** 등록된 상품 목록 (판매자 정보 포함, ID 오름차순) */
+	private final List<Product> products;
+}
@@ -0,0 +1,29 @@
+package com.example.moneytalk.event;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구매가 확정되었을 때 아웃박스에 기록되는 도메인 이벤트입니다.
+ * 후속 처리는 확정 시점의 값(제목, 가격, 날짜)을 사용해야 하므로 상품을 다시 읽지 않도록 필요한 값을 모두 담습니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurchaseConfirmedEvent {
+
+	private Long productId;
+	private Long buyerId;
+	private Long sellerId;
+	private String title;
+	private Integer amount;
+	private LocalDate confirmedOn;
+}
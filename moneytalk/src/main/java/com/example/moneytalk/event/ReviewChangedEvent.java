@@ -0,0 +1,18 @@
+package com.example.moneytalk.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰가 작성/수정/삭제되었을 때 발행되는 애플리케이션 이벤트입니다.
+ * 상품별 리뷰 통계 캐시를 트랜잭션 커밋 이후 제거하는 데 사용합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+	private final Long productId;
+}
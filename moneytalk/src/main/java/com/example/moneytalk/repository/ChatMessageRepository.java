@@ -1,7 +1,10 @@
 package com.example.moneytalk.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -64,6 +67,55 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 	 */
 	List<ChatMessage> findByChatRoomIdAndIsDeletedBySenderFalse(Long chatRoomId);
 
+	/**
+	 * 채팅방 메시지를 최신순(sent_at, id 역순)으로 커서 이전부터 조회합니다.
+	 * 조회하는 사용자가 보낸 메시지는 보낸 쪽 삭제 여부, 받은 메시지는 받은 쪽 삭제 여부로 걸러냅니다.
+	 * (chat_room_id, sent_at, id) 인덱스를 역순으로 읽으며, 보낸 사람은 응답 DTO 변환을 위해 함께 조회합니다.
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param viewerId 조회하는 사용자 ID
+	 * @param beforeSentAt 커서 메시지의 전송 시각 (첫 페이지는 {@code ChatMessageCursor.FIRST})
+	 * @param beforeId 커서 메시지 ID (전송 시각이 같은 메시지 사이의 순서)
+	 * @param pageable 조회 건수 (정렬은 쿼리에 고정)
+	 * @return 최신순 메시지 목록
+	 */
+	@Query("""
+	    SELECT m FROM ChatMessage m
+	    JOIN FETCH m.sender
+	    WHERE m.chatRoom.id = :chatRoomId
+	      AND (m.sentAt < :beforeSentAt OR (m.sentAt = :beforeSentAt AND m.id < :beforeId))
+	      AND ((m.sender.id = :viewerId AND m.isDeletedBySender = false)
+	        OR (m.sender.id <> :viewerId AND m.isDeletedByReceiver = false))
+	    ORDER BY m.sentAt DESC, m.id DESC
+	""")
+	List<ChatMessage> findVisibleBefore(@Param("chatRoomId") Long chatRoomId, @Param("viewerId") Long viewerId,
+			@Param("beforeSentAt") LocalDateTime beforeSentAt, @Param("beforeId") Long beforeId, Pageable pageable);
+
+	/**
+	 * 채팅방의 최근 메시지를 삭제 여부와 관계없이 최신순(sent_at, id 역순)으로 조회합니다.
+	 * 최근 메시지 버퍼({@code RecentChatMessageBuffer})를 채울 때 사용하며, 사용자별 삭제 여부는 버퍼가 조회 시 걸러냅니다.
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param pageable 조회 건수 (정렬은 쿼리에 고정)
+	 * @return 최신순 메시지 목록
+	 */
+	@Query("""
+	    SELECT m FROM ChatMessage m
+	    JOIN FETCH m.sender
+	    WHERE m.chatRoom.id = :chatRoomId
+	    ORDER BY m.sentAt DESC, m.id DESC
+	""")
+	List<ChatMessage> findRecentWithSender(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+	/**
+	 * 이미 저장된 메시지 고유 키를 조회합니다. (쓰기 지연 저장/WAL 재처리 시 중복 제외용)
+	 *
+	 * @param messageKeys 확인할 메시지 고유 키 목록
+	 * @return 이미 저장된 키 목록
+	 */
+	@Query("SELECT m.messageKey FROM ChatMessage m WHERE m.messageKey IN :messageKeys")
+	List<String> findExistingMessageKeys(@Param("messageKeys") Collection<String> messageKeys);
+
 	List<ChatMessage> findByChatRoomIdAndReceiverIdAndIsReadFalse(Long chatRoomId, Long receiverId);
 
 
@@ -1,8 +1,10 @@
 package com.example.moneytalk.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.example.moneytalk.domain.FavoriteProduct;
 import com.example.moneytalk.domain.Product;
@@ -15,4 +17,12 @@ public interface FavoriteProductRepository extends JpaRepository<FavoriteProduct
 	Optional<FavoriteProduct> findByUserAndProduct(User user, Product product);
 
 	Long countByProduct(Product product);
+
+	/**
+	 * 상품별 찜 개수를 한 번에 조회합니다.
+	 *
+	 * @return [상품 ID, 찜 개수] 목록
+	 */
+	@Query("SELECT f.product.id, COUNT(f) FROM FavoriteProduct f GROUP BY f.product.id")
+	List<Object[]> countGroupByProductId();
 }
@@ -1,19 +1,29 @@
 package com.example.moneytalk.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.moneytalk.domain.Ledger;
 import com.example.moneytalk.domain.User;
 
 public interface LedgerRepository extends JpaRepository<Ledger, Long>{
 
-	boolean existsByUserAndMemoAndAmount(User buyer, String string, int amount);
-
 	List<Ledger> findByUserAndDateBetweenOrderByDateDesc(User user, LocalDate start, LocalDate end);
 
 	List<Ledger> findByUserAndDateBetween(User user, LocalDate start, LocalDate end);
 
+	/**
+	 * 이미 생성된 가계부 기록의 source_key를 조회합니다. (아웃박스 재전달 시 중복 생성 제외용)
+	 *
+	 * @param sourceKeys 확인할 source_key 목록
+	 * @return 이미 존재하는 source_key 목록
+	 */
+	@Query("SELECT l.sourceKey FROM Ledger l WHERE l.sourceKey IN :sourceKeys")
+	List<String> findExistingSourceKeys(@Param("sourceKeys") Collection<String> sourceKeys);
+
 }
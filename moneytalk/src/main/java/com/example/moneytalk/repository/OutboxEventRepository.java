@@ -0,0 +1,52 @@
+package com.example.moneytalk.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.moneytalk.domain.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 미처리 행(전달을 멈춘 행 제외)을 ID 순으로 잠그며 가져옵니다.
+	 * 잠금 대기 시간 -2(SKIP LOCKED)로 다른 노드의 릴레이가 잡고 있는 행은 건너뜁니다. (지원하지 않는 DB는 일반 FOR UPDATE)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("""
+			SELECT e FROM OutboxEvent e
+			WHERE e.processedAt IS NULL AND e.failedAt IS NULL
+			  AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+			ORDER BY e.id
+			""")
+	List<OutboxEvent> findPendingForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT e FROM OutboxEvent e WHERE e.id = :id AND e.processedAt IS NULL AND e.failedAt IS NULL")
+	Optional<OutboxEvent> findPendingByIdForUpdate(@Param("id") Long id);
+
+	@Query("""
+			SELECT e.id FROM OutboxEvent e
+			WHERE e.processedAt IS NULL AND e.failedAt IS NULL
+			  AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+			ORDER BY e.id
+			""")
+	List<Long> findPendingIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+	int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
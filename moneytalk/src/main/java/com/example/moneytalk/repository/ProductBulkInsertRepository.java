@@ -0,0 +1,88 @@
+package com.example.moneytalk.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.example.moneytalk.dto.ProductBulkItemDto;
+import com.example.moneytalk.type.ProductStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 상품 등록용 JDBC 배치 INSERT 저장소입니다.
+ *
+ * 상품 ID가 IDENTITY 전략이라 Hibernate는 INSERT를 한 건씩 실행하고 매번 생성 키를 받아옵니다.
+ * 여기서는 같은 INSERT 문을 JDBC 배치로 묶어 한 번에 보내고, 생성 키도 배치 단위로 받아옵니다.
+ * (이미지는 pooled ID라 Hibernate 배치 INSERT로 저장되므로 여기서 다루지 않습니다)
+ * (MySQL은 URL에 rewriteBatchedStatements=true가 있어야 다중 VALUES INSERT로 재작성됩니다)
+ *
+ * 호출하는 쪽의 트랜잭션(JPA 트랜잭션과 같은 커넥션)에 참여합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkInsertRepository {
+
+	private static final String INSERT_PRODUCT = """
+			INSERT INTO products (user_id, title, description, price, category, location, status, created_at, thumbnail_url)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 판매중 상태의 상품을 배치 INSERT 합니다. 첫 번째 이미지 URL이 대표 이미지 URL이 됩니다.
+	 *
+	 * @param userId 판매자 ID
+	 * @param items 등록할 상품 목록 (검증 완료)
+	 * @param createdAt 등록 시각
+	 * @return 생성된 상품 ID 목록 (items와 같은 순서)
+	 */
+	public List<Long> insertAll(Long userId, List<ProductBulkItemDto> items, LocalDateTime createdAt) {
+		Timestamp timestamp = Timestamp.valueOf(createdAt);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+
+		jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_PRODUCT, new String[] { "id" }),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						ProductBulkItemDto item = items.get(i);
+						ps.setLong(1, userId);
+						ps.setString(2, item.getTitle());
+						ps.setString(3, item.getDescription());
+						ps.setInt(4, item.getPrice());
+						ps.setString(5, item.getCategory());
+						ps.setString(6, item.getLocation());
+						ps.setString(7, ProductStatus.SALE.name());
+						ps.setTimestamp(8, timestamp);
+						ps.setString(9, item.getImageUrls().isEmpty() ? null : item.getImageUrls().get(0));
+					}
+
+					@Override
+					public int getBatchSize() {
+						return items.size();
+					}
+				}, keyHolder);
+
+		List<Long> ids = new ArrayList<>(items.size());
+		for (Map<String, Object> keys : keyHolder.getKeyList()) {
+			// 드라이버마다 키 컬럼 이름이 다름 (H2: ID, MySQL: GENERATED_KEY)
+			ids.add(((Number) keys.values().iterator().next()).longValue());
+		}
+
+		return ids;
+	}
+}
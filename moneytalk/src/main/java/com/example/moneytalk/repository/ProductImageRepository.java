@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.ProductImage;
-import com.example.moneytalk.dto.ProductResponseDto;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long>{
 
@@ -15,4 +14,12 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
 
 	List<ProductImage> findByProduct(Product product);
 
+	/**
+	 * 여러 상품의 이미지를 한 번의 IN 쿼리로 조회합니다. (목록 조회 N+1 방지)
+	 *
+	 * @param productIds 상품 ID 목록
+	 * @return 이미지 목록 (등록 순서)
+	 */
+	List<ProductImage> findByProductIdInOrderByIdAsc(Collection<Long> productIds);
+
 }
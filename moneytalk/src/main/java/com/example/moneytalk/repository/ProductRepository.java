@@ -1,15 +1,20 @@
 package com.example.moneytalk.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
 import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.type.ProductStatus;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
@@ -20,7 +25,69 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
 			""")
 	Optional<Product> findWithUserById(@Param("id") Long id);
 
-	List<Product> findAllByOrderByCreatedAtDesc();
+	/**
+	 * 여러 상품을 판매자 정보와 함께 한 번에 조회합니다. (정렬 순서는 보장하지 않음)
+	 *
+	 * @param ids 상품 ID 목록
+	 * @return 상품 목록
+	 */
+	@Query("""
+			    SELECT p FROM Product p
+			    JOIN FETCH p.user
+			    WHERE p.id IN :ids
+			""")
+	List<Product> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 인메모리 색인 적재용으로 상품을 ID 순으로 나누어 조회합니다.
+	 *
+	 * @param lastId 이전 배치의 마지막 상품 ID (첫 배치는 0)
+	 * @param pageable 배치 크기
+	 * @return lastId 이후의 상품 목록 (ID 오름차순)
+	 */
+	@Query("""
+			    SELECT p FROM Product p
+			    JOIN FETCH p.user
+			    WHERE p.id > :lastId
+			    ORDER BY p.id ASC
+			""")
+	List<Product> findIndexBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+	/**
+	 * 아직 판매완료가 아닌 상품만 판매완료로 바꾸고 구매자를 지정합니다. (조건부 UPDATE 1회)
+	 * 동시에 여러 구매자가 호출해도 행 잠금 후 조건을 다시 확인하므로 한 건만 1을 반환합니다.
+	 * 영속성 컨텍스트의 상품은 갱신 전 상태이므로 실행 후 비웁니다.
+	 *
+	 * @param id 상품 ID
+	 * @param buyer 구매자
+	 * @param sold 판매완료 상태 ({@link ProductStatus#SOLD})
+	 * @return 변경된 행 수 (0이면 이미 다른 구매자가 확정)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			    UPDATE Product p
+			    SET p.status = :sold, p.buyer = :buyer
+			    WHERE p.id = :id AND p.status <> :sold
+			""")
+	int markSoldIfNotSold(@Param("id") Long id, @Param("buyer") User buyer, @Param("sold") ProductStatus sold);
+
+	/**
+	 * thumbnailUrl 컬럼 도입 이전에 등록된 상품의 대표 이미지 URL을 채웁니다.
+	 * 대표 이미지로 지정된 이미지가 있으면 그 URL을, 없으면 가장 먼저 등록된 이미지 URL을 사용합니다.
+	 *
+	 * @return 갱신된 상품 수
+	 */
+	@Modifying
+	@Query("""
+			    UPDATE Product p
+			    SET p.thumbnailUrl = COALESCE(
+			        (SELECT MIN(t.imageUrl) FROM ProductImage t WHERE t.product = p AND t.isThumbnail = true),
+			        (SELECT f.imageUrl FROM ProductImage f WHERE f.id =
+			            (SELECT MIN(m.id) FROM ProductImage m WHERE m.product = p)))
+			    WHERE p.thumbnailUrl IS NULL
+			    AND EXISTS (SELECT 1 FROM ProductImage e WHERE e.product = p)
+			""")
+	int backfillThumbnailUrls();
 
 	List<Product> searchByConditions(ProductSearchRequestDto request);
 }
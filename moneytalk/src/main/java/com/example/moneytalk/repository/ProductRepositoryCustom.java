@@ -2,9 +2,16 @@ package com.example.moneytalk.repository;
 
 import java.util.List;
 
+import org.hibernate.ScrollableResults;
+
 import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductFacetCountDto;
 import com.example.moneytalk.dto.ProductSearchRequestDto;
 
 public interface ProductRepositoryCustom {
     List<Product> searchByConditions(ProductSearchRequestDto request);
+
+    List<ProductFacetCountDto> countFacets(ProductSearchRequestDto request);
+
+    ScrollableResults<Object[]> scrollCatalog(int fetchSize);
 }
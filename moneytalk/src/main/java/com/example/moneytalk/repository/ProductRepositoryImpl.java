@@ -2,10 +2,16 @@ package com.example.moneytalk.repository;
 
 import java.util.List;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
 
 import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductFacetCountDto;
 import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.type.ProductSortType;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -17,18 +23,111 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
 	private final EntityManager em;
 
+	/**
+	 * 검색 조건과 커서를 기준으로 상품을 한 페이지 조회합니다.
+	 * 다음 페이지 존재 여부 판단을 위해 요청한 페이지 크기보다 1건 더 조회합니다.
+	 *
+	 * [정렬/커서]
+	 * - 최신순: ORDER BY createdAt DESC, id DESC / 커서 (createdAt, id)
+	 * - 가격순: ORDER BY price ASC|DESC, id ASC|DESC / 커서 (price, id)
+	 *
+	 * @param request 검색 조건 DTO (cursor, size 포함)
+	 * @return 최대 size + 1 건의 상품 목록
+	 */
 	@Override
 	public List<Product> searchByConditions(ProductSearchRequestDto request) {
-		StringBuilder sb = new StringBuilder("SELECT p FROM Product p WHERE 1=1");
+		ProductSortType sort = ProductSortType.from(request.getSort()).forDatabase();
+		ProductCursor cursor = request.getCursor() != null ? ProductCursor.decode(request.getCursor(), sort) : null;
 
-		if (request.getKeyword() != null) {
-			sb.append(" AND (p.title LIKE :kw OR p.description LIKE :kw)");
+		StringBuilder sb = new StringBuilder("SELECT p FROM Product p JOIN FETCH p.user WHERE 1=1");
+		appendFilters(sb, request, true);
+
+		// 커서 조건 (Keyset)
+		if (cursor != null) {
+			switch (sort) {
+			case PRICE_ASC -> sb.append(" AND (p.price > :cursorPrice OR (p.price = :cursorPrice AND p.id > :cursorId))");
+			case PRICE_DESC -> sb.append(" AND (p.price < :cursorPrice OR (p.price = :cursorPrice AND p.id < :cursorId))");
+			default -> sb.append(
+					" AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))");
+			}
 		}
-		if (request.getCategory() != null) {
-			sb.append(" AND p.category = :category");
+
+		// 정렬 조건 (동일 정렬키는 id로 순서 고정)
+		switch (sort) {
+		case PRICE_ASC -> sb.append(" ORDER BY p.price ASC, p.id ASC");
+		case PRICE_DESC -> sb.append(" ORDER BY p.price DESC, p.id DESC");
+		default -> sb.append(" ORDER BY p.createdAt DESC, p.id DESC");
 		}
-		if (request.getLocation() != null) {
-			sb.append(" AND p.location = :location");
+
+		TypedQuery<Product> query = em.createQuery(sb.toString(), Product.class);
+		bindFilters(query, request, true);
+
+		if (cursor != null) {
+			query.setParameter("cursorId", cursor.getId());
+			if (sort == ProductSortType.CREATED_AT) {
+				query.setParameter("cursorCreatedAt", cursor.getCreatedAt());
+			} else {
+				query.setParameter("cursorPrice", cursor.getPrice());
+			}
+		}
+
+		return query.setMaxResults(request.resolvePageSize() + 1).getResultList();
+	}
+
+	/**
+	 * 패싯 집계를 위해 (카테고리, 지역, 상태) 조합별 상품 수를 한 번의 GROUP BY 쿼리로 조회합니다.
+	 * 각 패싯은 자신의 필터를 제외하고 집계해야 하므로, 카테고리/지역/상태 필터는 적용하지 않고
+	 * 키워드와 가격 조건만 적용합니다. (조합별 합산은 호출 측에서 수행)
+	 *
+	 * @param request 검색 조건 DTO
+	 * @return 조합별 상품 수 목록
+	 */
+	@Override
+	public List<ProductFacetCountDto> countFacets(ProductSearchRequestDto request) {
+		StringBuilder sb = new StringBuilder("SELECT new com.example.moneytalk.dto.ProductFacetCountDto("
+				+ "p.category, p.location, p.status, COUNT(p)) FROM Product p WHERE 1=1");
+		appendFilters(sb, request, false);
+		sb.append(" GROUP BY p.category, p.location, p.status");
+
+		TypedQuery<ProductFacetCountDto> query = em.createQuery(sb.toString(), ProductFacetCountDto.class);
+		bindFilters(query, request, false);
+		return query.getResultList();
+	}
+
+	/**
+	 * 전체 상품 카탈로그를 상품 ID 순으로 한 방향(FORWARD_ONLY) 스크롤합니다.
+	 *
+	 * 이미지까지 LEFT JOIN 하여 한 번의 쿼리로 읽으므로, 스트리밍 중에 같은 커넥션으로 다른 쿼리를 실행하지 않습니다.
+	 * (MySQL 스트리밍 결과셋은 열려 있는 동안 같은 커넥션의 다른 쿼리를 허용하지 않음)
+	 * 엔티티가 아닌 스칼라 값만 조회하므로 영속성 컨텍스트에 쌓이는 객체도 없습니다.
+	 *
+	 * 행 구성: [id, title, description, price, category, location, status, createdAt, sellerId, sellerNickname, imageUrl]
+	 * 이미지가 여러 장인 상품은 연속된 여러 행으로, 이미지가 없는 상품은 imageUrl이 null인 한 행으로 반환됩니다.
+	 *
+	 * @param fetchSize JDBC fetch size (MySQL 행 단위 스트리밍은 Integer.MIN_VALUE)
+	 * @return 스크롤 결과 (호출 측에서 반드시 close)
+	 */
+	@Override
+	public ScrollableResults<Object[]> scrollCatalog(int fetchSize) {
+		String jpql = "SELECT p.id, p.title, p.description, p.price, p.category, p.location, p.status, p.createdAt,"
+				+ " u.id, u.nickname, i.imageUrl"
+				+ " FROM Product p JOIN p.user u LEFT JOIN ProductImage i ON i.product = p"
+				+ " ORDER BY p.id, i.id";
+
+		return em.createQuery(jpql, Object[].class)
+				.unwrap(Query.class)
+				.setFetchSize(fetchSize)
+				.setReadOnly(true)
+				.scroll(ScrollMode.FORWARD_ONLY);
+	}
+
+	// =============================
+	// 🛠️ Helper Methods
+	// =============================
+
+	private static void appendFilters(StringBuilder sb, ProductSearchRequestDto request, boolean attributeFilters) {
+		if (request.getKeyword() != null) {
+			sb.append(" AND (p.title LIKE :kw OR p.description LIKE :kw)");
 		}
 		if (request.getMinPrice() != null) {
 			sb.append(" AND p.price >= :minPrice");
@@ -36,40 +135,41 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
 		if (request.getMaxPrice() != null) {
 			sb.append(" AND p.price <= :maxPrice");
 		}
+		if (!attributeFilters) {
+			return;
+		}
+		if (request.getCategory() != null) {
+			sb.append(" AND p.category = :category");
+		}
+		if (request.getLocation() != null) {
+			sb.append(" AND p.location = :location");
+		}
 		if (request.getStatus() != null) {
 			sb.append(" AND p.status = :status");
 		}
+	}
 
-		// 정렬 조건
-		if ("price_asc".equals(request.getSort())) {
-			sb.append(" ORDER BY p.price ASC");
-		} else if ("price_desc".equals(request.getSort())) {
-			sb.append(" ORDER BY p.price DESC");
-		} else {
-			sb.append(" ORDER BY p.createdAt DESC");
-		}
-
-		TypedQuery<Product> query = em.createQuery(sb.toString(), Product.class);
-
+	private static void bindFilters(TypedQuery<?> query, ProductSearchRequestDto request, boolean attributeFilters) {
 		if (request.getKeyword() != null) {
 			query.setParameter("kw", "%" + request.getKeyword() + "%");
 		}
-		if (request.getCategory() != null) {
-			query.setParameter("category", request.getCategory());
-		}
-		if (request.getLocation() != null) {
-			query.setParameter("location", request.getLocation());
-		}
 		if (request.getMinPrice() != null) {
 			query.setParameter("minPrice", request.getMinPrice());
 		}
 		if (request.getMaxPrice() != null) {
 			query.setParameter("maxPrice", request.getMaxPrice());
 		}
+		if (!attributeFilters) {
+			return;
+		}
+		if (request.getCategory() != null) {
+			query.setParameter("category", request.getCategory());
+		}
+		if (request.getLocation() != null) {
+			query.setParameter("location", request.getLocation());
+		}
 		if (request.getStatus() != null) {
 			query.setParameter("status", request.getStatus());
 		}
-
-		return query.getResultList();
 	}
 }
@@ -3,8 +3,9 @@ package com.example.moneytalk.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.PurchaseHistory;
 import com.example.moneytalk.domain.User;
 import com.example.moneytalk.type.PurchaseType;
@@ -12,5 +13,12 @@ import com.example.moneytalk.type.PurchaseType;
 public interface PurchaseHistoryRepository extends JpaRepository<PurchaseHistory, Long> {
     List<PurchaseHistory> findByUserAndType(User user, PurchaseType type);
 
-	boolean existsByUserAndProductAndType(User buyer, Product product, PurchaseType purchase);
+    /**
+     * 상품에 이미 생성된 거래 이력 유형을 조회합니다. (아웃박스 재전달 시 중복 생성 제외용)
+     *
+     * @param productId 상품 ID
+     * @return 이미 존재하는 거래 이력 유형 목록
+     */
+    @Query("SELECT h.type FROM PurchaseHistory h WHERE h.product.id = :productId")
+    List<PurchaseType> findTypesByProductId(@Param("productId") Long productId);
 }
@@ -9,9 +9,9 @@ import com.example.moneytalk.domain.PurchaseRecord;
 import com.example.moneytalk.domain.User;
 
 public interface PurchaseRecordRepository extends JpaRepository<PurchaseRecord, Long> {
-	boolean existsByProduct(Product product);
-
 	List<PurchaseRecord> findByBuyer(User buyer);
 
 	boolean existsByBuyerAndProduct(User buyer, Product product);
+
+	boolean existsByProductId(Long productId);
 }
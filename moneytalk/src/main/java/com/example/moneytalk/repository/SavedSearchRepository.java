@@ -0,0 +1,28 @@
+package com.example.moneytalk.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.domain.User;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+	List<SavedSearch> findByUserOrderByIdDesc(User user);
+
+	long countByUser(User user);
+
+	/**
+	 * 매칭 색인 초기 구축용으로 저장된 검색 조건을 ID 순으로 나누어 조회합니다.
+	 *
+	 * @param lastId 이전 배치의 마지막 ID (첫 배치는 0)
+	 * @param pageable 배치 크기
+	 * @return 저장된 검색 조건 목록
+	 */
+	@Query("SELECT s FROM SavedSearch s WHERE s.id > :lastId ORDER BY s.id ASC")
+	List<SavedSearch> findIndexBatch(@Param("lastId") Long lastId, Pageable pageable);
+}
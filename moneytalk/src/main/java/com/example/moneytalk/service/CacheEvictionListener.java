@@ -0,0 +1,49 @@
+package com.example.moneytalk.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.config.CacheConfig;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ReviewChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CacheEvictionListener
+ * 도메인 변경 이벤트를 받아 조회 캐시를 제거합니다.
+ *
+ * [기능 설명]
+ * - {@link ProductChangedEvent}: 상태 변경, 구매 확정, 이미지 업로드, 상품 등록 시 상품 상세 캐시 제거
+ * - {@link ReviewChangedEvent}: 리뷰 작성/수정/삭제 시 해당 상품의 리뷰 통계 캐시 제거
+ * - 트랜잭션 커밋 이후에 제거하므로, 커밋 전에 다른 요청이 이전 값을 다시 캐시하더라도 최종적으로는 제거됩니다.
+ * - 2단계 캐시이므로 제거 시 Redis(L2)와 다른 노드의 로컬 캐시(L1)도 함께 무효화됩니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheEvictionListener {
+
+	private final CacheManager cacheManager;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		evict(CacheConfig.PRODUCT_DETAIL, event.getProduct().getId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReviewChanged(ReviewChangedEvent event) {
+		evict(CacheConfig.REVIEW_STATS, event.getProductId());
+	}
+
+	private void evict(String cacheName, Object key) {
+		Cache cache = cacheManager.getCache(cacheName);
+		if (cache != null) {
+			cache.evict(key);
+		}
+	}
+}
@@ -1,16 +1,30 @@
 package com.example.moneytalk.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.moneytalk.domain.ChatMessage;
 import com.example.moneytalk.domain.ChatRoom;
 import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ChatMessageCursor;
 import com.example.moneytalk.dto.ChatMessageDto;
 import com.example.moneytalk.dto.ChatMessageResponseDto;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.event.ChatMessagesSavedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ChatMessageRepository;
 import com.example.moneytalk.repository.ChatRoomRepository;
@@ -31,56 +45,101 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    public static final int DEFAULT_MESSAGE_LIMIT = 50;
+    public static final int MAX_MESSAGE_LIMIT = 100;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
+    private final RecentChatMessageBuffer recentChatMessageBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 채팅 메시지를 저장합니다. (DB 저장 전용)
+     * 채팅 메시지를 한 번에 저장합니다. (쓰기 지연 큐 {@link ChatMessageWriteBehind} 전용)
+     *
+     * - 채팅방은 IN 조회 1회로 읽고, 보낸 사람은 참조만 사용해 메시지마다 조회하지 않습니다.
+     * - 메시지 INSERT는 JDBC 배치로 전송되고, 채팅방의 마지막 메시지는 방마다 가장 최근 메시지로 한 번만 갱신합니다.
+     *   (WAL 재처리처럼 오래된 메시지가 늦게 들어와도 더 최근 값을 덮어쓰지 않음)
+     * - 이미 저장된 messageKey는 건너뛰므로 같은 메시지를 다시 넘겨도 안전합니다.
+     * - 채팅방이 삭제된 메시지는 저장하지 않습니다.
+     * - 커밋 후 발급된 ID를 최근 메시지 버퍼에 알립니다. ({@link ChatMessagesSavedEvent})
      *
-     * @param dto 저장할 채팅 메시지 DTO
-     * @throws GlobalException 채팅방 또는 발신자 미존재 시 발생
+     * @param dtos 저장할 채팅 메시지 목록 (수신 순서)
      */
     @Transactional
-    public void saveMessage(ChatMessageDto dto) {
-        ChatRoom chatRoom = chatRoomRepository.findById(dto.getChatRoomId())
-                .orElseThrow(() -> new GlobalException(ErrorCode.CHATROOM_NOT_FOUND));
-
-        User sender = userRepository.findById(dto.getSenderId())
-                .orElseThrow(() -> new GlobalException(ErrorCode.SENDER_NOT_FOUND));
-
-        User receiver = chatRoom.getBuyer().equals(sender) ? chatRoom.getSeller() : chatRoom.getBuyer();
-
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(sender)
-                .receiver(receiver)
-                .message(dto.getMessage())
-                .type(dto.getType())
-                .imageUrl(dto.getImageUrl())
-                .isRead(false)
-                .isDeletedBySender(false)
-                .isDeletedByReceiver(false)
-                .sentAt(dto.getSentAt() != null ? dto.getSentAt() : LocalDateTime.now())
-                .build();
+    public void saveMessages(List<ChatMessageDto> dtos) {
+        List<String> keys = dtos.stream().map(ChatMessageDto::getMessageKey).filter(Objects::nonNull).toList();
+        Set<String> seenKeys = new HashSet<>(keys.isEmpty() ? List.of()
+                : chatMessageRepository.findExistingMessageKeys(keys));
+
+        Map<Long, ChatRoom> rooms = chatRoomRepository
+                .findAllById(dtos.stream().map(ChatMessageDto::getChatRoomId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+
+        List<ChatMessage> messages = new ArrayList<>(dtos.size());
+        for (ChatMessageDto dto : dtos) {
+            if (dto.getMessageKey() != null && !seenKeys.add(dto.getMessageKey())) {
+                continue;
+            }
+            ChatRoom chatRoom = rooms.get(dto.getChatRoomId());
+            if (chatRoom == null) {
+                log.warn("ChatMessageService - 채팅방이 없어 메시지를 저장하지 않음: roomId={}, key={}",
+                        dto.getChatRoomId(), dto.getMessageKey());
+                continue;
+            }
 
-        chatMessageRepository.save(message);
+            User sender = userRepository.getReferenceById(dto.getSenderId());
+            User receiver = chatRoom.getBuyer().getId().equals(dto.getSenderId()) ? chatRoom.getSeller()
+                    : chatRoom.getBuyer();
+            LocalDateTime sentAt = dto.getSentAt() != null ? dto.getSentAt() : LocalDateTime.now();
+
+            messages.add(ChatMessage.builder()
+                    .messageKey(dto.getMessageKey())
+                    .chatRoom(chatRoom)
+                    .sender(sender)
+                    .receiver(receiver)
+                    .message(dto.getMessage())
+                    .type(dto.getType())
+                    .imageUrl(dto.getImageUrl())
+                    .isRead(false)
+                    .isDeletedBySender(false)
+                    .isDeletedByReceiver(false)
+                    .sentAt(sentAt)
+                    .build());
+
+            if (chatRoom.getLastMessageAt() == null || !sentAt.isBefore(chatRoom.getLastMessageAt())) {
+                chatRoom.setLastMessage(dto.getMessage() != null ? dto.getMessage() : "[이미지]");
+                chatRoom.setLastMessageAt(sentAt);
+            }
+        }
 
-        chatRoom.setLastMessage(dto.getMessage() != null ? dto.getMessage() : "[이미지]");
-        chatRoom.setLastMessageAt(LocalDateTime.now());
+        chatMessageRepository.saveAll(messages);
+        if (!messages.isEmpty()) {
+            eventPublisher.publishEvent(new ChatMessagesSavedEvent(messages));
+        }
     }
 
     /**
-     * 특정 채팅방의 메시지 목록 조회 (Soft Delete 고려)
+     * 특정 채팅방의 메시지를 커서 기반으로 조회 (Soft Delete 고려)
+     *
+     * 최신 메시지부터 limit건을 가져오고, 응답 목록은 화면 표시 순서(오래된 → 최신)로 정렬합니다.
+     * 메시지는 전송 시각(같으면 ID) 순으로 정렬하며, nextCursor는 이번 페이지에서 가장 오래된 메시지의 (전송 시각, ID) 커서입니다.
+     * 다음 요청의 before로 전달하면 그 이전 메시지를 불러옵니다. ({@link ChatMessageCursor})
+     * 본인이 나간(삭제한) 메시지는 SQL에서 걸러내므로 채팅방 전체 메시지를 메모리에 올리지 않습니다.
+     * 첫 페이지는 최근 메시지 버퍼({@link RecentChatMessageBuffer})로 먼저 응답하고, 이전 페이지만 DB에서 조회합니다.
      *
      * @param chatRoomId 채팅방 ID
      * @param loginUser 현재 로그인한 사용자
-     * @return 메시지 응답 DTO 리스트
-     * @throws GlobalException 채팅방 미존재 또는 접근 권한 없음
+     * @param before 이전 응답의 nextCursor, 이 메시지보다 오래된 메시지만 조회 (null이면 최신 메시지부터)
+     * @param limit 조회 건수 (1~{@value #MAX_MESSAGE_LIMIT}, 범위를 벗어나면 보정)
+     * @return 메시지 커서 페이지
+     * @throws GlobalException 채팅방 미존재, 접근 권한 없음 또는 잘못된 커서
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageResponseDto> getMessagesForChatRoom(Long chatRoomId, User loginUser) {
-        log.debug("✅ getMessagesForChatRoom 호출됨 - roomId={}, userId={}", chatRoomId, loginUser.getId());
+    public CursorPageResponseDto<ChatMessageResponseDto> getMessagesForChatRoom(Long chatRoomId, User loginUser,
+            String before, int limit) {
+        log.debug("✅ getMessagesForChatRoom 호출됨 - roomId={}, userId={}, before={}", chatRoomId, loginUser.getId(),
+                before);
 
         ChatRoom room = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.CHATROOM_NOT_FOUND));
@@ -90,18 +149,43 @@ public class ChatMessageService {
             throw new GlobalException(ErrorCode.CHATROOM_ACCESS_DENIED);
         }
 
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndIsDeletedBySenderFalse(chatRoomId);
+        int size = Math.max(1, Math.min(limit, MAX_MESSAGE_LIMIT));
+        if (before == null) {
+            Optional<CursorPageResponseDto<ChatMessageResponseDto>> recent = recentFirstPage(chatRoomId, loginUser, size);
+            if (recent.isPresent()) {
+                return recent.get();
+            }
+        }
+
+        ChatMessageCursor cursor = ChatMessageCursor.decode(before);
+        List<ChatMessage> newestFirst = chatMessageRepository.findVisibleBefore(chatRoomId, loginUser.getId(),
+                cursor.getSentAt(), cursor.getId(), PageRequest.of(0, size + 1));
+
+        CursorPageResponseDto<ChatMessage> page = CursorPageResponseDto.of(newestFirst, size,
+                message -> ChatMessageCursor.of(message).encode());
+        List<ChatMessageResponseDto> oldestFirst = new ArrayList<>(
+                page.getContent().stream().map(ChatMessageResponseDto::from).toList());
+        Collections.reverse(oldestFirst);
+        return page.withContent(oldestFirst);
+    }
+
+    /**
+     * 최근 메시지 버퍼로 첫 페이지를 만듭니다. 아직 DB에서 채우지 않은 버퍼는 최근 메시지를 한 번 읽어 채웁니다.
+     */
+    private Optional<CursorPageResponseDto<ChatMessageResponseDto>> recentFirstPage(Long chatRoomId, User loginUser,
+            int size) {
+        Optional<CursorPageResponseDto<ChatMessageResponseDto>> recent = recentChatMessageBuffer.firstPage(chatRoomId,
+                loginUser.getId(), size);
+        long token = recent.isPresent() ? 0 : recentChatMessageBuffer.loadToken(chatRoomId);
+        if (token == 0) {
+            return recent;
+        }
 
-        return messages.stream()
-                .filter(msg -> {
-                    if (loginUser.equals(msg.getSender())) {
-                        return !msg.isDeletedBySender();
-                    } else {
-                        return !msg.isDeletedByReceiver();
-                    }
-                })
-                .map(ChatMessageResponseDto::from)
-                .toList();
+        int capacity = recentChatMessageBuffer.capacity();
+        List<ChatMessage> rows = chatMessageRepository.findRecentWithSender(chatRoomId, PageRequest.of(0, capacity + 1));
+        boolean complete = rows.size() <= capacity;
+        recentChatMessageBuffer.fill(chatRoomId, token, complete ? rows : rows.subList(0, capacity), complete);
+        return recentChatMessageBuffer.firstPage(chatRoomId, loginUser.getId(), size);
     }
 
     /**
@@ -132,6 +216,7 @@ public class ChatMessageService {
         if (allMessagesDeleted) {
             room.closeRoom();
         }
+        recentChatMessageBuffer.leave(chatRoomId, loginUser.getId());
     }
 
     // =============================
@@ -0,0 +1,113 @@
+package com.example.moneytalk.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ChatMessageWal
+ * 아직 DB에 저장되지 않은 채팅 메시지를 Redis Stream {@value #STREAM_KEY}에 기록하는 WAL(write-ahead log)입니다.
+ *
+ * [수명]
+ * - 메시지를 쓰기 지연 큐에 넣기 전에 XADD로 기록합니다.
+ * - DB 저장이 커밋되면 XDEL로 지웁니다. 스트림에는 저장 대기 중이거나 저장에 실패한 메시지만 남습니다.
+ * - 노드가 비정상 종료되어 남은 항목은 아무 노드의 {@link ChatMessageWriteBehind}가 일정 시간 뒤 다시 저장합니다.
+ *   (항목 ID가 기록 시각(ms)이므로 XRANGE로 오래된 항목만 읽음, 중복은 messageKey로 제외)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWal {
+
+	public static final String STREAM_KEY = "chat:wal";
+
+	private static final String PAYLOAD_FIELD = "payload";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 메시지를 WAL에 기록합니다.
+	 *
+	 * @param message 저장할 채팅 메시지
+	 * @return 스트림 항목 ID
+	 */
+	public String append(ChatMessageDto message) {
+		try {
+			RecordId id = redisTemplate.opsForStream().add(StreamRecords.string(
+					Map.of(PAYLOAD_FIELD, objectMapper.writeValueAsString(message))).withStreamKey(STREAM_KEY));
+			return id.getValue();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("채팅 메시지 직렬화 실패: key=" + message.getMessageKey(), e);
+		}
+	}
+
+	/**
+	 * DB 저장을 마친 항목을 WAL에서 지웁니다.
+	 *
+	 * @param ids 스트림 항목 ID 목록
+	 */
+	public void remove(Collection<String> ids) {
+		if (!ids.isEmpty()) {
+			redisTemplate.opsForStream().delete(STREAM_KEY, ids.toArray(String[]::new));
+		}
+	}
+
+	/**
+	 * 기록된 지 age 이상 지난 항목을 오래된 순으로 최대 count건 읽습니다.
+	 * 읽을 수 없는 항목은 로그를 남기고 지웁니다.
+	 *
+	 * @param age   최소 경과 시간
+	 * @param count 최대 건수
+	 * @return WAL 항목 목록
+	 */
+	public List<Entry> readOlderThan(Duration age, int count) {
+		long cutoffMillis = System.currentTimeMillis() - age.toMillis();
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(STREAM_KEY,
+				Range.closed("0", String.valueOf(cutoffMillis)), Limit.limit().count(count));
+		if (records == null) {
+			return List.of();
+		}
+
+		List<Entry> entries = new ArrayList<>(records.size());
+		List<String> unreadable = new ArrayList<>();
+		for (MapRecord<String, Object, Object> record : records) {
+			String id = record.getId().getValue();
+			try {
+				entries.add(new Entry(id,
+						objectMapper.readValue(String.valueOf(record.getValue().get(PAYLOAD_FIELD)), ChatMessageDto.class)));
+			} catch (JsonProcessingException e) {
+				log.error("ChatMessageWal - 읽을 수 없는 항목 삭제: id={}, value={}", id, record.getValue(), e);
+				unreadable.add(id);
+			}
+		}
+		remove(unreadable);
+		return entries;
+	}
+
+	/**
+	 * WAL 항목 (스트림 항목 ID + 메시지)
+	 */
+	public record Entry(String id, ChatMessageDto message) {
+	}
+}
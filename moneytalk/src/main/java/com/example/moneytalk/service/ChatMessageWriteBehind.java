@@ -0,0 +1,211 @@
+package com.example.moneytalk.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ChatMessageWriteBehind
+ * 채팅 메시지를 메모리 큐에 모았다가 배치로 DB에 저장하는 쓰기 지연(write-behind) 큐입니다.
+ * 메시지 전송 경로는 Redis 발행과 WAL 기록만 기다리고 MySQL은 기다리지 않습니다.
+ *
+ * [동작]
+ * - enqueue: WAL({@link ChatMessageWal})에 기록한 뒤 큐(최대 capacity건)에 넣습니다.
+ *   큐가 가득 차면 호출 스레드에서 큐를 비우고 바로 저장합니다. (배압)
+ *   WAL 기록에 실패하면(Redis 장애) 호출 스레드에서 바로 저장합니다.
+ * - flush: flush-interval-ms마다 최대 batch-size건씩 {@link ChatMessageService#saveMessages}로 저장하고 WAL에서 지웁니다.
+ *   저장에 실패한 배치는 WAL에 남아 복구 대상이 됩니다.
+ * - recover: recovery-age-ms보다 오래 WAL에 남은 항목(비정상 종료된 노드의 큐, 저장 실패분)을 다시 저장합니다.
+ *   기동 후 recovery-initial-delay-ms(기본 0)에 처음 실행하고, 이후 recovery-age-ms마다 실행합니다.
+ * - stop: 웹 서버가 요청 수신을 멈춘 뒤, Redis 연결이 닫히기 전에 큐를 모두 비웁니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+	/** 웹 서버(DEFAULT_PHASE - 2048)보다 늦게, LettuceConnectionFactory(0)보다 먼저 종료 */
+	static final int PHASE = 1;
+
+	private final ChatMessageService chatMessageService;
+	private final ChatMessageWal wal;
+	private final int batchSize;
+	private final long flushIntervalMs;
+	private final Duration recoveryAge;
+	private final long recoveryInitialDelayMs;
+	private final BlockingQueue<ChatMessageWal.Entry> queue;
+	private final Object flushLock = new Object();
+
+	private ScheduledExecutorService executor;
+	private volatile boolean running;
+
+	public ChatMessageWriteBehind(ChatMessageService chatMessageService, ChatMessageWal wal,
+			@Value("${chat.write-behind.capacity:10000}") int capacity,
+			@Value("${chat.write-behind.batch-size:500}") int batchSize,
+			@Value("${chat.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+			@Value("${chat.write-behind.recovery-age-ms:60000}") long recoveryAgeMs,
+			@Value("${chat.write-behind.recovery-initial-delay-ms:0}") long recoveryInitialDelayMs) {
+		this.chatMessageService = chatMessageService;
+		this.wal = wal;
+		this.batchSize = batchSize;
+		this.flushIntervalMs = flushIntervalMs;
+		this.recoveryAge = Duration.ofMillis(recoveryAgeMs);
+		this.recoveryInitialDelayMs = recoveryInitialDelayMs;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * 메시지를 WAL에 기록하고 저장 대기열에 넣습니다.
+	 *
+	 * @param message 저장할 채팅 메시지 (messageKey 필수)
+	 */
+	public void enqueue(ChatMessageDto message) {
+		ChatMessageWal.Entry entry;
+		try {
+			entry = new ChatMessageWal.Entry(wal.append(message), message);
+		} catch (RuntimeException e) {
+			log.warn("ChatMessageWriteBehind - WAL 기록 실패, 바로 저장합니다: key={}", message.getMessageKey(), e);
+			flush();
+			chatMessageService.saveMessages(List.of(message));
+			return;
+		}
+
+		if (running && queue.offer(entry)) {
+			return;
+		}
+		// 종료 중이거나 큐가 가득 찬 경우: 먼저 들어온 메시지부터 저장한 뒤 이 메시지를 저장
+		flush();
+		persist(List.of(entry));
+	}
+
+	/**
+	 * 큐에 쌓인 메시지를 batch-size건씩 모두 저장합니다.
+	 */
+	public void flush() {
+		synchronized (flushLock) {
+			List<ChatMessageWal.Entry> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+			while (queue.drainTo(batch, batchSize) > 0) {
+				persist(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * recovery-age-ms보다 오래 WAL에 남은 메시지를 다시 저장합니다.
+	 * 배치 저장에 실패하면 건별로 저장하고, 끝내 실패한 항목은 다음 복구 주기로 남깁니다.
+	 */
+	public void recover() {
+		while (true) {
+			List<ChatMessageWal.Entry> entries = wal.readOlderThan(recoveryAge, batchSize);
+			if (entries.isEmpty()) {
+				return;
+			}
+			log.info("ChatMessageWriteBehind - WAL에 남은 메시지 {}건 복구", entries.size());
+			boolean progressed = persist(entries) || persistOneByOne(entries) > 0;
+			if (!progressed || entries.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	private boolean persist(List<ChatMessageWal.Entry> batch) {
+		try {
+			chatMessageService.saveMessages(batch.stream().map(ChatMessageWal.Entry::message).toList());
+		} catch (RuntimeException e) {
+			log.error("ChatMessageWriteBehind - 메시지 {}건 저장 실패, WAL에서 복구 예정", batch.size(), e);
+			return false;
+		}
+		try {
+			wal.remove(batch.stream().map(ChatMessageWal.Entry::id).toList());
+		} catch (RuntimeException e) {
+			// 저장은 끝났으므로 복구 시 messageKey로 중복 제외됨
+			log.warn("ChatMessageWriteBehind - WAL 정리 실패: {}건", batch.size(), e);
+		}
+		return true;
+	}
+
+	private int persistOneByOne(List<ChatMessageWal.Entry> entries) {
+		int persisted = 0;
+		for (ChatMessageWal.Entry entry : entries) {
+			try {
+				chatMessageService.saveMessages(List.of(entry.message()));
+			} catch (DataIntegrityViolationException e) {
+				// 다른 노드가 같은 항목을 먼저 복구함
+				log.debug("ChatMessageWriteBehind - 이미 저장된 메시지: key={}", entry.message().getMessageKey());
+			} catch (RuntimeException e) {
+				log.error("ChatMessageWriteBehind - WAL 항목 저장 실패: id={}", entry.id(), e);
+				continue;
+			}
+			wal.remove(List.of(entry.id()));
+			persisted++;
+		}
+		return persisted;
+	}
+
+	@Override
+	public void start() {
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "chat-write-behind");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(() -> runSafely("flush", this::flush), flushIntervalMs, flushIntervalMs,
+				TimeUnit.MILLISECONDS);
+		executor.scheduleWithFixedDelay(() -> runSafely("recover", this::recover), recoveryInitialDelayMs,
+				recoveryAge.toMillis(),
+				TimeUnit.MILLISECONDS);
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		executor.shutdown();
+		try {
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		int remaining = queue.size();
+		flush();
+		log.info("ChatMessageWriteBehind - 종료 전 대기 메시지 {}건 저장", remaining);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+
+	/**
+	 * 예외가 나도 다음 주기가 계속 실행되도록 예외를 기록만 합니다.
+	 */
+	private void runSafely(String task, Runnable runnable) {
+		try {
+			runnable.run();
+		} catch (RuntimeException e) {
+			log.error("ChatMessageWriteBehind - {} 실패", task, e);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.example.moneytalk.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.User;
 import com.example.moneytalk.dto.ChatRoomDetailDto;
 import com.example.moneytalk.dto.ChatRoomSummaryDto;
+import com.example.moneytalk.event.ChatRoomCreatedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ChatMessageRepository;
 import com.example.moneytalk.repository.ChatRoomRepository;
@@ -31,7 +33,8 @@ public class ChatRoomService {
 
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatMessageRepository chatMessageRepository;
-	private final RedisSubscriberService redisSubscriberService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final RecentChatMessageBuffer recentChatMessageBuffer;
 	
 	/**
 	 * 상품, 구매자, 판매자 정보를 기반으로 채팅방을 생성합니다.
@@ -54,8 +57,7 @@ public class ChatRoomService {
 	                        .isClosed(false)
 	                        .build());
 	                
-	                // 채팅방 생성 직후 Redis 구독 추가
-	                redisSubscriberService.subscribeChatRoom(newRoom.getId());
+	                eventPublisher.publishEvent(new ChatRoomCreatedEvent(newRoom));
 	                
 	                return newRoom;
 	            });
@@ -159,6 +161,7 @@ public class ChatRoomService {
 	    for (ChatMessage msg : unreadMessages) {
 	        msg.setRead(true);
 	    }
+	    recentChatMessageBuffer.markRead(chatRoomId, userId);
 	}
 }
 
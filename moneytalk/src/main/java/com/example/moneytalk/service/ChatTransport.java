@@ -0,0 +1,28 @@
+package com.example.moneytalk.service;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+
+/**
+ * 채팅 메시지를 모든 노드에 전달하는 전송 계층입니다.
+ * 각 노드는 수신한 메시지를 자기 STOMP 브로커의 {@value #DESTINATION_PREFIX}{roomId} 로 전달합니다.
+ *
+ * 설정 chat.transport 로 구현을 선택합니다.
+ * - pubsub (기본): Redis Pub/Sub, 발행 시점에 연결되어 있지 않은 노드는 메시지를 받지 못함
+ *   ({@link RedisPubSubChatTransport})
+ * - stream: Redis Streams + 노드별 소비자 그룹, 재시작한 노드는 마지막으로 읽은 위치부터 이어서 수신
+ *   ({@link RedisStreamChatTransport})
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public interface ChatTransport {
+
+	String DESTINATION_PREFIX = "/sub/chat/room/";
+
+	/**
+	 * 메시지를 모든 노드에 발행합니다.
+	 *
+	 * @param message 채팅 메시지
+	 */
+	void publish(ChatMessageDto message);
+}
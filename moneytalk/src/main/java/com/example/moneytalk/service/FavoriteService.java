@@ -2,11 +2,13 @@ package com.example.moneytalk.service;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.example.moneytalk.domain.FavoriteProduct;
 import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.User;
+import com.example.moneytalk.event.FavoriteChangedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.FavoriteProductRepository;
 import com.example.moneytalk.repository.ProductRepository;
@@ -35,6 +37,7 @@ public class FavoriteService {
 
     private final FavoriteProductRepository favoriteRepo;
     private final ProductRepository productRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 찜 상태를 토글합니다.
@@ -54,6 +57,7 @@ public class FavoriteService {
 
         if (existing.isPresent()) {
             favoriteRepo.delete(existing.get());
+            eventPublisher.publishEvent(new FavoriteChangedEvent(product, false));
             return false; // 찜 해제
         }
 
@@ -63,6 +67,7 @@ public class FavoriteService {
             .build();
 
         favoriteRepo.save(newFavorite);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(product, true));
         return true; // 찜 추가
     }
 
@@ -0,0 +1,151 @@
+package com.example.moneytalk.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.moneytalk.domain.OutboxEvent;
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
+import com.example.moneytalk.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OutboxRelay
+ * 아웃박스 테이블의 미처리 이벤트를 배치로 읽어 유형별 처리기에 전달합니다.
+ *
+ * [전달 방식]
+ * - 미처리 행을 최대 {@value #BATCH_SIZE}건씩 잠그고(SKIP LOCKED, 노드 간 중복 처리 방지),
+ *   처리기 실행과 처리 완료 표시를 한 트랜잭션으로 커밋합니다. 처리기의 INSERT는 테이블별 JDBC 배치로 묶입니다.
+ * - 배치 중 한 건이라도 실패하면 배치 전체를 롤백하고, 같은 행들을 건별 트랜잭션으로 다시 처리합니다.
+ *   실패한 행은 attempts/lastError를 남기고 지수 백오프(최대 {@link #MAX_BACKOFF}) 후 다시 전달됩니다.
+ * - {@value #MAX_ATTEMPTS}번 실패한 행(약 1시간, 역직렬화 실패처럼 다시 해도 실패하는 경우)은 failedAt을 기록하고
+ *   더 이상 전달하지 않습니다. 처리 완료 행과 달리 삭제하지 않으므로 lastError로 원인을 확인할 수 있습니다.
+ * - 커밋 전에 실패하면 다시 전달되므로 전달 보장은 at-least-once입니다.
+ * - 처리가 끝난 행은 {@value #RETENTION_DAYS}일 보관 후 매일 삭제합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	static final int BATCH_SIZE = 100;
+	static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+	static final int MAX_ATTEMPTS = 20;
+	private static final int RETENTION_DAYS = 7;
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final List<PurchaseConfirmedHandler> purchaseConfirmedHandlers;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 미처리 이벤트가 남아 있는 동안 배치를 반복해서 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:1000}")
+	public void relay() {
+		while (drainBatch() == BATCH_SIZE) {
+			// 가득 찬 배치였다면 바로 다음 배치 처리
+		}
+	}
+
+	/**
+	 * 미처리 이벤트 한 배치를 처리합니다.
+	 *
+	 * @return 처리 완료한 이벤트 수 (배치가 실패해 건별로 처리한 경우 0)
+	 */
+	public int drainBatch() {
+		try {
+			return transactionTemplate.execute(status -> {
+				LocalDateTime now = LocalDateTime.now();
+				List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(now, PageRequest.of(0, BATCH_SIZE));
+				for (OutboxEvent event : events) {
+					dispatch(event);
+					event.setProcessedAt(now);
+				}
+				return events.size();
+			});
+		} catch (RuntimeException e) {
+			log.warn("OutboxRelay - 배치 처리 실패, 건별로 다시 처리합니다: {}", e.getMessage());
+			drainOneByOne();
+			return 0;
+		}
+	}
+
+	/**
+	 * 처리 완료 후 보관 기간이 지난 행을 삭제합니다.
+	 */
+	@Scheduled(cron = "${outbox.relay.purge-cron:0 30 4 * * *}")
+	public void purgeProcessed() {
+		Integer deleted = transactionTemplate.execute(status -> outboxEventRepository
+				.deleteProcessedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS)));
+		log.info("OutboxRelay - 처리 완료 이벤트 {}건 삭제", deleted);
+	}
+
+	private void drainOneByOne() {
+		for (Long id : outboxEventRepository.findPendingIds(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE))) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findPendingByIdForUpdate(id)
+						.ifPresent(event -> {
+							dispatch(event);
+							event.setProcessedAt(LocalDateTime.now());
+						}));
+			} catch (RuntimeException e) {
+				log.error("OutboxRelay - 이벤트 처리 실패: id={}", id, e);
+				transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id)
+						.ifPresent(event -> recordFailure(event, e)));
+			}
+		}
+	}
+
+	private void recordFailure(OutboxEvent event, RuntimeException e) {
+		int attempts = event.getAttempts() + 1;
+		String error = String.valueOf(e.getMessage());
+		event.setAttempts(attempts);
+		event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+		if (attempts >= MAX_ATTEMPTS) {
+			event.setFailedAt(LocalDateTime.now());
+			log.error("OutboxRelay - 최대 전달 횟수 초과로 전달 중단: id={}, type={}, aggregateId={}", event.getId(),
+					event.getType(), event.getAggregateId());
+			return;
+		}
+		event.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+	}
+
+	/**
+	 * 실패 횟수에 따른 재전달 대기 시간 (1초, 2초, 4초, ... 최대 5분)
+	 */
+	static Duration backoff(int attempts) {
+		Duration delay = Duration.ofSeconds(1L << Math.min(attempts - 1, 20));
+		return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+	}
+
+	private void dispatch(OutboxEvent event) {
+		switch (event.getType()) {
+		case PURCHASE_CONFIRMED -> {
+			PurchaseConfirmedEvent payload = read(event, PurchaseConfirmedEvent.class);
+			purchaseConfirmedHandlers.forEach(handler -> handler.onPurchaseConfirmed(payload));
+		}
+		}
+	}
+
+	private <T> T read(OutboxEvent event, Class<T> type) {
+		try {
+			return objectMapper.readValue(event.getPayload(), type);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("아웃박스 페이로드 역직렬화 실패: id=" + event.getId(), e);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.moneytalk.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.moneytalk.domain.OutboxEvent;
+import com.example.moneytalk.exception.GlobalException;
+import com.example.moneytalk.repository.OutboxEventRepository;
+import com.example.moneytalk.type.ErrorCode;
+import com.example.moneytalk.type.OutboxEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OutboxService
+ * 도메인 이벤트를 호출자의 트랜잭션 안에서 아웃박스 테이블에 기록합니다.
+ *
+ * 도메인 변경이 커밋되면 이벤트도 함께 커밋되고, 롤백되면 함께 사라집니다.
+ * 실제 후속 처리는 {@link OutboxRelay}가 커밋 이후 비동기로 실행합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 이벤트를 JSON으로 직렬화해 아웃박스에 INSERT합니다.
+	 *
+	 * @param type        이벤트 유형
+	 * @param aggregateId 이벤트가 발생한 엔티티 ID
+	 * @param payload     이벤트 본문
+	 * @throws GlobalException 직렬화에 실패한 경우 {@link ErrorCode#INTERNAL_SERVER_ERROR}
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(OutboxEventType type, Long aggregateId, Object payload) {
+		try {
+			outboxEventRepository.save(OutboxEvent.builder().type(type).aggregateId(aggregateId)
+					.payload(objectMapper.writeValueAsString(payload)).build());
+		} catch (JsonProcessingException e) {
+			throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+}
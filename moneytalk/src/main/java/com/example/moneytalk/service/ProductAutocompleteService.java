@@ -0,0 +1,381 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductSuggestionDto;
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.FavoriteProductRepository;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.SuggestionType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductAutocompleteService
+ * 상품 제목과 카테고리에 대한 검색어 자동완성(접두어 제안) 서비스입니다.
+ *
+ * [기능 설명]
+ * - 상품 제목/카테고리를 정규화(소문자, 공백 정리)한 검색어로 압축 트라이(Radix Tree)를 구성합니다.
+ * - 각 노드는 자기 하위 트리에서 가중치가 가장 높은 검색어 {@value #MAX_SUGGESTIONS}개를 미리 보관하므로,
+ *   조회 비용은 전체 검색어 수와 무관하게 접두어 길이에만 비례합니다.
+ * - 가중치 = 해당 검색어로 등록된 상품 수 + 그 상품들의 찜 수
+ *
+ * [동기화]
+ * - 기동 시 DB의 전체 상품과 상품별 찜 수로 트라이를 구성합니다.
+ * - 이후 상품 등록({@link ProductChangedEvent})과 찜 추가/해제({@link FavoriteChangedEvent})를
+ *   커밋 이후 받아, 해당 검색어 경로의 노드만 증분 갱신합니다. (다른 노드의 등록/찜은 {@link ProductChangeNotifier} 경유)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductAutocompleteService implements ProductChangeListener {
+
+	/** 노드별로 미리 보관하는 상위 제안 수 (요청 가능한 최대 제안 수) */
+	static final int MAX_SUGGESTIONS = 10;
+
+	private static final int WARM_UP_BATCH_SIZE = 1000;
+
+	private final ProductRepository productRepository;
+	private final FavoriteProductRepository favoriteProductRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Node root = new Node("");
+
+	/** (유형, 정규화 검색어) → 검색어 */
+	private final Map<String, Term> terms = new HashMap<>();
+
+	/** 상품 ID → 상품이 기여하는 검색어 (찜 이벤트 반영용) */
+	private final Map<Long, Term[]> productTerms = new HashMap<>();
+
+	/**
+	 * 애플리케이션 기동 완료 후 전체 상품과 상품별 찜 수로 트라이를 구성합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Map<Long, Long> favoriteCounts = new HashMap<>();
+		for (Object[] row : favoriteProductRepository.countGroupByProductId()) {
+			favoriteCounts.put((Long) row[0], (Long) row[1]);
+		}
+
+		long lastId = 0L;
+		List<Product> batch;
+		do {
+			batch = productRepository.findIndexBatch(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+			for (Product product : batch) {
+				addProduct(product, favoriteCounts.getOrDefault(product.getId(), 0L));
+			}
+			if (!batch.isEmpty()) {
+				lastId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == WARM_UP_BATCH_SIZE);
+
+		log.info("ProductAutocompleteService - 검색어 {}개 적재 완료", terms.size());
+	}
+
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		if (event.getType() == ProductChangedEvent.Type.CREATED) {
+			addProduct(event.getProduct(), 0);
+		}
+	}
+
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsCreated(ProductsCreatedEvent event) {
+		event.getProducts().forEach(product -> addProduct(product, 0));
+	}
+
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onFavoriteChanged(FavoriteChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			Term[] contributed = productTerms.get(event.getProduct().getId());
+			if (contributed == null) {
+				return;
+			}
+			for (Term term : contributed) {
+				updateWeight(term, event.isAdded() ? 1 : -1);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 접두어로 시작하는 검색어를 가중치 높은 순으로 제안합니다.
+	 *
+	 * @param prefix 입력 중인 검색어
+	 * @param limit 최대 제안 수 (1 ~ {@value #MAX_SUGGESTIONS})
+	 * @return 자동완성 제안 목록 (접두어가 비어 있으면 빈 목록)
+	 */
+	public List<ProductSuggestionDto> suggest(String prefix, int limit) {
+		String key = normalize(prefix);
+		if (key.isEmpty()) {
+			return List.of();
+		}
+		int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+		lock.readLock().lock();
+		try {
+			Node node = findPrefixNode(key);
+			if (node == null) {
+				return List.of();
+			}
+			List<ProductSuggestionDto> result = new ArrayList<>(Math.min(size, node.top.length));
+			for (int i = 0; i < node.top.length && i < size; i++) {
+				Term term = node.top[i];
+				result.add(ProductSuggestionDto.builder()
+						.text(term.display)
+						.type(term.type)
+						.weight(term.weight)
+						.build());
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 상품 하나를 제목/카테고리 검색어에 반영합니다. (등록 상품 수 +1, 찜 수 +favorites)
+	 */
+	void addProduct(Product product, long favorites) {
+		lock.writeLock().lock();
+		try {
+			if (productTerms.containsKey(product.getId())) {
+				return; // 기동 적재와 등록 이벤트가 겹친 경우
+			}
+
+			List<Term> contributed = new ArrayList<>(2);
+			addTerm(contributed, SuggestionType.TITLE, product.getTitle(), 1 + favorites);
+			addTerm(contributed, SuggestionType.CATEGORY, product.getCategory(), 1 + favorites);
+			productTerms.put(product.getId(), contributed.toArray(Term[]::new));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	// =============================
+	// 🛠️ Helper Methods (쓰기 락 안에서 호출)
+	// =============================
+
+	private void addTerm(List<Term> contributed, SuggestionType type, String text, long delta) {
+		String key = normalize(text);
+		if (key.isEmpty()) {
+			return;
+		}
+
+		Term term = terms.get(type + ":" + key);
+		if (term == null) {
+			term = new Term(key, text.trim(), type);
+			terms.put(type + ":" + key, term);
+			insert(key, term);
+		}
+		contributed.add(term);
+		updateWeight(term, delta);
+	}
+
+	/**
+	 * 검색어를 트라이에 삽입합니다.
+	 * 간선 라벨이 검색어와 일부만 일치하면 간선을 분할합니다.
+	 */
+	private void insert(String key, Term term) {
+		Node node = root;
+		int pos = 0;
+
+		while (pos < key.length()) {
+			Node child = node.children.get(key.charAt(pos));
+			if (child == null) {
+				child = new Node(key.substring(pos));
+				node.children.put(key.charAt(pos), child);
+				node = child;
+				break;
+			}
+
+			int common = commonPrefixLength(child.label, key, pos);
+			if (common < child.label.length()) {
+				// 간선 분할: node -[label 앞부분]-> middle -[label 나머지]-> child
+				Node middle = new Node(child.label.substring(0, common));
+				middle.top = child.top.clone();
+				child.label = child.label.substring(common);
+				middle.children.put(child.label.charAt(0), child);
+				node.children.put(middle.label.charAt(0), middle);
+				child = middle;
+			}
+			node = child;
+			pos += common;
+		}
+
+		node.term = term;
+	}
+
+	/**
+	 * 검색어 가중치를 변경하고, 검색어 노드부터 루트까지 각 노드의 상위 제안 목록을 갱신합니다.
+	 * 가중치가 감소하여 상위 목록에서 밀려날 수 있는 경우에만 자식 노드의 목록을 병합해 다시 계산합니다.
+	 */
+	private void updateWeight(Term term, long delta) {
+		term.weight = Math.max(0, term.weight + delta);
+
+		// 이후 삽입에서 간선이 분할될 수 있으므로 경로는 매번 다시 구함 (검색어 길이에 비례)
+		List<Node> path = pathOf(term.key);
+		for (int i = path.size() - 1; i >= 0; i--) {
+			Node node = path.get(i);
+			int index = indexOf(node.top, term);
+
+			if (index < 0) {
+				if (delta > 0) {
+					node.offer(term);
+				}
+			} else if (delta >= 0 || node.top.length < MAX_SUGGESTIONS) {
+				// 가중치 증가 또는 하위 트리 전체가 목록에 들어 있는 경우: 정렬만 다시 수행
+				Arrays.sort(node.top, Term.ORDER);
+			} else {
+				node.recompute();
+			}
+		}
+	}
+
+	private List<Node> pathOf(String key) {
+		List<Node> path = new ArrayList<>();
+		Node node = root;
+		path.add(node);
+		int pos = 0;
+		while (pos < key.length()) {
+			node = node.children.get(key.charAt(pos));
+			path.add(node);
+			pos += node.label.length();
+		}
+		return path;
+	}
+
+	private Node findPrefixNode(String key) {
+		Node node = root;
+		int pos = 0;
+		while (pos < key.length()) {
+			Node child = node.children.get(key.charAt(pos));
+			if (child == null) {
+				return null;
+			}
+			int common = commonPrefixLength(child.label, key, pos);
+			if (pos + common == key.length()) {
+				return child; // 접두어가 간선 중간에서 끝난 경우 포함
+			}
+			if (common < child.label.length()) {
+				return null;
+			}
+			node = child;
+			pos += common;
+		}
+		return node;
+	}
+
+	private static int commonPrefixLength(String label, String key, int offset) {
+		int max = Math.min(label.length(), key.length() - offset);
+		int i = 0;
+		while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+			i++;
+		}
+		return i;
+	}
+
+	private static int indexOf(Term[] top, Term term) {
+		for (int i = 0; i < top.length; i++) {
+			if (top[i] == term) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 압축 트라이 노드입니다. 간선 라벨은 부모로부터 이 노드까지의 문자열입니다.
+	 */
+	private static final class Node {
+
+		private static final Term[] EMPTY = new Term[0];
+
+		private String label;
+		private final Map<Character, Node> children = new HashMap<>(4);
+		private Term term;
+
+		/** 하위 트리 상위 제안 (가중치 내림차순, 최대 MAX_SUGGESTIONS개) */
+		private Term[] top = EMPTY;
+
+		Node(String label) {
+			this.label = label;
+		}
+
+		void offer(Term candidate) {
+			if (top.length == MAX_SUGGESTIONS && Term.ORDER.compare(candidate, top[top.length - 1]) >= 0) {
+				return;
+			}
+			Term[] next = Arrays.copyOf(top, Math.min(top.length + 1, MAX_SUGGESTIONS));
+			next[next.length - 1] = candidate;
+			Arrays.sort(next, Term.ORDER);
+			top = next;
+		}
+
+		void recompute() {
+			List<Term> candidates = new ArrayList<>();
+			if (term != null) {
+				candidates.add(term);
+			}
+			for (Node child : children.values()) {
+				candidates.addAll(Arrays.asList(child.top));
+			}
+			candidates.sort(Term.ORDER);
+			top = candidates.subList(0, Math.min(candidates.size(), MAX_SUGGESTIONS)).toArray(Term[]::new);
+		}
+	}
+
+	/**
+	 * 자동완성 검색어입니다.
+	 */
+	private static final class Term {
+
+		/** 가중치 내림차순, 동일하면 검색어 오름차순 */
+		static final Comparator<Term> ORDER = Comparator.<Term>comparingLong(t -> -t.weight)
+				.thenComparing(t -> t.key)
+				.thenComparing(t -> t.type);
+
+		private final String key;
+		private final String display;
+		private final SuggestionType type;
+		private long weight;
+
+		Term(String key, String display, SuggestionType type) {
+			this.key = key;
+			this.display = display;
+			this.type = type;
+		}
+	}
+}
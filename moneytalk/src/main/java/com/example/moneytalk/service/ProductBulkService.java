@@ -0,0 +1,137 @@
+package com.example.moneytalk.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductBulkItemDto;
+import com.example.moneytalk.dto.ProductBulkResponseDto;
+import com.example.moneytalk.dto.ProductBulkResultDto;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductBulkInsertRepository;
+import com.example.moneytalk.repository.ProductImageRepository;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ErrorCode;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductBulkService
+ * 판매자/이관 작업의 대량 상품 등록을 처리하는 서비스입니다.
+ *
+ * [처리 방식]
+ * - 항목별로 검증하여 잘못된 항목만 실패로 기록하고, 나머지는 등록합니다.
+ * - 검증을 통과한 항목을 CHUNK_SIZE 단위로 나누어, 청크마다 트랜잭션 1개 + 배치 INSERT로 저장합니다.
+ *   (상품은 IDENTITY라 JDBC 배치, 이미지는 pooled ID라 Hibernate 배치)
+ * - 청크 저장이 실패하면 그 청크만 롤백되고 해당 항목들이 실패로 기록됩니다.
+ * - 청크마다 {@link ProductsCreatedEvent}를 한 번 발행해 검색 색인/저장된 검색 알림 등이 단건 등록과 같게 동작합니다.
+ *   (상품별 이벤트를 발행하면 커밋 후 리스너와 다른 노드가 상품 수만큼 쿼리를 실행하므로 목록 단위로 전달)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkService {
+
+	/** 트랜잭션 1개로 저장하는 항목 수 */
+	static final int CHUNK_SIZE = 200;
+
+	private final ProductBulkInsertRepository productBulkInsertRepository;
+	private final ProductRepository productRepository;
+	private final ProductImageRepository productImageRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Validator validator;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 상품 목록을 판매중 상태로 대량 등록합니다.
+	 *
+	 * @param items 등록할 상품 목록
+	 * @param user 판매자
+	 * @return 항목별 결과 (요청 순서)
+	 */
+	public ProductBulkResponseDto createProducts(List<ProductBulkItemDto> items, User user) {
+		ProductBulkResultDto[] results = new ProductBulkResultDto[items.size()];
+
+		List<Integer> valid = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			String violation = validate(items.get(i));
+			if (violation == null) {
+				valid.add(i);
+			} else {
+				results[i] = ProductBulkResultDto.failure(i, violation);
+			}
+		}
+
+		for (int from = 0; from < valid.size(); from += CHUNK_SIZE) {
+			List<Integer> chunk = valid.subList(from, Math.min(from + CHUNK_SIZE, valid.size()));
+			List<ProductBulkItemDto> chunkItems = chunk.stream().map(items::get).toList();
+			try {
+				List<Long> ids = transactionTemplate.execute(status -> insertChunk(chunkItems, user));
+				for (int k = 0; k < chunk.size(); k++) {
+					results[chunk.get(k)] = ProductBulkResultDto.success(chunk.get(k), ids.get(k));
+				}
+			} catch (RuntimeException e) {
+				log.error("대량 상품 등록 청크 저장 실패 - {}건", chunk.size(), e);
+				for (int index : chunk) {
+					results[index] = ProductBulkResultDto.failure(index, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+				}
+			}
+		}
+
+		return ProductBulkResponseDto.of(Arrays.asList(results));
+	}
+
+	private List<Long> insertChunk(List<ProductBulkItemDto> chunkItems, User user) {
+		List<Long> ids = productBulkInsertRepository.insertAll(user.getId(), chunkItems, LocalDateTime.now());
+
+		// 이미지는 pooled ID 엔티티라 saveAll이 Hibernate JDBC 배치 INSERT로 전송됨
+		List<ProductImage> images = new ArrayList<>();
+		for (int k = 0; k < chunkItems.size(); k++) {
+			Product product = productRepository.getReferenceById(ids.get(k));
+			List<String> urls = chunkItems.get(k).getImageUrls();
+			for (int j = 0; j < urls.size(); j++) {
+				images.add(ProductImage.builder().product(product).imageUrl(urls.get(j)).isThumbnail(j == 0).build());
+			}
+		}
+		productImageRepository.saveAll(images);
+
+		// 커밋 후 색인/알림 리스너가 동작하도록 같은 트랜잭션 안에서 청크당 이벤트 1건 발행 (판매자 정보 포함 1회 조회)
+		eventPublisher.publishEvent(new ProductsCreatedEvent(productRepository.findAllWithUserByIdIn(ids).stream()
+				.sorted(Comparator.comparing(Product::getId)).toList()));
+		return ids;
+	}
+
+	/**
+	 * @return 검증 실패 메시지 (통과 시 null)
+	 */
+	private String validate(ProductBulkItemDto item) {
+		if (item == null) {
+			return ErrorCode.INVALID_INPUT_VALUE.getMessage();
+		}
+		Set<ConstraintViolation<ProductBulkItemDto>> violations = validator.validate(item);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+				.map(v -> String.format("[%s] %s", v.getPropertyPath(), v.getMessage()))
+				.sorted()
+				.collect(Collectors.joining("; "));
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.moneytalk.service;
+
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+
+/**
+ * 상품 정보를 노드 메모리에 보관하는 색인/뷰가 구현합니다.
+ * 이 노드의 변경은 커밋 이후 애플리케이션 이벤트로, 다른 노드의 변경은 {@link ProductChangeNotifier}가
+ * DB에서 다시 읽은 상품으로 같은 메소드를 호출해 전달합니다.
+ * 대량 등록은 청크마다 {@link ProductsCreatedEvent} 1건으로 전달되므로, 상품별 조회가 필요한 구현은 목록 단위로 처리합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public interface ProductChangeListener {
+
+	void onProductChanged(ProductChangedEvent event);
+
+	void onProductsCreated(ProductsCreatedEvent event);
+
+	default void onFavoriteChanged(FavoriteChangedEvent event) {
+	}
+}
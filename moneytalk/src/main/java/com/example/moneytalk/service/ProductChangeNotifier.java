@@ -0,0 +1,124 @@
+package com.example.moneytalk.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductChangeNotifier
+ * 상품 변경을 Redis Pub/Sub으로 다른 노드에 알려, 노드마다 메모리에 보관하는 상품 색인/뷰
+ * ({@link ProductChangeListener})가 DB와 같은 상태를 유지하도록 합니다.
+ *
+ * [메시지 형식] 채널: {@value #CHANNEL}
+ * - "발행노드ID|P|변경유형|상품ID": 상품 등록/상태 변경/구매 확정/이미지 변경 → 다른 노드가 DB에서 상품을 다시 읽어 반영
+ *   (상품 상태를 메시지에 싣지 않으므로 커밋 이후 발행만 지키면 늦게 도착해도 최신 상태로 반영됩니다.)
+ * - "발행노드ID|C|상품ID,상품ID,...": 대량 등록 청크 → 다른 노드가 IN 조회 1회로 읽어 목록 단위로 반영
+ * - "발행노드ID|F|상품ID|1 또는 0": 찜 추가/해제 → 다른 노드의 자동완성 가중치에 반영
+ * - 자신이 발행한 메시지는 이미 로컬 이벤트로 반영되었으므로 무시합니다.
+ *
+ * Pub/Sub은 전달을 보장하지 않으므로, 발행 실패나 노드 재연결 중 놓친 변경은 해당 노드 재기동(색인 재적재) 시 맞춰집니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductChangeNotifier implements MessageListener {
+
+	public static final String CHANNEL = "product:changed";
+
+	private static final String PRODUCT = "P";
+	private static final String CREATED = "C";
+	private static final String FAVORITE = "F";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListener;
+	private final ProductRepository productRepository;
+	private final List<ProductChangeListener> listeners;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListener.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		send(nodeId + "|" + PRODUCT + "|" + event.getType() + "|" + event.getProduct().getId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsCreated(ProductsCreatedEvent event) {
+		if (event.getProducts().isEmpty()) {
+			return;
+		}
+		String ids = String.join(",", event.getProducts().stream().map(product -> product.getId().toString()).toList());
+		send(nodeId + "|" + CREATED + "|" + ids);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onFavoriteChanged(FavoriteChangedEvent event) {
+		send(nodeId + "|" + FAVORITE + "|" + event.getProduct().getId() + "|" + (event.isAdded() ? 1 : 0));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody()).split("\\|");
+		if (parts.length < 3 || nodeId.equals(parts[0])) {
+			return;
+		}
+
+		try {
+			if (CREATED.equals(parts[1])) {
+				List<Long> ids = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+				ProductsCreatedEvent event = new ProductsCreatedEvent(productRepository.findAllWithUserByIdIn(ids)
+						.stream().sorted(Comparator.comparing(Product::getId)).toList());
+				listeners.forEach(listener -> listener.onProductsCreated(event));
+			} else if (parts.length < 4) {
+				return;
+			} else if (PRODUCT.equals(parts[1])) {
+				ProductChangedEvent.Type type = ProductChangedEvent.Type.valueOf(parts[2]);
+				productRepository.findWithUserById(Long.valueOf(parts[3])).ifPresent(product -> {
+					ProductChangedEvent event = new ProductChangedEvent(product, type);
+					listeners.forEach(listener -> listener.onProductChanged(event));
+				});
+			} else if (FAVORITE.equals(parts[1])) {
+				// 찜 수 변화량만 전달하므로 상품은 ID만 사용
+				FavoriteChangedEvent event = new FavoriteChangedEvent(
+						Product.builder().id(Long.valueOf(parts[2])).build(), "1".equals(parts[3]));
+				listeners.forEach(listener -> listener.onFavoriteChanged(event));
+			}
+		} catch (Exception e) {
+			log.error("ProductChangeNotifier - 메시지 처리 중 에러: {}", new String(message.getBody()), e);
+		}
+	}
+
+	private void send(String payload) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, payload);
+		} catch (Exception e) {
+			log.warn("ProductChangeNotifier - 메시지 발행 실패: {}", payload, e);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.moneytalk.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.ScrollableResults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductExportService
+ * 전체 상품 카탈로그를 NDJSON(Newline Delimited JSON)으로 내보내는 서비스입니다.
+ *
+ * [기능 설명]
+ * - DB 커서를 한 방향으로 스크롤하며 상품 1건을 JSON 한 줄로 즉시 기록합니다.
+ * - 전체 목록을 메모리에 올리지 않으므로, 카탈로그 크기와 무관하게 메모리 사용량이 일정합니다.
+ *   (메모리에는 현재 상품 1건과 출력 버퍼만 유지)
+ * - {@value #FLUSH_EVERY}건마다 출력 스트림을 flush하여 클라이언트가 받는 즉시 처리할 수 있도록 합니다.
+ *
+ * [설정]
+ * - product.export.fetch-size: JDBC fetch size (기본값 Integer.MIN_VALUE = MySQL 행 단위 스트리밍)
+ *   MySQL 서버 커서(useCursorFetch=true)를 사용하는 경우 양수(예: 1000)로 지정합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+	/** 이 건수마다 클라이언트로 flush */
+	static final int FLUSH_EVERY = 500;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final byte NEW_LINE = '\n';
+
+	private final ProductRepository productRepository;
+	private final ObjectMapper objectMapper;
+
+	@Value("${product.export.fetch-size:" + Integer.MIN_VALUE + "}")
+	private int fetchSize = Integer.MIN_VALUE;
+
+	/**
+	 * 전체 상품을 상품 ID 순서로 NDJSON 형식으로 기록합니다.
+	 * 각 줄은 {@link ProductResponseDto}와 같은 형태의 JSON 객체입니다.
+	 *
+	 * @param out 출력 스트림 (이 메서드는 스트림을 닫지 않음)
+	 * @return 내보낸 상품 수
+	 * @throws IOException 출력 중 클라이언트 연결이 끊긴 경우 등
+	 */
+	@Transactional(readOnly = true)
+	public long exportNdjson(OutputStream out) throws IOException {
+		BufferedOutputStream buffer = new BufferedOutputStream(out, BUFFER_SIZE);
+		long count = 0;
+
+		try (ScrollableResults<Object[]> rows = productRepository.scrollCatalog(fetchSize)) {
+			Object[] current = null;
+			List<String> images = new ArrayList<>();
+
+			while (rows.next()) {
+				Object[] row = rows.get();
+
+				// 같은 상품의 이미지 행이 연속으로 오므로, 상품 ID가 바뀔 때 이전 상품을 기록
+				if (current != null && !Objects.equals(current[0], row[0])) {
+					write(buffer, current, images);
+					images = new ArrayList<>();
+					if (++count % FLUSH_EVERY == 0) {
+						buffer.flush();
+					}
+				}
+				current = row;
+				if (row[10] != null) {
+					images.add((String) row[10]);
+				}
+			}
+
+			if (current != null) {
+				write(buffer, current, images);
+				count++;
+			}
+		}
+
+		buffer.flush();
+		log.info("상품 카탈로그 내보내기 완료 - {}건", count);
+		return count;
+	}
+
+	private void write(OutputStream out, Object[] row, List<String> images) throws IOException {
+		ProductResponseDto dto = ProductResponseDto.builder()
+				.id((Long) row[0])
+				.title((String) row[1])
+				.description((String) row[2])
+				.price((Integer) row[3])
+				.category((String) row[4])
+				.location((String) row[5])
+				.status((ProductStatus) row[6])
+				.createdAt((LocalDateTime) row[7])
+				.sellerId((Long) row[8])
+				.sellerNickname((String) row[9])
+				.images(images)
+				.build();
+
+		out.write(objectMapper.writeValueAsBytes(dto));
+		out.write(NEW_LINE);
+	}
+}
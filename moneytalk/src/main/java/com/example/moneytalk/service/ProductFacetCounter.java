@@ -0,0 +1,67 @@
+package com.example.moneytalk.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.example.moneytalk.dto.ProductFacetsDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.type.ProductStatus;
+
+/**
+ * 검색 후보를 한 번 순회하며 카테고리/지역/판매 상태 패싯을 동시에 집계합니다.
+ *
+ * [집계 규칙]
+ * - 후보는 키워드/가격 조건을 이미 만족한 상품(또는 그 조합별 개수)이어야 합니다.
+ * - 카테고리/지역/상태 필터 중 모두 만족하면 세 패싯 모두에 집계합니다.
+ * - 정확히 하나의 필터만 만족하지 않으면 그 필터의 패싯에만 집계합니다.
+ *   (각 패싯은 자기 자신의 필터를 제외한 조건으로 집계되어, 다른 선택지의 개수도 함께 보여줄 수 있음)
+ */
+class ProductFacetCounter {
+
+	private final ProductSearchRequestDto request;
+
+	private final Map<String, Long> category = new HashMap<>();
+	private final Map<String, Long> location = new HashMap<>();
+	private final Map<ProductStatus, Long> status = new HashMap<>();
+
+	ProductFacetCounter(ProductSearchRequestDto request) {
+		this.request = request;
+	}
+
+	/**
+	 * (카테고리, 지역, 상태) 조합의 상품 수를 집계에 반영합니다.
+	 */
+	void add(String productCategory, String productLocation, ProductStatus productStatus, long count) {
+		boolean categoryOk = request.getCategory() == null || Objects.equals(request.getCategory(), productCategory);
+		boolean locationOk = request.getLocation() == null || Objects.equals(request.getLocation(), productLocation);
+		boolean statusOk = request.getStatus() == null || request.getStatus() == productStatus;
+
+		if (locationOk && statusOk && productCategory != null) {
+			category.merge(productCategory, count, Long::sum);
+		}
+		if (categoryOk && statusOk && productLocation != null) {
+			location.merge(productLocation, count, Long::sum);
+		}
+		if (categoryOk && locationOk && productStatus != null) {
+			status.merge(productStatus, count, Long::sum);
+		}
+	}
+
+	ProductFacetsDto toDto() {
+		return ProductFacetsDto.builder()
+				.category(sortByCountDesc(category))
+				.location(sortByCountDesc(location))
+				.status(sortByCountDesc(status))
+				.build();
+	}
+
+	private static <K> Map<K, Long> sortByCountDesc(Map<K, Long> counts) {
+		Map<K, Long> sorted = new LinkedHashMap<>();
+		counts.entrySet().stream()
+				.sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+				.forEach(e -> sorted.put(e.getKey(), e.getValue()));
+		return sorted;
+	}
+}
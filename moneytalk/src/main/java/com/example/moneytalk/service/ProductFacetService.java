@@ -0,0 +1,80 @@
+package com.example.moneytalk.service;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+
+import com.example.moneytalk.dto.ProductFacetCountDto;
+import com.example.moneytalk.dto.ProductFacetsDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductFacetService
+ * 상품 검색 결과의 카테고리/지역/판매 상태 패싯을 집계합니다.
+ *
+ * [기능 설명]
+ * - 키워드 검색이 역색인으로 처리 가능한 경우: 색인 후보를 한 번 순회하여 세 패싯을 동시에 집계합니다.
+ * - 그 외: (카테고리, 지역, 상태) GROUP BY 쿼리 1회로 조합별 개수를 조회한 뒤 메모리에서 패싯으로 합산합니다.
+ * - 패싯은 커서/페이지 크기/정렬과 무관하므로, 필터 조건을 키로 짧은 TTL 동안 캐시하여
+ *   같은 검색의 다음 페이지 조회나 반복 검색에서는 집계를 생략합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductFacetService {
+
+	/** 패싯 캐시 유지 시간 (목록 변경이 짧은 시간 늦게 반영되는 것은 허용) */
+	static final Duration CACHE_TTL = Duration.ofSeconds(30);
+
+	private static final long CACHE_MAX_SIZE = 10_000;
+
+	private final ProductRepository productRepository;
+	private final ProductSearchIndex productSearchIndex;
+
+	private final Cache<FacetKey, ProductFacetsDto> cache = Caffeine.newBuilder()
+			.expireAfterWrite(CACHE_TTL)
+			.maximumSize(CACHE_MAX_SIZE)
+			.build();
+
+	/**
+	 * 검색 조건에 대한 패싯을 조회합니다. (커서/페이지 크기/정렬은 무시)
+	 *
+	 * @param request 검색 조건 DTO
+	 * @return 패싯 집계 결과
+	 */
+	public ProductFacetsDto getFacets(ProductSearchRequestDto request) {
+		return cache.get(FacetKey.of(request), key -> compute(request));
+	}
+
+	private ProductFacetsDto compute(ProductSearchRequestDto request) {
+		if (productSearchIndex.supports(request.getKeyword())) {
+			return productSearchIndex.countFacets(request);
+		}
+
+		ProductFacetCounter counter = new ProductFacetCounter(request);
+		for (ProductFacetCountDto row : productRepository.countFacets(request)) {
+			counter.add(row.getCategory(), row.getLocation(), row.getStatus(), row.getCount());
+		}
+		return counter.toDto();
+	}
+
+	/**
+	 * 패싯 결과에 영향을 주는 검색 조건만으로 구성된 캐시 키입니다.
+	 */
+	record FacetKey(String keyword, String category, String location, Integer minPrice, Integer maxPrice,
+			ProductStatus status) {
+
+		static FacetKey of(ProductSearchRequestDto request) {
+			return new FacetKey(request.getKeyword(), request.getCategory(), request.getLocation(), request.getMinPrice(),
+					request.getMaxPrice(), request.getStatus());
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.repository.ProductImageRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductImageLoader
+ * 여러 상품의 이미지 URL을 한 번의 IN 쿼리로 조회하여 상품 ID별로 묶어주는 컴포넌트입니다.
+ *
+ * [기능 설명]
+ * - 상품 목록(페이지) 단위로 이미지를 일괄 조회하여 상품별 N+1 쿼리를 제거합니다.
+ * - ProductResponseDto를 생성하는 모든 경로(목록, 검색, 상세)에서 공통으로 사용합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImageLoader {
+
+	/** IN 절 하나에 담을 최대 상품 ID 수 (DB 바인딩 파라미터 제한 대비) */
+	private static final int MAX_IN_SIZE = 1000;
+
+	private final ProductImageRepository productImageRepository;
+
+	/**
+	 * 상품 ID 목록에 해당하는 이미지 URL을 일괄 조회하여 상품 ID별로 그룹핑합니다.
+	 * 이미지가 없는 상품은 결과 Map에 포함되지 않습니다.
+	 *
+	 * @param productIds 이미지를 조회할 상품 ID 목록
+	 * @return 상품 ID → 이미지 URL 목록 (등록 순서)
+	 */
+	public Map<Long, List<String>> loadImageUrls(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Long> ids = List.copyOf(productIds);
+		Map<Long, List<String>> grouped = new HashMap<>();
+
+		for (int from = 0; from < ids.size(); from += MAX_IN_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_SIZE, ids.size()));
+			for (ProductImage image : productImageRepository.findByProductIdInOrderByIdAsc(chunk)) {
+				grouped.computeIfAbsent(image.getProduct().getId(), id -> new ArrayList<>())
+						.add(image.getImageUrl());
+			}
+		}
+		return grouped;
+	}
+
+	/**
+	 * 상품 목록을 이미지 URL이 포함된 응답 DTO 목록으로 변환합니다. (이미지 조회 쿼리 1회)
+	 *
+	 * @param products 변환할 상품 목록
+	 * @return 상품 응답 DTO 목록 (입력 순서 유지)
+	 */
+	public List<ProductResponseDto> toResponses(List<Product> products) {
+		Map<Long, List<String>> imageUrls = loadImageUrls(products.stream().map(Product::getId).toList());
+
+		return products.stream()
+				.map(product -> ProductResponseDto.from(product, imageUrls.getOrDefault(product.getId(), List.of())))
+				.toList();
+	}
+
+	/**
+	 * 단일 상품을 이미지 URL이 포함된 응답 DTO로 변환합니다.
+	 *
+	 * @param product 변환할 상품
+	 * @return 상품 응답 DTO
+	 */
+	public ProductResponseDto toResponse(Product product) {
+		return toResponses(List.of(product)).get(0);
+	}
+}
@@ -2,6 +2,9 @@ package com.example.moneytalk.service;
 
 import java.util.List;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -9,12 +12,14 @@ import org.springframework.web.multipart.MultipartFile;
 import com.example.moneytalk.config.S3Uploader;
 import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.event.ProductChangedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ProductImageRepository;
 import com.example.moneytalk.repository.ProductRepository;
 import com.example.moneytalk.type.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * ProductImageService
@@ -27,6 +32,7 @@ import lombok.RequiredArgsConstructor;
  * @author Daniel
  * @since 2025.04.15
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductImageService {
@@ -34,6 +40,7 @@ public class ProductImageService {
     private final ProductImageRepository productImageRepository;
     private final ProductRepository productRepository;
     private final S3Uploader s3Uploader;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 주어진 상품 ID에 해당하는 이미지 URL 목록을 반환합니다.
@@ -81,6 +88,11 @@ public class ProductImageService {
                 .build();
 
             productImageRepository.save(image);
+
+            // 지정한 대표 이미지는 상품 행의 thumbnailUrl에도 반영
+            if (isThumbnail) {
+                product.setThumbnailUrl(imageUrl);
+            }
         }
 
         // 만약 사용자가 대표 이미지를 지정하지 않은 경우 → 첫 번째 이미지를 대표로 설정
@@ -88,8 +100,26 @@ public class ProductImageService {
             List<ProductImage> savedImages = productImageRepository.findByProduct(product);
             if (!savedImages.isEmpty()) {
                 savedImages.get(0).setThumbnail(true);
+                if (product.getThumbnailUrl() == null) {
+                    product.setThumbnailUrl(savedImages.get(0).getImageUrl());
+                }
             }
         }
+
+        eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.IMAGES_CHANGED));
+    }
+
+    /**
+     * 애플리케이션 기동 시 대표 이미지 URL이 비어 있는 기존 상품을 한 번의 UPDATE로 채웁니다.
+     * 이미 채워진 상품은 건너뛰므로 반복 실행해도 안전합니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThumbnailUrls() {
+        int updated = productRepository.backfillThumbnailUrls();
+        if (updated > 0) {
+            log.info("ProductImageService - 대표 이미지 URL 백필 완료 - {}건", updated);
+        }
     }
 
 }
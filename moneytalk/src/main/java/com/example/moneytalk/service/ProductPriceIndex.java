@@ -0,0 +1,337 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.PriceBucketDto;
+import com.example.moneytalk.dto.PriceHistogramDto;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductPriceIndex
+ * 카테고리별 판매중(SALE) 상품의 가격 히스토그램 색인입니다.
+ *
+ * [색인 구조]
+ * - 카테고리(와 전체 카테고리)마다 고정된 가격 구간({@link #BOUNDARIES})별 정렬 배열을 유지합니다.
+ * - 배열 원소는 (가격 << 32 | 상품 ID)로 묶은 long이므로, 배열 순서가 곧 (price ASC, id ASC) 정렬입니다.
+ * - 가격 범위 조회: 범위에 완전히 포함된 구간은 그대로 순회하고, 경계 구간만 이진 탐색합니다.
+ * - 가격 분포: 구간별 배열 길이가 곧 상품 수이므로 O(구간 수)로 반환합니다.
+ *
+ * [동기화]
+ * - 기동 시 DB에서 판매중 상품을 적재하고, 이후 상품 등록/상태 변경/구매 확정 {@link ProductChangedEvent}
+ *   (커밋 이후)로 증분 갱신합니다. 판매중이 아니게 된 상품은 제거됩니다.
+ *   다른 노드에서 일어난 변경은 {@link ProductChangeNotifier}가 DB에서 다시 읽어 같은 경로로 반영합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPriceIndex implements ProductChangeListener {
+
+	/** 가격 구간 하한 목록 (원). 구간 i = [BOUNDARIES[i], BOUNDARIES[i + 1]) */
+	static final int[] BOUNDARIES = { 0, 10_000, 30_000, 50_000, 100_000, 200_000, 300_000, 500_000, 1_000_000,
+			2_000_000, 5_000_000, 10_000_000 };
+
+	private static final int WARM_UP_BATCH_SIZE = 1000;
+
+	/** 정렬 키에 담을 수 있는 상품 ID 상한 (하위 32비트). 넘는 ID가 나오면 색인을 쓰지 않고 DB로 조회 */
+	private static final long MAX_ID = 0xFFFF_FFFFL;
+
+	/** 전체 카테고리 히스토그램 키 (실제 카테고리명과 겹치지 않는 문자) */
+	private static final String ALL = "\u0000";
+
+	private final ProductRepository productRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Histogram> histograms = new HashMap<>();
+
+	/** 상품 ID → 색인된 (카테고리, 가격) (변경/제거용) */
+	private final Map<Long, Indexed> indexed = new HashMap<>();
+
+	private volatile boolean ready;
+
+	/** 정렬 키에 담을 수 없는 상품 ID({@link #MAX_ID} 초과)를 만난 적이 있는지 여부 */
+	private volatile boolean idOverflow;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long lastId = 0L;
+		List<Product> batch;
+		do {
+			batch = productRepository.findIndexBatch(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+			batch.forEach(this::apply);
+			if (!batch.isEmpty()) {
+				lastId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == WARM_UP_BATCH_SIZE);
+
+		ready = true;
+		log.info("ProductPriceIndex - 판매중 상품 {}건 색인 완료", size());
+	}
+
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		if (event.getType() != ProductChangedEvent.Type.IMAGES_CHANGED) {
+			apply(event.getProduct());
+		}
+	}
+
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsCreated(ProductsCreatedEvent event) {
+		event.getProducts().forEach(this::apply);
+	}
+
+	/**
+	 * 가격 범위 + 판매중 조건을 가격순으로 조회하는 요청을 이 색인으로 처리할 수 있는지 확인합니다.
+	 * (키워드/지역 조건이 있으면 각각 키워드 색인, 지역 색인 또는 DB에서 처리)
+	 */
+	public boolean supports(ProductSearchRequestDto request, ProductSortType sort) {
+		return ready && !idOverflow && request.getStatus() == ProductStatus.SALE && request.getKeyword() == null
+				&& request.getLocation() == null && (request.getMinPrice() != null || request.getMaxPrice() != null)
+				&& (sort == ProductSortType.PRICE_ASC || sort == ProductSortType.PRICE_DESC);
+	}
+
+	/**
+	 * 카테고리와 가격 범위에 해당하는 판매중 상품 ID를 가격순으로 최대 limit건 반환합니다.
+	 *
+	 * @param category 카테고리 (null이면 전체)
+	 * @param minPrice 최소 가격 (포함, null이거나 음수면 0)
+	 * @param maxPrice 최대 가격 (포함, null이면 제한 없음, 음수면 결과 없음)
+	 * @param sort PRICE_ASC 또는 PRICE_DESC
+	 * @param cursor 이전 페이지 커서 (첫 페이지는 null)
+	 * @param limit 최대 건수
+	 * @return 상품 ID 목록 (정렬 순서)
+	 */
+	public List<Long> search(String category, Integer minPrice, Integer maxPrice, ProductSortType sort,
+			ProductCursor cursor, int limit) {
+		List<Long> ids = new ArrayList<>(limit);
+		if (maxPrice != null && maxPrice < 0) {
+			return ids;
+		}
+		long low = pack(minPrice == null ? 0 : Math.max(0, minPrice), 0);
+		long high = pack(maxPrice == null ? Integer.MAX_VALUE : maxPrice, MAX_ID);
+		boolean descending = sort == ProductSortType.PRICE_DESC;
+		if (cursor != null) {
+			if (cursor.getPrice() < 0) {
+				// 색인에 음수 가격은 없음 → 내림차순이면 남은 상품이 없고, 오름차순이면 처음부터
+				if (descending) {
+					return ids;
+				}
+			} else {
+				long cursorKey = pack(cursor.getPrice(), cursor.getId());
+				if (descending) {
+					high = Math.min(high, cursorKey - 1);
+				} else {
+					low = Math.max(low, cursorKey + 1);
+				}
+			}
+		}
+
+		if (low > high) {
+			return ids;
+		}
+
+		lock.readLock().lock();
+		try {
+			Histogram histogram = histograms.get(key(category));
+			if (histogram == null) {
+				return ids;
+			}
+			int first = bucketOf(unpackPrice(low));
+			int last = bucketOf(unpackPrice(high));
+			for (int i = 0; i <= last - first && ids.size() < limit; i++) {
+				histogram.buckets[descending ? last - i : first + i].collect(low, high, descending, ids, limit);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return ids;
+	}
+
+	/**
+	 * 카테고리의 판매중 상품 가격 분포를 반환합니다.
+	 *
+	 * @param category 카테고리 (null이면 전체)
+	 * @return 구간별 상품 수
+	 */
+	public PriceHistogramDto histogram(String category) {
+		List<PriceBucketDto> buckets = new ArrayList<>(BOUNDARIES.length);
+		int total = 0;
+
+		lock.readLock().lock();
+		try {
+			Histogram histogram = histograms.get(key(category));
+			for (int i = 0; i < BOUNDARIES.length; i++) {
+				int count = histogram == null ? 0 : histogram.buckets[i].size;
+				total += count;
+				buckets.add(PriceBucketDto.builder().minPrice(BOUNDARIES[i])
+						.maxPrice(i + 1 < BOUNDARIES.length ? BOUNDARIES[i + 1] : null).count(count).build());
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return PriceHistogramDto.builder().category(category).total(total).buckets(buckets).build();
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return indexed.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 상품의 현재 상태를 색인에 반영합니다. 판매중이면 추가/갱신, 아니면 제거합니다.
+	 * 가격이 음수인 상품은 가격 구간({@link #BOUNDARIES}) 밖이므로 색인하지 않습니다.
+	 * 상품 ID가 {@link #MAX_ID}를 넘으면 정렬 키에서 잘려 다른 ID로 조회되므로 색인하지 않고,
+	 * 이후 조회는 색인 대신 DB에서 처리하도록 {@link #supports}가 false를 반환합니다.
+	 */
+	void apply(Product product) {
+		lock.writeLock().lock();
+		try {
+			Indexed previous = indexed.remove(product.getId());
+			if (previous != null) {
+				update(previous.category(), pack(previous.price(), product.getId()), false);
+			}
+			if (product.getId() > MAX_ID) {
+				idOverflow = true;
+				log.error("ProductPriceIndex - 상품 ID가 정렬 키 범위를 넘어 색인을 사용하지 않음: id={}", product.getId());
+			} else if (product.getPrice() != null && product.getPrice() < 0) {
+				log.warn("ProductPriceIndex - 음수 가격 상품은 색인하지 않음: id={}, price={}", product.getId(),
+						product.getPrice());
+			} else if (product.getStatus() == ProductStatus.SALE && product.getPrice() != null) {
+				indexed.put(product.getId(), new Indexed(product.getCategory(), product.getPrice()));
+				update(product.getCategory(), pack(product.getPrice(), product.getId()), true);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void update(String category, long entry, boolean add) {
+		String categoryKey = key(category);
+		for (String key : categoryKey.equals(ALL) ? new String[] { ALL } : new String[] { categoryKey, ALL }) {
+			Histogram histogram = add ? histograms.computeIfAbsent(key, k -> new Histogram()) : histograms.get(key);
+			if (histogram == null) {
+				continue;
+			}
+			Bucket bucket = histogram.buckets[bucketOf(unpackPrice(entry))];
+			if (add) {
+				bucket.add(entry);
+			} else {
+				bucket.remove(entry);
+			}
+		}
+	}
+
+	private static String key(String category) {
+		return category == null ? ALL : category;
+	}
+
+	static int bucketOf(int price) {
+		int position = Arrays.binarySearch(BOUNDARIES, price);
+		return position >= 0 ? position : -position - 2;
+	}
+
+	private static long pack(int price, long id) {
+		return ((long) price << 32) | (id & MAX_ID);
+	}
+
+	private static int unpackPrice(long entry) {
+		return (int) (entry >>> 32);
+	}
+
+	private record Indexed(String category, int price) {
+	}
+
+	private static final class Histogram {
+
+		private final Bucket[] buckets = new Bucket[BOUNDARIES.length];
+
+		Histogram() {
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new Bucket();
+			}
+		}
+	}
+
+	/**
+	 * (가격, ID) 오름차순 정렬 배열
+	 */
+	private static final class Bucket {
+
+		private long[] entries = new long[8];
+		private int size;
+
+		void add(long entry) {
+			int position = Arrays.binarySearch(entries, 0, size, entry);
+			if (position >= 0) {
+				return;
+			}
+			int insertAt = -position - 1;
+			if (size == entries.length) {
+				entries = Arrays.copyOf(entries, size * 2);
+			}
+			System.arraycopy(entries, insertAt, entries, insertAt + 1, size - insertAt);
+			entries[insertAt] = entry;
+			size++;
+		}
+
+		void remove(long entry) {
+			int position = Arrays.binarySearch(entries, 0, size, entry);
+			if (position < 0) {
+				return;
+			}
+			System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+			size--;
+		}
+
+		/**
+		 * [low, high] 범위의 원소를 순서대로 최대 limit건까지 ID로 추가합니다.
+		 */
+		void collect(long low, long high, boolean descending, List<Long> ids, int limit) {
+			int from = lowerBound(low);
+			int to = high == Long.MAX_VALUE ? size - 1 : lowerBound(high + 1) - 1;
+			if (descending) {
+				for (int i = to; i >= from && ids.size() < limit; i--) {
+					ids.add(entries[i] & MAX_ID);
+				}
+			} else {
+				for (int i = from; i <= to && ids.size() < limit; i++) {
+					ids.add(entries[i] & MAX_ID);
+				}
+			}
+		}
+
+		private int lowerBound(long key) {
+			int position = Arrays.binarySearch(entries, 0, size, key);
+			return position >= 0 ? position : -position - 1;
+		}
+	}
+}
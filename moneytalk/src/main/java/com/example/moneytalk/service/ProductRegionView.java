@@ -0,0 +1,292 @@
+package com.example.moneytalk.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductRegionView
+ * 지역(location)별로 나눈 판매중(SALE) 상품의 인메모리 정렬 색인입니다. ("우리 동네 상품" 조회용)
+ *
+ * [기능 설명]
+ * - 지역마다 최신순(createdAt DESC, id DESC)과 가격순(price ASC, id ASC) 두 정렬 집합을 유지하며,
+ *   항목은 응답 DTO 그 자체이므로 조회 시 DB(상품/이미지)를 전혀 거치지 않습니다.
+ * - 지역 + 판매중 조건에 가격 범위, 정렬, 커서를 더한 요청을 처리합니다.
+ *   (키워드/카테고리가 있거나 판매중 외 상태를 조회하면 {@link #supports}가 false → 기존 경로)
+ * - 기동 시 DB에서 판매중 상품을 적재하고, 이후 상품 등록/상태 변경/구매 확정/이미지 변경
+ *   {@link ProductChangedEvent}(커밋 이후)로 갱신합니다. 판매중이 아니게 된 상품은 제거됩니다.
+ *   다른 노드가 처리한 변경도 {@link ProductChangeNotifier}를 통해 받으므로 노드마다 색인 내용이 같습니다.
+ *
+ * [메모리] 판매중 상품 10만 건 기준 (64bit JVM, compressed oops, 로컬 측정)
+ * - 구조: 응답 DTO + 정렬 집합 노드 2개 + ID 맵 노드 + createdAt(LocalDateTime) + 지역 문자열 ≈ 상품당 약 330B → 약 32MB
+ * - 내용 포함: 제목 약 20자, 설명 200자(한글), 이미지 URL 2개 기준 약 61MB
+ *   (설명 길이에 비례해 증가하며, 한글은 문자당 2B)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRegionView implements ProductChangeListener {
+
+	private static final int WARM_UP_BATCH_SIZE = 1000;
+
+	/** 최신순: createdAt DESC, id DESC */
+	private static final Comparator<ProductResponseDto> LATEST = Comparator
+			.comparing(ProductResponseDto::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+			.thenComparing(ProductResponseDto::getId).reversed();
+
+	/** 가격순: price ASC, id ASC */
+	private static final Comparator<ProductResponseDto> PRICE = Comparator
+			.comparing(ProductResponseDto::getPrice).thenComparing(ProductResponseDto::getId);
+
+	private final ProductRepository productRepository;
+	private final ProductImageLoader productImageLoader;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Region> regions = new HashMap<>();
+	private final Map<Long, ProductResponseDto> products = new HashMap<>();
+
+	private volatile boolean ready;
+
+	/**
+	 * 애플리케이션 기동 완료 후 판매중 상품 전체를 적재합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long lastId = 0L;
+		List<Product> batch;
+		do {
+			batch = productRepository.findIndexBatch(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+			List<Product> onSale = batch.stream().filter(product -> product.getStatus() == ProductStatus.SALE)
+					.toList();
+			if (!onSale.isEmpty()) {
+				productImageLoader.toResponses(onSale).forEach(this::put);
+			}
+			if (!batch.isEmpty()) {
+				lastId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == WARM_UP_BATCH_SIZE);
+
+		ready = true;
+		log.info("ProductRegionView - 판매중 상품 {}건, 지역 {}곳 적재 완료", size(), regionCount());
+	}
+
+	/**
+	 * 상품 등록/상태 변경/구매 확정/이미지 변경이 커밋된 뒤 해당 상품 항목을 갱신합니다.
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		Product product = event.getProduct();
+		if (product.getStatus() != ProductStatus.SALE) {
+			remove(product.getId());
+			return;
+		}
+		put(productImageLoader.toResponses(List.of(product)).get(0));
+	}
+
+	/**
+	 * 대량 등록이 커밋된 뒤 판매중 상품을 이미지 조회 1회로 추가합니다.
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsCreated(ProductsCreatedEvent event) {
+		List<Product> onSale = event.getProducts().stream()
+				.filter(product -> product.getStatus() == ProductStatus.SALE).toList();
+		if (!onSale.isEmpty()) {
+			productImageLoader.toResponses(onSale).forEach(this::put);
+		}
+	}
+
+	/**
+	 * 요청을 이 색인만으로 처리할 수 있는지 확인합니다.
+	 * 지역 + 판매중 조건이 있고, 키워드/카테고리 조건이 없는 요청만 처리합니다.
+	 */
+	public boolean supports(ProductSearchRequestDto request) {
+		return ready && request.getLocation() != null && request.getStatus() == ProductStatus.SALE
+				&& request.getKeyword() == null && request.getCategory() == null;
+	}
+
+	/**
+	 * 지역의 판매중 상품을 정렬/가격 범위/커서 조건으로 한 페이지 조회합니다.
+	 *
+	 * @param request 검색 조건 ({@link #supports}가 true인 요청)
+	 * @param sort DB 정렬 기준 (CREATED_AT, PRICE_ASC, PRICE_DESC)
+	 * @param cursor 이전 페이지 커서 (첫 페이지는 null)
+	 * @return 상품 페이지
+	 */
+	public CursorPageResponseDto<ProductResponseDto> browse(ProductSearchRequestDto request, ProductSortType sort,
+			ProductCursor cursor) {
+		int size = request.resolvePageSize();
+		List<ProductResponseDto> fetched = new ArrayList<>(size + 1);
+
+		lock.readLock().lock();
+		try {
+			Region region = regions.get(request.getLocation());
+			if (region != null) {
+				Iterator<ProductResponseDto> it = iterate(region, request, sort, cursor);
+				while (it.hasNext() && fetched.size() <= size) {
+					ProductResponseDto product = it.next();
+					if (inPriceRange(product, request)) {
+						fetched.add(product);
+					} else if (pastPriceRange(product, request, sort)) {
+						break;
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return CursorPageResponseDto.of(fetched, size, product -> ProductCursor.of(product, sort).encode());
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return products.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int regionCount() {
+		lock.readLock().lock();
+		try {
+			return regions.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	void put(ProductResponseDto product) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(product.getId());
+			products.put(product.getId(), product);
+			regions.computeIfAbsent(product.getLocation(), location -> new Region()).add(product);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(Long productId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(productId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void removeInternal(Long productId) {
+		ProductResponseDto previous = products.remove(productId);
+		if (previous == null) {
+			return;
+		}
+		Region region = regions.get(previous.getLocation());
+		if (region != null && region.remove(previous)) {
+			regions.remove(previous.getLocation());
+		}
+	}
+
+	/**
+	 * 정렬 순서대로 커서 이후 항목을 순회합니다.
+	 * 가격순은 커서와 가격 범위 시작점 중 더 뒤쪽 위치부터 순회합니다.
+	 */
+	private static Iterator<ProductResponseDto> iterate(Region region, ProductSearchRequestDto request,
+			ProductSortType sort, ProductCursor cursor) {
+		if (sort == ProductSortType.CREATED_AT) {
+			return cursor == null ? region.latest.iterator()
+					: region.latest.tailSet(probe(cursor.getCreatedAt(), 0, cursor.getId()), false).iterator();
+		}
+
+		boolean descending = sort == ProductSortType.PRICE_DESC;
+		NavigableSet<ProductResponseDto> ordered = descending ? region.byPrice.descendingSet() : region.byPrice;
+		Integer rangeStart = descending ? request.getMaxPrice() : request.getMinPrice();
+		ProductResponseDto rangeProbe = rangeStart == null ? null
+				: probe(null, rangeStart, descending ? Long.MAX_VALUE : Long.MIN_VALUE);
+		ProductResponseDto cursorProbe = cursor == null ? null : probe(null, cursor.getPrice(), cursor.getId());
+
+		if (cursorProbe != null && (rangeProbe == null || ordered.comparator().compare(cursorProbe, rangeProbe) >= 0)) {
+			return ordered.tailSet(cursorProbe, false).iterator();
+		}
+		return rangeProbe == null ? ordered.iterator() : ordered.tailSet(rangeProbe, true).iterator();
+	}
+
+	/**
+	 * 가격순 순회에서 가격 범위의 끝을 지났는지 확인합니다. (이후 항목은 모두 범위 밖)
+	 */
+	private static boolean pastPriceRange(ProductResponseDto product, ProductSearchRequestDto request,
+			ProductSortType sort) {
+		if (sort == ProductSortType.PRICE_ASC) {
+			return request.getMaxPrice() != null && product.getPrice() > request.getMaxPrice();
+		}
+		if (sort == ProductSortType.PRICE_DESC) {
+			return request.getMinPrice() != null && product.getPrice() < request.getMinPrice();
+		}
+		return false;
+	}
+
+	private static boolean inPriceRange(ProductResponseDto product, ProductSearchRequestDto request) {
+		return (request.getMinPrice() == null || product.getPrice() >= request.getMinPrice())
+				&& (request.getMaxPrice() == null || product.getPrice() <= request.getMaxPrice());
+	}
+
+	/** 정렬 집합 탐색용 키 객체 */
+	private static ProductResponseDto probe(LocalDateTime createdAt, int price, long id) {
+		return ProductResponseDto.builder().id(id).createdAt(createdAt).price(price).build();
+	}
+
+	/**
+	 * 한 지역의 판매중 상품 정렬 집합
+	 */
+	private static final class Region {
+
+		private final TreeSet<ProductResponseDto> latest = new TreeSet<>(LATEST);
+		private final TreeSet<ProductResponseDto> byPrice = new TreeSet<>(PRICE);
+
+		void add(ProductResponseDto product) {
+			latest.add(product);
+			byPrice.add(product);
+		}
+
+		/**
+		 * @return 제거 후 지역이 비었는지 여부
+		 */
+		boolean remove(ProductResponseDto product) {
+			latest.remove(product);
+			byPrice.remove(product);
+			return latest.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,566 @@
+package com.example.moneytalk.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductFacetsDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductSearchIndex
+ * 상품 제목/설명에 대한 인메모리 역색인(Inverted Index)입니다.
+ *
+ * [기능 설명]
+ * - 제목/설명을 문자 2-gram(bi-gram)으로 분해하여 토큰별 상품 ID 목록(Posting List)을 유지합니다.
+ *   형태소 분석기 없이도 "아이폰", "노트북" 같은 한글 부분 일치 검색이 가능합니다.
+ * - 키워드 검색 시 키워드의 bi-gram Posting List를 교집합해 후보를 좁히고, 후보마다 소문자화한 제목/설명에
+ *   키워드가 그대로 포함되는지 다시 확인한 뒤, 카테고리/지역/가격/상태 필터와 정렬·커서를 메모리에서 적용하여
+ *   상품 ID만 반환합니다.
+ *   검색 비용은 전체 상품 수가 아니라 매칭된 상품 수에 비례합니다.
+ * - 관련도순(relevance) 정렬은 제목 일치에 더 높은 가중치를 주고 최신 상품을 우대하는 점수로 순위를 매기며,
+ *   전체 매칭 결과를 정렬하지 않고 크기 K의 최소 힙({@link TopK})으로 상위 K건만 유지합니다. (O(n log K))
+ * - 애플리케이션 기동 시 DB에서 전체 상품을 적재하고,
+ *   이후에는 {@link ProductChangedEvent}(트랜잭션 커밋 이후)로 증분 동기화하며, 다른 노드의 변경은
+ *   {@link ProductChangeNotifier}로 전달받습니다.
+ *
+ * [제약 사항]
+ * - 1글자 키워드는 bi-gram을 만들 수 없으므로 {@link #supports(String)}가 false를 반환하며, DB 검색으로 처리합니다.
+ * - bi-gram 교집합만으로는 키워드가 실제로 등장하지 않아도 ("노트" + "트북") 후보가 되므로, 부분 문자열 확인을 거쳐
+ *   DB의 {@code title LIKE '%kw%' OR description LIKE '%kw%'} 및 저장 검색 알림({@link SavedSearchPercolator})과
+ *   같은 결과를 반환합니다. 이를 위해 설명은 자르지 않고 전체를 색인/보관합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex implements ProductChangeListener {
+
+	/** 기동 시 DB에서 한 번에 읽어오는 상품 수 */
+	private static final int WARM_UP_BATCH_SIZE = 1000;
+
+	/** 관련도 점수: 제목에서 일치한 bi-gram 가중치 */
+	static final double TITLE_WEIGHT = 3.0;
+
+	/** 관련도 점수: 설명에서만 일치한 bi-gram 가중치 */
+	static final double DESCRIPTION_WEIGHT = 1.0;
+
+	/** 관련도 점수: 최신성 가중치가 절반으로 줄어드는 기간 (7일) */
+	static final double RECENCY_HALF_LIFE_SECONDS = 7 * 24 * 60 * 60;
+
+	private final ProductRepository productRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final Map<Long, IndexedProduct> documents = new HashMap<>();
+
+	private volatile boolean ready = false;
+
+	/**
+	 * 애플리케이션 기동 완료 후 DB의 전체 상품을 ID 순으로 나누어 읽어 색인합니다.
+	 * 색인이 끝나기 전까지는 {@link #isReady()}가 false이며, 검색은 DB로 처리됩니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long lastId = 0L;
+		int count = 0;
+		List<Product> batch;
+
+		do {
+			batch = productRepository.findIndexBatch(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+			batch.forEach(this::index);
+			count += batch.size();
+			if (!batch.isEmpty()) {
+				lastId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == WARM_UP_BATCH_SIZE);
+
+		ready = true;
+		log.info("ProductSearchIndex - 상품 {}건 색인 완료 (토큰 {}개)", count, postings.size());
+	}
+
+	/**
+	 * 상품 등록/변경 트랜잭션이 커밋된 후 색인을 갱신합니다.
+	 * (트랜잭션 밖에서 발행된 이벤트도 즉시 반영)
+	 *
+	 * @param event 상품 변경 이벤트
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		if (event.getType() == ProductChangedEvent.Type.IMAGES_CHANGED) {
+			return; // 이미지는 색인 대상이 아님
+		}
+		index(event.getProduct());
+	}
+
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsCreated(ProductsCreatedEvent event) {
+		event.getProducts().forEach(this::index);
+	}
+
+	/**
+	 * @return 초기 색인 완료 여부
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 주어진 키워드를 색인으로 검색할 수 있는지 확인합니다. (bi-gram 1개 이상)
+	 *
+	 * @param keyword 검색 키워드
+	 * @return 색인 검색 가능 여부
+	 */
+	public boolean supports(String keyword) {
+		return ready && keyword != null && !tokenize(keyword).isEmpty();
+	}
+
+	/**
+	 * 상품을 색인에 추가하거나, 이미 존재하면 최신 내용으로 교체합니다.
+	 *
+	 * @param product 색인할 상품
+	 */
+	public void index(Product product) {
+		Set<String> titleGrams = tokenize(product.getTitle());
+		Set<String> grams = new LinkedHashSet<>(titleGrams);
+		grams.addAll(tokenize(product.getDescription()));
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(product.getId());
+
+			String[] canonical = new String[grams.size()];
+			int i = 0;
+			for (String gram : grams) {
+				PostingList list = postings.computeIfAbsent(gram, g -> new PostingList());
+				list.add(product.getId());
+				canonical[i++] = gram;
+			}
+
+			// 관련도 계산 시 이진 탐색할 수 있도록 제목 토큰은 정렬된 배열로 보관
+			String[] sortedTitleGrams = Arrays.copyOf(canonical, titleGrams.size());
+			Arrays.sort(sortedTitleGrams);
+
+			documents.put(product.getId(), new IndexedProduct(product.getId(), product.getCategory(),
+					product.getLocation(), product.getPrice(), product.getStatus(), product.getCreatedAt(),
+					recencyOf(product.getCreatedAt()), lowerCase(product.getTitle()),
+					lowerCase(product.getDescription()), canonical, sortedTitleGrams));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 상품을 색인에서 제거합니다.
+	 *
+	 * @param productId 제거할 상품 ID
+	 */
+	public void remove(Long productId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(productId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 키워드와 필터 조건으로 상품을 검색합니다.
+	 * 정렬/커서 조건을 적용하여 최대 limit 건을 정렬 순서대로 반환합니다.
+	 * 관련도순 정렬일 때만 {@link SearchHit#score()}가 채워집니다.
+	 *
+	 * @param request 검색 조건 (keyword 필수)
+	 * @param sort 정렬 기준
+	 * @param cursor 커서 (첫 페이지는 null)
+	 * @param limit 최대 반환 건수
+	 * @return 정렬된 검색 결과
+	 */
+	public List<SearchHit> search(ProductSearchRequestDto request, ProductSortType sort, ProductCursor cursor,
+			int limit) {
+		List<String> grams = new ArrayList<>(tokenize(request.getKeyword()));
+		String keyword = lowerCase(request.getKeyword());
+
+		lock.readLock().lock();
+		try {
+			long[] candidates = intersect(grams);
+			if (sort == ProductSortType.RELEVANCE) {
+				return rank(candidates, grams.toArray(String[]::new), keyword, request, cursor, limit);
+			}
+
+			List<IndexedProduct> matches = new ArrayList<>();
+			for (long id : candidates) {
+				IndexedProduct doc = documents.get(id);
+				if (doc != null && doc.contains(keyword) && doc.matches(request) && doc.isAfter(cursor, sort)) {
+					matches.add(doc);
+				}
+			}
+
+			matches.sort(comparator(sort));
+			return matches.stream().limit(limit).map(doc -> new SearchHit(doc.id(), 0)).toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 키워드와 가격 조건을 만족하는 색인 후보를 한 번 순회하며 카테고리/지역/상태 패싯을 집계합니다.
+	 *
+	 * @param request 검색 조건 (keyword 필수)
+	 * @return 패싯 집계 결과
+	 */
+	public ProductFacetsDto countFacets(ProductSearchRequestDto request) {
+		List<String> grams = new ArrayList<>(tokenize(request.getKeyword()));
+		String keyword = lowerCase(request.getKeyword());
+		ProductFacetCounter counter = new ProductFacetCounter(request);
+
+		lock.readLock().lock();
+		try {
+			for (long id : intersect(grams)) {
+				IndexedProduct doc = documents.get(id);
+				if (doc != null && doc.contains(keyword) && doc.matchesPrice(request)) {
+					counter.add(doc.category(), doc.location(), doc.status(), 1);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return counter.toDto();
+	}
+
+	/**
+	 * 텍스트를 소문자화한 뒤 공백 기준 단어별 문자 bi-gram 집합으로 분해합니다.
+	 * 1글자 단어는 bi-gram을 만들 수 없으므로 제외됩니다.
+	 *
+	 * @param text 분해할 텍스트
+	 * @return 중복이 제거된 bi-gram 집합 (등장 순서 유지)
+	 */
+	static Set<String> tokenize(String text) {
+		Set<String> grams = new LinkedHashSet<>();
+		if (text == null) {
+			return grams;
+		}
+
+		for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+			for (int i = 0; i + 1 < word.length(); i++) {
+				grams.add(word.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	// =============================
+	// 🛠️ Helper Methods
+	// =============================
+
+	private void removeInternal(Long productId) {
+		IndexedProduct previous = documents.remove(productId);
+		if (previous == null) {
+			return;
+		}
+		for (String gram : previous.grams()) {
+			PostingList list = postings.get(gram);
+			if (list != null && list.remove(productId) && list.size == 0) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	/**
+	 * 모든 bi-gram의 Posting List 교집합을 구합니다.
+	 * 가장 짧은 목록을 기준으로 나머지 목록에서 이진 탐색하므로 비용은 가장 짧은 목록 길이에 비례합니다.
+	 */
+	private long[] intersect(List<String> grams) {
+		List<PostingList> lists = new ArrayList<>(grams.size());
+		for (String gram : grams) {
+			PostingList list = postings.get(gram);
+			if (list == null) {
+				return new long[0];
+			}
+			lists.add(list);
+		}
+		lists.sort(Comparator.comparingInt(list -> list.size));
+
+		PostingList smallest = lists.get(0);
+		long[] result = new long[smallest.size];
+		int count = 0;
+
+		outer:
+		for (int i = 0; i < smallest.size; i++) {
+			long id = smallest.ids[i];
+			for (int j = 1; j < lists.size(); j++) {
+				if (!lists.get(j).contains(id)) {
+					continue outer;
+				}
+			}
+			result[count++] = id;
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * 후보 상품의 관련도 점수를 계산하여 상위 limit 건을 점수 내림차순(동점 시 ID 내림차순)으로 반환합니다.
+	 * 후보별로 객체를 생성하지 않고 원시 타입 힙에만 기록합니다.
+	 */
+	private List<SearchHit> rank(long[] candidates, String[] queryGrams, String keyword,
+			ProductSearchRequestDto request, ProductCursor cursor, int limit) {
+		TopK topK = new TopK(limit);
+
+		for (long id : candidates) {
+			IndexedProduct doc = documents.get(id);
+			if (doc == null || !doc.contains(keyword) || !doc.matches(request)) {
+				continue;
+			}
+			double score = doc.score(queryGrams);
+			if (cursor == null || score < cursor.getScore()
+					|| (score == cursor.getScore() && id < cursor.getId())) {
+				topK.offer(score, id);
+			}
+		}
+		return topK.drainDescending();
+	}
+
+	/**
+	 * 등록 시각을 로그 스케일 최신성 점수로 변환합니다.
+	 *
+	 * 관련도는 textScore × 2^(-경과시간 / 반감기) 이지만, 로그를 취하면
+	 * ln(textScore) + createdAt × ln2 / 반감기 - (현재시각 항) 이 되고 현재시각 항은 모든 상품에 공통입니다.
+	 * 따라서 현재시각 항을 제외한 점수는 조회 시점과 무관하게 순서가 유지되어 커서로 그대로 사용할 수 있습니다.
+	 */
+	static double recencyOf(LocalDateTime createdAt) {
+		if (createdAt == null) {
+			return 0;
+		}
+		return createdAt.atZone(ZoneId.systemDefault()).toEpochSecond() * Math.log(2) / RECENCY_HALF_LIFE_SECONDS;
+	}
+
+	private static String lowerCase(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	private static Comparator<IndexedProduct> comparator(ProductSortType sort) {
+		return switch (sort) {
+		case PRICE_ASC -> Comparator.comparing(IndexedProduct::price).thenComparing(IndexedProduct::id);
+		case PRICE_DESC -> Comparator.comparing(IndexedProduct::price).thenComparing(IndexedProduct::id).reversed();
+		default -> Comparator.comparing(IndexedProduct::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+				.thenComparing(IndexedProduct::id).reversed();
+		};
+	}
+
+	/**
+	 * 정렬된 상품 ID 배열로 구현한 Posting List입니다.
+	 * 신규 상품 ID는 대부분 기존 최댓값보다 크므로 추가는 보통 배열 끝에 붙는 O(1) 연산입니다.
+	 * 동시성 제어는 {@link ProductSearchIndex}의 읽기/쓰기 락에 위임합니다.
+	 */
+	static final class PostingList {
+
+		private long[] ids = new long[4];
+		private int size;
+
+		void add(long id) {
+			int pos = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+			if (pos >= 0 && pos < size) {
+				return; // 이미 존재
+			}
+			int insertAt = pos >= 0 ? pos : -pos - 1;
+
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+			ids[insertAt] = id;
+			size++;
+		}
+
+		boolean remove(long id) {
+			int pos = Arrays.binarySearch(ids, 0, size, id);
+			if (pos < 0) {
+				return false;
+			}
+			System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+			size--;
+			return true;
+		}
+
+		boolean contains(long id) {
+			return Arrays.binarySearch(ids, 0, size, id) >= 0;
+		}
+	}
+
+	/**
+	 * 색인된 상품의 필터/정렬용 속성과 색인 토큰, 부분 문자열 확인용 소문자 제목/설명을 보관하는 문서입니다.
+	 */
+	record IndexedProduct(long id, String category, String location, Integer price, ProductStatus status,
+			LocalDateTime createdAt, double recency, String title, String description, String[] grams,
+			String[] sortedTitleGrams) {
+
+		/**
+		 * 소문자화된 키워드가 제목 또는 설명에 그대로 포함되는지 확인합니다. (LIKE '%kw%'와 동일)
+		 */
+		boolean contains(String keyword) {
+			return title.contains(keyword) || description.contains(keyword);
+		}
+
+		/**
+		 * 관련도 점수 = ln(제목/설명 가중 일치율) + 최신성 점수
+		 * (후보는 모든 bi-gram을 포함하므로 제목에 없는 bi-gram은 설명에서 일치한 것으로 간주)
+		 */
+		double score(String[] queryGrams) {
+			int titleHits = 0;
+			for (String gram : queryGrams) {
+				if (Arrays.binarySearch(sortedTitleGrams, gram) >= 0) {
+					titleHits++;
+				}
+			}
+			double textScore = (titleHits * TITLE_WEIGHT + (queryGrams.length - titleHits) * DESCRIPTION_WEIGHT)
+					/ queryGrams.length;
+			return Math.log(textScore) + recency;
+		}
+
+		boolean matches(ProductSearchRequestDto request) {
+			return (request.getCategory() == null || request.getCategory().equals(category))
+					&& (request.getLocation() == null || request.getLocation().equals(location))
+					&& (request.getStatus() == null || request.getStatus() == status)
+					&& matchesPrice(request);
+		}
+
+		boolean matchesPrice(ProductSearchRequestDto request) {
+			return (request.getMinPrice() == null || price >= request.getMinPrice())
+					&& (request.getMaxPrice() == null || price <= request.getMaxPrice());
+		}
+
+		boolean isAfter(ProductCursor cursor, ProductSortType sort) {
+			if (cursor == null) {
+				return true;
+			}
+			return switch (sort) {
+			case PRICE_ASC -> price > cursor.getPrice() || (price.equals(cursor.getPrice()) && id > cursor.getId());
+			case PRICE_DESC -> price < cursor.getPrice() || (price.equals(cursor.getPrice()) && id < cursor.getId());
+			default -> createdAt != null && (createdAt.isBefore(cursor.getCreatedAt())
+					|| (createdAt.equals(cursor.getCreatedAt()) && id < cursor.getId()));
+			};
+		}
+	}
+
+	/**
+	 * 검색 결과 항목입니다.
+	 *
+	 * @param id 상품 ID
+	 * @param score 관련도 점수 (관련도순 정렬이 아니면 0)
+	 */
+	public record SearchHit(long id, double score) {
+	}
+
+	/**
+	 * 점수 상위 K건만 유지하는 크기 제한 최소 힙입니다.
+	 * 루트에는 현재 K건 중 가장 낮은 순위가 위치하며, 더 높은 순위가 들어오면 루트를 교체합니다.
+	 * 점수와 ID를 원시 타입 배열로 보관하여 후보 수만큼 객체를 생성하지 않습니다.
+	 */
+	static final class TopK {
+
+		private final double[] scores;
+		private final long[] ids;
+		private int size;
+
+		TopK(int capacity) {
+			this.scores = new double[Math.max(capacity, 0)];
+			this.ids = new long[Math.max(capacity, 0)];
+		}
+
+		void offer(double score, long id) {
+			if (size < scores.length) {
+				scores[size] = score;
+				ids[size] = id;
+				siftUp(size++);
+			} else if (size > 0 && lower(scores[0], ids[0], score, id)) {
+				scores[0] = score;
+				ids[0] = id;
+				siftDown(0);
+			}
+		}
+
+		/**
+		 * 힙을 비우면서 높은 순위부터 정렬된 결과를 반환합니다.
+		 */
+		List<SearchHit> drainDescending() {
+			SearchHit[] result = new SearchHit[size];
+			while (size > 0) {
+				result[size - 1] = new SearchHit(ids[0], scores[0]);
+				size--;
+				scores[0] = scores[size];
+				ids[0] = ids[size];
+				siftDown(0);
+			}
+			return Arrays.asList(result);
+		}
+
+		/** (s1, id1)이 (s2, id2)보다 낮은 순위인지 여부 (동점이면 ID가 작은 쪽이 낮은 순위) */
+		private static boolean lower(double s1, long id1, double s2, long id2) {
+			return s1 < s2 || (s1 == s2 && id1 < id2);
+		}
+
+		private void siftUp(int i) {
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (!lower(scores[i], ids[i], scores[parent], ids[parent])) {
+					return;
+				}
+				swap(i, parent);
+				i = parent;
+			}
+		}
+
+		private void siftDown(int i) {
+			while (true) {
+				int left = 2 * i + 1;
+				if (left >= size) {
+					return;
+				}
+				int right = left + 1;
+				int lowest = right < size && lower(scores[right], ids[right], scores[left], ids[left]) ? right : left;
+				if (!lower(scores[lowest], ids[lowest], scores[i], ids[i])) {
+					return;
+				}
+				swap(i, lowest);
+				i = lowest;
+			}
+		}
+
+		private void swap(int a, int b) {
+			double score = scores[a];
+			scores[a] = scores[b];
+			scores[b] = score;
+			long id = ids[a];
+			ids[a] = ids[b];
+			ids[b] = id;
+		}
+	}
+}
@@ -2,32 +2,39 @@ package com.example.moneytalk.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.moneytalk.config.CacheConfig;
 import com.example.moneytalk.config.S3Uploader;
-import com.example.moneytalk.domain.Ledger;
 import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.ProductImage;
-import com.example.moneytalk.domain.PurchaseHistory;
-import com.example.moneytalk.domain.PurchaseRecord;
 import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.dto.PriceHistogramDto;
+import com.example.moneytalk.dto.ProductCursor;
 import com.example.moneytalk.dto.ProductRequestDto;
 import com.example.moneytalk.dto.ProductResponseDto;
 import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.dto.ProductSearchResponseDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
 import com.example.moneytalk.exception.GlobalException;
-import com.example.moneytalk.repository.LedgerRepository;
 import com.example.moneytalk.repository.ProductImageRepository;
 import com.example.moneytalk.repository.ProductRepository;
-import com.example.moneytalk.repository.PurchaseHistoryRepository;
-import com.example.moneytalk.repository.PurchaseRecordRepository;
 import com.example.moneytalk.type.ErrorCode;
-import com.example.moneytalk.type.LedgerType;
+import com.example.moneytalk.type.OutboxEventType;
+import com.example.moneytalk.type.ProductSortType;
 import com.example.moneytalk.type.ProductStatus;
-import com.example.moneytalk.type.PurchaseType;
 
 import ch.qos.logback.core.spi.ErrorCodes;
 import lombok.RequiredArgsConstructor;
@@ -48,9 +55,13 @@ public class ProductService {
 	private final ProductRepository productRepository;
 	private final ProductImageRepository productImageRepository;
 	private final S3Uploader s3Uploader;
-	private final PurchaseRecordRepository purchaseRecordRepository;
-	private final PurchaseHistoryRepository purchaseHistoryRepository;
-	private final LedgerRepository ledgerRepository;
+	private final OutboxService outboxService;
+	private final ProductImageLoader productImageLoader;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductRegionView productRegionView;
+	private final ProductPriceIndex productPriceIndex;
+	private final ProductFacetService productFacetService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 새로운 상품을 등록하고, 등록된 상품 정보를 반환합니다.
@@ -66,6 +77,7 @@ public class ProductService {
 				.build();
 
 		Product saved = productRepository.save(product);
+		eventPublisher.publishEvent(new ProductChangedEvent(saved, ProductChangedEvent.Type.CREATED));
 
 		return ProductResponseDto.builder().id(saved.getId()).title(saved.getTitle())
 				.description(saved.getDescription()).price(saved.getPrice()).category(saved.getCategory())
@@ -74,46 +86,48 @@ public class ProductService {
 	}
 
 	/**
-	 * 전체 상품 목록을 최신순으로 조회합니다.
+	 * 전체 상품 목록을 최신순으로 커서 기반 페이지 조회합니다.
 	 *
-	 * @return 상품 응답 DTO 리스트
+	 * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+	 * @param size 페이지 크기 (null이면 기본값)
+	 * @return 상품 응답 DTO 페이지
+	 * @throws GlobalException 커서 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR}
 	 */
-	public List<ProductResponseDto> getAllProducts() {
-		List<Product> products = productRepository.findAllByOrderByCreatedAtDesc();
+	public CursorPageResponseDto<ProductResponseDto> getAllProducts(String cursor, Integer size) {
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setCursor(cursor);
+		request.setSize(size);
 
-		return products.stream().map(product -> {
-			List<String> imageUrls = productImageRepository.findByProduct(product).stream()
-					.map(ProductImage::getImageUrl).toList();
-
-			return ProductResponseDto.from(product, imageUrls);
-		}).toList();
+		return searchProducts(request);
 	}
 
 	/**
 	 * 상품 ID를 기준으로 상품 상세 정보를 조회합니다.
+	 * 결과는 상품 상세 캐시({@link CacheConfig#PRODUCT_DETAIL})에 저장되며, 상품 변경 이벤트 발생 시 제거됩니다.
 	 *
 	 * @param productId 조회할 상품 ID
 	 * @return 상품 응답 DTO
 	 * @throws GlobalException 상품이 존재하지 않을 경우 {@link ErrorCode#PRODUCT_NOT_FOUND}
 	 */
+	@Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId", sync = true)
 	public ProductResponseDto getProductById(Long productId) {
 		Product product = productRepository.findWithUserById(productId)
 				.orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_NOT_FOUND));
 
-		List<String> imageUrls = productImageRepository.findByProduct(product).stream().map(ProductImage::getImageUrl)
-				.toList();
-
-		return ProductResponseDto.from(product, imageUrls);
+		return productImageLoader.toResponse(product);
 	}
 
 	/**
 	 * 상품의 판매 상태를 변경합니다. (SALE, RESERVED, SOLD 등) 요청 사용자와 등록자가 다르면 예외 발생
+	 * 판매완료 상품은 다시 판매중/예약중으로 되돌릴 수 없습니다. 구매 기록·거래 내역·구매 확정 이벤트가 상품 ID 기준으로
+	 * 한 번만 생성되므로, 재판매는 새 상품으로 등록해야 합니다.
 	 *
 	 * @param productId 상품 ID
 	 * @param status    변경할 상품 상태
 	 * @param user      요청자 (판매자)
 	 * @throws GlobalException 상품이 없을 경우 {@link ErrorCode#PRODUCT_NOT_FOUND}
 	 * @throws GlobalException 권한 없음 {@link ErrorCode#PRODUCT_ACCESS_DENIED}
+	 * @throws GlobalException 판매완료 상품을 다른 상태로 변경 {@link ErrorCode#PRODUCT_ALREADY_SOLD}
 	 */
 	@Transactional
 	public void updateProductStatus(Long productId, ProductStatus status, User user) {
@@ -124,7 +138,12 @@ public class ProductService {
 			throw new GlobalException(ErrorCode.PRODUCT_ACCESS_DENIED);
 		}
 
+		if (product.getStatus() == ProductStatus.SOLD && status != ProductStatus.SOLD) {
+			throw new GlobalException(ErrorCode.PRODUCT_ALREADY_SOLD);
+		}
+
 		product.setStatus(status);
+		eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.STATUS_CHANGED));
 	}
 
 	/**
@@ -140,41 +159,146 @@ public class ProductService {
 				.price(dto.getPrice()).category(dto.getCategory()).location(dto.getLocation())
 				.status(ProductStatus.SALE).build();
 
+		List<ProductImage> imageEntities = images == null ? List.of() : images.stream().map(file -> {
+			String url = s3Uploader.uploadFile(file, "products");
+			return ProductImage.builder().product(product).imageUrl(url).build();
+		}).toList();
+
+		// 첫 번째 이미지를 대표 이미지로 상품 행에 함께 저장 (INSERT 1회, 이후 목록에서 images 로딩 불필요)
+		if (!imageEntities.isEmpty()) {
+			imageEntities.get(0).setThumbnail(true);
+			product.setThumbnailUrl(imageEntities.get(0).getImageUrl());
+		}
+
 		productRepository.save(product);
 
-		if (images != null && !images.isEmpty()) {
-			List<ProductImage> imageEntities = images.stream().map(file -> {
-				String url = s3Uploader.uploadFile(file, "products");
-				return ProductImage.builder().product(product).imageUrl(url).build();
-			}).toList();
+		if (!imageEntities.isEmpty()) {
 			productImageRepository.saveAll(imageEntities);
 		}
+
+		eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.CREATED));
+	}
+
+	/**
+	 * 조건 기반 상품 검색 기능 (커서 기반 페이지 조회)
+	 *
+	 * @param request 검색 조건 DTO (cursor, size 포함)
+	 * @return 검색된 상품 페이지
+	 * @throws GlobalException 커서 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR}
+	 */
+	public CursorPageResponseDto<ProductResponseDto> searchProducts(ProductSearchRequestDto request) {
+		ProductSortType sort = ProductSortType.from(request.getSort());
+
+		// 지역 + 판매중 조회(가격 범위 포함)는 지역별 인메모리 색인에서 바로 응답 (DB 미사용)
+		if (productRegionView.supports(request)) {
+			ProductSortType databaseSort = sort.forDatabase();
+			ProductCursor cursor = request.getCursor() != null ? ProductCursor.decode(request.getCursor(), databaseSort)
+					: null;
+			return productRegionView.browse(request, databaseSort, cursor);
+		}
+
+		// 키워드 검색은 인메모리 역색인으로 처리 (LIKE '%kw%' 전체 스캔 회피)
+		// 카테고리 + 가격 범위의 가격순 조회는 가격 히스토그램 색인으로 처리 (p.price 범위 스캔 회피)
+		CursorPageResponseDto<Product> page;
+		if (productSearchIndex.supports(request.getKeyword())) {
+			page = searchFromIndex(request, sort);
+		} else if (productPriceIndex.supports(request, sort)) {
+			page = searchFromPriceIndex(request, sort);
+		} else {
+			page = CursorPageResponseDto.of(productRepository.searchByConditions(request), request.resolvePageSize(),
+					product -> ProductCursor.of(product, sort.forDatabase()).encode());
+		}
+
+		// 페이지 전체 상품의 이미지를 한 번에 조회 (상품별 N+1 방지)
+		return page.withContent(productImageLoader.toResponses(page.getContent()));
+	}
+
+	/**
+	 * 조건 기반 상품 검색 결과와 함께 카테고리/지역/판매 상태 패싯을 반환합니다.
+	 * 패싯은 커서와 무관하게 검색 조건 전체에 대해 집계되며, 짧은 시간 캐시됩니다.
+	 *
+	 * @param request 검색 조건 DTO (cursor, size 포함)
+	 * @return 검색된 상품 페이지와 패싯
+	 * @throws GlobalException 커서 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR}
+	 */
+	public ProductSearchResponseDto searchProductsWithFacets(ProductSearchRequestDto request) {
+		return ProductSearchResponseDto.of(searchProducts(request), productFacetService.getFacets(request));
+	}
+
+	/**
+	 * 카테고리의 판매중 상품 가격 분포(구간별 상품 수)를 조회합니다. (인메모리 히스토그램, DB 미사용)
+	 *
+	 * @param category 카테고리 (null이면 전체 카테고리)
+	 * @return 가격 분포
+	 */
+	public PriceHistogramDto getPriceHistogram(String category) {
+		return productPriceIndex.histogram(category);
 	}
 
 	/**
-	 * 조건 기반 상품 검색 기능
+	 * 역색인에서 조건에 맞는 상품 ID를 찾은 뒤, 해당 상품들만 ID로 조회합니다.
+	 * 다음 페이지 여부 판단을 위해 페이지 크기보다 1건 더 조회하며, 색인의 정렬 순서를 유지합니다.
+	 * 관련도순 정렬의 커서는 상품 속성이 아닌 색인이 계산한 점수로 생성합니다.
 	 *
 	 * @param request 검색 조건 DTO
-	 * @return 검색된 상품 리스트
+	 * @param sort 정렬 기준
+	 * @return 상품 엔티티 페이지
 	 */
-	public List<ProductResponseDto> searchProducts(ProductSearchRequestDto request) {
-		List<Product> products = productRepository.searchByConditions(request);
+	private CursorPageResponseDto<Product> searchFromIndex(ProductSearchRequestDto request, ProductSortType sort) {
+		ProductCursor cursor = request.getCursor() != null ? ProductCursor.decode(request.getCursor(), sort) : null;
+		List<ProductSearchIndex.SearchHit> hits = productSearchIndex.search(request, sort, cursor,
+				request.resolvePageSize() + 1);
+
+		List<Long> ids = hits.stream().map(ProductSearchIndex.SearchHit::id).toList();
+		Map<Long, Double> scores = hits.stream()
+				.collect(Collectors.toMap(ProductSearchIndex.SearchHit::id, ProductSearchIndex.SearchHit::score));
+
+		return CursorPageResponseDto.of(findAllInOrder(ids), request.resolvePageSize(),
+				product -> (sort == ProductSortType.RELEVANCE
+						? ProductCursor.ofRelevance(scores.get(product.getId()), product.getId())
+						: ProductCursor.of(product, sort)).encode());
+	}
 
-		return products.stream().map(product -> {
-			List<String> imageUrls = productImageRepository.findByProduct(product).stream()
-					.map(ProductImage::getImageUrl).toList();
-			return ProductResponseDto.from(product, imageUrls);
-		}).toList();
+	/**
+	 * 가격 히스토그램 색인에서 카테고리/가격 범위에 맞는 판매중 상품 ID를 가격순으로 찾은 뒤, 해당 상품들만 ID로 조회합니다.
+	 *
+	 * @param request 검색 조건 DTO
+	 * @param sort 정렬 기준 (PRICE_ASC, PRICE_DESC)
+	 * @return 상품 엔티티 페이지
+	 */
+	private CursorPageResponseDto<Product> searchFromPriceIndex(ProductSearchRequestDto request, ProductSortType sort) {
+		ProductCursor cursor = request.getCursor() != null ? ProductCursor.decode(request.getCursor(), sort) : null;
+		List<Long> ids = productPriceIndex.search(request.getCategory(), request.getMinPrice(), request.getMaxPrice(),
+				sort, cursor, request.resolvePageSize() + 1);
+
+		return CursorPageResponseDto.of(findAllInOrder(ids), request.resolvePageSize(),
+				product -> ProductCursor.of(product, sort).encode());
 	}
 
 	/**
-	 * 상품 구매를 확정하고 관련 데이터를 모두 저장합니다. - 구매 기록, 상태 변경, 구매/판매 이력, 가계부 기록 포함
+	 * 색인이 반환한 순서대로 상품을 판매자 정보와 함께 한 번에 조회합니다. (그 사이 삭제된 상품은 제외)
+	 */
+	private List<Product> findAllInOrder(List<Long> ids) {
+		Map<Long, Product> byId = ids.isEmpty() ? Map.of()
+				: productRepository.findAllWithUserByIdIn(ids).stream()
+						.collect(Collectors.toMap(Product::getId, Function.identity()));
+		return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+	}
+
+	/**
+	 * 상품 구매를 확정합니다. - 상태 변경과 구매 확정 이벤트 기록까지 처리
+	 *
+	 * 구매 기록, 구매/판매 이력, 가계부 기록, 판매자 알림은 아웃박스에 기록한 {@link PurchaseConfirmedEvent}를
+	 * {@link OutboxRelay}가 커밋 이후 비동기로 처리합니다. (후속 처리가 늘어나도 확정 요청의 지연 시간은 그대로)
+	 * 상품 ID를 멱등 키로 사용합니다. 같은 구매자가 다시 확정하면 아무것도 쓰지 않고 성공합니다.
+	 * 실행 SQL: 상품 조회 1 + 조건부 UPDATE 1 + 아웃박스 INSERT 1
 	 *
 	 * @param productId 구매할 상품 ID
 	 * @param buyer     구매자
 	 * @throws GlobalException 상품을 찾을 수 없는 경우 {@link ErrorCode#PRODUCT_NOT_FOUND}
-	 * @throws GlobalException 이미 판매 완료된 경우 {@link ErrorCode#PRODUCT_ALREADY_SOLD}
+	 * @throws GlobalException 이미 다른 구매자에게 판매 완료된 경우 {@link ErrorCode#PRODUCT_ALREADY_SOLD}
 	 * @throws GlobalException 본인 상품을 구매하려는 경우 {@link ErrorCode#CANNOT_PURCHASE_OWN_PRODUCT}
+	 * @throws GlobalException 동시에 다른 구매자가 먼저 확정한 경우 {@link ErrorCode#PURCHASE_CONFLICT}
 	 */
 	@Transactional
 	public void confirmPurchase(Long productId, User buyer) {
@@ -182,6 +306,10 @@ public class ProductService {
 				.orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_NOT_FOUND));
 
 		if (product.getStatus() == ProductStatus.SOLD) {
+			// 같은 구매자의 재요청(재시도, 중복 클릭)은 이미 처리된 것으로 간주
+			if (product.getBuyer() != null && product.getBuyer().getId().equals(buyer.getId())) {
+				return;
+			}
 			throw new GlobalException(ErrorCode.PRODUCT_ALREADY_SOLD);
 		}
 
@@ -189,55 +317,19 @@ public class ProductService {
 			throw new GlobalException(ErrorCode.CANNOT_PURCHASE_OWN_PRODUCT);
 		}
 
-		if (!purchaseRecordRepository.existsByProduct(product)) {
-			// 1. 구매 기록 테이블에 저장
-			purchaseRecordRepository.save(PurchaseRecord.builder().product(product).buyer(buyer).build());
+		// 1. 상품 상태 및 구매자 설정 (조건부 UPDATE로 동시 확정 중 한 건만 통과)
+		if (productRepository.markSoldIfNotSold(productId, buyer, ProductStatus.SOLD) == 0) {
+			throw new GlobalException(ErrorCode.PURCHASE_CONFLICT);
 		}
-
-		// 2. 상품 상태 및 구매자 설정
 		product.setBuyer(buyer);
 		product.setStatus(ProductStatus.SOLD);
+		eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.SOLD));
 
-		// 3. 구매/판매 이력 기록
-		purchaseHistoryRepository
-				.save(PurchaseHistory.builder().user(buyer).product(product).type(PurchaseType.PURCHASE).build());
-
-		purchaseHistoryRepository.save(PurchaseHistory.builder().user(product.getUser()) // 판매자
-				.product(product).type(PurchaseType.SALE).build());
-
-		// 4. 가계부 기록 저장
-		LocalDate today = LocalDate.now();
-		int amount = product.getPrice();
-		String title = product.getTitle();
-
-		ledgerRepository.save(Ledger.builder().user(buyer).type(LedgerType.EXPENSE).amount(amount).category("중고거래")
-				.memo(title + " 구매").date(today).build());
-
-		ledgerRepository.save(Ledger.builder().user(product.getUser()).type(LedgerType.INCOME).amount(amount)
-				.category("중고거래").memo(title + " 판매").date(today).build());
-
-		// 5. 구매/판매 이력 저장
-		if (!purchaseHistoryRepository.existsByUserAndProductAndType(buyer, product, PurchaseType.PURCHASE)) {
-			purchaseHistoryRepository
-					.save(PurchaseHistory.builder().user(buyer).product(product).type(PurchaseType.PURCHASE).build());
-		}
-
-		if (!purchaseHistoryRepository.existsByUserAndProductAndType(product.getUser(), product, PurchaseType.SALE)) {
-			purchaseHistoryRepository.save(
-					PurchaseHistory.builder().user(product.getUser()).product(product).type(PurchaseType.SALE).build());
-		}
-
-		// 6. 가계부 기록 저장
-		if (!ledgerRepository.existsByUserAndMemoAndAmount(buyer, title + " 구매", amount)) {
-			ledgerRepository.save(Ledger.builder().user(buyer).type(LedgerType.EXPENSE).amount(amount).category("중고거래")
-					.memo(title + " 구매").date(today).build());
-		}
-
-		if (!ledgerRepository.existsByUserAndMemoAndAmount(product.getUser(), title + " 판매", amount)) {
-			ledgerRepository.save(Ledger.builder().user(product.getUser()).type(LedgerType.INCOME).amount(amount)
-					.category("중고거래").memo(title + " 판매").date(today).build());
-		}
-
+		// 2. 구매 확정 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (후속 처리는 OutboxRelay)
+		outboxService.append(OutboxEventType.PURCHASE_CONFIRMED, productId,
+				PurchaseConfirmedEvent.builder().productId(productId).buyerId(buyer.getId())
+						.sellerId(product.getUser().getId()).title(product.getTitle()).amount(product.getPrice())
+						.confirmedOn(LocalDate.now()).build());
 	}
 
 }
@@ -0,0 +1,16 @@
+package com.example.moneytalk.service;
+
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
+
+/**
+ * 구매 확정 이벤트의 후속 처리기입니다.
+ * {@link OutboxRelay}가 아웃박스 배치 트랜잭션 안에서 호출하며, 같은 이벤트가 두 번 이상 전달될 수 있습니다.
+ * (DB 쓰기는 처리 완료 표시와 함께 커밋되므로 중복되지 않고, 외부 전송은 중복될 수 있습니다.)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public interface PurchaseConfirmedHandler {
+
+	void onPurchaseConfirmed(PurchaseConfirmedEvent event);
+}
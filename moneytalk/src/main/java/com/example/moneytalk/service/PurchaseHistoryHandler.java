@@ -0,0 +1,59 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.PurchaseHistory;
+import com.example.moneytalk.domain.PurchaseRecord;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.repository.PurchaseHistoryRepository;
+import com.example.moneytalk.repository.PurchaseRecordRepository;
+import com.example.moneytalk.repository.UserRepository;
+import com.example.moneytalk.type.PurchaseType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PurchaseHistoryHandler
+ * 구매 확정 시 구매 기록 1건과 구매자/판매자 거래 이력 2건을 생성합니다.
+ * 재전달(at-least-once)로 같은 이벤트를 다시 받으면 이미 있는 행은 건너뜁니다.
+ * 유니크 제약(구매 기록은 상품당 1건, 이력은 상품+유형당 1건)은 동시 처리 시의 최종 방어선입니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Component
+@RequiredArgsConstructor
+public class PurchaseHistoryHandler implements PurchaseConfirmedHandler {
+
+	private final PurchaseRecordRepository purchaseRecordRepository;
+	private final PurchaseHistoryRepository purchaseHistoryRepository;
+	private final ProductRepository productRepository;
+	private final UserRepository userRepository;
+
+	@Override
+	public void onPurchaseConfirmed(PurchaseConfirmedEvent event) {
+		Product product = productRepository.getReferenceById(event.getProductId());
+		User buyer = userRepository.getReferenceById(event.getBuyerId());
+		User seller = userRepository.getReferenceById(event.getSellerId());
+
+		if (!purchaseRecordRepository.existsByProductId(event.getProductId())) {
+			purchaseRecordRepository.save(PurchaseRecord.builder().product(product).buyer(buyer).build());
+		}
+
+		List<PurchaseType> existing = purchaseHistoryRepository.findTypesByProductId(event.getProductId());
+		List<PurchaseHistory> histories = new ArrayList<>(2);
+		if (!existing.contains(PurchaseType.PURCHASE)) {
+			histories.add(PurchaseHistory.builder().user(buyer).product(product).type(PurchaseType.PURCHASE).build());
+		}
+		if (!existing.contains(PurchaseType.SALE)) {
+			histories.add(PurchaseHistory.builder().user(seller).product(product).type(PurchaseType.SALE).build());
+		}
+		purchaseHistoryRepository.saveAll(histories);
+	}
+}
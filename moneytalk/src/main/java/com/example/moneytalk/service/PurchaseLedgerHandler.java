@@ -0,0 +1,57 @@
+package com.example.moneytalk.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.domain.Ledger;
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
+import com.example.moneytalk.repository.LedgerRepository;
+import com.example.moneytalk.repository.UserRepository;
+import com.example.moneytalk.type.LedgerType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PurchaseLedgerHandler
+ * 구매 확정 시 구매자 지출/판매자 수입 가계부 기록을 생성합니다.
+ * 기록마다 source_key(예: purchase:101:EXPENSE)를 부여하고, 재전달로 같은 이벤트를 다시 받으면 이미 있는 기록은 건너뜁니다.
+ * (source_key 유니크 제약은 동시 처리 시의 최종 방어선)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Component
+@RequiredArgsConstructor
+public class PurchaseLedgerHandler implements PurchaseConfirmedHandler {
+
+	private static final String CATEGORY = "중고거래";
+
+	private final LedgerRepository ledgerRepository;
+	private final UserRepository userRepository;
+
+	@Override
+	public void onPurchaseConfirmed(PurchaseConfirmedEvent event) {
+		Set<String> existing = new HashSet<>(ledgerRepository.findExistingSourceKeys(List.of(
+				sourceKey(event.getProductId(), LedgerType.EXPENSE), sourceKey(event.getProductId(), LedgerType.INCOME))));
+		ledgerRepository.saveAll(Stream.of(ledger(event, event.getBuyerId(), LedgerType.EXPENSE, " 구매"),
+				ledger(event, event.getSellerId(), LedgerType.INCOME, " 판매"))
+				.filter(ledger -> !existing.contains(ledger.getSourceKey())).toList());
+	}
+
+	private Ledger ledger(PurchaseConfirmedEvent event, Long userId, LedgerType type, String memoSuffix) {
+		return Ledger.builder().user(userRepository.getReferenceById(userId)).type(type).amount(event.getAmount())
+				.category(CATEGORY).memo(event.getTitle() + memoSuffix).date(event.getConfirmedOn())
+				.sourceKey(sourceKey(event.getProductId(), type)).build();
+	}
+
+	/**
+	 * 구매 확정으로 생성되는 가계부 기록의 중복 방지 키 (예: purchase:101:EXPENSE)
+	 */
+	static String sourceKey(Long productId, LedgerType type) {
+		return "purchase:" + productId + ":" + type.name();
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.moneytalk.service;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PurchaseNotificationHandler
+ * 구매가 확정되면 판매자에게 STOMP /sub/purchase/{sellerId} 로 알림을 보냅니다.
+ *
+ * 판매자가 어느 노드에 연결되어 있는지 모르므로 Redis 채널 {@value #CHANNEL}로 발행하고,
+ * 모든 노드가 수신해 자기 STOMP 브로커로 전달합니다. (발행 노드 자신도 수신)
+ * 다른 사용자의 sellerId로는 구독할 수 없습니다. ({@link com.example.moneytalk.config.StompSubscriptionInterceptor})
+ * 발행에 실패하면 예외를 그대로 던져 {@link OutboxRelay}가 나중에 다시 전달하도록 합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseNotificationHandler implements PurchaseConfirmedHandler, MessageListener {
+
+	public static final String CHANNEL = "purchase-notification";
+	public static final String DESTINATION_PREFIX = "/sub/purchase/";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListener;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListener.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@Override
+	public void onPurchaseConfirmed(PurchaseConfirmedEvent event) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("구매 확정 알림 직렬화 실패: productId=" + event.getProductId(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			PurchaseConfirmedEvent event = objectMapper.readValue(message.getBody(), PurchaseConfirmedEvent.class);
+			messagingTemplate.convertAndSend(DESTINATION_PREFIX + event.getSellerId(), event);
+		} catch (Exception e) {
+			log.error("PurchaseNotificationHandler - 알림 전달 중 에러", e);
+		}
+	}
+}
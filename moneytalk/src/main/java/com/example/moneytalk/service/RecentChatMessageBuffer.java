@@ -0,0 +1,543 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.dto.ChatMessageCursor;
+import com.example.moneytalk.dto.ChatMessageDto;
+import com.example.moneytalk.dto.ChatMessageResponseDto;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.event.ChatMessagesSavedEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RecentChatMessageBuffer
+ * 채팅방별 최근 메시지를 고정 크기 링 버퍼로 메모리에 보관해, 채팅방 첫 페이지 조회를 DB 없이 응답합니다.
+ *
+ * [채우기]
+ * - 이 노드가 수신하는 실시간 메시지(Redis 구독 경로)를 추가합니다. (저장 전이라 messageId 없음)
+ *   DB 조회와 같은 (전송 시각, ID) 순서로 보관하므로 노드 사이 도착 순서가 달라도 페이지 경계가 어긋나지 않습니다.
+ *   pubsub 전송에서는 {@link #track}으로 수신을 시작한 방만 보관하고, 모든 방을 받는 stream 전송은 처음 받은 메시지로 방을 만듭니다.
+ * - 처음 조회 시 최근 메시지를 삭제 여부와 관계없이 DB에서 읽어 실시간 메시지 앞에 합칩니다. (messageKey로 중복 제거)
+ * - 실시간 메시지가 저장되면({@link ChatMessagesSavedEvent}) 발급된 ID를 채우고 다른 노드에도 전파해,
+ *   활발한 방도 저장이 끝난 메시지로는 다음 페이지 커서를 만들 수 있습니다.
+ *   쓰기 지연 저장이 끝나지 않은 메시지가 빠지지 않도록, 수신을 시작한 뒤 settle-ms가 지난 방만 DB에서 채웁니다.
+ *
+ * [조회]
+ * - 사용자별 삭제(나가기) 여부를 메모리에서 걸러 첫 페이지를 만듭니다.
+ * - 버퍼만으로 페이지를 확정할 수 없으면(보이는 메시지 부족, 페이지 경계 메시지의 ID 없음) DB 조회로 넘깁니다.
+ *   다음 페이지 커서는 DB 조회와 같은 (전송 시각, ID) 커서({@link ChatMessageCursor})입니다.
+ *
+ * [정리]
+ * - 방 수가 max-rooms를 넘으면 가장 오래 사용하지 않은 방부터 제거합니다. (LRU)
+ * - 이 노드가 방 메시지 수신을 멈추면({@link #untrack}) 버퍼가 더 이상 최신이 아니므로 제거합니다.
+ * - 읽음/나가기 처리와 저장된 메시지 ID는 {@value #CHANNEL} 채널로 다른 노드의 버퍼에도 반영합니다.
+ *
+ * [메모리] (JDK 17, compressed oops, 한글 20자 메시지 + UUID 키 기준 힙 측정)
+ * - 메시지 1건 약 390B, capacity 51로 가득 찬 방 1개 약 20KB
+ * - 가득 찬 활성 채팅방 1만 개(max-rooms 기본값)에 약 200MB. 실제로는 메시지가 capacity보다 적은 방이 많아 이보다 작음
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+public class RecentChatMessageBuffer implements MessageListener {
+
+	public static final String CHANNEL = "chat:recent-buffer";
+
+	private static final String READ = "R";
+	private static final String LEAVE = "L";
+	private static final String SAVED = "S";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListener;
+	private final int capacity;
+	private final long settleMs;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final AtomicLong generations = new AtomicLong();
+
+	/** 채팅방 ID → 링 버퍼 (접근 순서 유지, 모든 접근은 이 맵으로 동기화) */
+	private final Map<Long, Room> rooms;
+
+	public RecentChatMessageBuffer(StringRedisTemplate redisTemplate, RedisMessageListenerContainer redisMessageListener,
+			@Value("${chat.recent-buffer.capacity:51}") int capacity,
+			@Value("${chat.recent-buffer.max-rooms:10000}") int maxRooms,
+			@Value("${chat.recent-buffer.settle-ms:2000}") long settleMs) {
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListener = redisMessageListener;
+		this.capacity = capacity;
+		this.settleMs = settleMs;
+		this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Room> eldest) {
+				return size() > maxRooms;
+			}
+		};
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListener.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * 이 노드가 채팅방 메시지 수신을 시작했습니다. 빈 버퍼로 새로 시작합니다.
+	 */
+	public void track(Long chatRoomId) {
+		synchronized (rooms) {
+			rooms.put(chatRoomId, new Room(generations.incrementAndGet(), capacity));
+		}
+	}
+
+	/**
+	 * 이 노드가 채팅방 메시지 수신을 멈췄습니다. 이후 메시지가 빠지므로 버퍼를 버립니다.
+	 */
+	public void untrack(Long chatRoomId) {
+		synchronized (rooms) {
+			rooms.remove(chatRoomId);
+		}
+	}
+
+	/**
+	 * 수신한 실시간 메시지를 추가합니다. 수신 중이 아닌 방(아직 {@link #track} 전이거나 {@link #untrack} 이후 도착한 메시지)은 무시합니다.
+	 */
+	public void append(ChatMessageDto message) {
+		synchronized (rooms) {
+			Room room = rooms.get(message.getChatRoomId());
+			if (room != null) {
+				add(room, message);
+			}
+		}
+	}
+
+	/**
+	 * 수신한 실시간 메시지를 추가하고, 버퍼가 없으면 만듭니다.
+	 * 모든 채팅방 메시지를 빠짐없이 받는 전송(stream)에서만 사용합니다. 메시지를 받았다는 것은 이후 메시지도 받는다는 뜻입니다.
+	 */
+	public void appendOrTrack(ChatMessageDto message) {
+		synchronized (rooms) {
+			add(rooms.computeIfAbsent(message.getChatRoomId(), id -> new Room(generations.incrementAndGet(), capacity)),
+					message);
+		}
+	}
+
+	private void add(Room room, ChatMessageDto message) {
+		if (!room.contains(message.getMessageKey())) {
+			room.add(Entry.live(message, room.profileImageOf(message.getSenderId())));
+		}
+	}
+
+	/**
+	 * DB에서 채워야 하는 방이면 채우기 토큰을, 아니면 0을 반환합니다.
+	 * 토큰은 {@link #fill} 시점에 버퍼가 그 사이 새로 시작되지 않았는지 확인하는 데 사용합니다.
+	 */
+	public long loadToken(Long chatRoomId) {
+		synchronized (rooms) {
+			Room room = rooms.get(chatRoomId);
+			if (room == null || room.loaded || System.currentTimeMillis() - room.createdAt < settleMs) {
+				return 0;
+			}
+			return room.generation;
+		}
+	}
+
+	/**
+	 * DB에서 읽은 최근 메시지를 실시간 메시지 앞에 합칩니다.
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param token {@link #loadToken}이 반환한 토큰
+	 * @param newestFirst 삭제 여부와 관계없이 최신순으로 읽은 메시지 (최대 capacity건)
+	 * @param complete 채팅방의 메시지를 모두 읽었는지 여부
+	 */
+	public void fill(Long chatRoomId, long token, List<ChatMessage> newestFirst, boolean complete) {
+		List<Entry> stored = new ArrayList<>(newestFirst.size());
+		for (int i = newestFirst.size() - 1; i >= 0; i--) {
+			stored.add(Entry.stored(newestFirst.get(i)));
+		}
+		synchronized (rooms) {
+			Room room = rooms.get(chatRoomId);
+			if (room != null && room.generation == token && !room.loaded) {
+				room.merge(stored, complete);
+			}
+		}
+	}
+
+	/**
+	 * 버퍼로 첫 페이지(최신 size건, 오래된 → 최신 순)를 만듭니다.
+	 *
+	 * @return 버퍼만으로 확정할 수 없으면 empty
+	 */
+	public Optional<CursorPageResponseDto<ChatMessageResponseDto>> firstPage(Long chatRoomId, Long viewerId,
+			int size) {
+		List<ChatMessageResponseDto> newestFirst = new ArrayList<>(size + 1);
+		boolean complete;
+		synchronized (rooms) {
+			Room room = rooms.get(chatRoomId);
+			if (room == null || !room.loaded) {
+				return Optional.empty();
+			}
+			for (int i = room.size - 1; i >= 0 && newestFirst.size() <= size; i--) {
+				Entry entry = room.get(i);
+				if (entry.visibleTo(viewerId)) {
+					newestFirst.add(entry.message);
+				}
+			}
+			complete = room.complete;
+		}
+
+		boolean hasNext = newestFirst.size() > size;
+		if (!hasNext && !complete) {
+			// 버퍼보다 오래된 메시지가 더 있을 수 있음
+			return Optional.empty();
+		}
+		List<ChatMessageResponseDto> content = new ArrayList<>(newestFirst.subList(0, Math.min(size, newestFirst.size())));
+		if (hasNext && !cursorable(content.get(content.size() - 1), newestFirst)) {
+			return Optional.empty();
+		}
+		String cursor = hasNext ? ChatMessageCursor.of(content.get(content.size() - 1)).encode() : null;
+		Collections.reverse(content);
+		return Optional.of(CursorPageResponseDto.<ChatMessageResponseDto>builder()
+				.content(content)
+				.nextCursor(cursor)
+				.hasNext(hasNext)
+				.build());
+	}
+
+	/**
+	 * 페이지 경계 메시지로 DB 조회와 같은 커서를 만들 수 있는지 확인합니다.
+	 * 경계 메시지가 저장 전이거나, 같은 전송 시각의 저장 전 메시지가 있어 DB의 ID 순서를 알 수 없으면 false입니다.
+	 */
+	private static boolean cursorable(ChatMessageResponseDto boundary, List<ChatMessageResponseDto> newestFirst) {
+		if (boundary.getMessageId() == null) {
+			return false;
+		}
+		return newestFirst.stream()
+				.noneMatch(m -> m.getMessageId() == null && Objects.equals(m.getSentAt(), boundary.getSentAt()));
+	}
+
+	/**
+	 * 읽음 처리를 이 노드와 다른 노드의 버퍼에 반영합니다. (readerId가 받은 메시지를 모두 읽음)
+	 */
+	public void markRead(Long chatRoomId, Long readerId) {
+		applyRead(chatRoomId, readerId);
+		send(READ, chatRoomId, String.valueOf(readerId));
+	}
+
+	/**
+	 * 채팅방 나가기를 이 노드와 다른 노드의 버퍼에 반영합니다. (userId 기준으로 모든 메시지 삭제)
+	 */
+	public void leave(Long chatRoomId, Long userId) {
+		applyLeave(chatRoomId, userId);
+		send(LEAVE, chatRoomId, String.valueOf(userId));
+	}
+
+	/**
+	 * 저장된 메시지의 ID를 이 노드와 다른 노드의 버퍼에 반영합니다. (쓰기 지연 저장은 메시지를 발행한 노드에서만 일어남)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMessagesSaved(ChatMessagesSavedEvent event) {
+		Map<Long, Map<String, Long>> idsByRoom = new HashMap<>();
+		for (ChatMessage message : event.getMessages()) {
+			if (message.getMessageKey() != null && message.getId() != null) {
+				idsByRoom.computeIfAbsent(message.getChatRoom().getId(), id -> new HashMap<>())
+						.put(message.getMessageKey(), message.getId());
+			}
+		}
+		idsByRoom.forEach((chatRoomId, ids) -> {
+			applySaved(chatRoomId, ids);
+			send(SAVED, chatRoomId, ids.entrySet().stream().map(e -> e.getKey() + ":" + e.getValue())
+					.collect(Collectors.joining(",")));
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody()).split("\\|");
+		if (parts.length != 4 || nodeId.equals(parts[0])) {
+			return;
+		}
+		try {
+			Long chatRoomId = Long.valueOf(parts[2]);
+			if (READ.equals(parts[1])) {
+				applyRead(chatRoomId, Long.valueOf(parts[3]));
+			} else if (LEAVE.equals(parts[1])) {
+				applyLeave(chatRoomId, Long.valueOf(parts[3]));
+			} else if (SAVED.equals(parts[1])) {
+				Map<String, Long> ids = new HashMap<>();
+				for (String pair : parts[3].split(",")) {
+					int separator = pair.lastIndexOf(':');
+					ids.put(pair.substring(0, separator), Long.valueOf(pair.substring(separator + 1)));
+				}
+				applySaved(chatRoomId, ids);
+			}
+		} catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+			log.warn("RecentChatMessageBuffer - 잘못된 동기화 메시지: {}", new String(message.getBody()));
+		}
+	}
+
+	/**
+	 * 현재 버퍼를 보유한 채팅방 수
+	 */
+	public int roomCount() {
+		synchronized (rooms) {
+			return rooms.size();
+		}
+	}
+
+	private void applyRead(Long chatRoomId, Long readerId) {
+		synchronized (rooms) {
+			Room room = rooms.get(chatRoomId);
+			if (room == null) {
+				return;
+			}
+			for (int i = 0; i < room.size; i++) {
+				Entry entry = room.get(i);
+				if (!readerId.equals(entry.senderId) && !entry.message.isRead()) {
+					entry.message = entry.message.toBuilder().isRead(true).build();
+				}
+			}
+		}
+	}
+
+	private void applyLeave(Long chatRoomId, Long userId) {
+		synchronized (rooms) {
+			Room room = rooms.get(chatRoomId);
+			if (room == null) {
+				return;
+			}
+			for (int i = 0; i < room.size; i++) {
+				Entry entry = room.get(i);
+				if (userId.equals(entry.senderId)) {
+					entry.deletedBySender = true;
+				} else {
+					entry.deletedByReceiver = true;
+				}
+			}
+		}
+	}
+
+	private void applySaved(Long chatRoomId, Map<String, Long> ids) {
+		synchronized (rooms) {
+			Room room = rooms.get(chatRoomId);
+			if (room != null) {
+				room.assignIds(ids);
+			}
+		}
+	}
+
+	private void send(String type, Long chatRoomId, String value) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + type + "|" + chatRoomId + "|" + value);
+		} catch (Exception e) {
+			// 전파 실패 시 다른 노드는 방 버퍼가 LRU로 제거되거나 수신이 끝날 때까지 이전 상태를 보여줄 수 있음
+			log.warn("RecentChatMessageBuffer - 동기화 메시지 발행 실패: roomId={}", chatRoomId, e);
+		}
+	}
+
+	/**
+	 * 채팅방 하나의 링 버퍼 ((전송 시각, ID) 순으로 정렬, 가장 오래된 항목이 head)
+	 */
+	static final class Room {
+
+		final long generation;
+		final long createdAt = System.currentTimeMillis();
+		final Entry[] ring;
+		int head;
+		int size;
+		boolean loaded;
+		/** 채팅방의 모든 메시지가 버퍼에 있는지 여부 (DB에서 전부 읽었고 이후 밀려난 항목이 없음) */
+		boolean complete;
+
+		Room(long generation, int capacity) {
+			this.generation = generation;
+			this.ring = new Entry[capacity];
+		}
+
+		Entry get(int index) {
+			return ring[(head + index) % ring.length];
+		}
+
+		void set(int index, Entry entry) {
+			ring[(head + index) % ring.length] = entry;
+		}
+
+		/**
+		 * 정렬 위치에 추가합니다. 대부분 최신 메시지라 끝에서부터 찾으며, 가득 차면 가장 오래된 항목을 밀어냅니다.
+		 */
+		void add(Entry entry) {
+			int index = size;
+			while (index > 0 && Entry.ORDER.compare(get(index - 1), entry) > 0) {
+				index--;
+			}
+			if (size == ring.length) {
+				complete = false;
+				if (index == 0) {
+					// 버퍼의 모든 메시지보다 오래된 메시지
+					return;
+				}
+				head = (head + 1) % ring.length;
+				size--;
+				index--;
+			}
+			for (int i = size; i > index; i--) {
+				set(i, get(i - 1));
+			}
+			set(index, entry);
+			size++;
+		}
+
+		boolean contains(String messageKey) {
+			if (messageKey == null) {
+				return false;
+			}
+			for (int i = 0; i < size; i++) {
+				if (messageKey.equals(get(i).messageKey)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * 저장 전 메시지에 발급된 ID를 채웁니다. 같은 전송 시각 사이의 순서가 ID로 정해지므로 다시 정렬합니다.
+		 */
+		void assignIds(Map<String, Long> ids) {
+			List<Entry> entries = new ArrayList<>(size);
+			boolean assigned = false;
+			for (int i = 0; i < size; i++) {
+				Entry entry = get(i);
+				Long id = entry.messageKey != null ? ids.get(entry.messageKey) : null;
+				if (id != null && entry.message.getMessageId() == null) {
+					entry.message = entry.message.toBuilder().messageId(id).build();
+					assigned = true;
+				}
+				entries.add(entry);
+			}
+			if (assigned) {
+				entries.sort(Entry.ORDER);
+				for (int i = 0; i < entries.size(); i++) {
+					set(i, entries.get(i));
+				}
+			}
+		}
+
+		String profileImageOf(Long senderId) {
+			for (int i = size - 1; i >= 0; i--) {
+				Entry entry = get(i);
+				if (entry.senderId != null && entry.senderId.equals(senderId)) {
+					return entry.message.getSenderProfileImage();
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * DB 메시지(오래된 → 최신)와 아직 저장되지 않은 실시간 메시지를 합쳐 버퍼를 다시 구성합니다.
+		 */
+		void merge(List<Entry> stored, boolean storedComplete) {
+			Set<String> storedKeys = new HashSet<>();
+			stored.forEach(entry -> storedKeys.add(entry.messageKey));
+			List<Entry> live = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				Entry entry = get(i);
+				if (entry.messageKey == null || !storedKeys.contains(entry.messageKey)) {
+					live.add(entry);
+				}
+			}
+
+			Arrays.fill(ring, null);
+			head = 0;
+			size = 0;
+			complete = storedComplete;
+			stored.forEach(this::add);
+			for (Entry entry : live) {
+				if (entry.message.getSenderProfileImage() == null) {
+					String profileImage = profileImageOf(entry.senderId);
+					if (profileImage != null) {
+						entry.message = entry.message.toBuilder().senderProfileImage(profileImage).build();
+					}
+				}
+				add(entry);
+			}
+			loaded = true;
+		}
+	}
+
+	/**
+	 * 버퍼 항목 (응답 DTO + 사용자별 삭제 여부)
+	 */
+	static final class Entry {
+
+		/** DB 조회와 같은 정렬 순서. 저장 전 메시지(ID 없음)는 같은 전송 시각 중 가장 뒤 */
+		static final Comparator<Entry> ORDER = Comparator
+				.comparing((Entry entry) -> entry.message.getSentAt(), Comparator.nullsLast(Comparator.naturalOrder()))
+				.thenComparing(entry -> entry.message.getMessageId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+		final String messageKey;
+		final Long senderId;
+		ChatMessageResponseDto message;
+		boolean deletedBySender;
+		boolean deletedByReceiver;
+
+		private Entry(String messageKey, Long senderId, ChatMessageResponseDto message, boolean deletedBySender,
+				boolean deletedByReceiver) {
+			this.messageKey = messageKey;
+			this.senderId = senderId;
+			this.message = message;
+			this.deletedBySender = deletedBySender;
+			this.deletedByReceiver = deletedByReceiver;
+		}
+
+		static Entry live(ChatMessageDto dto, String senderProfileImage) {
+			return new Entry(dto.getMessageKey(), dto.getSenderId(), ChatMessageResponseDto.builder()
+					.senderId(dto.getSenderId())
+					.senderNickname(dto.getSenderNickname())
+					.senderProfileImage(senderProfileImage)
+					.message(dto.getMessage())
+					.imageUrl(dto.getImageUrl())
+					.type(dto.getType())
+					.sentAt(dto.getSentAt())
+					.isRead(false)
+					.build(), false, false);
+		}
+
+		static Entry stored(ChatMessage message) {
+			return new Entry(message.getMessageKey(), message.getSender().getId(), ChatMessageResponseDto.from(message),
+					message.isDeletedBySender(), message.isDeletedByReceiver());
+		}
+
+		boolean visibleTo(Long viewerId) {
+			return viewerId.equals(senderId) ? !deletedBySender : !deletedByReceiver;
+		}
+	}
+}
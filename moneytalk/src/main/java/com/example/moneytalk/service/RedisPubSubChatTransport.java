@@ -0,0 +1,30 @@
+package com.example.moneytalk.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RedisPubSubChatTransport
+ * Redis Pub/Sub 채널 chatroom:{roomId} 로 채팅 메시지를 전달합니다. (chat.transport=pubsub, 기본값)
+ * 수신 채널 구독은 {@link RedisSubscriberService}가 이 노드의 STOMP 구독 현황에 따라 관리합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Component
+@ConditionalOnProperty(name = "chat.transport", havingValue = "pubsub", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisPubSubChatTransport implements ChatTransport {
+
+	private final RedisPublisher redisPublisher;
+
+	@Override
+	public void publish(ChatMessageDto message) {
+		redisPublisher.publish(new ChannelTopic("chatroom:" + message.getChatRoomId()), message);
+	}
+}
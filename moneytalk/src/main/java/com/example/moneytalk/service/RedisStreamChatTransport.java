@@ -0,0 +1,192 @@
+package com.example.moneytalk.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RedisStreamChatTransport
+ * Redis Stream {@value #STREAM_KEY} 로 채팅 메시지를 전달합니다. (chat.transport=stream)
+ *
+ * [동작]
+ * - 발행: XADD. 스트림 길이는 chat.transport.stream-max-length(기본 100000) 근처로 주기적으로 잘라냅니다.
+ * - 수신: 노드마다 소비자 그룹 chat-node:{nodeId} 하나를 두고 XREADGROUP으로 모든 메시지를 읽어
+ *   자기 STOMP 브로커로 전달한 뒤 XACK합니다.
+ * - 재시작: 그룹이 마지막으로 전달한 위치를 Redis가 기억하므로, 꺼져 있던 동안 발행된 메시지부터 이어서 받습니다.
+ *   전달 도중 종료되어 ACK하지 못한 메시지(PEL)는 기동 시 먼저 다시 전달합니다. (at-least-once, 클라이언트는 STOMP 프레임의 messageKey로 중복 제거)
+ *
+ * chat.transport.node-id는 필수입니다. 노드마다 달라야 하고(같으면 한 그룹을 나눠 읽어 메시지가 노드 사이에 흩어짐),
+ * 재시작 후 이어 받으려면 재시작 전후로 같아야 하므로 배포 설정에서 노드별로 명시합니다. 값이 없으면 기동에 실패합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.transport", havingValue = "stream")
+public class RedisStreamChatTransport implements ChatTransport, SmartLifecycle {
+
+	public static final String STREAM_KEY = "chat:messages";
+
+	static final String GROUP_PREFIX = "chat-node:";
+	static final String PAYLOAD_FIELD = "payload";
+	private static final int READ_BATCH = 100;
+	private static final int TRIM_EVERY = 1_000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisConnectionFactory connectionFactory;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+	private final RecentChatMessageBuffer recentChatMessageBuffer;
+	private final String group;
+	private final Consumer consumer;
+	private final long maxLength;
+	private final AtomicLong published = new AtomicLong();
+
+	private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+	private volatile boolean running;
+
+	public RedisStreamChatTransport(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory,
+			SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+			RecentChatMessageBuffer recentChatMessageBuffer,
+			@Value("${chat.transport.node-id:}") String nodeId,
+			@Value("${chat.transport.stream-max-length:100000}") long maxLength) {
+		if (nodeId == null || nodeId.isBlank()) {
+			throw new IllegalStateException("chat.transport=stream 에는 노드마다 고유한 chat.transport.node-id 설정이 필요합니다.");
+		}
+		this.redisTemplate = redisTemplate;
+		this.connectionFactory = connectionFactory;
+		this.messagingTemplate = messagingTemplate;
+		this.objectMapper = objectMapper;
+		this.recentChatMessageBuffer = recentChatMessageBuffer;
+		this.group = GROUP_PREFIX + nodeId;
+		this.consumer = Consumer.from(group, nodeId);
+		this.maxLength = maxLength;
+	}
+
+	@Override
+	public void publish(ChatMessageDto message) {
+		try {
+			redisTemplate.opsForStream().add(StreamRecords.string(
+					Map.of(PAYLOAD_FIELD, objectMapper.writeValueAsString(message))).withStreamKey(STREAM_KEY));
+			if (published.incrementAndGet() % TRIM_EVERY == 0) {
+				redisTemplate.opsForStream().trim(STREAM_KEY, maxLength, true);
+			}
+		} catch (Exception e) {
+			log.error("RedisStreamChatTransport - 메시지 발행 실패: roomId={}", message.getChatRoomId(), e);
+		}
+	}
+
+	@Override
+	public void start() {
+		createGroupIfAbsent();
+		replayPending();
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+				StreamMessageListenerContainerOptions.builder().pollTimeout(Duration.ofSeconds(1))
+						.batchSize(READ_BATCH).serializer(new StringRedisSerializer()).build();
+		container = StreamMessageListenerContainer.create(connectionFactory, options);
+		container.register(StreamReadRequest.builder(StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()))
+				.consumer(consumer).autoAcknowledge(false).cancelOnError(e -> false)
+				.errorHandler(e -> log.warn("RedisStreamChatTransport - 스트림 읽기 실패", e)).build(), this::deliver);
+		container.start();
+		running = true;
+		log.info("RedisStreamChatTransport - {} 수신 시작 (group={})", STREAM_KEY, group);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (container != null) {
+			container.stop();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * LettuceConnectionFactory(0) 이후에 시작하고, 그보다 먼저 종료
+	 */
+	@Override
+	public int getPhase() {
+		return 1;
+	}
+
+	/**
+	 * 이 노드의 소비자 그룹이 없으면 만듭니다. 처음 만드는 그룹은 이후 발행되는 메시지부터 받습니다.
+	 */
+	void createGroupIfAbsent() {
+		try {
+			redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+					.xGroupCreate(STREAM_KEY.getBytes(), group, ReadOffset.latest(), true));
+		} catch (RedisSystemException e) {
+			// BUSYGROUP: 이미 있는 그룹 → 마지막으로 읽은 위치부터 이어서 수신
+			log.debug("RedisStreamChatTransport - 기존 소비자 그룹 사용: {}", group);
+		}
+	}
+
+	/**
+	 * 전달 후 ACK하지 못한 메시지(이 소비자의 PEL)를 다시 전달합니다.
+	 */
+	void replayPending() {
+		List<MapRecord<String, Object, Object>> pending;
+		do {
+			pending = redisTemplate.opsForStream().read(consumer, StreamReadOptions.empty().count(READ_BATCH),
+					StreamOffset.create(STREAM_KEY, ReadOffset.from("0")));
+			if (pending == null) {
+				return;
+			}
+			pending.forEach(record -> deliver(record.getId().getValue(),
+					String.valueOf(record.getValue().get(PAYLOAD_FIELD))));
+		} while (!pending.isEmpty());
+	}
+
+	private void deliver(MapRecord<String, String, String> record) {
+		deliver(record.getId().getValue(), record.getValue().get(PAYLOAD_FIELD));
+	}
+
+	/**
+	 * 메시지를 이 노드의 STOMP 구독자에게 전달하고 ACK합니다.
+	 * 읽을 수 없는 메시지도 다시 받지 않도록 ACK합니다.
+	 */
+	void deliver(String recordId, String payload) {
+		try {
+			ChatMessageDto message = objectMapper.readValue(payload, ChatMessageDto.class);
+			messagingTemplate.convertAndSend(DESTINATION_PREFIX + message.getChatRoomId(), message);
+			recentChatMessageBuffer.appendOrTrack(message);
+		} catch (Exception e) {
+			log.error("RedisStreamChatTransport - 메시지 전달 실패: id={}", recordId, e);
+		} finally {
+			redisTemplate.opsForStream().acknowledge(STREAM_KEY, group, recordId);
+		}
+	}
+}
@@ -17,6 +17,7 @@ public class RedisSubscriber implements MessageListener {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ObjectMapper objectMapper; // ✅ 이제 주입 받음
+    private final RecentChatMessageBuffer recentChatMessageBuffer;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
@@ -32,6 +33,7 @@ public class RedisSubscriber implements MessageListener {
 
             // WebSocket 브로드캐스트
             messagingTemplate.convertAndSend("/sub/chat/room/" + chatMessage.getChatRoomId(), chatMessage);
+            recentChatMessageBuffer.append(chatMessage);
 
             log.info("RedisSubscriber - roomId: {}, message: {}", chatMessage.getChatRoomId(), chatMessage.getMessage());
 
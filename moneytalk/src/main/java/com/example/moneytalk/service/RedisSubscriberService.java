@@ -1,33 +1,133 @@
 package com.example.moneytalk.service;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 /**
- * Redis 채널 구독을 동적으로 관리하는 서비스
- * (채팅방이 생성될 때마다 해당 방의 토픽을 Redis 구독)
+ * Redis 채널 구독을 이 노드의 STOMP 구독 현황에 맞춰 관리하는 서비스
+ *
+ * - 이 노드에 /sub/chat/room/{roomId} 구독자가 처음 생기면 chatroom:{roomId} 채널을 구독하고,
+ *   마지막 구독자가 구독 해제/연결 종료하면 채널 구독도 해제합니다. (채팅방별 참조 카운트)
+ * - 로컬 구독자가 없는 채팅방의 메시지는 이 노드로 오지 않으며, 같은 채널을 중복 등록하지 않아
+ *   메시지가 두 번 전달되지 않습니다.
+ * - 채널 구독/해제에 맞춰 최근 메시지 버퍼({@link RecentChatMessageBuffer})도 시작/제거합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
  */
+@Slf4j
 @Service
+@ConditionalOnProperty(name = "chat.transport", havingValue = "pubsub", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisSubscriberService {
 
+    static final String ROOM_DESTINATION_PREFIX = ChatTransport.DESTINATION_PREFIX;
+
     private final RedisMessageListenerContainer container;
     private final MessageListenerAdapter listenerAdapter;
+    private final RecentChatMessageBuffer recentChatMessageBuffer;
+
+    /** 채팅방 ID → 이 노드의 STOMP 구독 수 */
+    private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+
+    /** 세션 ID → (구독 ID → 채팅방 ID). UNSUBSCRIBE 프레임에는 destination이 없어 구독 ID로 찾음 */
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatRoomId = parseChatRoomId(accessor.getDestination());
+        if (chatRoomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long previous = sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), chatRoomId);
+        if (previous != null) {
+            // 같은 구독 ID를 재사용한 SUBSCRIBE → 이전 구독을 대체
+            release(previous);
+        }
+        acquire(chatRoomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = accessor.getSessionId() == null ? null
+                : sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long chatRoomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (chatRoomId != null) {
+            release(chatRoomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
 
     /**
-     * 채팅방(roomId)별로 Redis 채널을 동적으로 구독
-     *
-     * @param chatRoomId 채팅방 ID
+     * 이 노드가 현재 구독 중인 채팅방 수
      */
-    public void subscribeChatRoom(Long chatRoomId) {
-        String topicName = "chatroom:" + chatRoomId;
-        ChannelTopic topic = new ChannelTopic(topicName);
+    public int subscribedRoomCount() {
+        return roomSubscriberCounts.size();
+    }
+
+    private void acquire(Long chatRoomId) {
+        roomSubscriberCounts.compute(chatRoomId, (id, count) -> {
+            if (count == null) {
+                // 버퍼를 먼저 만들어 구독 직후 도착한 메시지도 담기게 함
+                recentChatMessageBuffer.track(id);
+                container.addMessageListener(listenerAdapter, topic(id));
+                log.debug("RedisSubscriberService - 채널 구독: chatroom:{}", id);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void release(Long chatRoomId) {
+        roomSubscriberCounts.computeIfPresent(chatRoomId, (id, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            container.removeMessageListener(listenerAdapter, topic(id));
+            recentChatMessageBuffer.untrack(id);
+            log.debug("RedisSubscriberService - 채널 구독 해제: chatroom:{}", id);
+            return null;
+        });
+    }
+
+    private static ChannelTopic topic(Long chatRoomId) {
+        return new ChannelTopic("chatroom:" + chatRoomId);
+    }
 
-        // 이미 구독 중인지 확인하고 추가하는 로직을 넣을 수도 있지만,
-        // 기본은 단순 등록 (필요 시 개선)
-        container.addMessageListener(listenerAdapter, topic);
+    static Long parseChatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
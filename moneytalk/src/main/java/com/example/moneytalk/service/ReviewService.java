@@ -2,10 +2,13 @@ package com.example.moneytalk.service;
 
 import java.util.List;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.moneytalk.config.CacheConfig;
 import com.example.moneytalk.domain.Product;
 import com.example.moneytalk.domain.Review;
 import com.example.moneytalk.domain.User;
@@ -14,6 +17,7 @@ import com.example.moneytalk.dto.ReviewRequestDto;
 import com.example.moneytalk.dto.ReviewResponseDto;
 import com.example.moneytalk.dto.ReviewStatsDto;
 import com.example.moneytalk.dto.ReviewUpdateRequestDto;
+import com.example.moneytalk.event.ReviewChangedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ProductRepository;
 import com.example.moneytalk.repository.ReviewRepository;
@@ -44,6 +48,7 @@ public class ReviewService {
 	private final ReviewRepository reviewRepository;
 	private final UserRepository userRepository;
 	private final ReviewImageService reviewImageService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 리뷰를 작성하고, 첨부 이미지가 있다면 S3에 업로드합니다.
@@ -100,6 +105,8 @@ public class ReviewService {
 		if (imageFiles != null && !imageFiles.isEmpty()) {
 			reviewImageService.uploadReviewImages(review.getId(), imageFiles);
 		}
+
+		eventPublisher.publishEvent(new ReviewChangedEvent(product.getId()));
 	}
 
 	/**
@@ -161,6 +168,8 @@ public class ReviewService {
 		if (imageFiles != null && !imageFiles.isEmpty()) {
 			reviewImageService.uploadReviewImages(reviewId, imageFiles);
 		}
+
+		eventPublisher.publishEvent(new ReviewChangedEvent(review.getProduct().getId()));
 	}
 
 	/**
@@ -181,6 +190,8 @@ public class ReviewService {
 		}
 		reviewImageService.deleteImagesByReviewId(reviewId);
 		reviewRepository.delete(review);
+
+		eventPublisher.publishEvent(new ReviewChangedEvent(review.getProduct().getId()));
 	}
 
 	/**
@@ -201,11 +212,13 @@ public class ReviewService {
 
 	/**
 	 * 상품에 대한 평균 평점과 리뷰 개수를 조회합니다.
+	 * 결과는 리뷰 통계 캐시({@link CacheConfig#REVIEW_STATS})에 저장되며, 리뷰 작성/수정/삭제 시 제거됩니다.
 	 *
 	 * @param productId 상품 ID
 	 * @return 평점 평균 및 개수를 담은 DTO
 	 */
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.REVIEW_STATS, key = "#productId", sync = true)
 	public AverageRatingResponseDto getAverageRatingInfo(Long productId) {
 		ReviewStatsDto stats = reviewRepository.findReviewStatsByProductId(productId);
 
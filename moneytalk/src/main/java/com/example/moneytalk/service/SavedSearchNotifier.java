@@ -0,0 +1,107 @@
+package com.example.moneytalk.service;
+
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.moneytalk.dto.SavedSearchMatchDto;
+import com.example.moneytalk.repository.SavedSearchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SavedSearchNotifier
+ * 저장된 검색 관련 메시지를 Redis Pub/Sub으로 노드 간에 전달합니다.
+ *
+ * [메시지 형식] 채널: {@value #CHANNEL}
+ * - "발행노드ID|R|저장검색ID": 저장된 검색 등록 → 다른 노드가 DB에서 읽어 색인에 추가
+ * - "발행노드ID|D|저장검색ID": 저장된 검색 삭제 → 다른 노드 색인에서 제거
+ * - "발행노드ID|A|알림JSON": 일치 알림 → 모든 노드가 자기 STOMP 브로커의 /sub/saved-search/{userId} 로 전달
+ *   (구독자가 어느 노드에 연결되어 있는지 모르므로 발행 노드 자신도 수신해 전달합니다.)
+ *   다른 사용자의 userId로는 구독할 수 없습니다. ({@link com.example.moneytalk.config.StompSubscriptionInterceptor})
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SavedSearchNotifier implements MessageListener {
+
+	public static final String CHANNEL = "saved-search";
+	public static final String DESTINATION_PREFIX = "/sub/saved-search/";
+
+	private static final String REGISTERED = "R";
+	private static final String DELETED = "D";
+	private static final String ALERT = "A";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListener;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final SavedSearchRepository savedSearchRepository;
+	private final SavedSearchPercolator savedSearchPercolator;
+	private final ObjectMapper objectMapper;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListener.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	public void publishRegistered(Long savedSearchId) {
+		send(nodeId + "|" + REGISTERED + "|" + savedSearchId);
+	}
+
+	public void publishDeleted(Long savedSearchId) {
+		send(nodeId + "|" + DELETED + "|" + savedSearchId);
+	}
+
+	public void publishMatch(SavedSearchMatchDto match) {
+		try {
+			send(nodeId + "|" + ALERT + "|" + objectMapper.writeValueAsString(match));
+		} catch (Exception e) {
+			log.error("SavedSearchNotifier - 알림 직렬화 실패: savedSearchId={}", match.getSavedSearchId(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody()).split("\\|", 3);
+		if (parts.length < 3) {
+			return;
+		}
+
+		try {
+			if (ALERT.equals(parts[1])) {
+				SavedSearchMatchDto match = objectMapper.readValue(parts[2], SavedSearchMatchDto.class);
+				messagingTemplate.convertAndSend(DESTINATION_PREFIX + match.getUserId(), match);
+			} else if (nodeId.equals(parts[0])) {
+				// 색인 변경은 발행 노드에 이미 반영됨
+			} else if (REGISTERED.equals(parts[1])) {
+				savedSearchRepository.findById(Long.valueOf(parts[2])).ifPresent(savedSearchPercolator::register);
+			} else if (DELETED.equals(parts[1])) {
+				savedSearchPercolator.unregister(Long.parseLong(parts[2]));
+			}
+		} catch (Exception e) {
+			log.error("SavedSearchNotifier - 메시지 처리 중 에러: {}", parts[1], e);
+		}
+	}
+
+	private void send(String payload) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, payload);
+		} catch (Exception e) {
+			log.warn("SavedSearchNotifier - 메시지 발행 실패: {}", payload, e);
+		}
+	}
+}
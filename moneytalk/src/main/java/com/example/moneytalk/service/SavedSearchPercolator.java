@@ -0,0 +1,304 @@
+package com.example.moneytalk.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.repository.SavedSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SavedSearchPercolator
+ * 저장된 검색 조건을 색인해 두고, 새 상품 한 건에 일치하는 조건만 골라내는 역방향 검색기(Percolator)입니다.
+ *
+ * [색인 구조]
+ * - 1단계: (카테고리, 지역) 버킷. 조건을 지정하지 않은 필드는 와일드카드로 취급하므로
+ *   상품 한 건은 (카테고리, 지역), (카테고리, *), (*, 지역), (*, *) 네 버킷만 확인합니다.
+ * - 2단계: 버킷 안에서 가격 구간(2의 거듭제곱 단위 밴드). 가격 조건이 있는 검색은 범위가 걸치는 밴드마다 등록되고,
+ *   상품은 자기 가격이 속한 밴드 하나만 확인합니다. 가격 조건이 없는 검색은 별도 목록에 둡니다.
+ * - 후보에 대해서만 가격 경계와 키워드(제목/설명 포함 여부)를 정확히 검사합니다.
+ *
+ * 저장된 검색 전체를 매번 다시 실행하지 않으므로, 상품 등록 비용은 전체 저장 검색 수가 아니라
+ * 해당 버킷/밴드에 있는 후보 수에 비례합니다.
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavedSearchPercolator {
+
+	private static final int WARM_UP_BATCH_SIZE = 1000;
+
+	/** 가격 밴드 수 (0원 + int 범위의 비트 길이 1~31) */
+	private static final int BANDS = 32;
+
+	/** 조건을 지정하지 않은 카테고리/지역 (실제 값과 겹치지 않는 문자) */
+	private static final String ANY = "\u0000";
+
+	private final SavedSearchRepository savedSearchRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** "카테고리|지역" → 버킷 */
+	private final Map<String, Bucket> buckets = new HashMap<>();
+
+	/** 저장된 검색 ID → 색인된 조건 (교체/삭제용) */
+	private final Map<Long, SavedQuery> queries = new HashMap<>();
+
+	/**
+	 * 애플리케이션 기동 완료 후 저장된 검색 전체를 색인합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long lastId = 0L;
+		List<SavedSearch> batch;
+		do {
+			batch = savedSearchRepository.findIndexBatch(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+			for (SavedSearch savedSearch : batch) {
+				register(savedSearch);
+			}
+			if (!batch.isEmpty()) {
+				lastId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == WARM_UP_BATCH_SIZE);
+
+		log.info("SavedSearchPercolator - 저장된 검색 {}건 색인 완료", size());
+	}
+
+	/**
+	 * 저장된 검색을 색인에 추가하거나, 이미 존재하면 최신 조건으로 교체합니다.
+	 *
+	 * @param savedSearch 저장된 검색
+	 */
+	public void register(SavedSearch savedSearch) {
+		register(SavedQuery.of(savedSearch));
+	}
+
+	void register(SavedQuery query) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(query.id());
+			queries.put(query.id(), query);
+			buckets.computeIfAbsent(bucketKey(query.category(), query.location()), key -> new Bucket()).add(query);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 저장된 검색을 색인에서 제거합니다.
+	 *
+	 * @param savedSearchId 저장된 검색 ID
+	 */
+	public void unregister(long savedSearchId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(savedSearchId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 새 상품에 일치하는 저장된 검색을 찾습니다.
+	 *
+	 * @param product 새로 등록된 상품
+	 * @return 일치한 저장된 검색 목록
+	 */
+	public List<SavedQuery> percolate(Product product) {
+		int band = band(product.getPrice());
+		String text = searchableText(product);
+		List<SavedQuery> matches = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (String key : candidateKeys(product)) {
+				Bucket bucket = buckets.get(key);
+				if (bucket == null) {
+					continue;
+				}
+				collect(bucket.anyPrice, product, text, matches);
+				collect(bucket.bands[band], product, text, matches);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return matches;
+	}
+
+	/**
+	 * 상품 한 건을 매칭할 때 정확 검사 대상이 되는 후보 수를 반환합니다. (색인 효율 측정용)
+	 */
+	int candidateCount(Product product) {
+		int band = band(product.getPrice());
+		int count = 0;
+
+		lock.readLock().lock();
+		try {
+			for (String key : candidateKeys(product)) {
+				Bucket bucket = buckets.get(key);
+				if (bucket != null) {
+					count += bucket.anyPrice.size() + (bucket.bands[band] == null ? 0 : bucket.bands[band].size());
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return count;
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return queries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void removeInternal(long savedSearchId) {
+		SavedQuery previous = queries.remove(savedSearchId);
+		if (previous == null) {
+			return;
+		}
+		String key = bucketKey(previous.category(), previous.location());
+		Bucket bucket = buckets.get(key);
+		if (bucket != null && bucket.remove(previous)) {
+			buckets.remove(key);
+		}
+	}
+
+	private static void collect(Map<Long, SavedQuery> candidates, Product product, String text,
+			List<SavedQuery> matches) {
+		if (candidates == null) {
+			return;
+		}
+		for (SavedQuery query : candidates.values()) {
+			if (query.matches(product.getPrice(), text)) {
+				matches.add(query);
+			}
+		}
+	}
+
+	private static String[] candidateKeys(Product product) {
+		return new String[] {
+				bucketKey(product.getCategory(), product.getLocation()),
+				bucketKey(product.getCategory(), null),
+				bucketKey(null, product.getLocation()),
+				bucketKey(null, null) };
+	}
+
+	private static String bucketKey(String category, String location) {
+		return (category == null ? ANY : category) + "|" + (location == null ? ANY : location);
+	}
+
+	/**
+	 * 가격이 속한 밴드 번호 (0원은 0, 그 외에는 2진수 비트 길이)
+	 */
+	static int band(int price) {
+		return price <= 0 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(price);
+	}
+
+	private static String searchableText(Product product) {
+		String title = product.getTitle() == null ? "" : product.getTitle();
+		String description = product.getDescription() == null ? "" : product.getDescription();
+		return (title + "\n" + description).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 색인된 저장 검색 조건
+	 *
+	 * @param keyword 소문자화된 키워드 (없으면 null)
+	 */
+	public record SavedQuery(long id, long userId, String keyword, String category, String location,
+			Integer minPrice, Integer maxPrice) {
+
+		static SavedQuery of(SavedSearch savedSearch) {
+			String keyword = savedSearch.getKeyword() == null || savedSearch.getKeyword().isBlank() ? null
+					: savedSearch.getKeyword().trim().toLowerCase(Locale.ROOT);
+			return new SavedQuery(savedSearch.getId(), savedSearch.getUser().getId(), keyword,
+					savedSearch.getCategory(), savedSearch.getLocation(), savedSearch.getMinPrice(),
+					savedSearch.getMaxPrice());
+		}
+
+		boolean hasPriceRange() {
+			return minPrice != null || maxPrice != null;
+		}
+
+		boolean matches(int price, String lowerCaseText) {
+			if ((minPrice != null && price < minPrice) || (maxPrice != null && price > maxPrice)) {
+				return false;
+			}
+			return keyword == null || lowerCaseText.contains(keyword);
+		}
+	}
+
+	/**
+	 * (카테고리, 지역) 버킷 - 가격 조건 없는 검색과 가격 밴드별 검색
+	 */
+	private static final class Bucket {
+
+		private final Map<Long, SavedQuery> anyPrice = new HashMap<>();
+
+		@SuppressWarnings("unchecked")
+		private final Map<Long, SavedQuery>[] bands = new Map[BANDS];
+
+		private int size;
+
+		void add(SavedQuery query) {
+			size++;
+			if (!query.hasPriceRange()) {
+				anyPrice.put(query.id(), query);
+				return;
+			}
+			for (int band = firstBand(query); band <= lastBand(query); band++) {
+				if (bands[band] == null) {
+					bands[band] = new HashMap<>();
+				}
+				bands[band].put(query.id(), query);
+			}
+		}
+
+		/**
+		 * @return 제거 후 버킷이 비었는지 여부
+		 */
+		boolean remove(SavedQuery query) {
+			size--;
+			if (!query.hasPriceRange()) {
+				anyPrice.remove(query.id());
+			} else {
+				for (int band = firstBand(query); band <= lastBand(query); band++) {
+					if (bands[band] != null) {
+						bands[band].remove(query.id());
+						if (bands[band].isEmpty()) {
+							bands[band] = null;
+						}
+					}
+				}
+			}
+			return size == 0;
+		}
+
+		private static int firstBand(SavedQuery query) {
+			return query.minPrice() == null ? 0 : band(query.minPrice());
+		}
+
+		private static int lastBand(SavedQuery query) {
+			return query.maxPrice() == null ? BANDS - 1 : band(query.maxPrice());
+		}
+	}
+}
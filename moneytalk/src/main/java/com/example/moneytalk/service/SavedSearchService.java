@@ -0,0 +1,150 @@
+package com.example.moneytalk.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.dto.SavedSearchMatchDto;
+import com.example.moneytalk.dto.SavedSearchResponseDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.exception.GlobalException;
+import com.example.moneytalk.repository.SavedSearchRepository;
+import com.example.moneytalk.service.SavedSearchPercolator.SavedQuery;
+import com.example.moneytalk.type.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SavedSearchService
+ * 상품 검색 조건 저장과 새 상품 일치 알림을 처리하는 서비스입니다.
+ *
+ * [기능 설명]
+ * - 사용자는 상품 검색 조건(키워드, 카테고리, 지역, 가격 범위)을 최대 {@value #MAX_SAVED_SEARCHES_PER_USER}개 저장할 수 있습니다.
+ * - 새 상품이 등록되면 {@link SavedSearchPercolator}로 일치하는 저장 검색만 찾아
+ *   STOMP /sub/saved-search/{userId} 로 알림을 보냅니다. (본인 상품은 제외)
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+	static final int MAX_SAVED_SEARCHES_PER_USER = 20;
+
+	private final SavedSearchRepository savedSearchRepository;
+	private final SavedSearchPercolator savedSearchPercolator;
+	private final SavedSearchNotifier savedSearchNotifier;
+
+	/**
+	 * 검색 조건을 저장합니다. 정렬/커서/페이지 크기와 판매 상태는 저장하지 않습니다. (새 상품은 항상 판매중)
+	 *
+	 * @param request 저장할 검색 조건
+	 * @param user 요청 사용자
+	 * @return 저장된 검색
+	 * @throws GlobalException 조건이 하나도 없거나 가격 범위가 잘못된 경우 {@link ErrorCode#INVALID_INPUT_VALUE},
+	 *                         저장 개수 초과 시 {@link ErrorCode#SAVED_SEARCH_LIMIT_EXCEEDED}
+	 */
+	public SavedSearchResponseDto saveSearch(ProductSearchRequestDto request, User user) {
+		String keyword = trimToNull(request.getKeyword());
+		String category = trimToNull(request.getCategory());
+		String location = trimToNull(request.getLocation());
+
+		if (keyword == null && category == null && location == null && request.getMinPrice() == null
+				&& request.getMaxPrice() == null) {
+			throw new GlobalException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (request.getMinPrice() != null && request.getMaxPrice() != null
+				&& request.getMinPrice() > request.getMaxPrice()) {
+			throw new GlobalException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (savedSearchRepository.countByUser(user) >= MAX_SAVED_SEARCHES_PER_USER) {
+			throw new GlobalException(ErrorCode.SAVED_SEARCH_LIMIT_EXCEEDED);
+		}
+
+		SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.builder().user(user).keyword(keyword)
+				.category(category).location(location).minPrice(request.getMinPrice())
+				.maxPrice(request.getMaxPrice()).build());
+
+		savedSearchPercolator.register(savedSearch);
+		savedSearchNotifier.publishRegistered(savedSearch.getId());
+		return SavedSearchResponseDto.from(savedSearch);
+	}
+
+	/**
+	 * 내가 저장한 검색 목록을 최신순으로 조회합니다.
+	 *
+	 * @param user 요청 사용자
+	 * @return 저장된 검색 목록
+	 */
+	public List<SavedSearchResponseDto> getMySavedSearches(User user) {
+		return savedSearchRepository.findByUserOrderByIdDesc(user).stream().map(SavedSearchResponseDto::from)
+				.toList();
+	}
+
+	/**
+	 * 저장된 검색을 삭제합니다.
+	 *
+	 * @param savedSearchId 저장된 검색 ID
+	 * @param user 요청 사용자
+	 * @throws GlobalException 존재하지 않으면 {@link ErrorCode#SAVED_SEARCH_NOT_FOUND},
+	 *                         본인 것이 아니면 {@link ErrorCode#SAVED_SEARCH_ACCESS_DENIED}
+	 */
+	public void deleteSavedSearch(Long savedSearchId, User user) {
+		SavedSearch savedSearch = savedSearchRepository.findById(savedSearchId)
+				.orElseThrow(() -> new GlobalException(ErrorCode.SAVED_SEARCH_NOT_FOUND));
+		if (!savedSearch.getUser().getId().equals(user.getId())) {
+			throw new GlobalException(ErrorCode.SAVED_SEARCH_ACCESS_DENIED);
+		}
+
+		savedSearchRepository.delete(savedSearch);
+		savedSearchPercolator.unregister(savedSearchId);
+		savedSearchNotifier.publishDeleted(savedSearchId);
+	}
+
+	/**
+	 * 상품 등록이 커밋된 뒤 일치하는 저장 검색의 소유자에게 알림을 보냅니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		if (event.getType() == ProductChangedEvent.Type.CREATED) {
+			notifyMatches(event.getProduct());
+		}
+	}
+
+	/**
+	 * 대량 등록이 커밋된 뒤 등록된 상품마다 일치하는 저장 검색의 소유자에게 알림을 보냅니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsCreated(ProductsCreatedEvent event) {
+		event.getProducts().forEach(this::notifyMatches);
+	}
+
+	private void notifyMatches(Product product) {
+		Long sellerId = product.getUser() == null ? null : product.getUser().getId();
+		List<SavedQuery> matches = savedSearchPercolator.percolate(product);
+
+		for (SavedQuery match : matches) {
+			if (sellerId != null && sellerId == match.userId()) {
+				continue;
+			}
+			savedSearchNotifier.publishMatch(SavedSearchMatchDto.builder().savedSearchId(match.id())
+					.userId(match.userId()).productId(product.getId()).title(product.getTitle())
+					.price(product.getPrice()).category(product.getCategory()).location(product.getLocation())
+					.build());
+		}
+		log.debug("SavedSearchService - productId: {}, 일치 저장 검색: {}건", product.getId(), matches.size());
+	}
+
+	private static String trimToNull(String value) {
+		return value == null || value.isBlank() ? null : value.trim();
+	}
+}
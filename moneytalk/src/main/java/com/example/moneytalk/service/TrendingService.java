@@ -0,0 +1,161 @@
+package com.example.moneytalk.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.event.ChatRoomCreatedEvent;
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.TrendingSignal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TrendingService
+ * 찜, 구매 문의 채팅방 생성, 상세 조회를 시간 감쇠 점수로 합산한 인기 상품 순위를 Redis Sorted Set으로 관리합니다.
+ *
+ * [점수 계산 - Forward Decay]
+ * - 행동 하나의 점수 = 가중치 × 2^((발생 시각 - 기준 시각) / 반감기)
+ *   기존 점수를 매번 줄이는 대신 새 행동을 더 크게 더하므로, ZINCRBY 한 번(O(log n))으로 감쇠 순위가 유지됩니다.
+ * - 기준 시각이 고정되면 점수가 끝없이 커지므로, 기간({@link #EPOCH}) 단위로 키를 나눕니다.
+ *   행동은 현재 기간 키와 다음 기간 키에 각각의 기준 시각으로 함께 기록하므로, 다음 기간이 시작될 때
+ *   그 키에는 직전 기간의 행동이 올바르게 감쇠된 상태로 이미 들어 있습니다.
+ *   (한 기간보다 오래된 행동은 2^-8 이하로 감쇠되어 버려집니다.)
+ *
+ * [키] trending:{기간번호}:{카테고리}, trending:{기간번호}:all (마지막 기록 후 기간 3개 뒤 만료)
+ *
+ * [조회] 현재 기간 키의 상위 N건 (ZREVRANGE, O(log n + N))
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+	static final Duration HALF_LIFE = Duration.ofHours(6);
+	static final Duration EPOCH = Duration.ofDays(2);
+
+	/** 다음 기간 키가 그 기간 끝까지 남도록 기록할 때마다 갱신하는 만료 시간 */
+	private static final Duration KEY_TTL = EPOCH.multipliedBy(3);
+
+	static final int MAX_LIMIT = 50;
+
+	private static final String KEY_PREFIX = "trending:";
+	private static final String ALL = "all";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ProductRepository productRepository;
+	private final ProductImageLoader productImageLoader;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onFavoriteChanged(FavoriteChangedEvent event) {
+		if (event.isAdded()) {
+			record(event.getProduct().getId(), event.getProduct().getCategory(), TrendingSignal.FAVORITE);
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onChatRoomCreated(ChatRoomCreatedEvent event) {
+		Product product = event.getChatRoom().getProduct();
+		record(product.getId(), product.getCategory(), TrendingSignal.CHAT_ROOM);
+	}
+
+	/**
+	 * 상품에 대한 행동 하나를 인기 점수에 반영합니다. 실패해도 원래 요청에는 영향을 주지 않습니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param category 상품 카테고리
+	 * @param signal 행동 종류
+	 */
+	public void record(Long productId, String category, TrendingSignal signal) {
+		long now = System.currentTimeMillis();
+		long epoch = epochOf(now);
+		String member = String.valueOf(productId);
+
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) throws DataAccessException {
+					for (long target = epoch; target <= epoch + 1; target++) {
+						double increment = increment(signal.getWeight(), now, target);
+						for (String key : List.of(key(target, category), key(target, ALL))) {
+							operations.opsForZSet().incrementScore(key, member, increment);
+							operations.expire(key, KEY_TTL);
+						}
+					}
+					return null;
+				}
+			});
+		} catch (Exception e) {
+			log.warn("TrendingService - 점수 반영 실패: productId={}, signal={}", productId, signal, e);
+		}
+	}
+
+	/**
+	 * 카테고리의 인기 판매중 상품을 점수 높은 순으로 조회합니다.
+	 *
+	 * @param category 카테고리 (null이면 전체)
+	 * @param limit 최대 건수 (1 ~ {@value #MAX_LIMIT})
+	 * @return 인기 상품 목록
+	 */
+	public List<ProductResponseDto> getTrending(String category, int limit) {
+		int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+		String key = key(epochOf(System.currentTimeMillis()), category == null ? ALL : category);
+
+		// 판매완료/삭제된 상품을 걸러낼 여유분까지 조회
+		Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0,
+				size * 2L - 1);
+		if (top == null || top.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> ids = top.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+		Map<Long, Product> byId = productRepository.findAllWithUserByIdIn(ids).stream()
+				.collect(Collectors.toMap(Product::getId, Function.identity()));
+
+		List<Product> products = new ArrayList<>(size);
+		for (Long id : ids) {
+			Product product = byId.get(id);
+			if (product != null && product.getStatus() == ProductStatus.SALE && products.size() < size) {
+				products.add(product);
+			}
+		}
+		return productImageLoader.toResponses(products);
+	}
+
+	static long epochOf(long epochMillis) {
+		return epochMillis / EPOCH.toMillis();
+	}
+
+	/**
+	 * 기간 시작 시각을 기준으로 한 감쇠 점수 증가분 (다음 기간 키에는 지수가 음수)
+	 */
+	static double increment(int weight, long epochMillis, long epoch) {
+		long elapsed = epochMillis - epoch * EPOCH.toMillis();
+		return weight * Math.pow(2, (double) elapsed / HALF_LIFE.toMillis());
+	}
+
+	private static String key(long epoch, String category) {
+		return KEY_PREFIX + epoch + ":" + category;
+	}
+}
@@ -3,9 +3,12 @@ package com.example.moneytalk.service;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.moneytalk.config.CacheConfig;
 import com.example.moneytalk.config.JwtTokenProvider;
 import com.example.moneytalk.domain.User;
 import com.example.moneytalk.dto.LoginRequestDto;
@@ -133,10 +136,12 @@ public class UserService {
 	
     /**
      * 현재 로그인한 사용자 정보를 조회합니다.
+     * 결과는 사용자 정보 캐시({@link CacheConfig#USER_INFO})에 저장되며, 닉네임 변경/탈퇴 시 제거됩니다.
      *
      * @param user 인증된 사용자 객체
      * @return 사용자 정보 응답 DTO (id, email, nickname)
      */
+	@Cacheable(cacheNames = CacheConfig.USER_INFO, key = "#user.id", condition = "#user != null", sync = true)
 	public UserInfoResponseDto getMyInfo(User user) {
 	    if (user == null) {
 	        throw new GlobalException(ErrorCode.UNAUTHORIZED);
@@ -157,6 +162,7 @@ public class UserService {
      * @param user 대상 사용자
      * @param nickname 새 닉네임
      */
+	@CacheEvict(cacheNames = CacheConfig.USER_INFO, key = "#user.id")
 	public void updateNickname(User user, String nickname) {
 	    user.setNickname(nickname);
 	    userRepository.save(user);
@@ -168,6 +174,7 @@ public class UserService {
      *
      * @param user 삭제할 사용자
      */
+	@CacheEvict(cacheNames = CacheConfig.USER_INFO, key = "#user.id")
 	public void deleteUser(User user) {
 	    userRepository.delete(user);
 	}
@@ -14,12 +14,14 @@ public enum ErrorCode {
 	PRODUCT_NOT_FOUND(404, "PRODUCT_NOT_FOUND", "존재하지 않는 상품입니다."),
 	INVALID_INPUT_VALUE(400, "INVALID_INPUT_VALUE", "올바르지 않은 입력입니다."),
 	INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR", "서버 오류가 발생했습니다."),
+	INVALID_CURSOR(400, "INVALID_CURSOR", "올바르지 않은 페이지 커서입니다."),
 	PRODUCT_ALREADY_SOLD(404,"PRODUCT_ALREADY_SOLD", "이미 판매완료된 상품입니다."),
 	PRODUCT_NOT_SALE(404, "PRODUCT_NOT_SALE", "상품이 판매중이 아닙니다."),
 	PRODUCT_ACCESS_DENIED(403, "PRODUCT_ACCESS_DENIED","상품 수정 권한이 없습니다."),
 	PURCHASE_HISTORY_ALREADY_EXISTS(409, "PURCHASE_HISTORY_ALREADY_EXISTS", "이미 동일한 구매 기록이 존재합니다."),
 	LEDGER_ALREADY_EXISTS(409, "LEDGER_ALREADY_EXISTS", "이미 존재하는 가계부 기록입니다."),
 	CANNOT_PURCHASE_OWN_PRODUCT(400, "CANNOT_PURCHASE_OWN_PRODUCT", "본인의 상품은 구매확정할 수 없습니다."),
+	PURCHASE_CONFLICT(409, "PURCHASE_CONFLICT", "다른 구매자가 먼저 구매를 확정한 상품입니다."),
 	EMAIL_ALREADY_EXISTS(409, "EMAIL_ALREADY_EXISTS", "이미 사용 중인 이메일입니다."),
 	NICKNAME_ALREADY_EXISTS(409, "NICKNAME_ALREADY_EXISTS", "이미 사용 중인 닉네임입니다."),
 	INVALID_NICKNAME_FORMAT(400, "INVALID_NICKNAME_FORMAT", "허용되지 않는 닉네임 형식입니다."),
@@ -40,6 +42,11 @@ public enum ErrorCode {
 	CHATROOM_NOT_FOUND(404, "CHATROOM_NOT_FOUND", "채팅방이 존재하지 않습니다."),
 	CHATROOM_ACCESS_DENIED(403, "CHATROOM_ACCESS_DENIED", "해당 채팅방에 접근할 수 없습니다."),
 
+	// 저장된 검색 관련 에러
+	SAVED_SEARCH_NOT_FOUND(404, "SAVED_SEARCH_NOT_FOUND", "저장된 검색이 존재하지 않습니다."),
+	SAVED_SEARCH_ACCESS_DENIED(403, "SAVED_SEARCH_ACCESS_DENIED", "본인의 저장된 검색만 삭제할 수 있습니다."),
+	SAVED_SEARCH_LIMIT_EXCEEDED(400, "SAVED_SEARCH_LIMIT_EXCEEDED", "저장할 수 있는 검색 조건 수를 초과했습니다."),
+
 	// 예산, 구매이력 관련 에러
 	BUDGET_NOT_FOUND(404, "BUDGET_NOT_FOUND", "예산 정보가 없습니다.")
 	;
@@ -0,0 +1,13 @@
+package com.example.moneytalk.type;
+
+/**
+ * 트랜잭션 아웃박스({@link com.example.moneytalk.domain.OutboxEvent})에 기록되는 도메인 이벤트 유형입니다.
+ * - PURCHASE_CONFIRMED: 구매 확정 (페이로드: {@link com.example.moneytalk.event.PurchaseConfirmedEvent})
+ *
+ * @author Daniel
+ * @since 2026.10.18
+ */
+public enum OutboxEventType {
+
+	PURCHASE_CONFIRMED
+}
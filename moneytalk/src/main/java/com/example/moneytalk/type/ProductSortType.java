@@ -0,0 +1,51 @@
+package com.example.moneytalk.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 목록/검색 정렬 기준을 나타내는 열거형(Enum)입니다.
+ * - CREATED_AT: 최신순 (기본값)
+ * - PRICE_ASC: 가격 낮은순
+ * - PRICE_DESC: 가격 높은순
+ * - RELEVANCE: 관련도순 (키워드 검색 전용, 인메모리 색인에서만 계산 가능)
+ *
+ * 요청 파라미터로는 {@link #getValue()} 문자열을 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ProductSortType {
+
+	CREATED_AT("createdAt"),
+	PRICE_ASC("price_asc"),
+	PRICE_DESC("price_desc"),
+	RELEVANCE("relevance");
+
+	private final String value;
+
+	/**
+	 * 요청 파라미터 문자열을 정렬 기준으로 변환합니다.
+	 * 알 수 없는 값이나 null은 기본값(최신순)으로 처리합니다.
+	 *
+	 * @param value 정렬 파라미터 (createdAt, price_asc, price_desc, relevance)
+	 * @return 정렬 기준
+	 */
+	public static ProductSortType from(String value) {
+		for (ProductSortType type : values()) {
+			if (type.value.equals(value)) {
+				return type;
+			}
+		}
+		return CREATED_AT;
+	}
+
+	/**
+	 * DB 검색에서 사용할 정렬 기준을 반환합니다.
+	 * 관련도 점수는 DB에서 계산하지 않으므로, 색인을 사용할 수 없는 경우 최신순으로 대체합니다.
+	 *
+	 * @return DB 쿼리로 처리 가능한 정렬 기준
+	 */
+	public ProductSortType forDatabase() {
+		return this == RELEVANCE ? CREATED_AT : this;
+	}
+}
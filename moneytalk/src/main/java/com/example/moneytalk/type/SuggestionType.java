@@ -0,0 +1,18 @@
+package com.example.moneytalk.type;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 검색어 자동완성 제안 항목의 출처를 나타내는 열거형(Enum)입니다.
+ * - TITLE: 상품 제목
+ * - CATEGORY: 상품 카테고리
+ */
+@Schema(description = "자동완성 제안 유형")
+public enum SuggestionType {
+
+    @Schema(description = "상품 제목")
+    TITLE,
+
+    @Schema(description = "상품 카테고리")
+    CATEGORY
+}
@@ -0,0 +1,23 @@
+package com.example.moneytalk.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 상품 점수에 반영되는 사용자 행동과 가중치입니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum TrendingSignal {
+
+	/** 상품 상세 조회 */
+	VIEW(1),
+
+	/** 찜 추가 */
+	FAVORITE(3),
+
+	/** 구매 문의 채팅방 생성 */
+	CHAT_ROOM(5);
+
+	private final int weight;
+}
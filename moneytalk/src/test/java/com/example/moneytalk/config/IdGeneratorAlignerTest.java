@@ -0,0 +1,80 @@
+package com.example.moneytalk.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.moneytalk.domain.IdGenerators;
+import com.example.moneytalk.domain.Ledger;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.repository.LedgerRepository;
+import com.example.moneytalk.repository.UserRepository;
+import com.example.moneytalk.type.LedgerType;
+import com.example.moneytalk.type.UserType;
+
+/**
+ * IDENTITY 시절에 저장된 행이 있는 테이블에서 pooled ID 생성기가 기존 ID와 겹치지 않는지 검증합니다.
+ * 생성기는 별도 트랜잭션으로 ID를 할당하므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 정리합니다.
+ */
+@DataJpaTest
+@Import(IdGeneratorAligner.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorAlignerTest {
+
+	@Autowired
+	private IdGeneratorAligner idGeneratorAligner;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private LedgerRepository ledgerRepository;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM ledgers");
+		jdbcTemplate.update("DELETE FROM users");
+		jdbcTemplate.update("DELETE FROM " + IdGenerators.TABLE);
+	}
+
+	@Test
+	@DisplayName("기존 MAX(id) 이후부터 ID를 할당하고, 재실행해도 값이 뒤로 가지 않음")
+	void align_startsAfterExistingRows() {
+		// given: IDENTITY 시절에 저장된 가계부 (id 1000)
+		User user = userRepository.save(User.builder().email("ledger@example.com").password("encoded")
+				.nickname("ledger").role(UserType.USER).build());
+		jdbcTemplate.update("""
+				INSERT INTO ledgers (id, user_id, type, amount, category, memo, date)
+				VALUES (1000, ?, 'EXPENSE', 5000, '식비', '점심', CURRENT_DATE)
+				""", user.getId());
+
+		// when
+		idGeneratorAligner.align();
+		idGeneratorAligner.align();
+		Ledger saved = transactionTemplate.execute(status -> ledgerRepository.save(Ledger.builder().user(user)
+				.type(LedgerType.EXPENSE).amount(3000).category("식비").memo("저녁")
+				.date(LocalDate.now()).build()));
+
+		// then: 기존 ID 바로 다음 할당 구간에서 시작
+		assertThat(saved.getId()).isBetween(1001L, 1000L + IdGenerators.ALLOCATION_SIZE);
+	}
+}
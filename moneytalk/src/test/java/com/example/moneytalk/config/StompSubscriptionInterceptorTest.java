@@ -0,0 +1,83 @@
+package com.example.moneytalk.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.example.moneytalk.domain.User;
+
+class StompSubscriptionInterceptorTest {
+
+    private final StompSubscriptionInterceptor interceptor = new StompSubscriptionInterceptor();
+
+    @Test
+    void preSend_본인_판매알림_구독허용() {
+        // given
+        Message<byte[]> message = subscribe("/sub/purchase/1", 1L);
+
+        // when & then
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void preSend_다른사용자_판매알림_구독거부() {
+        // given
+        Message<byte[]> message = subscribe("/sub/purchase/2", 1L);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void preSend_다른사용자_저장검색알림_구독거부() {
+        // given
+        Message<byte[]> own = subscribe("/sub/saved-search/1", 1L);
+        Message<byte[]> other = subscribe("/sub/saved-search/2", 1L);
+
+        // when & then
+        assertThat(interceptor.preSend(own, null)).isSameAs(own);
+        assertThatThrownBy(() -> interceptor.preSend(other, null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void preSend_세션사용자_없으면_구독거부() {
+        // given
+        Message<byte[]> message = subscribe("/sub/purchase/1", null);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void preSend_사용자별_목적지가_아니면_통과() {
+        // given
+        Message<byte[]> message = subscribe("/sub/chat/room/2", 1L);
+
+        // when & then
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    private Message<byte[]> subscribe(String destination, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-0");
+        Map<String, Object> attributes = new HashMap<>();
+        if (userId != null) {
+            attributes.put("user", User.builder().id(userId).nickname("tester").build());
+        }
+        accessor.setSessionAttributes(attributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.moneytalk.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+	private static final String CACHE = "productDetail";
+
+	@Mock
+	private CacheInvalidationBus invalidationBus;
+
+	/** 두 노드가 공유하는 Redis(L2) 역할 */
+	private ConcurrentMapCacheManager sharedRemote;
+
+	private TwoTierCacheManager nodeA;
+	private TwoTierCacheManager nodeB;
+
+	@BeforeEach
+	void setUp() {
+		sharedRemote = new ConcurrentMapCacheManager(CACHE);
+		nodeA = node();
+		nodeB = node();
+	}
+
+	@Test
+	void get_L1미스_L2적중시_원본미조회_L1채움() {
+		// given: 노드 A가 원본을 조회하여 L2까지 채움
+		AtomicInteger loads = new AtomicInteger();
+		cache(nodeA).get(1L, () -> "v" + loads.incrementAndGet());
+
+		// when: 노드 B가 같은 키 조회
+		String value = cache(nodeB).get(1L, () -> "v" + loads.incrementAndGet());
+
+		// then
+		assertThat(value).isEqualTo("v1");
+		assertThat(loads).hasValue(1);
+		assertThat(cache(nodeB).getLocal().get("1")).isNotNull();
+		assertThat(cache(nodeB).getRemoteHits()).isEqualTo(1);
+	}
+
+	@Test
+	void evict_L2제거_및_무효화발행() {
+		// given
+		cache(nodeA).get(1L, () -> "v1");
+
+		// when
+		cache(nodeA).evict(1L);
+
+		// then
+		assertThat(cache(nodeA).getLocal().get("1")).isNull();
+		assertThat(sharedRemote.getCache(CACHE).get(1L)).isNull();
+		verify(invalidationBus).publishEvict(CACHE, "1");
+	}
+
+	@Test
+	void 다른노드_무효화수신시_L1만제거() {
+		// given: 노드 B의 L1에 값이 존재
+		cache(nodeB).get(1L, () -> "old");
+
+		// when: 노드 A에서 값을 변경하고 무효화 메시지 수신
+		sharedRemote.getCache(CACHE).put(1L, "new");
+		nodeB.onRemoteInvalidation(CACHE, "1");
+
+		// then: 노드 B는 L2에서 새 값을 읽음
+		assertThat(cache(nodeB).get(1L, () -> "unused")).isEqualTo("new");
+	}
+
+	@Test
+	void 전체제거_수신시_L1비움() {
+		// given
+		cache(nodeB).get(1L, () -> "v1");
+		cache(nodeB).get(2L, () -> "v2");
+
+		// when
+		nodeB.onRemoteInvalidation(CACHE, null);
+
+		// then
+		assertThat(cache(nodeB).getLocal().getNativeCache().estimatedSize()).isZero();
+	}
+
+	private TwoTierCacheManager node() {
+		TwoTierCacheManager manager = new TwoTierCacheManager(Map.of(CACHE, Caffeine.newBuilder().recordStats()),
+				sharedRemote, invalidationBus);
+		manager.initializeCaches();
+		return manager;
+	}
+
+	private TwoTierCache cache(TwoTierCacheManager manager) {
+		Cache cache = manager.getCache(CACHE);
+		return (TwoTierCache) ((TransactionAwareCacheDecorator) cache).getTargetCache();
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.moneytalk.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.domain.ChatRoom;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ChatMessageCursor;
+import com.example.moneytalk.type.MessageType;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 채팅 메시지 커서 조회가 조회자 기준 삭제 여부를 SQL에서 거르고, 커서 이전 메시지를 (전송 시각, ID) 최신순으로 반환하는지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ChatMessageRepositoryTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+
+	private User buyer;
+	private User seller;
+	private ChatRoom room;
+
+	@BeforeEach
+	void setUp() {
+		buyer = user("buyer");
+		seller = user("seller");
+		Product product = Product.builder().user(seller).title("자전거").description("설명").price(100_000)
+				.category("스포츠").location("서울").status(ProductStatus.SALE).build();
+		em.persist(product);
+		room = ChatRoom.builder().product(product).buyer(buyer).seller(seller).build();
+		em.persist(room);
+	}
+
+	@Test
+	@DisplayName("before 이전 메시지를 최신순으로 limit건 조회")
+	void findVisibleBefore_cursor() {
+		// given
+		message(buyer, seller, "1");
+		message(seller, buyer, "2");
+		message(buyer, seller, "3");
+		message(seller, buyer, "4");
+		em.flush();
+		em.clear();
+
+		// when
+		List<ChatMessage> firstPage = findVisibleBefore(buyer, ChatMessageCursor.FIRST, 2);
+		List<ChatMessage> olderPage = findVisibleBefore(buyer, ChatMessageCursor.of(firstPage.get(1)), 2);
+
+		// then
+		assertThat(firstPage).extracting(ChatMessage::getMessage).containsExactly("4", "3");
+		assertThat(olderPage).extracting(ChatMessage::getMessage).containsExactly("2", "1");
+		assertThat(firstPage).allSatisfy(m -> assertThat(Hibernate.isInitialized(m.getSender())).isTrue());
+	}
+
+	@Test
+	@DisplayName("조회자가 보낸 메시지는 보낸 쪽 삭제, 받은 메시지는 받은 쪽 삭제 여부로 거름")
+	void findVisibleBefore_perViewerSoftDelete() {
+		// given: 구매자가 채팅방을 나가 자신이 보낸/받은 메시지를 모두 삭제한 뒤, 판매자가 새 메시지를 보냄
+		ChatMessage fromBuyer = message(buyer, seller, "구매자 메시지");
+		ChatMessage fromSeller = message(seller, buyer, "판매자 메시지");
+		fromBuyer.setDeletedBySender(true);
+		fromSeller.setDeletedByReceiver(true);
+		message(seller, buyer, "나간 뒤 메시지");
+		em.flush();
+		em.clear();
+
+		// when
+		List<ChatMessage> buyerView = findVisibleBefore(buyer, ChatMessageCursor.FIRST, 10);
+		List<ChatMessage> sellerView = findVisibleBefore(seller, ChatMessageCursor.FIRST, 10);
+
+		// then: 판매자에게는 구매자가 삭제한 메시지도 그대로 보임
+		assertThat(buyerView).extracting(ChatMessage::getMessage).containsExactly("나간 뒤 메시지");
+		assertThat(sellerView).extracting(ChatMessage::getMessage).containsExactly("나간 뒤 메시지", "판매자 메시지",
+				"구매자 메시지");
+	}
+
+	@Test
+	@DisplayName("ID가 아닌 전송 시각 순으로 정렬하고, 같은 시각은 ID로 이어서 조회")
+	void findVisibleBefore_ordersBySentAt() {
+		// given: 늦게 저장된(WAL 재처리) 1은 ID가 가장 크지만 전송 시각은 가장 이름, 2와 3은 전송 시각이 같음
+		LocalDateTime base = LocalDateTime.of(2026, 10, 18, 12, 0);
+		message(buyer, seller, "2", base.plusSeconds(2));
+		message(seller, buyer, "4", base.plusSeconds(3));
+		message(seller, buyer, "3", base.plusSeconds(2));
+		message(buyer, seller, "1", base.plusSeconds(1));
+		em.flush();
+		em.clear();
+
+		// when
+		List<ChatMessage> firstPage = findVisibleBefore(buyer, ChatMessageCursor.FIRST, 2);
+		List<ChatMessage> olderPage = findVisibleBefore(buyer, ChatMessageCursor.of(firstPage.get(1)), 2);
+		List<ChatMessage> recent = chatMessageRepository.findRecentWithSender(room.getId(), PageRequest.of(0, 10));
+
+		// then
+		assertThat(firstPage).extracting(ChatMessage::getMessage).containsExactly("4", "3");
+		assertThat(olderPage).extracting(ChatMessage::getMessage).containsExactly("2", "1");
+		assertThat(recent).extracting(ChatMessage::getMessage).containsExactly("4", "3", "2", "1");
+	}
+
+	private List<ChatMessage> findVisibleBefore(User viewer, ChatMessageCursor cursor, int size) {
+		return chatMessageRepository.findVisibleBefore(room.getId(), viewer.getId(), cursor.getSentAt(), cursor.getId(),
+				PageRequest.of(0, size));
+	}
+
+	private ChatMessage message(User sender, User receiver, String text) {
+		return message(sender, receiver, text, null);
+	}
+
+	private ChatMessage message(User sender, User receiver, String text, LocalDateTime sentAt) {
+		ChatMessage message = ChatMessage.builder().chatRoom(room).sender(sender).receiver(receiver).message(text)
+				.type(MessageType.TEXT).sentAt(sentAt).build();
+		em.persist(message);
+		return message;
+	}
+
+	private User user(String nickname) {
+		User user = User.builder().email(nickname + "@example.com").password("encoded").nickname(nickname)
+				.role(UserType.USER).build();
+		em.persist(user);
+		return user;
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.moneytalk.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductBulkItemDto;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * JDBC 배치 INSERT로 저장한 상품이 JPA 엔티티로 그대로 조회되는지 검증합니다.
+ */
+@DataJpaTest
+@Import(ProductBulkInsertRepository.class)
+@ActiveProfiles("test")
+class ProductBulkInsertRepositoryTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private ProductBulkInsertRepository productBulkInsertRepository;
+
+	@Test
+	@DisplayName("배치 INSERT 후 생성 ID는 요청 순서대로 반환되고, 첫 이미지 URL이 대표 이미지 URL")
+	void insertAll_returnsIdsInOrder() {
+		// given
+		User seller = User.builder().email("bulk@example.com").password("encoded").nickname("bulk")
+				.role(UserType.USER).build();
+		em.persist(seller);
+		em.flush();
+
+		List<ProductBulkItemDto> items = List.of(item("아이폰", 900_000, List.of("https://img/a/1.jpg", "https://img/a/2.jpg")),
+				item("갤럭시", 700_000, List.of()), item("맥북", 1_500_000, List.of("https://img/c/1.jpg")));
+
+		// when
+		List<Long> ids = productBulkInsertRepository.insertAll(seller.getId(), items, LocalDateTime.now());
+		em.clear();
+
+		// then
+		assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+		assertThat(ids.stream().map(id -> em.find(Product.class, id)).toList())
+				.extracting(Product::getTitle, Product::getPrice, Product::getStatus, Product::getThumbnailUrl)
+				.containsExactly(tuple("아이폰", 900_000, ProductStatus.SALE, "https://img/a/1.jpg"),
+						tuple("갤럭시", 700_000, ProductStatus.SALE, null),
+						tuple("맥북", 1_500_000, ProductStatus.SALE, "https://img/c/1.jpg"));
+		assertThat(em.find(Product.class, ids.get(0)).getUser().getId()).isEqualTo(seller.getId());
+	}
+
+	private ProductBulkItemDto item(String title, int price, List<String> imageUrls) {
+		ProductBulkItemDto item = new ProductBulkItemDto();
+		item.setTitle(title);
+		item.setDescription("설명");
+		item.setPrice(price);
+		item.setCategory("전자기기");
+		item.setLocation("서울");
+		item.setImageUrls(imageUrls);
+		return item;
+	}
+}
@@ -0,0 +1,222 @@
+package com.example.moneytalk.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.ChatRoom;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductFacetCountDto;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.service.ProductImageLoader;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 상품 목록 조회 시 실행되는 SQL 수가 페이지 크기와 무관하게 일정한지 검증합니다.
+ * (상품 1회 + 이미지 IN 조회 1회, 패싯 집계는 GROUP BY 1회)
+ * 같은 조건 조합의 검색/패싯 JPQL이 Hibernate 쿼리 계획 캐시를 재사용하는지도 확인합니다.
+ * 채팅방 요약의 대표 이미지는 상품 행의 thumbnailUrl만 읽어 images 컬렉션을 로딩하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ProductImageLoader.class)
+@ActiveProfiles("test")
+class ProductListingQueryCountTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductImageLoader productImageLoader;
+
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 10, 50 })
+	@DisplayName("목록 조회 쿼리 수는 페이지 크기와 무관하게 2회")
+	void listing_queryCount_constant(int pageSize) {
+		// given: 상품마다 판매자가 다르고, 이미지가 2장씩 있는 상품 pageSize개
+		for (int i = 0; i < pageSize; i++) {
+			User seller = User.builder().email("seller" + i + "@example.com").password("encoded")
+					.nickname("seller" + i).role(UserType.USER).build();
+			em.persist(seller);
+
+			Product product = Product.builder().user(seller).title("상품 " + i).description("설명").price(1000 + i)
+					.category("전자기기").location("서울").status(ProductStatus.SALE).build();
+			em.persist(product);
+
+			em.persist(ProductImage.builder().product(product).imageUrl("https://img/" + i + "/1.jpg").build());
+			em.persist(ProductImage.builder().product(product).imageUrl("https://img/" + i + "/2.jpg").build());
+		}
+		em.flush();
+		em.clear();
+
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setSize(pageSize);
+
+		// when
+		List<Product> products = productRepository.searchByConditions(request);
+		List<ProductResponseDto> responses = productImageLoader.toResponses(products);
+
+		// then
+		assertThat(responses).hasSize(pageSize);
+		assertThat(responses).allSatisfy(dto -> {
+			assertThat(dto.getImages()).hasSize(2);
+			assertThat(dto.getSellerNickname()).isNotNull();
+		});
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("패싯 집계는 GROUP BY 쿼리 1회로 조합별 개수를 조회")
+	void countFacets_singleGroupedQuery() {
+		// given
+		User seller = User.builder().email("facet@example.com").password("encoded").nickname("facet")
+				.role(UserType.USER).build();
+		em.persist(seller);
+		String[][] rows = { { "전자기기", "서울" }, { "전자기기", "서울" }, { "전자기기", "부산" }, { "의류", "서울" } };
+		for (String[] row : rows) {
+			em.persist(Product.builder().user(seller).title("패싯 상품").description("설명").price(5000)
+					.category(row[0]).location(row[1]).status(ProductStatus.SALE).build());
+		}
+		em.flush();
+		em.clear();
+
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setKeyword("패싯");
+		request.setCategory("전자기기");
+
+		// when
+		List<ProductFacetCountDto> counts = productRepository.countFacets(request);
+
+		// then: 카테고리 필터는 적용하지 않고 조합별로 집계
+		assertThat(counts).extracting(ProductFacetCountDto::getCategory, ProductFacetCountDto::getLocation,
+				ProductFacetCountDto::getCount)
+				.containsExactlyInAnyOrder(tuple("전자기기", "서울", 2L), tuple("전자기기", "부산", 1L), tuple("의류", "서울", 1L));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 조건 조합의 검색은 값이 달라도 쿼리 계획 캐시에서 적중")
+	void searchByConditions_reusesQueryPlan() {
+		// given
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setKeyword("아이폰");
+		request.setCategory("전자기기");
+		request.setMaxPrice(900_000);
+		request.setSort("price_desc");
+
+		// when: 같은 형태의 요청을 값만 바꿔 두 번 실행
+		productRepository.searchByConditions(request);
+		productRepository.countFacets(request);
+		long missesAfterFirstRequest = statistics.getQueryPlanCacheMissCount();
+
+		request.setKeyword("갤럭시");
+		request.setCategory("의류");
+		request.setMaxPrice(10_000);
+		productRepository.searchByConditions(request);
+		productRepository.countFacets(request);
+
+		// then: 두 번째 요청은 JPQL 해석/SQL 변환 계획을 새로 만들지 않음
+		assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThanOrEqualTo(2);
+		assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(missesAfterFirstRequest);
+	}
+
+	@Test
+	@DisplayName("채팅방 요약의 대표 이미지는 images 컬렉션을 초기화하지 않고 조회")
+	void chatRoomSummary_thumbnail_doesNotInitializeImages() {
+		// given: 채팅방 3개, 상품마다 이미지 2장
+		User buyer = User.builder().email("buyer@example.com").password("encoded").nickname("buyer")
+				.role(UserType.USER).build();
+		em.persist(buyer);
+		for (int i = 0; i < 3; i++) {
+			User seller = User.builder().email("chat-seller" + i + "@example.com").password("encoded")
+					.nickname("chat-seller" + i).role(UserType.USER).build();
+			em.persist(seller);
+			Product product = Product.builder().user(seller).title("상품 " + i).description("설명").price(1000)
+					.category("전자기기").location("서울").status(ProductStatus.SALE)
+					.thumbnailUrl("https://img/" + i + "/1.jpg").build();
+			em.persist(product);
+			em.persist(ProductImage.builder().product(product).imageUrl("https://img/" + i + "/1.jpg")
+					.isThumbnail(true).build());
+			em.persist(ProductImage.builder().product(product).imageUrl("https://img/" + i + "/2.jpg").build());
+			em.persist(ChatRoom.builder().product(product).buyer(buyer).seller(seller).build());
+		}
+		em.flush();
+		em.clear();
+
+		// when
+		List<ChatRoom> rooms = chatRoomRepository.findByBuyerOrSellerOrderByLastMessageAtDesc(buyer, buyer);
+		List<String> thumbnails = rooms.stream().map(room -> room.getProduct().getThumbnailUrl()).toList();
+
+		// then
+		assertThat(thumbnails).containsExactlyInAnyOrder("https://img/0/1.jpg", "https://img/1/1.jpg",
+				"https://img/2/1.jpg");
+		assertThat(rooms).allSatisfy(room -> assertThat(Hibernate.isInitialized(room.getProduct().getImages())).isFalse());
+	}
+
+	@Test
+	@DisplayName("대표 이미지 URL 백필은 지정된 대표 이미지를 우선하고, 없으면 첫 이미지를 사용")
+	void backfillThumbnailUrls_prefersFlaggedImage() {
+		// given: thumbnailUrl 컬럼 도입 이전 상품 (대표 지정 O / 대표 지정 X / 이미지 없음)
+		User seller = User.builder().email("backfill@example.com").password("encoded").nickname("backfill")
+				.role(UserType.USER).build();
+		em.persist(seller);
+		Product flagged = Product.builder().user(seller).title("대표 지정").description("설명").price(1000)
+				.category("전자기기").location("서울").status(ProductStatus.SALE).build();
+		Product unflagged = Product.builder().user(seller).title("대표 미지정").description("설명").price(1000)
+				.category("전자기기").location("서울").status(ProductStatus.SALE).build();
+		Product noImage = Product.builder().user(seller).title("이미지 없음").description("설명").price(1000)
+				.category("전자기기").location("서울").status(ProductStatus.SALE).build();
+		em.persist(flagged);
+		em.persist(unflagged);
+		em.persist(noImage);
+		em.persist(ProductImage.builder().product(flagged).imageUrl("https://img/a/1.jpg").build());
+		em.persist(ProductImage.builder().product(flagged).imageUrl("https://img/a/2.jpg").isThumbnail(true).build());
+		em.persist(ProductImage.builder().product(unflagged).imageUrl("https://img/b/1.jpg").build());
+		em.persist(ProductImage.builder().product(unflagged).imageUrl("https://img/b/2.jpg").build());
+		em.flush();
+		em.clear();
+
+		// when
+		int updated = productRepository.backfillThumbnailUrls();
+		em.clear();
+
+		// then
+		assertThat(updated).isEqualTo(2);
+		assertThat(em.find(Product.class, flagged.getId()).getThumbnailUrl()).isEqualTo("https://img/a/2.jpg");
+		assertThat(em.find(Product.class, unflagged.getId()).getThumbnailUrl()).isEqualTo("https://img/b/1.jpg");
+		assertThat(em.find(Product.class, noImage.getId()).getThumbnailUrl()).isNull();
+	}
+}
@@ -1,7 +1,11 @@
 package com.example.moneytalk.service;
 
 import com.example.moneytalk.domain.*;
+import com.example.moneytalk.dto.ChatMessageCursor;
 import com.example.moneytalk.dto.ChatMessageDto;
+import com.example.moneytalk.dto.ChatMessageResponseDto;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.event.ChatMessagesSavedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ChatMessageRepository;
 import com.example.moneytalk.repository.ChatRoomRepository;
@@ -12,9 +16,13 @@ import com.example.moneytalk.type.MessageType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -33,39 +41,97 @@ class ChatMessageServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private RecentChatMessageBuffer recentChatMessageBuffer;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
 	}
 
 	@Test
-	void saveMessage_채팅방없음_예외() {
+	void saveMessages_채팅방없는메시지_건너뜀() {
 		// given
-		ChatMessageDto dto = ChatMessageDto.builder().chatRoomId(1L).senderId(10L).message("hello")
+		ChatMessageDto dto = ChatMessageDto.builder().messageKey("k1").chatRoomId(1L).senderId(10L).message("hello")
 				.type(MessageType.TEXT).build();
 
-		given(chatRoomRepository.findById(1L)).willReturn(Optional.empty());
+		given(chatMessageRepository.findExistingMessageKeys(List.of("k1"))).willReturn(List.of());
+		given(chatRoomRepository.findAllById(Set.of(1L))).willReturn(List.of());
 
-		// when & then
-		GlobalException ex = assertThrows(GlobalException.class, () -> chatMessageService.saveMessage(dto));
-		assertEquals(ErrorCode.CHATROOM_NOT_FOUND, ex.getErrorCode());
+		// when
+		chatMessageService.saveMessages(List.of(dto));
+
+		// then
+		verify(chatMessageRepository).saveAll(List.of());
+		verify(eventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
-	void saveMessage_송신자없음_예외() {
-		// given
-		ChatMessageDto dto = ChatMessageDto.builder().chatRoomId(1L).senderId(10L).message("hello")
+	@SuppressWarnings("unchecked")
+	void saveMessages_이미저장된키_중복키_건너뜀() {
+		// given: k1은 이미 저장됨(WAL 재처리), k2는 같은 배치에 두 번 들어옴
+		User buyer = User.builder().id(10L).build();
+		User seller = User.builder().id(20L).build();
+		ChatRoom room = ChatRoom.builder().id(1L).buyer(buyer).seller(seller).build();
+		ChatMessageDto saved = ChatMessageDto.builder().messageKey("k1").chatRoomId(1L).senderId(10L).message("a")
+				.type(MessageType.TEXT).build();
+		ChatMessageDto fresh = ChatMessageDto.builder().messageKey("k2").chatRoomId(1L).senderId(10L).message("b")
 				.type(MessageType.TEXT).build();
 
-		ChatRoom room = ChatRoom.builder().id(1L).buyer(User.builder().id(2L).build())
-				.seller(User.builder().id(3L).build()).build();
+		given(chatMessageRepository.findExistingMessageKeys(List.of("k1", "k2", "k2"))).willReturn(List.of("k1"));
+		given(chatRoomRepository.findAllById(Set.of(1L))).willReturn(List.of(room));
 
-		given(chatRoomRepository.findById(1L)).willReturn(Optional.of(room));
-		given(userRepository.findById(10L)).willReturn(Optional.empty());
+		// when
+		chatMessageService.saveMessages(List.of(saved, fresh, fresh));
 
-		// when & then
-		GlobalException ex = assertThrows(GlobalException.class, () -> chatMessageService.saveMessage(dto));
-		assertEquals(ErrorCode.SENDER_NOT_FOUND, ex.getErrorCode());
+		// then
+		ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(chatMessageRepository).saveAll(captor.capture());
+		assertEquals(List.of("k2"), captor.getValue().stream().map(ChatMessage::getMessageKey).toList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void saveMessages_배치저장_방별마지막메시지는_최신값으로_한번만() {
+		// given: 구매자가 보낸 메시지 2건 + 판매자의 이미지 메시지 1건, 조회/저장은 배치당 1회
+		User buyer = User.builder().id(10L).build();
+		User seller = User.builder().id(20L).build();
+		ChatRoom room = ChatRoom.builder().id(1L).buyer(buyer).seller(seller).build();
+		LocalDateTime now = LocalDateTime.now();
+
+		List<ChatMessageDto> dtos = List.of(
+				ChatMessageDto.builder().messageKey("k1").chatRoomId(1L).senderId(10L).message("hello")
+						.type(MessageType.TEXT).sentAt(now.minusSeconds(2)).build(),
+				ChatMessageDto.builder().messageKey("k2").chatRoomId(1L).senderId(20L).imageUrl("https://img/1.jpg")
+						.type(MessageType.IMAGE).sentAt(now.minusSeconds(1)).build(),
+				ChatMessageDto.builder().messageKey("k3").chatRoomId(1L).senderId(10L).message("old")
+						.type(MessageType.TEXT).sentAt(now.minusSeconds(3)).build());
+
+		given(chatMessageRepository.findExistingMessageKeys(List.of("k1", "k2", "k3"))).willReturn(List.of());
+		given(chatRoomRepository.findAllById(Set.of(1L))).willReturn(List.of(room));
+		given(userRepository.getReferenceById(10L)).willReturn(buyer);
+		given(userRepository.getReferenceById(20L)).willReturn(seller);
+
+		// when
+		chatMessageService.saveMessages(dtos);
+
+		// then: 늦게 들어온 오래된 메시지는 마지막 메시지를 덮어쓰지 않음
+		ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(chatMessageRepository).saveAll(captor.capture());
+		assertEquals(3, captor.getValue().size());
+		assertEquals(seller, captor.getValue().get(0).getReceiver());
+		assertEquals(buyer, captor.getValue().get(1).getReceiver());
+		assertEquals("[이미지]", room.getLastMessage());
+		assertEquals(now.minusSeconds(1), room.getLastMessageAt());
+		verify(userRepository, never()).findById(any());
+
+		// then: 저장된 메시지를 최근 메시지 버퍼에 알림 (ID 채우기)
+		ArgumentCaptor<ChatMessagesSavedEvent> event = ArgumentCaptor.forClass(ChatMessagesSavedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertSame(captor.getValue(), event.getValue().getMessages());
 	}
 
 	@Test
@@ -77,7 +143,7 @@ class ChatMessageServiceTest {
 
 		// when & then
 		GlobalException ex = assertThrows(GlobalException.class,
-				() -> chatMessageService.getMessagesForChatRoom(99L, user));
+				() -> chatMessageService.getMessagesForChatRoom(99L, user, null, 50));
 		assertEquals(ErrorCode.CHATROOM_NOT_FOUND, ex.getErrorCode());
 	}
 
@@ -93,57 +159,129 @@ class ChatMessageServiceTest {
 
 		// when & then
 		GlobalException ex = assertThrows(GlobalException.class,
-				() -> chatMessageService.getMessagesForChatRoom(1L, user));
+				() -> chatMessageService.getMessagesForChatRoom(1L, user, null, 50));
 		assertEquals(ErrorCode.CHATROOM_ACCESS_DENIED, ex.getErrorCode());
 	}
 
 	@Test
-	void saveMessage_정상저장() {
-		// given
-		ChatMessageDto dto = ChatMessageDto.builder().chatRoomId(1L).senderId(10L).message("hello")
-				.type(MessageType.TEXT).build();
+	void getMessagesForChatRoom_정상조회() {
+		// given: 최신순으로 limit + 1건 조회
+		User buyer = User.builder().id(1L).nickname("buyer").build();
+		User seller = User.builder().id(2L).nickname("seller").build();
 
-		User sender = User.builder().id(10L).nickname("dohyunnn").build();
-		User buyer = User.builder().id(10L).build();
-		User seller = User.builder().id(20L).build();
+		ChatRoom room = ChatRoom.builder().id(10L).buyer(buyer).seller(seller).build();
 
-		ChatRoom room = ChatRoom.builder().id(1L).buyer(buyer).seller(seller).build();
+		LocalDateTime now = LocalDateTime.of(2026, 10, 18, 12, 0);
+		ChatMessage msg3 = ChatMessage.builder().id(3L).sender(buyer).receiver(seller).message("Deal")
+				.sentAt(now.plusSeconds(3)).build();
+		ChatMessage msg2 = ChatMessage.builder().id(2L).sender(seller).receiver(buyer).message("Hello")
+				.sentAt(now.plusSeconds(2)).build();
+		ChatMessage msg1 = ChatMessage.builder().id(1L).sender(buyer).receiver(seller).message("Hi")
+				.sentAt(now.plusSeconds(1)).build();
 
-		given(chatRoomRepository.findById(1L)).willReturn(Optional.of(room));
-		given(userRepository.findById(10L)).willReturn(Optional.of(sender));
+		given(chatRoomRepository.findById(10L)).willReturn(Optional.of(room));
+		given(chatMessageRepository.findVisibleBefore(10L, 1L, ChatMessageCursor.FIRST.getSentAt(), Long.MAX_VALUE,
+				PageRequest.of(0, 3))).willReturn(List.of(msg3, msg2, msg1));
+
+		// when
+		var result = chatMessageService.getMessagesForChatRoom(10L, buyer, null, 2);
+
+		// then: 화면 표시 순서(오래된 → 최신), 다음 커서는 이번 페이지의 가장 오래된 메시지 (전송 시각, ID)
+		assertEquals(2, result.getContent().size());
+		assertEquals("Hello", result.getContent().get(0).getMessage());
+		assertEquals("Deal", result.getContent().get(1).getMessage());
+		assertTrue(result.isHasNext());
+		ChatMessageCursor cursor = ChatMessageCursor.decode(result.getNextCursor());
+		assertEquals(now.plusSeconds(2), cursor.getSentAt());
+		assertEquals(2L, cursor.getId());
+	}
+
+	@Test
+	void getMessagesForChatRoom_이전메시지_마지막페이지() {
+		// given
+		User buyer = User.builder().id(1L).nickname("buyer").build();
+		User seller = User.builder().id(2L).nickname("seller").build();
+		ChatRoom room = ChatRoom.builder().id(10L).buyer(buyer).seller(seller).build();
+		LocalDateTime now = LocalDateTime.of(2026, 10, 18, 12, 0);
+		ChatMessage msg2 = ChatMessage.builder().id(2L).sender(seller).receiver(buyer).sentAt(now.plusSeconds(2))
+				.build();
+		ChatMessage msg1 = ChatMessage.builder().id(1L).sender(buyer).receiver(seller).message("Hi")
+				.sentAt(now.plusSeconds(1)).build();
+
+		given(chatRoomRepository.findById(10L)).willReturn(Optional.of(room));
+		given(chatMessageRepository.findVisibleBefore(10L, 2L, now.plusSeconds(2), 2L, PageRequest.of(0, 3)))
+				.willReturn(List.of(msg1));
 
 		// when
-		chatMessageService.saveMessage(dto);
+		var result = chatMessageService.getMessagesForChatRoom(10L, seller, ChatMessageCursor.of(msg2).encode(), 2);
 
 		// then
-		verify(chatMessageRepository).save(any(ChatMessage.class));
-		assertEquals("hello", room.getLastMessage());
-		assertNotNull(room.getLastMessageAt());
+		assertEquals(1, result.getContent().size());
+		assertFalse(result.isHasNext());
+		assertNull(result.getNextCursor());
 	}
 
 	@Test
-	void getMessagesForChatRoom_정상조회() {
+	void getMessagesForChatRoom_첫페이지_버퍼에서응답() {
 		// given
 		User buyer = User.builder().id(1L).nickname("buyer").build();
 		User seller = User.builder().id(2L).nickname("seller").build();
-
 		ChatRoom room = ChatRoom.builder().id(10L).buyer(buyer).seller(seller).build();
+		CursorPageResponseDto<ChatMessageResponseDto> cached = CursorPageResponseDto.<ChatMessageResponseDto>builder()
+				.content(List.of(ChatMessageResponseDto.builder().messageId(5L).message("Hi").build()))
+				.hasNext(false).build();
 
-		ChatMessage msg1 = ChatMessage.builder().id(1L).sender(buyer).receiver(seller).message("Hi")
-				.isDeletedBySender(false).isDeletedByReceiver(false).build();
-		ChatMessage msg2 = ChatMessage.builder().id(2L).sender(seller).receiver(buyer).message("Hello")
-				.isDeletedBySender(false).isDeletedByReceiver(false).build();
+		given(chatRoomRepository.findById(10L)).willReturn(Optional.of(room));
+		given(recentChatMessageBuffer.firstPage(10L, 1L, 50)).willReturn(Optional.of(cached));
+
+		// when
+		var result = chatMessageService.getMessagesForChatRoom(10L, buyer, null, 50);
+
+		// then: 메시지 테이블 조회 없음
+		assertSame(cached, result);
+		verify(chatMessageRepository, never()).findVisibleBefore(any(), any(), any(), any(), any());
+		verify(chatMessageRepository, never()).findRecentWithSender(any(), any());
+	}
+
+	@Test
+	void getMessagesForChatRoom_버퍼미적재_최근메시지로채운뒤응답() {
+		// given: 버퍼 용량 3, 방 메시지 2건 → 전체를 읽었으므로 complete
+		User buyer = User.builder().id(1L).nickname("buyer").build();
+		User seller = User.builder().id(2L).nickname("seller").build();
+		ChatRoom room = ChatRoom.builder().id(10L).buyer(buyer).seller(seller).build();
+		List<ChatMessage> rows = List.of(
+				ChatMessage.builder().id(2L).sender(seller).receiver(buyer).message("Hello").build(),
+				ChatMessage.builder().id(1L).sender(buyer).receiver(seller).message("Hi").build());
+		CursorPageResponseDto<ChatMessageResponseDto> filled = CursorPageResponseDto.<ChatMessageResponseDto>builder()
+				.content(List.of()).hasNext(false).build();
 
 		given(chatRoomRepository.findById(10L)).willReturn(Optional.of(room));
-		given(chatMessageRepository.findByChatRoomIdAndIsDeletedBySenderFalse(10L)).willReturn(List.of(msg1, msg2));
+		given(recentChatMessageBuffer.firstPage(10L, 1L, 50)).willReturn(Optional.empty(), Optional.of(filled));
+		given(recentChatMessageBuffer.loadToken(10L)).willReturn(7L);
+		given(recentChatMessageBuffer.capacity()).willReturn(3);
+		given(chatMessageRepository.findRecentWithSender(10L, PageRequest.of(0, 4))).willReturn(rows);
 
 		// when
-		var result = chatMessageService.getMessagesForChatRoom(10L, buyer);
+		var result = chatMessageService.getMessagesForChatRoom(10L, buyer, null, 50);
 
 		// then
-		assertEquals(2, result.size());
-		assertEquals("Hi", result.get(0).getMessage());
-		assertEquals("Hello", result.get(1).getMessage());
+		assertSame(filled, result);
+		verify(recentChatMessageBuffer).fill(10L, 7L, rows, true);
+		verify(chatMessageRepository, never()).findVisibleBefore(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void getMessagesForChatRoom_잘못된커서_예외() {
+		// given
+		User buyer = User.builder().id(1L).nickname("buyer").build();
+		User seller = User.builder().id(2L).nickname("seller").build();
+		ChatRoom room = ChatRoom.builder().id(10L).buyer(buyer).seller(seller).build();
+		given(chatRoomRepository.findById(10L)).willReturn(Optional.of(room));
+
+		// when & then: 이전 형식(메시지 ID만)의 커서
+		GlobalException ex = assertThrows(GlobalException.class,
+				() -> chatMessageService.getMessagesForChatRoom(10L, buyer, "1250", 50));
+		assertEquals(ErrorCode.INVALID_CURSOR, ex.getErrorCode());
 	}
 
 	@Test
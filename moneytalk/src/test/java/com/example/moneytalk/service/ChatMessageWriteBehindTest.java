@@ -0,0 +1,169 @@
+package com.example.moneytalk.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+import com.example.moneytalk.type.MessageType;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatMessageWriteBehindTest {
+
+	@Mock
+	private ChatMessageService chatMessageService;
+
+	@Mock
+	private ChatMessageWal wal;
+
+	private ChatMessageWriteBehind writeBehind;
+
+	@AfterEach
+	void tearDown() {
+		if (writeBehind != null && writeBehind.isRunning()) {
+			writeBehind.stop();
+		}
+	}
+
+	@Test
+	void enqueue_큐에모았다가_flush시_배치크기만큼_저장후_WAL삭제() {
+		// given
+		start(10, 2);
+		given(wal.append(any())).willReturn("1-0", "2-0", "3-0");
+		ChatMessageDto m1 = message("k1"), m2 = message("k2"), m3 = message("k3");
+
+		// when
+		writeBehind.enqueue(m1);
+		writeBehind.enqueue(m2);
+		writeBehind.enqueue(m3);
+		verify(chatMessageService, never()).saveMessages(any());
+		writeBehind.flush();
+
+		// then
+		InOrder inOrder = inOrder(chatMessageService, wal);
+		inOrder.verify(chatMessageService).saveMessages(List.of(m1, m2));
+		inOrder.verify(wal).remove(List.of("1-0", "2-0"));
+		inOrder.verify(chatMessageService).saveMessages(List.of(m3));
+		inOrder.verify(wal).remove(List.of("3-0"));
+	}
+
+	@Test
+	void flush_저장실패시_WAL에_남겨둠() {
+		// given
+		start(10, 10);
+		given(wal.append(any())).willReturn("1-0");
+		willThrow(new QueryTimeoutException("db down")).given(chatMessageService).saveMessages(any());
+
+		// when
+		writeBehind.enqueue(message("k1"));
+		writeBehind.flush();
+
+		// then
+		verify(wal, never()).remove(any());
+	}
+
+	@Test
+	void enqueue_큐가득참_먼저들어온메시지부터_호출스레드에서_저장() {
+		// given
+		start(1, 10);
+		given(wal.append(any())).willReturn("1-0", "2-0");
+		ChatMessageDto first = message("k1"), second = message("k2");
+
+		// when
+		writeBehind.enqueue(first);
+		writeBehind.enqueue(second);
+
+		// then
+		InOrder inOrder = inOrder(chatMessageService);
+		inOrder.verify(chatMessageService).saveMessages(List.of(first));
+		inOrder.verify(chatMessageService).saveMessages(List.of(second));
+	}
+
+	@Test
+	void enqueue_WAL기록실패시_바로저장() {
+		// given: 스케줄러 없이 WAL 실패 경로만 확인
+		writeBehind = writeBehind(10, 10);
+		ChatMessageDto dto = message("k1");
+		given(wal.append(dto)).willThrow(new QueryTimeoutException("redis down"));
+
+		// when
+		writeBehind.enqueue(dto);
+
+		// then
+		verify(chatMessageService).saveMessages(List.of(dto));
+	}
+
+	@Test
+	void stop_종료시_대기중인_메시지를_모두저장() {
+		// given
+		start(10, 10);
+		given(wal.append(any())).willReturn("1-0");
+		ChatMessageDto dto = message("k1");
+		writeBehind.enqueue(dto);
+
+		// when
+		writeBehind.stop();
+
+		// then
+		verify(chatMessageService).saveMessages(List.of(dto));
+		verify(wal).remove(List.of("1-0"));
+	}
+
+	@Test
+	void recover_배치실패시_건별저장_이미저장된항목도_WAL에서삭제() {
+		// given: 다른 노드가 남긴 WAL 항목 2건, 그중 1건은 이미 저장됨
+		writeBehind = writeBehind(10, 10);
+		ChatMessageDto ok = message("k1"), duplicated = message("k2");
+		given(wal.readOlderThan(any(), anyInt())).willReturn(
+				List.of(new ChatMessageWal.Entry("1-0", ok), new ChatMessageWal.Entry("2-0", duplicated)), List.of());
+		willThrow(new DataIntegrityViolationException("dup")).given(chatMessageService)
+				.saveMessages(List.of(ok, duplicated));
+		willThrow(new DataIntegrityViolationException("dup")).given(chatMessageService)
+				.saveMessages(List.of(duplicated));
+
+		// when
+		writeBehind.recover();
+
+		// then
+		verify(chatMessageService).saveMessages(List.of(ok));
+		verify(wal).remove(List.of("1-0"));
+		verify(wal).remove(List.of("2-0"));
+	}
+
+	/**
+	 * 주기 flush/recover가 테스트 중에 실행되지 않도록 첫 실행을 늦춥니다.
+	 */
+	private ChatMessageWriteBehind writeBehind(int capacity, int batchSize) {
+		return new ChatMessageWriteBehind(chatMessageService, wal, capacity, batchSize, 60_000, 60_000, 60_000);
+	}
+
+	private void start(int capacity, int batchSize) {
+		writeBehind = writeBehind(capacity, batchSize);
+		writeBehind.start();
+	}
+
+	private ChatMessageDto message(String key) {
+		return ChatMessageDto.builder().messageKey(key).chatRoomId(1L).senderId(10L).message(key)
+				.type(MessageType.TEXT).build();
+	}
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.example.moneytalk.domain.ChatMessage;
 import com.example.moneytalk.domain.ChatRoom;
@@ -37,7 +38,10 @@ class ChatRoomServiceTest {
     private ChatMessageRepository chatMessageRepository;
 
     @Mock
-    private RedisSubscriberService redisSubscriberService;
+    private RecentChatMessageBuffer recentChatMessageBuffer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ChatRoomService chatRoomService;
@@ -129,7 +133,6 @@ class ChatRoomServiceTest {
         // then
         assertEquals(100L, result.getId());
         verify(chatRoomRepository, never()).save(any()); // 저장 안 함
-        verify(redisSubscriberService, never()).subscribeChatRoom(any()); // 구독도 안 함
     }
     @Test
     void createChatRoom_없으면생성() {
@@ -149,7 +152,6 @@ class ChatRoomServiceTest {
         // then
         assertEquals(200L, result.getId());
         verify(chatRoomRepository).save(any());
-        verify(redisSubscriberService).subscribeChatRoom(200L);
     }
     @Test
     void getChatRoomsForUser_정상조회() {
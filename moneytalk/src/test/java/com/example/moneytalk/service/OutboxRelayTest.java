@@ -0,0 +1,190 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.moneytalk.domain.Ledger;
+import com.example.moneytalk.domain.OutboxEvent;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
+import com.example.moneytalk.repository.LedgerRepository;
+import com.example.moneytalk.repository.OutboxEventRepository;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.repository.UserRepository;
+import com.example.moneytalk.type.LedgerType;
+import com.example.moneytalk.type.OutboxEventType;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 아웃박스 릴레이가 실패한 이벤트만 격리해 재시도 대기시키고(최대 횟수 초과 시 전달 중단), 나머지는 처리 완료하는지 검증합니다.
+ * 릴레이는 자체 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 정리합니다.
+ */
+@DataJpaTest
+@Import({ OutboxRelay.class, PurchaseLedgerHandler.class, PurchaseHistoryHandler.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private LedgerRepository ledgerRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void tearDown() {
+		for (String table : List.of("outbox_events", "ledgers", "purchase_histories", "purchase_records", "products",
+				"users")) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+	}
+
+	@Test
+	@DisplayName("배치 중 한 건이 실패하면 그 건만 실패 기록 후 백오프, 나머지는 처리 완료")
+	void drainBatch_failedEventIsolated_othersProcessed() throws Exception {
+		// given: 두 번째 이벤트는 페이로드를 읽을 수 없어 처리기에 전달할 수 없음
+		User seller = userRepository.save(user("seller"));
+		User buyer = userRepository.save(user("buyer"));
+		Product first = productRepository.save(product(seller));
+		Product second = productRepository.save(product(seller));
+
+		OutboxEvent ok = append(first, buyer, seller);
+		OutboxEvent poisoned = poisoned(second, 0);
+
+		// when
+		int processedInBatch = outboxRelay.drainBatch();
+		int processedOnRetry = outboxRelay.drainBatch();
+
+		// then
+		assertThat(processedInBatch).isZero();
+		assertThat(processedOnRetry).isZero();
+
+		OutboxEvent okAfter = outboxEventRepository.findById(ok.getId()).orElseThrow();
+		assertThat(okAfter.getProcessedAt()).isNotNull();
+		assertThat(count("purchase_records")).isEqualTo(1);
+
+		OutboxEvent poisonedAfter = outboxEventRepository.findById(poisoned.getId()).orElseThrow();
+		assertThat(poisonedAfter.getProcessedAt()).isNull();
+		assertThat(poisonedAfter.getAttempts()).isEqualTo(1);
+		assertThat(poisonedAfter.getLastError()).isNotBlank();
+		assertThat(poisonedAfter.getNextAttemptAt()).isAfter(LocalDateTime.now().minusSeconds(1));
+	}
+
+	@Test
+	@DisplayName("최대 전달 횟수까지 실패하면 전달을 멈추고 이후 배치에서 제외")
+	void drainBatch_parksEventAfterMaxAttempts() {
+		// given: 마지막 한 번의 기회만 남은 이벤트
+		User seller = userRepository.save(user("seller"));
+		OutboxEvent poisoned = poisoned(productRepository.save(product(seller)), OutboxRelay.MAX_ATTEMPTS - 1);
+
+		// when
+		outboxRelay.drainBatch();
+		outboxRelay.drainBatch();
+
+		// then: 한 번만 더 시도하고 실패 시각을 남긴 채 보관
+		OutboxEvent parked = outboxEventRepository.findById(poisoned.getId()).orElseThrow();
+		assertThat(parked.getAttempts()).isEqualTo(OutboxRelay.MAX_ATTEMPTS);
+		assertThat(parked.getFailedAt()).isNotNull();
+		assertThat(parked.getProcessedAt()).isNull();
+		assertThat(parked.getLastError()).contains("역직렬화");
+		assertThat(outboxEventRepository.findPendingIds(LocalDateTime.now().plusDays(1), PageRequest.of(0, 10)))
+				.isEmpty();
+	}
+
+	@Test
+	@DisplayName("재전달된 이벤트는 이미 생성된 기록을 건너뛰고 처리 완료")
+	void drainBatch_redeliveredEvent_skipsExistingRows() throws Exception {
+		// given: 같은 구매 확정 이벤트가 두 번 전달됨 (첫 번째 커밋 후 재전달)
+		User seller = userRepository.save(user("seller"));
+		User buyer = userRepository.save(user("buyer"));
+		Product product = productRepository.save(product(seller));
+		append(product, buyer, seller);
+		outboxRelay.drainBatch();
+		OutboxEvent redelivered = append(product, buyer, seller);
+
+		// when
+		int processed = outboxRelay.drainBatch();
+
+		// then: 유니크 제약 위반 없이 처리되고 기록은 한 벌만 존재
+		assertThat(processed).isEqualTo(1);
+		assertThat(outboxEventRepository.findById(redelivered.getId()).orElseThrow().getProcessedAt()).isNotNull();
+		assertThat(count("purchase_records")).isEqualTo(1);
+		assertThat(count("purchase_histories")).isEqualTo(2);
+		assertThat(count("ledgers")).isEqualTo(2);
+		assertThat(ledgerRepository.findAll()).extracting(Ledger::getSourceKey).containsExactlyInAnyOrder(
+				PurchaseLedgerHandler.sourceKey(product.getId(), LedgerType.EXPENSE),
+				PurchaseLedgerHandler.sourceKey(product.getId(), LedgerType.INCOME));
+	}
+
+	@Test
+	@DisplayName("재전달 대기 시간은 실패할 때마다 두 배로 늘고 최대 5분")
+	void backoff_doublesUpToMax() {
+		assertThat(OutboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(OutboxRelay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+		assertThat(OutboxRelay.backoff(30)).isEqualTo(OutboxRelay.MAX_BACKOFF);
+	}
+
+	private OutboxEvent append(Product product, User buyer, User seller) throws Exception {
+		PurchaseConfirmedEvent event = PurchaseConfirmedEvent.builder().productId(product.getId())
+				.buyerId(buyer.getId()).sellerId(seller.getId()).title(product.getTitle()).amount(product.getPrice())
+				.confirmedOn(LocalDate.now()).build();
+		return outboxEventRepository.save(OutboxEvent.builder().type(OutboxEventType.PURCHASE_CONFIRMED)
+				.aggregateId(product.getId()).payload(objectMapper.writeValueAsString(event)).build());
+	}
+
+	private OutboxEvent poisoned(Product product, int attempts) {
+		return outboxEventRepository.save(OutboxEvent.builder().type(OutboxEventType.PURCHASE_CONFIRMED)
+				.aggregateId(product.getId()).payload("{broken").attempts(attempts).build());
+	}
+
+	private Product product(User seller) {
+		return Product.builder().user(seller).title("의자").description("튼튼해요").price(50_000).category("가구")
+				.location("서울").status(ProductStatus.SOLD).build();
+	}
+
+	private long count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+	private User user(String nickname) {
+		return User.builder().email(nickname + "@example.com").password("encoded").nickname(nickname)
+				.role(UserType.USER).build();
+	}
+}
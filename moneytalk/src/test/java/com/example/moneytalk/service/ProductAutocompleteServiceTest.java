@@ -0,0 +1,130 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductSuggestionDto;
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.repository.FavoriteProductRepository;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.SuggestionType;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductAutocompleteServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private FavoriteProductRepository favoriteProductRepository;
+
+	@InjectMocks
+	private ProductAutocompleteService autocompleteService;
+
+	@Test
+	void warmUp_등록상품수와_찜수로_가중치() {
+		// given: "아이폰 13" 2건(찜 3), "아이폰 케이스" 1건(찜 0), "아이패드" 1건(찜 5)
+		given(favoriteProductRepository.countGroupByProductId())
+				.willReturn(List.of(new Object[] { 1L, 3L }, new Object[] { 4L, 5L }));
+		given(productRepository.findIndexBatch(anyLong(), any())).willReturn(List.of(
+				product(1L, "아이폰 13", "전자기기"),
+				product(2L, "아이폰 13", "전자기기"),
+				product(3L, "아이폰 케이스", "잡화"),
+				product(4L, "아이패드", "전자기기")));
+
+		// when
+		autocompleteService.warmUp();
+		List<ProductSuggestionDto> result = autocompleteService.suggest("아이", 10);
+
+		// then
+		assertThat(result).extracting(ProductSuggestionDto::getText).containsExactly("아이패드", "아이폰 13", "아이폰 케이스");
+		assertThat(result).extracting(ProductSuggestionDto::getWeight).containsExactly(6L, 5L, 1L);
+	}
+
+	@Test
+	void suggest_간선중간접두어_대소문자공백무시() {
+		// given
+		autocompleteService.addProduct(product(1L, "MacBook  Pro", "전자기기"), 0);
+		autocompleteService.addProduct(product(2L, "MacBook Air", "전자기기"), 0);
+
+		// when & then
+		assertThat(autocompleteService.suggest("mac", 10)).extracting(ProductSuggestionDto::getText)
+				.containsExactly("MacBook Air", "MacBook  Pro");
+		assertThat(autocompleteService.suggest("macbook p", 10)).extracting(ProductSuggestionDto::getText)
+				.containsExactly("MacBook  Pro");
+		assertThat(autocompleteService.suggest("macx", 10)).isEmpty();
+		assertThat(autocompleteService.suggest(" ", 10)).isEmpty();
+	}
+
+	@Test
+	void suggest_카테고리도_제안() {
+		// given
+		autocompleteService.addProduct(product(1L, "원목 책상", "가구"), 0);
+		autocompleteService.addProduct(product(2L, "가죽 소파", "가구"), 0);
+
+		// when
+		List<ProductSuggestionDto> result = autocompleteService.suggest("가", 10);
+
+		// then
+		assertThat(result).extracting(ProductSuggestionDto::getText, ProductSuggestionDto::getType)
+				.containsExactly(
+						tuple("가구", SuggestionType.CATEGORY),
+						tuple("가죽 소파", SuggestionType.TITLE));
+	}
+
+	@Test
+	void 찜추가해제_증분반영_상위목록재계산() {
+		// given: 상위 목록이 가득 찬 상태 (가중치 1인 제목 12개)
+		for (long id = 1; id <= 12; id++) {
+			autocompleteService.addProduct(product(id, "자전거 " + (char) ('a' + id), "스포츠"), 0);
+		}
+		Product target = product(12L, "자전거 " + (char) ('a' + 12), "스포츠");
+
+		// when: 찜 2회 → 1위
+		autocompleteService.onFavoriteChanged(new FavoriteChangedEvent(target, true));
+		autocompleteService.onFavoriteChanged(new FavoriteChangedEvent(target, true));
+
+		// then
+		assertThat(autocompleteService.suggest("자전거", 1)).extracting(ProductSuggestionDto::getText)
+				.containsExactly("자전거 m");
+
+		// when: 찜 해제 2회 → 원래 순위(이름순 마지막)로 밀려나 상위 10개에서 제외
+		autocompleteService.onFavoriteChanged(new FavoriteChangedEvent(target, false));
+		autocompleteService.onFavoriteChanged(new FavoriteChangedEvent(target, false));
+
+		// then
+		List<ProductSuggestionDto> top = autocompleteService.suggest("자전거", 10);
+		assertThat(top).hasSize(10).extracting(ProductSuggestionDto::getText).doesNotContain("자전거 m")
+				.startsWith("자전거 b");
+	}
+
+	@Test
+	void 상품등록이벤트_즉시반영() {
+		// when
+		autocompleteService.onProductChanged(
+				new ProductChangedEvent(product(1L, "캠핑 의자", "캠핑"), ProductChangedEvent.Type.CREATED));
+
+		// then
+		assertThat(autocompleteService.suggest("캠", 10)).extracting(ProductSuggestionDto::getText)
+				.containsExactly("캠핑", "캠핑 의자");
+	}
+
+	private Product product(Long id, String title, String category) {
+		return Product.builder().id(id).title(title).category(category).build();
+	}
+}
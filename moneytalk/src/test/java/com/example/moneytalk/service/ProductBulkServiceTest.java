@@ -0,0 +1,167 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductBulkItemDto;
+import com.example.moneytalk.dto.ProductBulkResponseDto;
+import com.example.moneytalk.dto.ProductBulkResultDto;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductBulkInsertRepository;
+import com.example.moneytalk.repository.ProductImageRepository;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ErrorCode;
+
+import jakarta.validation.Validation;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductBulkServiceTest {
+
+	@Mock
+	private ProductBulkInsertRepository productBulkInsertRepository;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductImageRepository productImageRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private ProductBulkService productBulkService;
+
+	private final User seller = User.builder().id(1L).nickname("판매자").build();
+
+	@BeforeEach
+	void setUp() {
+		productBulkService = new ProductBulkService(productBulkInsertRepository, productRepository,
+				productImageRepository, transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void createProducts_검증실패_항목만_실패처리() {
+		// given: 1번 항목은 제목 누락
+		stubTransaction();
+		ProductBulkItemDto invalid = item("상품");
+		invalid.setTitle(" ");
+		List<ProductBulkItemDto> items = List.of(item("상품 0"), invalid, item("상품 2"));
+		given(productBulkInsertRepository.insertAll(eq(1L), anyList(), any())).willReturn(List.of(10L, 11L));
+		given(productRepository.findAllWithUserByIdIn(List.of(10L, 11L)))
+				.willReturn(List.of(Product.builder().id(11L).build(), Product.builder().id(10L).build()));
+
+		// when
+		ProductBulkResponseDto response = productBulkService.createProducts(items, seller);
+
+		// then
+		assertThat(response.getSuccessCount()).isEqualTo(2);
+		assertThat(response.getFailureCount()).isEqualTo(1);
+		assertThat(response.getResults())
+				.extracting(ProductBulkResultDto::getIndex, ProductBulkResultDto::isSuccess, ProductBulkResultDto::getProductId)
+				.containsExactly(tuple(0, true, 10L), tuple(1, false, null), tuple(2, true, 11L));
+		assertThat(response.getResults().get(1).getMessage()).startsWith("[title]");
+		// 청크당 등록 이벤트 1건 (상품 ID 순)
+		ArgumentCaptor<ProductsCreatedEvent> eventCaptor = ArgumentCaptor.forClass(ProductsCreatedEvent.class);
+		verify(eventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().getProducts()).extracting(Product::getId).containsExactly(10L, 11L);
+
+		// 이미지는 청크당 saveAll 1회, 첫 이미지가 대표 이미지
+		ArgumentCaptor<List<ProductImage>> imagesCaptor = ArgumentCaptor.forClass(List.class);
+		verify(productImageRepository).saveAll(imagesCaptor.capture());
+		assertThat(imagesCaptor.getValue()).extracting(ProductImage::getImageUrl, ProductImage::isThumbnail)
+				.containsExactly(tuple("https://img/상품 0.jpg", true), tuple("https://img/상품 2.jpg", true));
+	}
+
+	@Test
+	void createProducts_이미지목록_null_항목만_실패처리() {
+		// given: 1번 항목은 "imageUrls": null
+		stubTransaction();
+		ProductBulkItemDto nullImages = item("상품 1");
+		nullImages.setImageUrls(null);
+		List<ProductBulkItemDto> items = List.of(item("상품 0"), nullImages);
+		given(productBulkInsertRepository.insertAll(eq(1L), anyList(), any())).willReturn(List.of(10L));
+		given(productRepository.findAllWithUserByIdIn(List.of(10L))).willReturn(List.of(Product.builder().id(10L).build()));
+
+		// when
+		ProductBulkResponseDto response = productBulkService.createProducts(items, seller);
+
+		// then: 청크 전체가 아니라 해당 항목만 검증 실패
+		assertThat(response.getResults())
+				.extracting(ProductBulkResultDto::getIndex, ProductBulkResultDto::isSuccess, ProductBulkResultDto::getProductId)
+				.containsExactly(tuple(0, true, 10L), tuple(1, false, null));
+		assertThat(response.getResults().get(1).getMessage()).startsWith("[imageUrls]");
+		verify(productBulkInsertRepository).insertAll(eq(1L), eq(List.of(items.get(0))), any());
+	}
+
+	@Test
+	void createProducts_청크단위_트랜잭션_실패청크만_실패처리() {
+		// given: 청크 2개 중 두 번째 청크 저장 실패
+		stubTransaction();
+		int total = ProductBulkService.CHUNK_SIZE + 3;
+		List<ProductBulkItemDto> items = new ArrayList<>();
+		for (int i = 0; i < total; i++) {
+			items.add(item("상품 " + i));
+		}
+		List<Long> firstIds = LongStream.rangeClosed(1, ProductBulkService.CHUNK_SIZE).boxed().toList();
+		given(productBulkInsertRepository.insertAll(eq(1L), anyList(), any())).willReturn(firstIds)
+				.willThrow(new DataIntegrityViolationException("duplicate"));
+
+		// when
+		ProductBulkResponseDto response = productBulkService.createProducts(items, seller);
+
+		// then
+		verify(transactionTemplate, times(2)).execute(any());
+		assertThat(response.getSuccessCount()).isEqualTo(ProductBulkService.CHUNK_SIZE);
+		assertThat(response.getFailureCount()).isEqualTo(3);
+		assertThat(response.getResults().get(total - 1).getMessage())
+				.isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+		assertThat(response.getResults().get(0).getProductId()).isEqualTo(1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubTransaction() {
+		given(transactionTemplate.execute(any()))
+				.willAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+	}
+
+	private ProductBulkItemDto item(String title) {
+		ProductBulkItemDto item = new ProductBulkItemDto();
+		item.setTitle(title);
+		item.setDescription("설명");
+		item.setPrice(10_000);
+		item.setCategory("전자기기");
+		item.setLocation("서울");
+		item.setImageUrls(List.of("https://img/" + title + ".jpg"));
+		return item;
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductStatus;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductChangeNotifierTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListener;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductChangeListener regionView;
+
+	@Mock
+	private ProductChangeListener priceIndex;
+
+	private ProductChangeNotifier notifier;
+
+	@BeforeEach
+	void setUp() {
+		notifier = new ProductChangeNotifier(redisTemplate, redisMessageListener, productRepository,
+				List.of(regionView, priceIndex));
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(ProductChangeNotifier.CHANNEL.getBytes(), body.getBytes());
+	}
+
+	@Test
+	void 다른_노드의_상품_변경은_DB에서_다시_읽어_모든_색인에_반영() {
+		// given: 메시지에는 ID만 있고, 상태는 커밋된 DB 값을 사용
+		Product sold = Product.builder().id(5L).price(10_000).status(ProductStatus.SOLD).build();
+		given(productRepository.findWithUserById(5L)).willReturn(Optional.of(sold));
+
+		// when
+		notifier.onMessage(message("other-node|P|SOLD|5"), null);
+
+		// then
+		ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+		verify(regionView).onProductChanged(event.capture());
+		verify(priceIndex).onProductChanged(any(ProductChangedEvent.class));
+		assertThat(event.getValue().getProduct()).isSameAs(sold);
+		assertThat(event.getValue().getType()).isEqualTo(ProductChangedEvent.Type.SOLD);
+	}
+
+	@Test
+	void 자기_노드가_발행한_변경은_무시() {
+		// given: 로컬 커밋 이후 이벤트로 발행
+		notifier.onProductChanged(new ProductChangedEvent(Product.builder().id(5L).build(),
+				ProductChangedEvent.Type.CREATED));
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(ProductChangeNotifier.CHANNEL), payload.capture());
+		assertThat(payload.getValue()).endsWith("|P|CREATED|5");
+
+		// when: 자기 메시지를 다시 수신
+		notifier.onMessage(message(payload.getValue()), null);
+
+		// then
+		verifyNoInteractions(productRepository, regionView, priceIndex);
+	}
+
+	@Test
+	void 대량_등록은_청크당_메시지_1건_수신측은_IN_조회_1회() {
+		// given
+		Product first = Product.builder().id(5L).build();
+		Product second = Product.builder().id(6L).build();
+		notifier.onProductsCreated(new ProductsCreatedEvent(List.of(first, second)));
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(ProductChangeNotifier.CHANNEL), payload.capture());
+		assertThat(payload.getValue()).endsWith("|C|5,6");
+		given(productRepository.findAllWithUserByIdIn(List.of(5L, 6L))).willReturn(List.of(second, first));
+
+		// when: 다른 노드가 같은 메시지를 수신
+		notifier.onMessage(message(payload.getValue().replaceFirst("^[^|]+", "other-node")), null);
+
+		// then
+		ArgumentCaptor<ProductsCreatedEvent> event = ArgumentCaptor.forClass(ProductsCreatedEvent.class);
+		verify(regionView).onProductsCreated(event.capture());
+		verify(priceIndex).onProductsCreated(any(ProductsCreatedEvent.class));
+		assertThat(event.getValue().getProducts()).containsExactly(first, second);
+		verify(productRepository, never()).findWithUserById(any());
+	}
+
+	@Test
+	void 다른_노드의_찜_변경을_전달() {
+		// when
+		notifier.onMessage(message("other-node|F|7|0"), null);
+
+		// then
+		ArgumentCaptor<FavoriteChangedEvent> event = ArgumentCaptor.forClass(FavoriteChangedEvent.class);
+		verify(regionView).onFavoriteChanged(event.capture());
+		assertThat(event.getValue().getProduct().getId()).isEqualTo(7L);
+		assertThat(event.getValue().isAdded()).isFalse();
+		verify(productRepository, never()).findWithUserById(any());
+	}
+}
@@ -0,0 +1,221 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.moneytalk.config.S3Uploader;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.exception.GlobalException;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.repository.UserRepository;
+import com.example.moneytalk.type.ErrorCode;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 실제 DB에서 구매 확정의 동시성/멱등성과 실행 SQL 수를 검증합니다.
+ * - 여러 구매자가 같은 상품을 동시에 확정하면 한 명만 성공하고, 아웃박스 전달 후 구매 기록/이력/가계부가 한 벌만 저장
+ * - 구매 확정 1건의 SQL은 상품 조회 + 조건부 UPDATE + 아웃박스 INSERT
+ * 요청마다 실제 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 정리합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ ProductService.class, OutboxService.class, OutboxRelay.class, PurchaseLedgerHandler.class,
+		PurchaseHistoryHandler.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductConfirmPurchaseTest {
+
+	private static final int BUYERS = 200;
+
+	@MockBean
+	private S3Uploader s3Uploader;
+
+	@MockBean
+	private ProductImageLoader productImageLoader;
+
+	@MockBean
+	private ProductSearchIndex productSearchIndex;
+
+	@MockBean
+	private ProductRegionView productRegionView;
+
+	@MockBean
+	private ProductPriceIndex productPriceIndex;
+
+	@MockBean
+	private ProductFacetService productFacetService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@AfterEach
+	void tearDown() {
+		for (String table : List.of("outbox_events", "ledgers", "purchase_histories", "purchase_records", "products", "users")) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+	}
+
+	@Test
+	@DisplayName("동시 구매 확정 200건 중 1건만 성공하고 나머지는 충돌/판매완료로 실패")
+	void confirmPurchase_concurrent_exactlyOneWinner() throws Exception {
+		// given
+		User seller = userRepository.save(user("seller"));
+		Product product = productRepository.save(Product.builder().user(seller).title("한정판 운동화")
+				.description("새 상품").price(200_000).category("패션").location("서울").status(ProductStatus.SALE).build());
+		List<User> buyers = new ArrayList<>();
+		for (int i = 0; i < BUYERS; i++) {
+			buyers.add(userRepository.save(user("buyer" + i)));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger successes = new AtomicInteger();
+		Map<ErrorCode, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+		// when: 모든 요청을 동시에 출발
+		List<Future<?>> futures = new ArrayList<>();
+		for (User buyer : buyers) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					productService.confirmPurchase(product.getId(), buyer);
+					successes.incrementAndGet();
+				} catch (GlobalException e) {
+					failures.computeIfAbsent(e.getErrorCode(), code -> new AtomicInteger()).incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(successes.get()).isEqualTo(1);
+		assertThat(failures.keySet()).isSubsetOf(ErrorCode.PURCHASE_CONFLICT, ErrorCode.PRODUCT_ALREADY_SOLD);
+		assertThat(failures.values().stream().mapToInt(AtomicInteger::get).sum()).isEqualTo(BUYERS - 1);
+		assertThat(count("outbox_events")).isEqualTo(1);
+
+		assertThat(outboxRelay.drainBatch()).isEqualTo(1);
+		assertThat(count("purchase_records")).isEqualTo(1);
+		assertThat(count("purchase_histories")).isEqualTo(2);
+		assertThat(count("ledgers")).isEqualTo(2);
+		Product sold = productRepository.findById(product.getId()).orElseThrow();
+		assertThat(sold.getStatus()).isEqualTo(ProductStatus.SOLD);
+		assertThat(jdbcTemplate.queryForObject("SELECT buyer_id FROM purchase_records", Long.class))
+				.isEqualTo(sold.getBuyer().getId());
+	}
+
+	@Test
+	@DisplayName("구매 확정 1건은 SQL 3회(조회 1, 조건부 UPDATE 1, 아웃박스 INSERT 1)로 처리하고, 같은 구매자의 재요청은 쓰기 없음")
+	void confirmPurchase_minimalStatements_idempotentRetry() {
+		// given: ID 할당 구간을 미리 받아 두기 위한 첫 구매
+		User seller = userRepository.save(user("seller"));
+		User buyer = userRepository.save(user("buyer"));
+		Product warmUp = productRepository.save(product(seller));
+		Product product = productRepository.save(product(seller));
+		productService.confirmPurchase(warmUp.getId(), buyer);
+		outboxRelay.drainBatch();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		productService.confirmPurchase(product.getId(), buyer);
+		long statements = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		productService.confirmPurchase(product.getId(), buyer);
+		long retryStatements = statistics.getPrepareStatementCount();
+
+		// then: 후속 기록은 릴레이가 전달한 뒤에 생성
+		assertThat(statements).isEqualTo(3);
+		assertThat(retryStatements).isEqualTo(1);
+		assertThat(count("outbox_events")).isEqualTo(2);
+		assertThat(count("ledgers")).isEqualTo(2);
+
+		assertThat(outboxRelay.drainBatch()).isEqualTo(1);
+		assertThat(outboxRelay.drainBatch()).isZero();
+		assertThat(count("purchase_records")).isEqualTo(2);
+		assertThat(count("purchase_histories")).isEqualTo(4);
+		assertThat(count("ledgers")).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("같은 상품의 구매 기록이 이미 있으면 유니크 제약으로 중복 저장을 거부")
+	void purchaseRecord_uniquePerProduct() {
+		// given
+		User seller = userRepository.save(user("seller"));
+		User buyer = userRepository.save(user("buyer"));
+		Product product = productRepository.save(product(seller));
+		productService.confirmPurchase(product.getId(), buyer);
+		outboxRelay.drainBatch();
+
+		// when & then: 조건부 UPDATE를 우회한 중복 INSERT도 DB에서 차단
+		assertThatThrownBy(() -> jdbcTemplate.update(
+				"INSERT INTO purchase_records (id, product_id, buyer_id) VALUES (?, ?, ?)", 999_999L, product.getId(),
+				buyer.getId())).isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	private Product product(User seller) {
+		return Product.builder().user(seller).title("의자").description("튼튼해요").price(50_000).category("가구")
+				.location("서울").status(ProductStatus.SALE).build();
+	}
+
+	private long count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+	private User user(String nickname) {
+		return User.builder().email(nickname + "@example.com").password("encoded").nickname(nickname)
+				.role(UserType.USER).build();
+	}
+}
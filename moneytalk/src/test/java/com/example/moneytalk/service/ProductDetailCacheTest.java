@@ -0,0 +1,126 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.example.moneytalk.config.CacheConfig;
+import com.example.moneytalk.config.CacheInvalidationBus;
+import com.example.moneytalk.config.TwoTierCache;
+import com.example.moneytalk.config.TwoTierCacheManager;
+import com.example.moneytalk.config.S3Uploader;
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.repository.ProductImageRepository;
+import com.example.moneytalk.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 상품 상세 캐시 적용 및 상품 변경 이벤트에 의한 제거를 검증합니다.
+ * (Redis/DB 없이 2단계 캐시와 ProductService 프록시만 구성)
+ */
+@ActiveProfiles("test")
+@SpringJUnitConfig({ ProductDetailCacheTest.TestCacheConfig.class, ProductService.class,
+		CacheEvictionListener.class })
+class ProductDetailCacheTest {
+
+	/**
+	 * Redis(L2) 대신 메모리 캐시를 원격 캐시로 사용하는 2단계 캐시 구성
+	 */
+	@EnableCaching
+	@Configuration
+	static class TestCacheConfig {
+
+		@Bean
+		CacheInvalidationBus cacheInvalidationBus() {
+			return mock(CacheInvalidationBus.class);
+		}
+
+		@Bean
+		CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus) {
+			return new TwoTierCacheManager(
+					Map.of(CacheConfig.PRODUCT_DETAIL, Caffeine.newBuilder().recordStats()),
+					new ConcurrentMapCacheManager(CacheConfig.PRODUCT_DETAIL), cacheInvalidationBus);
+		}
+	}
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private CacheInvalidationBus cacheInvalidationBus;
+
+	@MockBean
+	private ProductRepository productRepository;
+	@MockBean
+	private ProductImageRepository productImageRepository;
+	@MockBean
+	private S3Uploader s3Uploader;
+	@MockBean
+	private OutboxService outboxService;
+	@MockBean
+	private ProductImageLoader productImageLoader;
+	@MockBean
+	private ProductSearchIndex productSearchIndex;
+	@MockBean
+	private ProductRegionView productRegionView;
+	@MockBean
+	private ProductPriceIndex productPriceIndex;
+	@MockBean
+	private ProductFacetService productFacetService;
+
+	@Test
+	void getProductById_반복조회시_캐시적중_변경이벤트시_제거() {
+		// given
+		Product product = Product.builder().id(1L).title("아이폰").price(500000)
+				.user(User.builder().id(2L).nickname("판매자").build()).build();
+		given(productRepository.findWithUserById(1L)).willReturn(Optional.of(product));
+		given(productImageLoader.toResponse(product)).willReturn(ProductResponseDto.builder().id(1L).build());
+
+		// when: 두 번 조회 → 한 번만 DB 조회
+		productService.getProductById(1L);
+		productService.getProductById(1L);
+
+		// then
+		verify(productRepository, times(1)).findWithUserById(1L);
+		TwoTierCache cache = (TwoTierCache) ((TransactionAwareCacheDecorator) cacheManager
+				.getCache(CacheConfig.PRODUCT_DETAIL)).getTargetCache();
+		var stats = cache.getLocal().getNativeCache().stats();
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(stats.missCount()).isEqualTo(1);
+
+		// when: 상품 변경 이벤트 후 재조회 → 다시 DB 조회
+		eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.STATUS_CHANGED));
+		productService.getProductById(1L);
+
+		// then: 다른 노드에 로컬 캐시 제거 전파
+		verify(productRepository, times(2)).findWithUserById(1L);
+		verify(cacheInvalidationBus).publishEvict(CacheConfig.PRODUCT_DETAIL, "1");
+	}
+}
@@ -0,0 +1,123 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.ProductImage;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.type.ProductStatus;
+import com.example.moneytalk.type.UserType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 상품 카탈로그 NDJSON 내보내기를 실제 DB(H2) 스크롤로 검증합니다.
+ */
+@DataJpaTest(properties = "product.export.fetch-size=100")
+@Import({ ProductExportService.class, JacksonAutoConfiguration.class })
+@ActiveProfiles("test")
+class ProductExportServiceTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private ProductExportService productExportService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void exportNdjson_상품당한줄_이미지묶음() throws IOException {
+		// given: 이미지 0장, 2장, 1장인 상품
+		User seller = seller();
+		Product noImage = product(seller, "이미지 없음");
+		Product twoImages = product(seller, "이미지 두 장");
+		Product oneImage = product(seller, "이미지 한 장");
+		em.persist(ProductImage.builder().product(twoImages).imageUrl("https://img/2-a.jpg").build());
+		em.persist(ProductImage.builder().product(twoImages).imageUrl("https://img/2-b.jpg").build());
+		em.persist(ProductImage.builder().product(oneImage).imageUrl("https://img/1-a.jpg").build());
+		em.flush();
+		em.clear();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		long count = productExportService.exportNdjson(out);
+
+		// then
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(count).isEqualTo(3);
+		assertThat(lines).hasSize(3);
+
+		JsonNode first = objectMapper.readTree(lines.get(0));
+		JsonNode second = objectMapper.readTree(lines.get(1));
+		JsonNode third = objectMapper.readTree(lines.get(2));
+		assertThat(first.get("id").asLong()).isEqualTo(noImage.getId());
+		assertThat(first.get("images")).isEmpty();
+		assertThat(second.get("images")).extracting(JsonNode::asText)
+				.containsExactly("https://img/2-a.jpg", "https://img/2-b.jpg");
+		assertThat(second.get("sellerNickname").asText()).isEqualTo("exporter");
+		assertThat(third.get("images")).extracting(JsonNode::asText).containsExactly("https://img/1-a.jpg");
+	}
+
+	@Test
+	void exportNdjson_일정건수마다_flush() throws IOException {
+		// given
+		User seller = seller();
+		int total = ProductExportService.FLUSH_EVERY * 2 + 1;
+		for (int i = 0; i < total; i++) {
+			product(seller, "상품 " + i);
+		}
+		em.flush();
+		em.clear();
+
+		FlushCountingOutputStream out = new FlushCountingOutputStream();
+
+		// when
+		long count = productExportService.exportNdjson(out);
+
+		// then: 중간 flush 2회 + 마지막 flush 1회
+		assertThat(count).isEqualTo(total);
+		assertThat(out.flushes).isEqualTo(3);
+		assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(total);
+	}
+
+	private User seller() {
+		User seller = User.builder().email("exporter@example.com").password("encoded").nickname("exporter")
+				.role(UserType.USER).build();
+		em.persist(seller);
+		return seller;
+	}
+
+	private Product product(User seller, String title) {
+		Product product = Product.builder().user(seller).title(title).description("설명").price(1000)
+				.category("전자기기").location("서울").status(ProductStatus.SALE).build();
+		em.persist(product);
+		return product;
+	}
+
+	private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+		private int flushes;
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.dto.ProductFacetCountDto;
+import com.example.moneytalk.dto.ProductFacetsDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductStatus;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductFacetServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductSearchIndex productSearchIndex;
+
+	@InjectMocks
+	private ProductFacetService productFacetService;
+
+	@Test
+	void getFacets_조합별집계_자기필터제외() {
+		// given: category=전자기기 필터
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setCategory("전자기기");
+
+		given(productRepository.countFacets(request)).willReturn(List.of(
+				new ProductFacetCountDto("전자기기", "서울", ProductStatus.SALE, 5L),
+				new ProductFacetCountDto("전자기기", "부산", ProductStatus.SOLD, 2L),
+				new ProductFacetCountDto("의류", "서울", ProductStatus.SALE, 4L)));
+
+		// when
+		ProductFacetsDto facets = productFacetService.getFacets(request);
+
+		// then: 카테고리 패싯은 카테고리 필터를 무시, 나머지 패싯은 전자기기만 집계
+		assertThat(facets.getCategory()).containsExactly(entry("전자기기", 7L), entry("의류", 4L));
+		assertThat(facets.getLocation()).containsExactly(entry("서울", 5L), entry("부산", 2L));
+		assertThat(facets.getStatus()).containsExactly(entry(ProductStatus.SALE, 5L), entry(ProductStatus.SOLD, 2L));
+	}
+
+	@Test
+	void getFacets_같은조건_다음페이지는_캐시사용() {
+		// given
+		ProductSearchRequestDto first = new ProductSearchRequestDto();
+		first.setLocation("서울");
+		ProductSearchRequestDto next = new ProductSearchRequestDto();
+		next.setLocation("서울");
+		next.setCursor("Q1JFQVRFRF9BVDoyMDI1LTA0LTI1VDE2OjAwOjEw");
+
+		given(productRepository.countFacets(any())).willReturn(List.of(
+				new ProductFacetCountDto("의류", "서울", ProductStatus.SALE, 4L)));
+
+		// when
+		productFacetService.getFacets(first);
+		ProductFacetsDto cached = productFacetService.getFacets(next);
+
+		// then
+		verify(productRepository, times(1)).countFacets(any());
+		assertThat(cached.getCategory()).containsExactly(entry("의류", 4L));
+	}
+
+	@Test
+	void getFacets_키워드검색_색인에서집계() {
+		// given
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setKeyword("아이폰");
+		ProductFacetsDto fromIndex = ProductFacetsDto.builder().build();
+
+		given(productSearchIndex.supports("아이폰")).willReturn(true);
+		given(productSearchIndex.countFacets(request)).willReturn(fromIndex);
+
+		// when
+		ProductFacetsDto facets = productFacetService.getFacets(request);
+
+		// then
+		assertThat(facets).isSameAs(fromIndex);
+		verify(productRepository, never()).countFacets(any());
+	}
+}
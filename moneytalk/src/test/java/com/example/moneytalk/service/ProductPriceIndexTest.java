@@ -0,0 +1,164 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.PriceBucketDto;
+import com.example.moneytalk.dto.PriceHistogramDto;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductPriceIndexTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@InjectMocks
+	private ProductPriceIndex priceIndex;
+
+	@Test
+	void search_가격범위_구간경계_오름차순_내림차순() {
+		// given: 구간 경계(10,000 / 30,000)에 걸친 가격
+		priceIndex.apply(product(1L, "전자기기", 9_999, ProductStatus.SALE));
+		priceIndex.apply(product(2L, "전자기기", 10_000, ProductStatus.SALE));
+		priceIndex.apply(product(3L, "전자기기", 25_000, ProductStatus.SALE));
+		priceIndex.apply(product(4L, "전자기기", 30_000, ProductStatus.SALE));
+		priceIndex.apply(product(5L, "전자기기", 30_000, ProductStatus.SALE));
+		priceIndex.apply(product(6L, "의류", 20_000, ProductStatus.SALE));
+
+		// when & then
+		assertThat(priceIndex.search("전자기기", 10_000, 30_000, ProductSortType.PRICE_ASC, null, 10))
+				.containsExactly(2L, 3L, 4L, 5L);
+		assertThat(priceIndex.search("전자기기", 10_000, 30_000, ProductSortType.PRICE_DESC, null, 10))
+				.containsExactly(5L, 4L, 3L, 2L);
+		assertThat(priceIndex.search(null, 15_000, 25_000, ProductSortType.PRICE_ASC, null, 10))
+				.containsExactly(6L, 3L);
+		assertThat(priceIndex.search("전자기기", null, null, ProductSortType.PRICE_ASC, null, 2))
+				.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void search_커서_이후부터_조회() {
+		// given
+		for (long id = 1; id <= 5; id++) {
+			priceIndex.apply(product(id, "도서", 10_000, ProductStatus.SALE));
+		}
+		ProductCursor cursor = ProductCursor.of(product(3L, "도서", 10_000, ProductStatus.SALE),
+				ProductSortType.PRICE_ASC);
+
+		// when & then: 같은 가격은 id 순서로 이어짐
+		assertThat(priceIndex.search("도서", 0, null, ProductSortType.PRICE_ASC, cursor, 10)).containsExactly(4L, 5L);
+		assertThat(priceIndex.search("도서", 0, null, ProductSortType.PRICE_DESC, cursor, 10)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void histogram_구간별개수_상태변경_가격변경_반영() {
+		// given
+		priceIndex.apply(product(1L, "전자기기", 5_000, ProductStatus.SALE));
+		priceIndex.apply(product(2L, "전자기기", 150_000, ProductStatus.SALE));
+		priceIndex.apply(product(3L, "전자기기", 20_000_000, ProductStatus.SALE));
+		priceIndex.apply(product(4L, "전자기기", 150_000, ProductStatus.SOLD));
+
+		// when: 1번 판매완료, 2번 가격 변경
+		priceIndex.onProductChanged(new ProductChangedEvent(product(1L, "전자기기", 5_000, ProductStatus.SOLD),
+				ProductChangedEvent.Type.SOLD));
+		priceIndex.apply(product(2L, "전자기기", 40_000, ProductStatus.SALE));
+		PriceHistogramDto histogram = priceIndex.histogram("전자기기");
+
+		// then
+		assertThat(histogram.getTotal()).isEqualTo(2);
+		assertThat(histogram.getBuckets()).hasSize(ProductPriceIndex.BOUNDARIES.length);
+		assertThat(histogram.getBuckets().get(ProductPriceIndex.bucketOf(40_000))).extracting(PriceBucketDto::getMinPrice,
+				PriceBucketDto::getMaxPrice, PriceBucketDto::getCount).containsExactly(30_000, 50_000, 1);
+		assertThat(histogram.getBuckets().get(histogram.getBuckets().size() - 1).getMaxPrice()).isNull();
+		assertThat(priceIndex.histogram("의류").getTotal()).isZero();
+		assertThat(priceIndex.histogram(null).getTotal()).isEqualTo(2);
+	}
+
+	@Test
+	void search_무작위_가격범위_전체정렬과_동일() {
+		// given
+		Random random = new Random(7);
+		List<Product> products = new ArrayList<>();
+		for (long id = 1; id <= 5_000; id++) {
+			Product product = product(id, random.nextBoolean() ? "전자기기" : "의류", random.nextInt(3_000) * 1_000,
+					ProductStatus.SALE);
+			products.add(product);
+			priceIndex.apply(product);
+		}
+
+		for (int i = 0; i < 50; i++) {
+			int min = random.nextInt(2_000) * 1_000;
+			int max = min + random.nextInt(1_000) * 1_000;
+
+			// when
+			List<Long> actual = priceIndex.search("전자기기", min, max, ProductSortType.PRICE_DESC, null, 20);
+
+			// then
+			List<Long> expected = products.stream()
+					.filter(p -> p.getCategory().equals("전자기기") && p.getPrice() >= min && p.getPrice() <= max)
+					.sorted(Comparator.comparing(Product::getPrice).thenComparing(Product::getId).reversed())
+					.limit(20).map(Product::getId).toList();
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void 음수_가격은_색인하지_않고_음수_범위는_0부터_조회() {
+		// given: 1번은 판매중이다가 음수 가격으로 바뀜
+		priceIndex.apply(product(1L, "전자기기", 5_000, ProductStatus.SALE));
+		priceIndex.apply(product(2L, "전자기기", 3_000, ProductStatus.SALE));
+
+		// when
+		priceIndex.apply(product(1L, "전자기기", -1, ProductStatus.SALE));
+		priceIndex.apply(product(3L, "전자기기", -500, ProductStatus.SALE));
+
+		// then
+		assertThat(priceIndex.size()).isEqualTo(1);
+		assertThat(priceIndex.search("전자기기", -10_000, 10_000, ProductSortType.PRICE_ASC, null, 10))
+				.containsExactly(2L);
+		assertThat(priceIndex.search("전자기기", null, -1, ProductSortType.PRICE_ASC, null, 10)).isEmpty();
+		assertThat(priceIndex.histogram("전자기기").getTotal()).isEqualTo(1);
+	}
+
+	@Test
+	void ID가_정렬키_범위를_넘으면_색인하지_않고_DB로_조회() {
+		// given
+		priceIndex.warmUp();
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setStatus(ProductStatus.SALE);
+		request.setMinPrice(0);
+		assertThat(priceIndex.supports(request, ProductSortType.PRICE_ASC)).isTrue();
+
+		// when: 하위 32비트가 1인 ID
+		priceIndex.apply(product(1L, "전자기기", 5_000, ProductStatus.SALE));
+		priceIndex.apply(product((1L << 32) + 1, "전자기기", 5_000, ProductStatus.SALE));
+
+		// then: 잘린 ID(1)로 중복 조회되지 않고, 이후 요청은 DB로 처리
+		assertThat(priceIndex.size()).isEqualTo(1);
+		assertThat(priceIndex.search("전자기기", 0, 10_000, ProductSortType.PRICE_ASC, null, 10)).containsExactly(1L);
+		assertThat(priceIndex.supports(request, ProductSortType.PRICE_ASC)).isFalse();
+	}
+
+	private Product product(Long id, String category, int price, ProductStatus status) {
+		return Product.builder().id(id).category(category).price(price).status(status).build();
+	}
+}
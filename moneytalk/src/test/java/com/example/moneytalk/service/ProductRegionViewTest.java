@@ -0,0 +1,164 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.ProductsCreatedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductRegionViewTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductImageLoader productImageLoader;
+
+	@InjectMocks
+	private ProductRegionView regionView;
+
+	@BeforeEach
+	void setUp() {
+		// given: 서울 판매중 6건(가격 10,000~60,000, id가 클수록 최신), 부산 1건, 서울 판매완료 1건
+		List<Product> products = new ArrayList<>();
+		for (long id = 1; id <= 6; id++) {
+			products.add(product(id, "서울", (int) (id * 10_000), ProductStatus.SALE));
+		}
+		products.add(product(7L, "부산", 30_000, ProductStatus.SALE));
+		products.add(product(8L, "서울", 30_000, ProductStatus.SOLD));
+
+		given(productRepository.findIndexBatch(anyLong(), any())).willReturn(products);
+		given(productImageLoader.toResponses(anyList())).willAnswer(invocation -> {
+			List<Product> list = invocation.getArgument(0);
+			return list.stream().map(product -> ProductResponseDto.from(product, List.of())).toList();
+		});
+		regionView.warmUp();
+	}
+
+	@Test
+	void warmUp_판매중만_지역별_적재() {
+		assertThat(regionView.size()).isEqualTo(7);
+		assertThat(regionView.regionCount()).isEqualTo(2);
+		assertThat(regionView.supports(request("서울", null, null, null))).isTrue();
+
+		ProductSearchRequestDto withKeyword = request("서울", null, null, null);
+		withKeyword.setKeyword("아이폰");
+		ProductSearchRequestDto anyStatus = request("서울", null, null, null);
+		anyStatus.setStatus(null);
+		assertThat(regionView.supports(withKeyword)).isFalse();
+		assertThat(regionView.supports(anyStatus)).isFalse();
+	}
+
+	@Test
+	void browse_최신순_커서_이어조회() {
+		// when
+		ProductSearchRequestDto request = request("서울", null, null, null);
+		request.setSize(4);
+		CursorPageResponseDto<ProductResponseDto> first = regionView.browse(request, ProductSortType.CREATED_AT, null);
+		request.setCursor(first.getNextCursor());
+		CursorPageResponseDto<ProductResponseDto> second = regionView.browse(request, ProductSortType.CREATED_AT,
+				ProductCursor.decode(first.getNextCursor(), ProductSortType.CREATED_AT));
+
+		// then
+		assertThat(first.getContent()).extracting(ProductResponseDto::getId).containsExactly(6L, 5L, 4L, 3L);
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(second.getContent()).extracting(ProductResponseDto::getId).containsExactly(2L, 1L);
+		assertThat(second.isHasNext()).isFalse();
+	}
+
+	@Test
+	void browse_가격범위_오름차순_내림차순_커서() {
+		// when
+		ProductSearchRequestDto request = request("서울", 20_000, 50_000, null);
+		request.setSize(2);
+		CursorPageResponseDto<ProductResponseDto> asc = regionView.browse(request, ProductSortType.PRICE_ASC, null);
+		CursorPageResponseDto<ProductResponseDto> ascNext = regionView.browse(request, ProductSortType.PRICE_ASC,
+				ProductCursor.decode(asc.getNextCursor(), ProductSortType.PRICE_ASC));
+		CursorPageResponseDto<ProductResponseDto> desc = regionView.browse(request, ProductSortType.PRICE_DESC, null);
+
+		// then
+		assertThat(asc.getContent()).extracting(ProductResponseDto::getPrice).containsExactly(20_000, 30_000);
+		assertThat(ascNext.getContent()).extracting(ProductResponseDto::getPrice).containsExactly(40_000, 50_000);
+		assertThat(ascNext.isHasNext()).isFalse();
+		assertThat(desc.getContent()).extracting(ProductResponseDto::getPrice).containsExactly(50_000, 40_000);
+	}
+
+	@Test
+	void onProductChanged_판매완료시_제거_판매중복귀시_추가() {
+		// given
+		Product sold = product(3L, "서울", 30_000, ProductStatus.SOLD);
+		Product created = product(9L, "서울", 5_000, ProductStatus.SALE);
+
+		// when
+		regionView.onProductChanged(new ProductChangedEvent(sold, ProductChangedEvent.Type.SOLD));
+		regionView.onProductChanged(new ProductChangedEvent(created, ProductChangedEvent.Type.CREATED));
+
+		// then
+		CursorPageResponseDto<ProductResponseDto> page = regionView.browse(request("서울", null, 30_000, null),
+				ProductSortType.PRICE_ASC, null);
+		assertThat(page.getContent()).extracting(ProductResponseDto::getId).containsExactly(9L, 1L, 2L);
+	}
+
+	@Test
+	void onProductsCreated_대량등록_이미지조회_1회로_추가() {
+		// given: 대량 등록 청크 3건
+		List<Product> created = List.of(product(9L, "서울", 5_000, ProductStatus.SALE),
+				product(10L, "서울", 6_000, ProductStatus.SALE), product(11L, "부산", 7_000, ProductStatus.SALE));
+
+		// when
+		regionView.onProductsCreated(new ProductsCreatedEvent(created));
+
+		// then: warmUp 1회 + 청크 1회
+		verify(productImageLoader, times(2)).toResponses(anyList());
+		verify(productImageLoader).toResponses(created);
+		assertThat(regionView.size()).isEqualTo(10);
+		assertThat(regionView.browse(request("서울", null, 6_000, null), ProductSortType.PRICE_ASC, null).getContent())
+				.extracting(ProductResponseDto::getId).containsExactly(9L, 10L);
+	}
+
+	private ProductSearchRequestDto request(String location, Integer minPrice, Integer maxPrice, String cursor) {
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setLocation(location);
+		request.setStatus(ProductStatus.SALE);
+		request.setMinPrice(minPrice);
+		request.setMaxPrice(maxPrice);
+		request.setCursor(cursor);
+		return request;
+	}
+
+	private Product product(Long id, String location, int price, ProductStatus status) {
+		User seller = User.builder().id(100L).nickname("seller").build();
+		return Product.builder().id(id).user(seller).title("상품 " + id).price(price).category("전자기기")
+				.location(location).status(status).createdAt(BASE.plusMinutes(id)).build();
+	}
+}
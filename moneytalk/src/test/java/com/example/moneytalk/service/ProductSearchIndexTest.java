@@ -0,0 +1,230 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.dto.ProductCursor;
+import com.example.moneytalk.dto.ProductFacetsDto;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductSortType;
+import com.example.moneytalk.type.ProductStatus;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@InjectMocks
+	private ProductSearchIndex productSearchIndex;
+
+	private final LocalDateTime now = LocalDateTime.of(2025, 4, 25, 16, 0, 0);
+
+	@BeforeEach
+	void setUp() {
+		productSearchIndex.index(product(1L, "아이폰 13 미니", "배터리 성능 좋아요", "전자기기", "서울", 500000, 3));
+		productSearchIndex.index(product(2L, "갤럭시 S23", "아이폰에서 넘어와서 팝니다", "전자기기", "부산", 700000, 2));
+		productSearchIndex.index(product(3L, "아이폰 케이스", "투명 케이스", "잡화", "서울", 10000, 1));
+		productSearchIndex.index(product(4L, "노트북 거치대", "알루미늄", "잡화", "서울", 30000, 0));
+	}
+
+	@Test
+	void tokenize_한글_bigram_분해() {
+		assertThat(ProductSearchIndex.tokenize("아이폰 13")).containsExactly("아이", "이폰", "13");
+		assertThat(ProductSearchIndex.tokenize("폰")).isEmpty();
+	}
+
+	@Test
+	void search_제목또는설명_부분일치_최신순() {
+		// when
+		List<Long> ids = ids(productSearchIndex.search(request("아이폰"), ProductSortType.CREATED_AT, null, 10));
+
+		// then: 제목(1, 3) 또는 설명(2)에 "아이폰" 포함, 최신순
+		assertThat(ids).containsExactly(3L, 2L, 1L);
+	}
+
+	@Test
+	void search_필터와_가격순정렬_적용() {
+		// given
+		ProductSearchRequestDto request = request("아이폰");
+		request.setLocation("서울");
+		request.setMaxPrice(600000);
+
+		// when
+		List<Long> ids = ids(productSearchIndex.search(request, ProductSortType.PRICE_DESC, null, 10));
+
+		// then
+		assertThat(ids).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void search_커서이후_다음페이지() {
+		// given: 첫 페이지 마지막 상품(3번) 이후부터 조회
+		Product last = product(3L, "아이폰 케이스", "투명 케이스", "잡화", "서울", 10000, 1);
+		ProductCursor cursor = ProductCursor.of(last, ProductSortType.CREATED_AT);
+
+		// when
+		List<Long> ids = ids(productSearchIndex.search(request("아이폰"), ProductSortType.CREATED_AT, cursor, 10));
+
+		// then
+		assertThat(ids).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void index_상품수정시_이전토큰제거() {
+		// given: 4번 상품 제목 변경
+		productSearchIndex.index(product(4L, "아이폰 충전기", "정품", "잡화", "서울", 20000, 0));
+
+		// when
+		List<Long> iphone = ids(productSearchIndex.search(request("아이폰"), ProductSortType.CREATED_AT, null, 10));
+		List<Long> notebook = ids(productSearchIndex.search(request("노트북"), ProductSortType.CREATED_AT, null, 10));
+
+		// then
+		assertThat(iphone).contains(4L);
+		assertThat(notebook).isEmpty();
+	}
+
+	@Test
+	void search_판매상태필터_상태변경반영() {
+		// given: 1번 상품 판매 완료
+		Product sold = product(1L, "아이폰 13 미니", "배터리 성능 좋아요", "전자기기", "서울", 500000, 3);
+		sold.setStatus(ProductStatus.SOLD);
+		productSearchIndex.index(sold);
+
+		ProductSearchRequestDto request = request("아이폰");
+		request.setStatus(ProductStatus.SALE);
+
+		// when
+		List<Long> ids = ids(productSearchIndex.search(request, ProductSortType.CREATED_AT, null, 10));
+
+		// then
+		assertThat(ids).containsExactly(3L, 2L);
+	}
+
+	@Test
+	void search_관련도순_제목일치우선() {
+		// given: 같은 날 등록된 상품 - 제목 일치(10)가 설명 일치(11)보다 우선
+		productSearchIndex.index(product(10L, "맥북 프로", "상태 좋음", "전자기기", "서울", 1500000, 0));
+		productSearchIndex.index(product(11L, "노트북 팝니다", "맥북 에어 대신", "전자기기", "서울", 900000, 0));
+
+		// when
+		List<Long> ids = ids(productSearchIndex.search(request("맥북"), ProductSortType.RELEVANCE, null, 10));
+
+		// then
+		assertThat(ids).containsExactly(10L, 11L);
+	}
+
+	@Test
+	void search_관련도순_최신성감쇠() {
+		// given: 설명 일치라도 훨씬 최신이면 오래된 제목 일치보다 우선 (반감기 7일)
+		productSearchIndex.index(product(10L, "맥북 프로", "상태 좋음", "전자기기", "서울", 1500000, 60));
+		productSearchIndex.index(product(11L, "노트북 팝니다", "맥북 에어 대신", "전자기기", "서울", 900000, 0));
+
+		// when
+		List<Long> ids = ids(productSearchIndex.search(request("맥북"), ProductSortType.RELEVANCE, null, 10));
+
+		// then
+		assertThat(ids).containsExactly(11L, 10L);
+	}
+
+	@Test
+	void search_관련도순_상위K와_커서로_전체순회() {
+		// given
+		for (long id = 100; id < 130; id++) {
+			String title = id % 3 == 0 ? "자전거 판매" : "중고 물품";
+			productSearchIndex.index(product(id, title, "접이식 자전거", "스포츠", "서울", 100000, (int) (id % 7)));
+		}
+
+		// when: 7건씩 끝까지 조회
+		List<Long> all = new ArrayList<>();
+		ProductCursor cursor = null;
+		List<ProductSearchIndex.SearchHit> hits;
+		do {
+			hits = productSearchIndex.search(request("자전거"), ProductSortType.RELEVANCE, cursor, 7);
+			hits.forEach(hit -> all.add(hit.id()));
+			if (!hits.isEmpty()) {
+				ProductSearchIndex.SearchHit last = hits.get(hits.size() - 1);
+				cursor = ProductCursor.ofRelevance(last.score(), last.id());
+			}
+		} while (hits.size() == 7);
+
+		// then: 중복/누락 없이 점수 내림차순
+		assertThat(all).hasSize(30).doesNotHaveDuplicates();
+		List<ProductSearchIndex.SearchHit> full = productSearchIndex.search(request("자전거"),
+				ProductSortType.RELEVANCE, null, 100);
+		assertThat(full).extracting(ProductSearchIndex.SearchHit::id).containsExactlyElementsOf(all);
+		assertThat(full).extracting(ProductSearchIndex.SearchHit::score)
+				.isSortedAccordingTo(Comparator.reverseOrder());
+	}
+
+	@Test
+	void search_bigram은_모두있지만_키워드가_없으면_제외() {
+		// given: "노트" + "트북"이 제목/설명에 흩어져 있고, "케이스 아이폰"은 단어 순서가 반대
+		productSearchIndex.index(product(5L, "노트 필기용", "트북 스탠드 아님", "잡화", "서울", 5000, 0));
+		productSearchIndex.index(product(6L, "케이스 아이폰 호환", "", "잡화", "서울", 5000, 0));
+
+		// when & then: LIKE '%kw%'와 같이 키워드가 그대로 포함된 상품만 일치
+		assertThat(ids(productSearchIndex.search(request("노트북"), ProductSortType.CREATED_AT, null, 10)))
+				.containsExactly(4L);
+		assertThat(ids(productSearchIndex.search(request("아이폰 케이스"), ProductSortType.RELEVANCE, null, 10)))
+				.containsExactly(3L);
+		assertThat(productSearchIndex.countFacets(request("노트북")).getCategory()).containsOnly(entry("잡화", 1L));
+	}
+
+	@Test
+	void search_긴_설명의_뒷부분도_검색() {
+		// given: 설명 5,000자 이후에 키워드
+		productSearchIndex.index(product(5L, "중고 책", "가".repeat(5_000) + " 초판본", "도서", "서울", 5000, 0));
+
+		// when & then
+		assertThat(ids(productSearchIndex.search(request("초판본"), ProductSortType.CREATED_AT, null, 10)))
+				.containsExactly(5L);
+	}
+
+	@Test
+	void countFacets_키워드후보_한번순회집계() {
+		// given
+		ProductSearchRequestDto request = request("아이폰");
+		request.setLocation("서울");
+
+		// when
+		ProductFacetsDto facets = productSearchIndex.countFacets(request);
+
+		// then: 지역 패싯은 지역 필터를 제외하고 집계
+		assertThat(facets.getLocation()).containsExactly(entry("서울", 2L), entry("부산", 1L));
+		assertThat(facets.getCategory()).containsOnly(entry("전자기기", 1L), entry("잡화", 1L));
+		assertThat(facets.getStatus()).containsExactly(entry(ProductStatus.SALE, 2L));
+	}
+
+	private List<Long> ids(List<ProductSearchIndex.SearchHit> hits) {
+		return hits.stream().map(ProductSearchIndex.SearchHit::id).toList();
+	}
+
+	private ProductSearchRequestDto request(String keyword) {
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setKeyword(keyword);
+		return request;
+	}
+
+	private Product product(Long id, String title, String description, String category, String location, int price,
+			int daysAgo) {
+		return Product.builder().id(id).title(title).description(description).category(category).location(location)
+				.price(price).status(ProductStatus.SALE).createdAt(now.minusDays(daysAgo)).build();
+	}
+}
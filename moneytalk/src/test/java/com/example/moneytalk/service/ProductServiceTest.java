@@ -4,39 +4,45 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.moneytalk.config.S3Uploader;
 import com.example.moneytalk.domain.Product;
-import com.example.moneytalk.domain.ProductImage;
 import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.dto.ProductCursor;
 import com.example.moneytalk.dto.ProductRequestDto;
 import com.example.moneytalk.dto.ProductResponseDto;
 import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.event.PurchaseConfirmedEvent;
 import com.example.moneytalk.exception.GlobalException;
-import com.example.moneytalk.repository.LedgerRepository;
 import com.example.moneytalk.repository.ProductImageRepository;
 import com.example.moneytalk.repository.ProductRepository;
-import com.example.moneytalk.repository.PurchaseHistoryRepository;
-import com.example.moneytalk.repository.PurchaseRecordRepository;
 import com.example.moneytalk.type.ErrorCode;
+import com.example.moneytalk.type.OutboxEventType;
+import com.example.moneytalk.type.ProductSortType;
 import com.example.moneytalk.type.ProductStatus;
-import com.example.moneytalk.type.PurchaseType;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -49,16 +55,28 @@ class ProductServiceTest {
 	private ProductImageRepository productImageRepository;
 
 	@Mock
-	private PurchaseRecordRepository purchaseRecordRepository;
+	private OutboxService outboxService;
 
 	@Mock
-	private PurchaseHistoryRepository purchaseHistoryRepository;
+	private S3Uploader s3Uploader;
 
 	@Mock
-	private LedgerRepository ledgerRepository;
+	private ProductImageLoader productImageLoader;
 
 	@Mock
-	private S3Uploader s3Uploader;
+	private ProductSearchIndex productSearchIndex;
+
+	@Mock
+	private ProductRegionView productRegionView;
+
+	@Mock
+	private ProductPriceIndex productPriceIndex;
+
+	@Mock
+	private ProductFacetService productFacetService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	private ProductService productService;
@@ -105,14 +123,16 @@ class ProductServiceTest {
 
 		List<Product> mockProducts = List.of(product2, product1); // 최신순 가정
 
-		given(productRepository.findAllByOrderByCreatedAtDesc()).willReturn(mockProducts);
-		given(productImageRepository.findByProduct(any(Product.class)))
-				.willReturn(List.of(ProductImage.builder().imageUrl("https://img.com/1.jpg").build()));
+		given(productRepository.searchByConditions(any(ProductSearchRequestDto.class))).willReturn(mockProducts);
+		givenImageUrls("https://img.com/1.jpg");
 
 		// when
-		List<ProductResponseDto> result = productService.getAllProducts();
+		CursorPageResponseDto<ProductResponseDto> page = productService.getAllProducts(null, null);
+		List<ProductResponseDto> result = page.getContent();
 
 		// then
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
 		assertThat(result).hasSize(2);
 
 		assertThat(result.get(0).getTitle()).isEqualTo("갤럭시 S23");
@@ -123,6 +143,49 @@ class ProductServiceTest {
 		assertThat(result.get(1).getSellerId()).isEqualTo(1L);
 	}
 
+	@Test
+	void getAllProducts_다음페이지존재_커서반환() {
+		// given
+		User user = User.builder().id(1L).nickname("판매왕").build();
+		LocalDateTime now = LocalDateTime.of(2025, 4, 25, 16, 0, 0);
+
+		// size=2 요청 시 3건(size + 1)이 조회되면 다음 페이지가 존재
+		List<Product> fetched = List.of(
+				Product.builder().id(3L).title("c").price(3000).user(user).createdAt(now).build(),
+				Product.builder().id(2L).title("b").price(2000).user(user).createdAt(now).build(),
+				Product.builder().id(1L).title("a").price(1000).user(user).createdAt(now.minusDays(1)).build());
+
+		given(productRepository.searchByConditions(any(ProductSearchRequestDto.class))).willReturn(fetched);
+		givenImageUrls();
+
+		// when
+		CursorPageResponseDto<ProductResponseDto> page = productService.getAllProducts(null, 2);
+
+		// then
+		assertThat(page.getContent()).extracting(ProductResponseDto::getId).containsExactly(3L, 2L);
+		assertThat(page.isHasNext()).isTrue();
+
+		ProductCursor cursor = ProductCursor.decode(page.getNextCursor(), ProductSortType.CREATED_AT);
+		assertThat(cursor.getId()).isEqualTo(2L);
+		assertThat(cursor.getCreatedAt()).isEqualTo(now);
+	}
+
+	@Test
+	void productCursor_정렬기준불일치_예외() {
+		// given
+		Product product = Product.builder().id(10L).price(5000).createdAt(LocalDateTime.now()).build();
+		String priceCursor = ProductCursor.of(product, ProductSortType.PRICE_ASC).encode();
+
+		// when
+		Throwable sortMismatch = catchThrowable(() -> ProductCursor.decode(priceCursor, ProductSortType.CREATED_AT));
+		Throwable malformed = catchThrowable(() -> ProductCursor.decode("not-a-cursor", ProductSortType.CREATED_AT));
+
+		// then
+		assertThat(ProductCursor.decode(priceCursor, ProductSortType.PRICE_ASC).getPrice()).isEqualTo(5000);
+		assertThat(((GlobalException) sortMismatch).getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+		assertThat(((GlobalException) malformed).getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+	}
+
 	@Test
 	void getProductById_정상조회_성공() {
 		// given
@@ -133,8 +196,8 @@ class ProductServiceTest {
 				.category("전자기기").location("부산").status(ProductStatus.SALE).user(user).build();
 
 		given(productRepository.findWithUserById(productId)).willReturn(Optional.of(product));
-		given(productImageRepository.findByProduct(product))
-				.willReturn(List.of(ProductImage.builder().imageUrl("https://img.com/ipad.jpg").build()));
+		given(productImageLoader.toResponse(product))
+				.willReturn(ProductResponseDto.from(product, List.of("https://img.com/ipad.jpg")));
 
 		// when
 		ProductResponseDto result = productService.getProductById(productId);
@@ -175,6 +238,7 @@ class ProductServiceTest {
 
 		// then
 		assertThat(product.getStatus()).isEqualTo(ProductStatus.RESERVED);
+		verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
 	}
 
 	@Test
@@ -215,6 +279,27 @@ class ProductServiceTest {
 		assertThat(((GlobalException) thrown).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_ACCESS_DENIED);
 	}
 
+	@Test
+	void updateProductStatus_판매완료상품_재판매_거부() {
+		// given: 구매 확정으로 판매완료된 상품 (구매 기록/거래 내역이 상품 ID 기준으로 이미 존재)
+		Long productId = 1L;
+		User seller = User.builder().id(1L).nickname("판매자").build();
+		Product product = Product.builder().id(productId).title("아이폰 13").status(ProductStatus.SOLD).user(seller)
+				.build();
+
+		given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+		// when
+		Throwable thrown = catchThrowable(
+				() -> productService.updateProductStatus(productId, ProductStatus.SALE, seller));
+
+		// then: 다시 구매 확정될 수 없도록 판매완료 상태 유지
+		assertThat(thrown).isInstanceOf(GlobalException.class);
+		assertThat(((GlobalException) thrown).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_ALREADY_SOLD);
+		assertThat(product.getStatus()).isEqualTo(ProductStatus.SOLD);
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
 	@Test
 	void createProductWithImages_정상등록_성공() {
 		// given
@@ -247,6 +332,10 @@ class ProductServiceTest {
 		// then
 		// 이미지 저장이 호출되었는지 검증
 		verify(productImageRepository, times(1)).saveAll(any());
+		// 첫 번째 이미지가 상품 행의 대표 이미지 URL로 함께 저장
+		ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
+		verify(productRepository).save(productCaptor.capture());
+		assertThat(productCaptor.getValue().getThumbnailUrl()).isEqualTo("https://s3.amazon.com/products/camera.jpg");
 	}
 
 	@Test
@@ -261,11 +350,10 @@ class ProductServiceTest {
 
 		given(productRepository.searchByConditions(any(ProductSearchRequestDto.class))).willReturn(List.of(product));
 
-		given(productImageRepository.findByProduct(product))
-				.willReturn(List.of(ProductImage.builder().imageUrl("https://s3.amazon.com/nintendo.jpg").build()));
+		givenImageUrls("https://s3.amazon.com/nintendo.jpg");
 
 		// when
-		List<ProductResponseDto> result = productService.searchProducts(request);
+		List<ProductResponseDto> result = productService.searchProducts(request).getContent();
 
 		// then
 		assertThat(result).hasSize(1);
@@ -274,6 +362,31 @@ class ProductServiceTest {
 		assertThat(result.get(0).getSellerNickname()).isEqualTo("판매자");
 	}
 
+	@Test
+	void searchProducts_키워드검색_역색인사용() {
+		// given
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setKeyword("아이폰");
+
+		User user = User.builder().id(1L).nickname("판매자").build();
+		Product newer = Product.builder().id(7L).title("아이폰 15").price(900000).user(user).build();
+		Product older = Product.builder().id(3L).title("아이폰 12").price(400000).user(user).build();
+
+		given(productSearchIndex.supports("아이폰")).willReturn(true);
+		given(productSearchIndex.search(eq(request), eq(ProductSortType.CREATED_AT), eq(null), eq(21)))
+				.willReturn(List.of(new ProductSearchIndex.SearchHit(7L, 0), new ProductSearchIndex.SearchHit(3L, 0)));
+		// DB는 순서를 보장하지 않으므로 역순으로 반환
+		given(productRepository.findAllWithUserByIdIn(List.of(7L, 3L))).willReturn(List.of(older, newer));
+		givenImageUrls();
+
+		// when
+		List<ProductResponseDto> result = productService.searchProducts(request).getContent();
+
+		// then
+		assertThat(result).extracting(ProductResponseDto::getId).containsExactly(7L, 3L);
+		verify(productRepository, never()).searchByConditions(any());
+	}
+
 	@Test
 	void confirmPurchase_성공() {
 		// given
@@ -286,13 +399,7 @@ class ProductServiceTest {
 				.location("서울").status(ProductStatus.SALE).build();
 
 		given(productRepository.findById(productId)).willReturn(Optional.of(product));
-		given(purchaseRecordRepository.existsByProduct(product)).willReturn(false);
-		given(purchaseHistoryRepository.existsByUserAndProductAndType(eq(buyer), eq(product),
-				eq(PurchaseType.PURCHASE))).willReturn(false);
-		given(purchaseHistoryRepository.existsByUserAndProductAndType(eq(seller), eq(product), eq(PurchaseType.SALE)))
-				.willReturn(false);
-		given(ledgerRepository.existsByUserAndMemoAndAmount(eq(buyer), eq("책상 구매"), eq(10000))).willReturn(false);
-		given(ledgerRepository.existsByUserAndMemoAndAmount(eq(seller), eq("책상 판매"), eq(10000))).willReturn(false);
+		given(productRepository.markSoldIfNotSold(productId, buyer, ProductStatus.SOLD)).willReturn(1);
 
 		// when
 		productService.confirmPurchase(productId, buyer);
@@ -301,10 +408,50 @@ class ProductServiceTest {
 		assertThat(product.getStatus()).isEqualTo(ProductStatus.SOLD);
 		assertThat(product.getBuyer()).isEqualTo(buyer);
 
-		// Mock 저장 메소드들 모두 1회씩 호출됐는지 확인
-		verify(purchaseRecordRepository).save(any());
-		verify(purchaseHistoryRepository, times(4)).save(any()); // 구매자 + 판매자
-		verify(ledgerRepository, times(4)).save(any()); // 수입 + 지출
+		// 구매 기록/이력/가계부는 직접 쓰지 않고 구매 확정 이벤트 1건만 아웃박스에 기록
+		ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+		verify(outboxService).append(eq(OutboxEventType.PURCHASE_CONFIRMED), eq(productId), payloadCaptor.capture());
+		PurchaseConfirmedEvent event = (PurchaseConfirmedEvent) payloadCaptor.getValue();
+		assertThat(event.getBuyerId()).isEqualTo(2L);
+		assertThat(event.getSellerId()).isEqualTo(1L);
+		assertThat(event.getAmount()).isEqualTo(10000);
+		assertThat(event.getTitle()).isEqualTo("책상");
+	}
+
+	@Test
+	void confirmPurchase_실패_동시확정_충돌() {
+		// given: 조회 시점에는 판매중이었지만 다른 구매자가 먼저 확정
+		Long productId = 1L;
+		User seller = User.builder().id(1L).nickname("판매자").build();
+		User buyer = User.builder().id(2L).nickname("구매자").build();
+		Product product = Product.builder().id(productId).user(seller).price(10000).title("책상")
+				.status(ProductStatus.SALE).build();
+
+		given(productRepository.findById(productId)).willReturn(Optional.of(product));
+		given(productRepository.markSoldIfNotSold(productId, buyer, ProductStatus.SOLD)).willReturn(0);
+
+		// when & then
+		GlobalException ex = assertThrows(GlobalException.class,
+				() -> productService.confirmPurchase(productId, buyer));
+		assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PURCHASE_CONFLICT);
+		verify(outboxService, never()).append(any(), any(), any());
+	}
+
+	@Test
+	void confirmPurchase_같은구매자_재요청_쓰기없이_성공() {
+		// given: 이미 이 구매자에게 판매완료된 상품
+		User seller = User.builder().id(1L).nickname("판매자").build();
+		User buyer = User.builder().id(2L).nickname("구매자").build();
+		Product product = Product.builder().id(1L).user(seller).buyer(buyer).price(10000).title("책상")
+				.status(ProductStatus.SOLD).build();
+		given(productRepository.findById(1L)).willReturn(Optional.of(product));
+
+		// when
+		productService.confirmPurchase(1L, buyer);
+
+		// then
+		verify(productRepository, never()).markSoldIfNotSold(any(), any(), any());
+		verify(outboxService, never()).append(any(), any(), any());
 	}
 
 	@Test
@@ -321,5 +468,13 @@ class ProductServiceTest {
 		assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
 	}
 
+	/**
+	 * 목록 변환 시 모든 상품에 동일한 이미지 URL 목록이 붙도록 이미지 로더를 설정합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void givenImageUrls(String... imageUrls) {
+		given(productImageLoader.toResponses(anyList())).willAnswer(invocation -> ((List<Product>) invocation
+				.getArgument(0)).stream().map(product -> ProductResponseDto.from(product, List.of(imageUrls))).toList());
+	}
 
 }
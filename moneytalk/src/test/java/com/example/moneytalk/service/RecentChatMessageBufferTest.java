@@ -0,0 +1,312 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.ChatMessage;
+import com.example.moneytalk.domain.ChatRoom;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ChatMessageCursor;
+import com.example.moneytalk.dto.ChatMessageDto;
+import com.example.moneytalk.dto.ChatMessageResponseDto;
+import com.example.moneytalk.dto.CursorPageResponseDto;
+import com.example.moneytalk.event.ChatMessagesSavedEvent;
+import com.example.moneytalk.type.MessageType;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class RecentChatMessageBufferTest {
+
+	private static final Long BUYER = 1L;
+	private static final Long SELLER = 2L;
+	private static final LocalDateTime STORED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListener;
+
+	private RecentChatMessageBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new RecentChatMessageBuffer(redisTemplate, redisMessageListener, 4, 2, 0);
+	}
+
+	private static ChatMessageDto live(Long roomId, Long senderId, String key) {
+		return live(roomId, senderId, key, LocalDateTime.now());
+	}
+
+	private static ChatMessageDto live(Long roomId, Long senderId, String key, LocalDateTime sentAt) {
+		return ChatMessageDto.builder().chatRoomId(roomId).senderId(senderId).senderNickname("user" + senderId)
+				.message("live " + key).type(MessageType.TEXT).messageKey(key).sentAt(sentAt).build();
+	}
+
+	private static ChatMessage stored(long id, Long senderId, String key, boolean deletedBySender) {
+		User sender = User.builder().id(senderId).nickname("user" + senderId).profileImageUrl("https://img/" + senderId)
+				.build();
+		return ChatMessage.builder().id(id).messageKey(key).sender(sender).message("stored " + id)
+				.type(MessageType.TEXT).sentAt(STORED_AT.plusSeconds(id)).isDeletedBySender(deletedBySender).build();
+	}
+
+	private void load(Long roomId, boolean complete, ChatMessage... newestFirst) {
+		long token = buffer.loadToken(roomId);
+		assertThat(token).isPositive();
+		buffer.fill(roomId, token, List.of(newestFirst), complete);
+	}
+
+	private static List<String> messages(CursorPageResponseDto<ChatMessageResponseDto> page) {
+		return page.getContent().stream().map(ChatMessageResponseDto::getMessage).toList();
+	}
+
+	private static Long cursorId(CursorPageResponseDto<ChatMessageResponseDto> page) {
+		return ChatMessageCursor.decode(page.getNextCursor()).getId();
+	}
+
+	@Test
+	void DB에서_채우기_전에는_응답하지_않음() {
+		// given
+		buffer.track(10L);
+		buffer.append(live(10L, BUYER, "k1"));
+
+		// when & then
+		assertThat(buffer.firstPage(10L, BUYER, 2)).isEmpty();
+		assertThat(buffer.firstPage(99L, BUYER, 2)).isEmpty();
+	}
+
+	@Test
+	void DB_메시지_뒤에_실시간_메시지를_중복없이_합침() {
+		// given: k2는 실시간으로도 받았고 DB에도 저장됨, k3은 아직 저장 전
+		buffer.track(10L);
+		buffer.append(live(10L, SELLER, "k2"));
+		buffer.append(live(10L, BUYER, "k3"));
+
+		// when
+		load(10L, true, stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", false));
+		var page = buffer.firstPage(10L, BUYER, 10).orElseThrow();
+
+		// then: 방 전체가 버퍼에 있으므로 다음 페이지 없음, 저장 전 메시지도 프로필 이미지를 채움
+		assertThat(messages(page)).containsExactly("stored 1", "stored 2", "live k3");
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getContent().get(2).getSenderProfileImage()).isEqualTo("https://img/1");
+	}
+
+	@Test
+	void 다음_페이지가_있으면_페이지의_가장_오래된_메시지가_커서() {
+		// given
+		buffer.track(10L);
+		load(10L, false, stored(3, BUYER, "k3", false), stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", false));
+
+		// when
+		var page = buffer.firstPage(10L, BUYER, 2).orElseThrow();
+
+		// then
+		assertThat(messages(page)).containsExactly("stored 2", "stored 3");
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(ChatMessageCursor.decode(page.getNextCursor()).getSentAt()).isEqualTo(STORED_AT.plusSeconds(2));
+		assertThat(cursorId(page)).isEqualTo(2L);
+
+		// when & then: 버퍼 밖에 더 오래된 메시지가 있을 수 있어 판단 불가 → DB
+		assertThat(buffer.firstPage(10L, BUYER, 3)).isEmpty();
+	}
+
+	@Test
+	void 페이지_경계가_저장_전_메시지면_DB로_넘김() {
+		// given
+		buffer.track(10L);
+		load(10L, true, stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", false));
+		buffer.append(live(10L, SELLER, "k3"));
+		buffer.append(live(10L, BUYER, "k4"));
+
+		// when & then
+		assertThat(buffer.firstPage(10L, BUYER, 2)).isEmpty();
+		assertThat(cursorId(buffer.firstPage(10L, BUYER, 3).orElseThrow())).isEqualTo(2L);
+	}
+
+	@Test
+	void 용량을_넘으면_가장_오래된_메시지를_덮어씀() {
+		// given: 용량 4, DB에서 방 전체(2건)를 읽음
+		buffer.track(10L);
+		load(10L, true, stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", false));
+
+		buffer.append(live(10L, BUYER, "k3"));
+		buffer.append(live(10L, BUYER, "k4"));
+		assertThat(messages(buffer.firstPage(10L, SELLER, 10).orElseThrow()))
+				.containsExactly("stored 1", "stored 2", "live k3", "live k4");
+
+		// when
+		buffer.append(live(10L, BUYER, "k5"));
+
+		// then: stored 1이 밀려나 방 전체를 보유하지 않으므로 판단 불가
+		assertThat(buffer.firstPage(10L, SELLER, 10)).isEmpty();
+	}
+
+	@Test
+	void 사용자별로_나간_메시지는_제외하고_다른_노드에도_전파() {
+		// given
+		buffer.track(10L);
+		load(10L, true, stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", true));
+
+		// when & then: 구매자가 삭제한 자기 메시지는 구매자에게만 숨김
+		assertThat(messages(buffer.firstPage(10L, BUYER, 10).orElseThrow())).containsExactly("stored 2");
+		assertThat(messages(buffer.firstPage(10L, SELLER, 10).orElseThrow())).containsExactly("stored 1", "stored 2");
+
+		// when: 판매자가 나감
+		buffer.leave(10L, SELLER);
+
+		// then
+		assertThat(buffer.firstPage(10L, SELLER, 10).orElseThrow().getContent()).isEmpty();
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(RecentChatMessageBuffer.CHANNEL), payload.capture());
+		assertThat(payload.getValue()).endsWith("|L|10|2");
+	}
+
+	@Test
+	void 다른_노드의_읽음_처리를_반영() {
+		// given
+		buffer.track(10L);
+		load(10L, true, stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", false));
+
+		// when: 구매자가 다른 노드에서 읽음
+		buffer.onMessage(new DefaultMessage(RecentChatMessageBuffer.CHANNEL.getBytes(), "other-node|R|10|1".getBytes()),
+				null);
+
+		// then: 구매자가 받은 메시지만 읽음
+		var page = buffer.firstPage(10L, BUYER, 10).orElseThrow();
+		assertThat(page.getContent()).extracting(ChatMessageResponseDto::isRead).containsExactly(false, true);
+	}
+
+	@Test
+	void 방_수가_한도를_넘으면_가장_오래_사용하지_않은_방을_제거() {
+		// given: 최대 2개 방
+		buffer.track(10L);
+		load(10L, true, stored(1, BUYER, "k1", false));
+		buffer.track(20L);
+		buffer.append(live(20L, BUYER, "k2"));
+		buffer.firstPage(10L, BUYER, 1); // 10번 방 사용
+
+		// when
+		buffer.track(30L);
+		buffer.append(live(30L, BUYER, "k3"));
+
+		// then: 20번 방 제거
+		assertThat(buffer.roomCount()).isEqualTo(2);
+		assertThat(buffer.loadToken(20L)).isZero();
+		assertThat(buffer.firstPage(10L, BUYER, 1)).isPresent();
+	}
+
+	@Test
+	void 수신을_멈추거나_다시_시작하면_이전_버퍼를_버림() {
+		// given
+		buffer.track(10L);
+		long token = buffer.loadToken(10L);
+
+		// when: 채우기 전에 수신이 다시 시작됨 → 이전 토큰으로 채우기 무시
+		buffer.track(10L);
+		buffer.fill(10L, token, List.of(stored(1, BUYER, "k1", false)), true);
+
+		// then
+		assertThat(buffer.firstPage(10L, BUYER, 1)).isEmpty();
+
+		// when
+		buffer.untrack(10L);
+
+		// then
+		assertThat(buffer.loadToken(10L)).isZero();
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	void 수신하지_않는_방의_메시지는_버퍼를_만들지_않음() {
+		// given: 수신을 멈춘 직후 구독 해제 전에 도착한 메시지
+		buffer.track(10L);
+		buffer.untrack(10L);
+
+		// when
+		buffer.append(live(10L, BUYER, "k1"));
+		buffer.append(live(20L, BUYER, "k2"));
+
+		// then
+		assertThat(buffer.roomCount()).isZero();
+		assertThat(buffer.firstPage(10L, BUYER, 1)).isEmpty();
+	}
+
+	@Test
+	void 모든_방을_받는_전송은_처음_받은_메시지로_버퍼를_만듦() {
+		// when
+		buffer.appendOrTrack(live(10L, BUYER, "k1"));
+		buffer.appendOrTrack(live(10L, BUYER, "k1"));
+
+		// then: 같은 메시지는 한 번만 보관, DB 채우기 대상
+		assertThat(buffer.roomCount()).isEqualTo(1);
+		load(10L, true);
+		assertThat(messages(buffer.firstPage(10L, BUYER, 10).orElseThrow())).containsExactly("live k1");
+	}
+
+	@Test
+	void 도착_순서와_관계없이_전송_시각_순으로_보관() {
+		// given: 다른 노드에서 먼저 보낸 k3이 k4보다 늦게 도착
+		buffer.track(10L);
+		load(10L, true, stored(1, BUYER, "k1", false));
+		LocalDateTime now = LocalDateTime.now();
+		buffer.append(live(10L, BUYER, "k4", now.plusSeconds(2)));
+		buffer.append(live(10L, SELLER, "k3", now.plusSeconds(1)));
+
+		// when & then
+		assertThat(messages(buffer.firstPage(10L, BUYER, 10).orElseThrow()))
+				.containsExactly("stored 1", "live k3", "live k4");
+
+		// when: 가득 찬 뒤 버퍼의 모든 메시지보다 오래된 메시지가 도착
+		buffer.append(live(10L, SELLER, "k5", now.plusSeconds(3)));
+		assertThat(messages(buffer.firstPage(10L, BUYER, 10).orElseThrow()))
+				.containsExactly("stored 1", "live k3", "live k4", "live k5");
+		buffer.append(live(10L, SELLER, "k0", STORED_AT));
+
+		// then: 버퍼에 담지 못한 메시지가 있으므로 방 전체를 보유하지 않음
+		assertThat(buffer.firstPage(10L, BUYER, 10)).isEmpty();
+	}
+
+	@Test
+	void 저장된_메시지_ID를_채워_커서를_만들고_다른_노드에도_전파() {
+		// given: 페이지 경계(k3)가 저장 전이라 DB로 넘기던 상태
+		buffer.track(10L);
+		load(10L, true, stored(2, SELLER, "k2", false), stored(1, BUYER, "k1", false));
+		buffer.append(live(10L, SELLER, "k3"));
+		buffer.append(live(10L, BUYER, "k4"));
+		assertThat(buffer.firstPage(10L, BUYER, 2)).isEmpty();
+
+		// when: 이 노드가 k3을 저장, k4는 다른 노드가 저장
+		ChatRoom room = ChatRoom.builder().id(10L).build();
+		buffer.onMessagesSaved(new ChatMessagesSavedEvent(
+				List.of(ChatMessage.builder().id(7L).messageKey("k3").chatRoom(room).build())));
+		buffer.onMessage(new DefaultMessage(RecentChatMessageBuffer.CHANNEL.getBytes(), "other-node|S|10|k4:8".getBytes()),
+				null);
+
+		// then
+		var page = buffer.firstPage(10L, BUYER, 2).orElseThrow();
+		assertThat(messages(page)).containsExactly("live k3", "live k4");
+		assertThat(page.getContent()).extracting(ChatMessageResponseDto::getMessageId).containsExactly(7L, 8L);
+		assertThat(cursorId(page)).isEqualTo(7L);
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(RecentChatMessageBuffer.CHANNEL), payload.capture());
+		assertThat(payload.getValue()).endsWith("|S|10|k3:7");
+	}
+}
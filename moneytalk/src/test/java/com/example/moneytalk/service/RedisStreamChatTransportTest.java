@@ -0,0 +1,144 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.dto.ChatMessageDto;
+import com.example.moneytalk.type.MessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class RedisStreamChatTransportTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	@Mock
+	private RedisConnectionFactory connectionFactory;
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	private RecentChatMessageBuffer recentChatMessageBuffer;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private RedisStreamChatTransport transport;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+		transport = new RedisStreamChatTransport(redisTemplate, connectionFactory, messagingTemplate, objectMapper,
+				recentChatMessageBuffer, "node-a", 100_000);
+	}
+
+	private ChatMessageDto message(Long roomId) {
+		return ChatMessageDto.builder().chatRoomId(roomId).senderId(1L).senderNickname("buyer").message("안녕하세요")
+				.type(MessageType.TEXT).messageKey("key-" + roomId).sentAt(LocalDateTime.of(2026, 10, 18, 12, 0)).build();
+	}
+
+	@Test
+	void 발행하면_스트림에_메시지를_추가() throws Exception {
+		// when
+		transport.publish(message(10L));
+
+		// then
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		ArgumentCaptor<MapRecord<String, String, String>> captor = ArgumentCaptor.forClass((Class) MapRecord.class);
+		verify(streamOperations).add(captor.capture());
+		MapRecord<String, String, String> record = captor.getValue();
+		assertThat(record.getStream()).isEqualTo(RedisStreamChatTransport.STREAM_KEY);
+		ChatMessageDto sent = objectMapper.readValue(record.getValue().get("payload"), ChatMessageDto.class);
+		assertThat(sent.getChatRoomId()).isEqualTo(10L);
+		assertThat(sent.getMessageKey()).isEqualTo("key-10");
+	}
+
+	@Test
+	void 수신한_메시지를_채팅방으로_전달하고_ACK() throws Exception {
+		// given
+		String payload = objectMapper.writeValueAsString(message(10L));
+
+		// when
+		transport.deliver("1-0", payload);
+
+		// then
+		verify(messagingTemplate).convertAndSend(eq("/sub/chat/room/10"), any(ChatMessageDto.class));
+		verify(recentChatMessageBuffer).appendOrTrack(any(ChatMessageDto.class));
+		verify(streamOperations).acknowledge(RedisStreamChatTransport.STREAM_KEY, "chat-node:node-a", "1-0");
+	}
+
+	@Test
+	void 읽을_수_없는_메시지도_ACK하여_다시_받지_않음() {
+		// when
+		transport.deliver("2-0", "{not-json");
+
+		// then
+		verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+		verify(streamOperations).acknowledge(RedisStreamChatTransport.STREAM_KEY, "chat-node:node-a", "2-0");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void 기동_시_ACK하지_못한_메시지를_모두_다시_전달() throws Exception {
+		// given: PEL에 2건 → 다음 읽기에서 빈 결과
+		MapRecord<String, Object, Object> first = StreamRecords.newRecord().in(RedisStreamChatTransport.STREAM_KEY)
+				.withId("1-0").ofMap(Map.<Object, Object>of("payload", objectMapper.writeValueAsString(message(10L))));
+		MapRecord<String, Object, Object> second = StreamRecords.newRecord().in(RedisStreamChatTransport.STREAM_KEY)
+				.withId("2-0").ofMap(Map.<Object, Object>of("payload", objectMapper.writeValueAsString(message(20L))));
+		given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+				.willReturn(List.of(first, second), List.of());
+
+		// when
+		transport.replayPending();
+
+		// then
+		verify(streamOperations, times(2)).read(any(Consumer.class), any(StreamReadOptions.class),
+				any(StreamOffset.class));
+		verify(messagingTemplate).convertAndSend(eq("/sub/chat/room/10"), any(ChatMessageDto.class));
+		verify(messagingTemplate).convertAndSend(eq("/sub/chat/room/20"), any(ChatMessageDto.class));
+		verify(streamOperations).acknowledge(RedisStreamChatTransport.STREAM_KEY, "chat-node:node-a", "1-0");
+		verify(streamOperations).acknowledge(RedisStreamChatTransport.STREAM_KEY, "chat-node:node-a", "2-0");
+	}
+
+	@Test
+	void 노드_ID가_없으면_기동_실패() {
+		// when & then: 모든 노드가 같은 소비자 그룹을 나눠 읽는 일이 없도록 명시적인 노드 ID를 요구
+		assertThatThrownBy(() -> new RedisStreamChatTransport(redisTemplate, connectionFactory, messagingTemplate,
+				objectMapper, recentChatMessageBuffer, " ", 100_000))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("chat.transport.node-id");
+	}
+}
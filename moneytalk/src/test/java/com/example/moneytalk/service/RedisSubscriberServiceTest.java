@@ -1,14 +1,33 @@
 package com.example.moneytalk.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
-import static org.mockito.Mockito.*;
-
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
 class RedisSubscriberServiceTest {
 
     @Mock
@@ -17,26 +36,105 @@ class RedisSubscriberServiceTest {
     @Mock
     private MessageListenerAdapter listenerAdapter;
 
-    @InjectMocks
+    @Mock
+    private RecentChatMessageBuffer recentChatMessageBuffer;
+
     private RedisSubscriberService redisSubscriberService;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        redisSubscriberService = new RedisSubscriberService(container, listenerAdapter, recentChatMessageBuffer);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId,
+            String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        redisSubscriberService.onSubscribe(
+                new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        redisSubscriberService.onUnsubscribe(
+                new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId, null)));
+    }
+
+    private void disconnect(String sessionId) {
+        redisSubscriberService.onDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, sessionId, null, null), sessionId, CloseStatus.NORMAL));
     }
 
     @Test
-    void subscribeChatRoom_호출됨() {
+    void 같은_채팅방을_여러_세션이_구독해도_채널은_한_번만_구독() {
+        // when
+        subscribe("s1", "sub-0", "/sub/chat/room/10");
+        subscribe("s2", "sub-0", "/sub/chat/room/10");
+
+        // then
+        verify(container, times(1)).addMessageListener(listenerAdapter, new ChannelTopic("chatroom:10"));
+        verify(recentChatMessageBuffer, times(1)).track(10L);
+        assertThat(redisSubscriberService.subscribedRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 마지막_구독자가_해제하면_채널_구독도_해제() {
         // given
-        Long chatRoomId = 123L;
-        String expectedTopicName = "chatroom:" + chatRoomId;
+        subscribe("s1", "sub-0", "/sub/chat/room/10");
+        subscribe("s2", "sub-0", "/sub/chat/room/10");
+
+        // when: 한 명 해제 → 유지
+        unsubscribe("s1", "sub-0");
 
+        // then
+        verify(container, never()).removeMessageListener(any(MessageListenerAdapter.class), any(Topic.class));
+
+        // when: 마지막 구독자 해제
+        unsubscribe("s2", "sub-0");
+
+        // then
+        verify(container).removeMessageListener(listenerAdapter, new ChannelTopic("chatroom:10"));
+        verify(recentChatMessageBuffer).untrack(10L);
+        assertThat(redisSubscriberService.subscribedRoomCount()).isZero();
+    }
+
+    @Test
+    void 연결이_끊기면_세션의_모든_구독을_해제() {
+        // given
+        subscribe("s1", "sub-0", "/sub/chat/room/10");
+        subscribe("s1", "sub-1", "/sub/chat/room/20");
+
+        // when
+        disconnect("s1");
+
+        // then
+        verify(container).removeMessageListener(listenerAdapter, new ChannelTopic("chatroom:10"));
+        verify(container).removeMessageListener(listenerAdapter, new ChannelTopic("chatroom:20"));
+        assertThat(redisSubscriberService.subscribedRoomCount()).isZero();
+
+        // when: 이미 정리된 세션의 해제 이벤트 → 무시
+        unsubscribe("s1", "sub-0");
+        disconnect("s1");
+
+        // then
+        verify(container, times(2)).removeMessageListener(any(MessageListenerAdapter.class), any(Topic.class));
+    }
+
+    @Test
+    void 채팅방이_아닌_목적지는_무시() {
         // when
-        redisSubscriberService.subscribeChatRoom(chatRoomId);
+        subscribe("s1", "sub-0", "/sub/purchase/3");
+        subscribe("s1", "sub-1", "/sub/chat/room/abc");
 
         // then
-        ArgumentCaptor<ChannelTopic> topicCaptor = ArgumentCaptor.forClass(ChannelTopic.class);
-        verify(container).addMessageListener(eq(listenerAdapter), topicCaptor.capture());
-        assert topicCaptor.getValue().getTopic().equals(expectedTopicName);
+        verify(container, never()).addMessageListener(eq(listenerAdapter), any(Topic.class));
+        assertThat(redisSubscriberService.subscribedRoomCount()).isZero();
     }
 }
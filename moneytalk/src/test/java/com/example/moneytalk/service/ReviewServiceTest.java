@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,6 +28,7 @@ import com.example.moneytalk.dto.ReviewRequestDto;
 import com.example.moneytalk.dto.ReviewResponseDto;
 import com.example.moneytalk.dto.ReviewStatsDto;
 import com.example.moneytalk.dto.ReviewUpdateRequestDto;
+import com.example.moneytalk.event.ReviewChangedEvent;
 import com.example.moneytalk.exception.GlobalException;
 import com.example.moneytalk.repository.ProductRepository;
 import com.example.moneytalk.repository.ReviewRepository;
@@ -49,6 +51,8 @@ class ReviewServiceTest {
 	private UserRepository userRepository;
 	@Mock
 	private ReviewImageService reviewImageService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@Test
 	void 리뷰작성_성공_이미지_포함() {
@@ -281,7 +285,9 @@ class ReviewServiceTest {
 		Long reviewerId = 10L;
 
 		User reviewer = User.builder().id(reviewerId).build();
-		Review review = Review.builder().id(reviewId).reviewer(reviewer).rating(3).content("이전 내용").build();
+		Product product = Product.builder().id(1L).build();
+		Review review = Review.builder().id(reviewId).product(product).reviewer(reviewer).rating(3).content("이전 내용")
+				.build();
 
 		ReviewUpdateRequestDto dto = new ReviewUpdateRequestDto();
 		dto.setRating(5);
@@ -300,6 +306,7 @@ class ReviewServiceTest {
 		assertEquals("수정된 내용", review.getContent());
 		verify(reviewImageService).deleteImagesByReviewId(reviewId);
 		verify(reviewImageService).uploadReviewImages(reviewId, newImages);
+		verify(eventPublisher).publishEvent(any(ReviewChangedEvent.class));
 	}
 
 	@Test
@@ -346,7 +353,8 @@ class ReviewServiceTest {
 		Long reviewerId = 1L;
 
 		User reviewer = User.builder().id(reviewerId).build();
-		Review review = Review.builder().id(reviewId).reviewer(reviewer).build();
+		Product product = Product.builder().id(1L).build();
+		Review review = Review.builder().id(reviewId).product(product).reviewer(reviewer).build();
 
 		given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
 
@@ -356,6 +364,7 @@ class ReviewServiceTest {
 		// then
 		verify(reviewImageService).deleteImagesByReviewId(reviewId);
 		verify(reviewRepository).delete(review);
+		verify(eventPublisher).publishEvent(any(ReviewChangedEvent.class));
 	}
 
 	@Test
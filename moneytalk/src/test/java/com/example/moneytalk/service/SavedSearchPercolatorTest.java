@@ -0,0 +1,137 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.repository.SavedSearchRepository;
+import com.example.moneytalk.service.SavedSearchPercolator.SavedQuery;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SavedSearchPercolatorTest {
+
+	private static final String[] CATEGORIES = { "전자기기", "의류", "가구", "도서", "스포츠", "잡화", "뷰티", "식품", "유아", "게임",
+			"음반", "공구", "캠핑", "반려동물", "자동차", "티켓", "가전", "식물", "미술", "기타" };
+	private static final String[] LOCATIONS = { "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "수원", "성남", "고양",
+			"용인", "청주", "천안", "전주", "포항", "창원", "제주", "김해", "춘천", "원주", "강릉", "목포", "여수", "순천" };
+	private static final String[] KEYWORDS = { "아이폰", "갤럭시", "맥북", "책상", "의자", "자전거", "캠핑", "패딩", "운동화", "가방",
+			"모니터", "키보드", "마우스", "텐트", "소파", "냉장고", "세탁기", "카메라", "렌즈", "시계" };
+
+	@Mock
+	private SavedSearchRepository savedSearchRepository;
+
+	@InjectMocks
+	private SavedSearchPercolator percolator;
+
+	@Test
+	void percolate_카테고리_지역_가격_키워드_모두_검사() {
+		// given
+		percolator.register(query(1L, "아이폰", "전자기기", "서울", 500_000, 900_000));
+		percolator.register(query(2L, null, "전자기기", null, null, null));
+		percolator.register(query(3L, null, null, "서울", null, 600_000));
+		percolator.register(query(4L, "갤럭시", null, null, null, null));
+		percolator.register(query(5L, null, "의류", "서울", null, null));
+		percolator.register(query(6L, "아이폰", "전자기기", "부산", null, null));
+
+		// when
+		List<SavedQuery> matches = percolator.percolate(product("아이폰 14 Pro", "전자기기", "서울", 750_000));
+
+		// then: 3번은 가격 초과, 4번은 키워드 불일치, 5/6번은 버킷 불일치
+		assertThat(matches).extracting(SavedQuery::id).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	void percolate_가격경계_포함_키워드_대소문자무시() {
+		// given
+		percolator.register(query(1L, "MacBook", null, null, 1_000_000, 1_000_000));
+
+		// when & then
+		assertThat(percolator.percolate(product("맥북 macbook air", "전자기기", "서울", 1_000_000))).hasSize(1);
+		assertThat(percolator.percolate(product("맥북 macbook air", "전자기기", "서울", 1_000_001))).isEmpty();
+	}
+
+	@Test
+	void unregister_재등록시_이전조건_제거() {
+		// given
+		percolator.register(query(1L, null, "전자기기", null, null, null));
+		percolator.register(query(1L, null, "의류", null, null, null));
+
+		// when & then
+		assertThat(percolator.percolate(product("코트", "의류", "서울", 50_000))).hasSize(1);
+		assertThat(percolator.percolate(product("노트북", "전자기기", "서울", 50_000))).isEmpty();
+
+		percolator.unregister(1L);
+		assertThat(percolator.percolate(product("코트", "의류", "서울", 50_000))).isEmpty();
+		assertThat(percolator.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("무작위 저장 검색: 후보는 일부만 검사하고 결과는 전체 순회와 동일")
+	void percolate_무작위_저장검색_전체순회와_동일() {
+		// given: 카테고리 미지정 10%, 지역 미지정 20%, 가격 범위 50%, 키워드 40%
+		Random random = new Random(42);
+		List<SavedQuery> all = new ArrayList<>();
+		for (long id = 1; id <= 10_000; id++) {
+			Integer min = null;
+			Integer max = null;
+			if (random.nextBoolean()) {
+				min = random.nextInt(100) * 10_000;
+				max = min + (1 + random.nextInt(50)) * 10_000;
+			}
+			SavedQuery query = new SavedQuery(id, id % 500, random.nextInt(10) < 4 ? pick(random, KEYWORDS) : null,
+					random.nextInt(10) < 1 ? null : pick(random, CATEGORIES),
+					random.nextInt(10) < 2 ? null : pick(random, LOCATIONS), min, max);
+			all.add(query);
+			percolator.register(query);
+		}
+
+		long candidates = 0;
+		for (int i = 0; i < 200; i++) {
+			Product product = product(pick(random, KEYWORDS) + " 팝니다", pick(random, CATEGORIES),
+					pick(random, LOCATIONS), random.nextInt(150) * 10_000);
+
+			// when
+			List<SavedQuery> matches = percolator.percolate(product);
+
+			// then: 결과는 전체 순회와 동일
+			String text = product.getTitle().toLowerCase();
+			List<Long> expected = all.stream()
+					.filter(query -> (query.category() == null || query.category().equals(product.getCategory()))
+							&& (query.location() == null || query.location().equals(product.getLocation()))
+							&& query.matches(product.getPrice(), text))
+					.map(SavedQuery::id).toList();
+			assertThat(matches).extracting(SavedQuery::id).containsExactlyInAnyOrderElementsOf(expected);
+			candidates += percolator.candidateCount(product);
+		}
+
+		// then: 정확 검사 대상은 평균적으로 전체의 5% 미만
+		assertThat(candidates / 200).isLessThan(all.size() / 20);
+	}
+
+	private static String pick(Random random, String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private SavedQuery query(Long id, String keyword, String category, String location, Integer minPrice,
+			Integer maxPrice) {
+		return new SavedQuery(id, 100L + id, keyword == null ? null : keyword.toLowerCase(), category, location,
+				minPrice, maxPrice);
+	}
+
+	private Product product(String title, String category, String location, int price) {
+		return Product.builder().id(1L).title(title).description("").category(category).location(location)
+				.price(price).build();
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.SavedSearch;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductSearchRequestDto;
+import com.example.moneytalk.dto.SavedSearchMatchDto;
+import com.example.moneytalk.event.ProductChangedEvent;
+import com.example.moneytalk.exception.GlobalException;
+import com.example.moneytalk.repository.SavedSearchRepository;
+import com.example.moneytalk.service.SavedSearchPercolator.SavedQuery;
+import com.example.moneytalk.type.ErrorCode;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SavedSearchServiceTest {
+
+	@Mock
+	private SavedSearchRepository savedSearchRepository;
+
+	@Mock
+	private SavedSearchPercolator savedSearchPercolator;
+
+	@Mock
+	private SavedSearchNotifier savedSearchNotifier;
+
+	@InjectMocks
+	private SavedSearchService savedSearchService;
+
+	@Test
+	void saveSearch_저장후_색인등록_및_전파() {
+		// given
+		User user = User.builder().id(1L).build();
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setKeyword("  아이폰 ");
+		request.setMaxPrice(900_000);
+		given(savedSearchRepository.save(any(SavedSearch.class))).willAnswer(invocation -> {
+			SavedSearch saved = invocation.getArgument(0);
+			return SavedSearch.builder().id(10L).user(saved.getUser()).keyword(saved.getKeyword())
+					.maxPrice(saved.getMaxPrice()).build();
+		});
+
+		// when
+		var response = savedSearchService.saveSearch(request, user);
+
+		// then
+		assertThat(response.getKeyword()).isEqualTo("아이폰");
+		verify(savedSearchPercolator).register(any(SavedSearch.class));
+		verify(savedSearchNotifier).publishRegistered(10L);
+	}
+
+	@Test
+	void saveSearch_조건없음_또는_개수초과_예외() {
+		// given
+		User user = User.builder().id(1L).build();
+		ProductSearchRequestDto empty = new ProductSearchRequestDto();
+		ProductSearchRequestDto request = new ProductSearchRequestDto();
+		request.setCategory("전자기기");
+		given(savedSearchRepository.countByUser(user)).willReturn((long) SavedSearchService.MAX_SAVED_SEARCHES_PER_USER);
+
+		// when & then
+		assertThatThrownBy(() -> savedSearchService.saveSearch(empty, user)).isInstanceOf(GlobalException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+		assertThatThrownBy(() -> savedSearchService.saveSearch(request, user)).isInstanceOf(GlobalException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.SAVED_SEARCH_LIMIT_EXCEEDED);
+		verify(savedSearchRepository, never()).save(any());
+	}
+
+	@Test
+	void onProductChanged_일치한_다른사용자에게만_알림() {
+		// given
+		User seller = User.builder().id(1L).build();
+		Product product = Product.builder().id(100L).user(seller).title("아이폰 14").price(700_000).category("전자기기")
+				.location("서울").build();
+		given(savedSearchPercolator.percolate(product)).willReturn(List.of(
+				new SavedQuery(10L, 2L, "아이폰", null, null, null, null),
+				new SavedQuery(11L, 1L, null, "전자기기", null, null, null)));
+
+		// when
+		savedSearchService.onProductChanged(new ProductChangedEvent(product, ProductChangedEvent.Type.CREATED));
+		savedSearchService.onProductChanged(new ProductChangedEvent(product, ProductChangedEvent.Type.SOLD));
+
+		// then
+		ArgumentCaptor<SavedSearchMatchDto> captor = ArgumentCaptor.forClass(SavedSearchMatchDto.class);
+		verify(savedSearchNotifier, times(1)).publishMatch(captor.capture());
+		assertThat(captor.getValue().getUserId()).isEqualTo(2L);
+		assertThat(captor.getValue().getSavedSearchId()).isEqualTo(10L);
+		assertThat(captor.getValue().getProductId()).isEqualTo(100L);
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.moneytalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.moneytalk.domain.Product;
+import com.example.moneytalk.domain.User;
+import com.example.moneytalk.dto.ProductResponseDto;
+import com.example.moneytalk.event.FavoriteChangedEvent;
+import com.example.moneytalk.repository.ProductRepository;
+import com.example.moneytalk.type.ProductStatus;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductImageLoader productImageLoader;
+
+	@Mock
+	private RedisOperations<String, String> operations;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@InjectMocks
+	private TrendingService trendingService;
+
+	@Test
+	void increment_반감기마다_두배_다음기간은_감쇠된값() {
+		// given
+		long epochStart = 100 * TrendingService.EPOCH.toMillis();
+		long halfLife = TrendingService.HALF_LIFE.toMillis();
+
+		// when & then: 같은 행동이라도 반감기 뒤에 일어나면 두 배 → 상대적으로 이전 행동은 절반으로 감쇠
+		assertThat(TrendingService.increment(3, epochStart, 100)).isEqualTo(3.0);
+		assertThat(TrendingService.increment(3, epochStart + halfLife, 100)).isEqualTo(6.0);
+
+		// 다음 기간 키에 기록되는 값은 다음 기간 기준 시각으로 감쇠한 값 (점수 비율 유지)
+		double current = TrendingService.increment(1, epochStart + halfLife, 100);
+		double next = TrendingService.increment(1, epochStart + halfLife, 101);
+		assertThat(current / next).isCloseTo(Math.pow(2, (double) TrendingService.EPOCH.toMillis() / halfLife),
+				within(1e-6));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void onFavoriteChanged_현재와_다음기간_카테고리와_전체키에_기록() {
+		// given
+		given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+			((SessionCallback) invocation.getArgument(0)).execute(operations);
+			return List.of();
+		});
+		given(operations.opsForZSet()).willReturn(zSetOperations);
+		Product product = Product.builder().id(7L).category("전자기기").build();
+
+		// when
+		trendingService.onFavoriteChanged(new FavoriteChangedEvent(product, true));
+		trendingService.onFavoriteChanged(new FavoriteChangedEvent(product, false));
+
+		// then: 찜 해제는 반영하지 않음
+		long epoch = TrendingService.epochOf(System.currentTimeMillis());
+		verify(zSetOperations, times(4)).incrementScore(anyString(), eq("7"), anyDouble());
+		verify(zSetOperations).incrementScore(eq("trending:" + epoch + ":전자기기"), eq("7"), anyDouble());
+		verify(zSetOperations).incrementScore(eq("trending:" + (epoch + 1) + ":all"), eq("7"), anyDouble());
+	}
+
+	@Test
+	void getTrending_점수순_판매중만_limit만큼() {
+		// given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		Set<ZSetOperations.TypedTuple<String>> top = new LinkedHashSet<>();
+		top.add(new DefaultTypedTuple<>("3", 30.0));
+		top.add(new DefaultTypedTuple<>("1", 20.0));
+		top.add(new DefaultTypedTuple<>("2", 10.0));
+		given(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(3L))).willReturn(top);
+		given(productRepository.findAllWithUserByIdIn(List.of(3L, 1L, 2L))).willReturn(List.of(
+				product(1L, ProductStatus.SALE), product(2L, ProductStatus.SALE), product(3L, ProductStatus.SOLD)));
+		given(productImageLoader.toResponses(anyList())).willAnswer(invocation -> {
+			List<Product> products = invocation.getArgument(0);
+			return products.stream().map(p -> ProductResponseDto.from(p, List.of())).toList();
+		});
+
+		// when
+		List<ProductResponseDto> result = trendingService.getTrending(null, 2);
+
+		// then
+		assertThat(result).extracting(ProductResponseDto::getId).containsExactly(1L, 2L);
+	}
+
+	private Product product(Long id, ProductStatus status) {
+		return Product.builder().id(id).user(User.builder().id(9L).build()).title("상품 " + id).price(1000)
+				.category("전자기기").location("서울").status(status).build();
+	}
+}
@@ -1,17 +1,26 @@
 import apiClient from "./axios";
 
 /**
- * 특정 채팅방의 메시지 목록을 조회합니다.
+ * 특정 채팅방의 메시지를 최신 메시지부터 limit건 조회합니다.
  *
- * - GET /chatrooms/{chatRoomId}/messages
- * - 응답: ChatMessageDto[] (메시지 목록)
+ * - GET /chatrooms/{chatRoomId}/messages?before=&limit=
+ * - 응답: CursorPageResponseDto<ChatMessageResponseDto>
+ *   (content는 오래된 → 최신 순, nextCursor를 before로 전달하면 그 이전 메시지를 조회)
  *
  * @param chatRoomId 조회할 채팅방 ID
- * @returns 메시지 DTO 배열
+ * @param before 이전 응답의 nextCursor (첫 조회는 생략)
+ * @param limit 조회 건수 (서버 기본값 50, 최대 100)
+ * @returns 메시지 커서 페이지 ({ content, nextCursor, hasNext })
  */
-export const fetchChatMessages = async (chatRoomId: number) => {
-  const res = await apiClient.get(`/chatrooms/${chatRoomId}/messages`);
-  return res.data; // ChatMessageDto[]
+export const fetchChatMessages = async (
+  chatRoomId: number,
+  before?: string,
+  limit?: number
+) => {
+  const res = await apiClient.get(`/chatrooms/${chatRoomId}/messages`, {
+    params: { before, limit },
+  });
+  return res.data; // CursorPageResponseDto<ChatMessageResponseDto>
 };
 
 /**
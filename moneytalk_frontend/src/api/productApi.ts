@@ -1,16 +1,17 @@
 import apiClient from "./axios";
 
 /**
- * 전체 상품 목록을 조회합니다.
+ * 전체 상품 목록을 최신순으로 조회합니다.
  *
- * - GET /products
- * - 검색 조건이 없을 경우 모든 상품이 반환됩니다.
+ * - GET /products?cursor=&size=
+ * - 응답은 커서 기반 페이지이며, nextCursor를 전달하면 다음 페이지를 조회합니다.
  *
- * @returns ProductResponseDto[] 상품 목록
+ * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+ * @returns 상품 커서 페이지 ({ content, nextCursor, hasNext })
  */
-export const getAllProducts = async () => {
-  const res = await apiClient.get("/products");
-  return res.data;
+export const getAllProducts = async (cursor?: string) => {
+  const res = await apiClient.get("/products", { params: { cursor } });
+  return res.data; // CursorPageResponseDto<ProductResponseDto>
 };
 
 /**
@@ -9,6 +9,7 @@ import { format } from "date-fns";
  * 채팅 메시지 객체 구조
  */
 interface ChatMessage {
+  messageKey?: string; // 서버가 발급한 메시지 고유 키 (실시간 메시지에만 포함)
   chatRoomId: number;
   senderId: number;
   senderNickname: string;
@@ -23,6 +24,7 @@ interface ChatMessage {
  *
  * - 로그인 유저 ID 확인 → 메시지 불러오기 → 소켓 연결
  * - 메시지 수신 시 갱신 + 읽음 처리 + 스크롤 이동
+ * - 같은 messageKey의 메시지는 한 번만 표시 (서버 재시작 시 재전달되는 메시지 중복 제거)
  * - 연결 상태 및 강제 로그아웃, 자동 재연결 대응
  */
 const ChatRoom = () => {
@@ -30,6 +32,7 @@ const ChatRoom = () => {
   const navigate = useNavigate();
 
   const [messages, setMessages] = useState<ChatMessage[]>([]);
+  const [olderCursor, setOlderCursor] = useState<string | null>(null);
   const [input, setInput] = useState("");
   const [connectionStatus, setConnectionStatus] = useState<
     "CONNECTED" | "DISCONNECTED" | "RECONNECTING"
@@ -37,6 +40,7 @@ const ChatRoom = () => {
   const [currentUserId, setCurrentUserId] = useState<number | null>(null);
 
   const scrollRef = useRef<HTMLDivElement>(null);
+  const receivedKeys = useRef<Set<string>>(new Set());
 
   /**
    * 메시지 영역 맨 아래로 스크롤
@@ -63,10 +67,12 @@ const ChatRoom = () => {
    */
   useEffect(() => {
     if (!roomId || currentUserId === null) return;
+    receivedKeys.current = new Set();
 
-    // 메시지 불러오기
-    fetchChatMessages(Number(roomId)).then((data) => {
-      setMessages(data);
+    // 최신 메시지 불러오기 (이전 메시지는 "이전 메시지 더 보기"로 이어서 조회)
+    fetchChatMessages(Number(roomId)).then((page) => {
+      setMessages(page.content);
+      setOlderCursor(page.hasNext ? page.nextCursor : null);
       markMessagesAsRead(Number(roomId)).catch(() => {
         console.warn("읽음 처리 실패");
       });
@@ -77,6 +83,11 @@ const ChatRoom = () => {
     const unsubscribe = connectChatSocket({
       roomId: Number(roomId),
       onMessage: (msg) => {
+        // 전송 보장이 at-least-once라 같은 메시지가 다시 올 수 있음
+        if (msg.messageKey) {
+          if (receivedKeys.current.has(msg.messageKey)) return;
+          receivedKeys.current.add(msg.messageKey);
+        }
         setMessages((prev) => [...prev, msg]);
         scrollToBottom();
       },
@@ -94,6 +105,18 @@ const ChatRoom = () => {
     return () => unsubscribe(); // cleanup
   }, [roomId, currentUserId]);
 
+  /**
+   * 현재 목록보다 오래된 메시지를 불러와 앞에 붙입니다.
+   */
+  const loadOlderMessages = () => {
+    if (!roomId || !olderCursor) return;
+
+    fetchChatMessages(Number(roomId), olderCursor).then((page) => {
+      setMessages((prev) => [...page.content, ...prev]);
+      setOlderCursor(page.hasNext ? page.nextCursor : null);
+    });
+  };
+
   /**
    * 메시지 전송 핸들러
    */
@@ -156,6 +179,23 @@ const ChatRoom = () => {
           background: "#fafafa",
         }}
       >
+        {olderCursor && (
+          <div style={{ textAlign: "center", marginBottom: "12px" }}>
+            <button
+              onClick={loadOlderMessages}
+              style={{
+                padding: "4px 12px",
+                fontSize: "12px",
+                background: "#fff",
+                border: "1px solid #ccc",
+                borderRadius: "12px",
+              }}
+            >
+              이전 메시지 더 보기
+            </button>
+          </div>
+        )}
+
         {messages.map((msg, idx) => {
           const isMine = Number(msg.senderId) === Number(currentUserId);
 
@@ -13,12 +13,28 @@ interface Product {
 
 const ProductList = () => {
   const [products, setProducts] = useState<Product[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const navigate = useNavigate();
 
   useEffect(() => {
-    getAllProducts().then(setProducts);
+    getAllProducts().then((page) => {
+      setProducts(page.content);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    });
   }, []);
 
+  /**
+   * 다음 페이지 상품을 불러와 목록 뒤에 붙입니다.
+   */
+  const loadMoreProducts = () => {
+    if (!nextCursor) return;
+
+    getAllProducts(nextCursor).then((page) => {
+      setProducts((prev) => [...prev, ...page.content]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    });
+  };
+
   return (
     <div>
       <h2>📦 전체 상품 목록</h2>
@@ -35,6 +51,22 @@ const ProductList = () => {
           </li>
         ))}
       </ul>
+      {nextCursor && (
+        <div style={{ textAlign: "center", margin: "12px 0" }}>
+          <button
+            onClick={loadMoreProducts}
+            style={{
+              padding: "4px 12px",
+              fontSize: "12px",
+              background: "#fff",
+              border: "1px solid #ccc",
+              borderRadius: "12px",
+            }}
+          >
+            상품 더 보기
+          </button>
+        </div>
+      )}
     </div>
   );
 };